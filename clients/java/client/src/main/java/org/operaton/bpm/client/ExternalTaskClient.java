@@ -17,6 +17,7 @@
 package org.operaton.bpm.client;
 
 import org.operaton.bpm.client.impl.ExternalTaskClientBuilderImpl;
+import org.operaton.bpm.client.task.ExternalTaskHandlerMetrics;
 import org.operaton.bpm.client.topic.TopicSubscriptionBuilder;
 
 /**
@@ -44,7 +45,9 @@ public interface ExternalTaskClient {
   TopicSubscriptionBuilder subscribe(String topicName);
 
   /**
-   * Stops continuous fetching and locking of tasks
+   * Stops continuous fetching and locking of tasks. If handlers are executed concurrently,
+   * waits for the handlers of already fetched tasks to complete and shuts down the handler
+   * threads created by the client.
    */
   void stop();
 
@@ -61,4 +64,11 @@ public interface ExternalTaskClient {
    */
   boolean isActive();
 
+  /**
+   * @return the metrics of concurrently executed external task handlers or <code>null</code>
+   * if the handlers are executed on the fetching thread
+   * @see ExternalTaskClientBuilder#maxConcurrentHandlers(int)
+   */
+  ExternalTaskHandlerMetrics getHandlerMetrics();
+
 }
@@ -16,6 +16,7 @@
  */
 package org.operaton.bpm.client;
 
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
@@ -223,6 +224,48 @@ public interface ExternalTaskClientBuilder {
    */
   ExternalTaskClientBuilder customizeHttpClient(Consumer<HttpClientBuilder> httpClientConsumer);
 
+  /**
+   * Executes external task handlers concurrently on a bounded thread pool instead of the thread
+   * fetching the tasks. At most the given number of fetched tasks are in flight at a time, and
+   * the client only fetches as many tasks as it has free capacity.
+   * This information is optional. By default, handlers are executed one after another on the
+   * fetching thread.
+   *
+   * @param maxConcurrentHandlers the number of handler threads, must be greater than zero
+   * @return the builder
+   */
+  ExternalTaskClientBuilder maxConcurrentHandlers(int maxConcurrentHandlers);
+
+  /**
+   * Limits the number of concurrently executed handlers of a topic. Tasks fetched beyond the
+   * limit wait until a handler of the topic completes, and the topic is not fetched while it is
+   * at its limit. Enables concurrent handler execution.
+   *
+   * @param topicName the name of the topic
+   * @param maxConcurrentHandlers of the topic, must be greater than zero
+   * @return the builder
+   */
+  ExternalTaskClientBuilder maxConcurrentHandlers(String topicName, int maxConcurrentHandlers);
+
+  /**
+   * Executes every external task handler on its own virtual thread. The number of tasks in
+   * flight is limited by {@link #maxConcurrentHandlers(int)}, which defaults to {@link #maxTasks(int)}.
+   * Requires Java 21 or later.
+   *
+   * @return the builder
+   */
+  ExternalTaskClientBuilder useVirtualThreads();
+
+  /**
+   * Executes external task handlers on the given executor service. The number of tasks in
+   * flight is limited by {@link #maxConcurrentHandlers(int)}, which defaults to {@link #maxTasks(int)}.
+   * The executor service is not shut down by the client.
+   *
+   * @param handlerExecutor to execute the external task handlers
+   * @return the builder
+   */
+  ExternalTaskClientBuilder handlerExecutor(ExecutorService handlerExecutor);
+
   /**
    * Bootstraps the Operaton client
    *
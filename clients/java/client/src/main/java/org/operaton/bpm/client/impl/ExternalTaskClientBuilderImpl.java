@@ -25,6 +25,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -44,6 +51,7 @@ import org.operaton.bpm.client.spi.DataFormat;
 import org.operaton.bpm.client.spi.DataFormatConfigurator;
 import org.operaton.bpm.client.spi.DataFormatProvider;
 import org.operaton.bpm.client.task.OrderingConfig;
+import org.operaton.bpm.client.topic.impl.ExternalTaskHandlerExecutor;
 import org.operaton.bpm.client.topic.impl.TopicSubscriptionManager;
 import org.operaton.bpm.client.variable.impl.DefaultValueMappers;
 import org.operaton.bpm.client.variable.impl.TypedValues;
@@ -98,6 +106,12 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
   protected boolean isBackoffStrategyDisabled;
   protected UrlResolver urlResolver;
 
+  protected Integer maxConcurrentHandlers;
+  protected Map<String, Integer> maxConcurrentHandlersByTopic;
+  protected boolean useVirtualThreads;
+  protected ExecutorService handlerExecutorService;
+  protected ExternalTaskHandlerExecutor handlerExecutor;
+
   public ExternalTaskClientBuilderImpl() {
     // default values
     this.maxTasks = 10;
@@ -110,6 +124,7 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     this.isBackoffStrategyDisabled = false;
     this.httpClientBuilder = HttpClients.custom().useSystemProperties();
     this.urlResolver = new PermanentUrlResolver(null);
+    this.maxConcurrentHandlersByTopic = new HashMap<>();
   }
 
   @Override
@@ -223,6 +238,33 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     return this;
   }
 
+  @Override
+  public ExternalTaskClientBuilder maxConcurrentHandlers(int maxConcurrentHandlers) {
+    this.maxConcurrentHandlers = maxConcurrentHandlers;
+    return this;
+  }
+
+  @Override
+  public ExternalTaskClientBuilder maxConcurrentHandlers(String topicName, int maxConcurrentHandlers) {
+    if (topicName == null) {
+      throw LOG.passNullValueParameter("topicName");
+    }
+    this.maxConcurrentHandlersByTopic.put(topicName, maxConcurrentHandlers);
+    return this;
+  }
+
+  @Override
+  public ExternalTaskClientBuilder useVirtualThreads() {
+    this.useVirtualThreads = true;
+    return this;
+  }
+
+  @Override
+  public ExternalTaskClientBuilder handlerExecutor(ExecutorService handlerExecutor) {
+    this.handlerExecutorService = handlerExecutor;
+    return this;
+  }
+
   @Override
   public ExternalTaskClient build() {
     if (maxTasks <= 0) {
@@ -237,6 +279,16 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
       throw LOG.lockDurationIsNotGreaterThanZeroException(lockDuration);
     }
 
+    if (maxConcurrentHandlers != null && maxConcurrentHandlers <= 0) {
+      throw LOG.maxConcurrentHandlersNotGreaterThanZeroException(maxConcurrentHandlers);
+    }
+
+    for (Integer maxConcurrentTopicHandlers : maxConcurrentHandlersByTopic.values()) {
+      if (maxConcurrentTopicHandlers <= 0) {
+        throw LOG.maxConcurrentHandlersNotGreaterThanZeroException(maxConcurrentTopicHandlers);
+      }
+    }
+
     if (urlResolver == null || getBaseUrl() == null || getBaseUrl().isEmpty()) {
       throw LOG.baseUrlNullException();
     }
@@ -250,6 +302,7 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     initObjectMapper();
     initEngineClient();
     initVariableMappers();
+    initHandlerExecutor();
     initTopicSubscriptionManager();
 
     return new ExternalTaskClientImpl(topicSubscriptionManager);
@@ -339,6 +392,7 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
   protected void initTopicSubscriptionManager() {
     topicSubscriptionManager = new TopicSubscriptionManager(engineClient, typedValues, lockDuration);
     topicSubscriptionManager.setBackoffStrategy(getBackoffStrategy());
+    topicSubscriptionManager.setHandlerExecutor(handlerExecutor);
 
     if (isBackoffStrategyDisabled) {
       topicSubscriptionManager.disableBackoffStrategy();
@@ -349,6 +403,54 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     }
   }
 
+  protected void initHandlerExecutor() {
+    if (!isConcurrentHandlerExecutionEnabled()) {
+      return;
+    }
+
+    int capacity = maxConcurrentHandlers != null ? maxConcurrentHandlers : maxTasks;
+
+    if (handlerExecutorService != null) {
+      // the executor service is managed by the user and never shut down by the client
+      handlerExecutor = new ExternalTaskHandlerExecutor(handlerExecutorService, capacity, maxConcurrentHandlersByTopic);
+    } else if (useVirtualThreads) {
+      handlerExecutor = new ExternalTaskHandlerExecutor(this::createVirtualThreadExecutor, capacity, maxConcurrentHandlersByTopic);
+    } else {
+      handlerExecutor = new ExternalTaskHandlerExecutor(() -> createHandlerThreadPool(capacity), capacity, maxConcurrentHandlersByTopic);
+    }
+  }
+
+  protected boolean isConcurrentHandlerExecutionEnabled() {
+    return maxConcurrentHandlers != null
+        || !maxConcurrentHandlersByTopic.isEmpty()
+        || useVirtualThreads
+        || handlerExecutorService != null;
+  }
+
+  protected ExecutorService createHandlerThreadPool(int threads) {
+    AtomicInteger threadCount = new AtomicInteger();
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "operaton-external-task-handler-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+
+    // the handler executor never submits more than 'threads' handlers at a time
+    ThreadPoolExecutor threadPool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), threadFactory);
+    threadPool.allowCoreThreadTimeOut(true);
+    return threadPool;
+  }
+
+  protected ExecutorService createVirtualThreadExecutor() {
+    try {
+      // compiled for Java 17, virtual threads are available from Java 21 on
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw LOG.virtualThreadsNotSupportedException(e);
+    }
+  }
+
   protected Map<String, DataFormat> lookupDataFormats() {
     Map<String, DataFormat> dataFormats = new HashMap<>();
 
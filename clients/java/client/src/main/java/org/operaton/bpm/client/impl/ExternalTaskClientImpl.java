@@ -17,6 +17,7 @@
 package org.operaton.bpm.client.impl;
 
 import org.operaton.bpm.client.ExternalTaskClient;
+import org.operaton.bpm.client.task.ExternalTaskHandlerMetrics;
 import org.operaton.bpm.client.topic.TopicSubscriptionBuilder;
 import org.operaton.bpm.client.topic.impl.TopicSubscriptionBuilderImpl;
 import org.operaton.bpm.client.topic.impl.TopicSubscriptionManager;
@@ -52,6 +53,11 @@ public class ExternalTaskClientImpl implements ExternalTaskClient {
     return topicSubscriptionManager.isRunning();
   }
 
+  @Override
+  public ExternalTaskHandlerMetrics getHandlerMetrics() {
+    return topicSubscriptionManager.getHandlerExecutor();
+  }
+
   public TopicSubscriptionManager getTopicSubscriptionManager() {
     return topicSubscriptionManager;
   }
@@ -245,4 +245,14 @@ public class ExternalTaskClientLogger extends BaseLogger {
         "030", "Null value is not allowed as '{}'", parameterName));
   }
 
+  public ExternalTaskClientException maxConcurrentHandlersNotGreaterThanZeroException(Integer maxConcurrentHandlers) {
+    return new ExternalTaskClientException(exceptionMessage(
+        "031", "Maximum amount of concurrent handlers must be greater than zero, but was '{}'", maxConcurrentHandlers));
+  }
+
+  public ExternalTaskClientException virtualThreadsNotSupportedException(Throwable cause) {
+    return new ExternalTaskClientException(exceptionMessage(
+        "032", "Virtual threads are not supported by this Java runtime, Java 21 or later is required"), cause);
+  }
+
 }
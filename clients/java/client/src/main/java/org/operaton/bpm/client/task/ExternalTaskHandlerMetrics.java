@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.client.task;
+
+/**
+ * <p>Metrics of the external task handler executor, see
+ * {@link org.operaton.bpm.client.ExternalTaskClientBuilder#maxConcurrentHandlers(int)}.</p>
+ *
+ * <p>Queue wait is the time between fetching a task and invoking its handler,
+ * handler latency the time spent in {@link ExternalTaskHandler#execute}.</p>
+ */
+public interface ExternalTaskHandlerMetrics {
+
+  /**
+   * @return the number of fetched tasks whose handler has not completed yet, including queued tasks
+   */
+  int getInFlightCount();
+
+  /**
+   * @return the number of fetched tasks waiting for a free handler slot of their topic
+   */
+  int getQueuedCount();
+
+  /**
+   * @return the number of completed handler invocations
+   */
+  long getCompletedCount();
+
+  /**
+   * @return the accumulated queue wait of all completed handler invocations in milliseconds
+   */
+  long getTotalQueueWaitMillis();
+
+  /**
+   * @return the longest queue wait of a handler invocation in milliseconds
+   */
+  long getMaxQueueWaitMillis();
+
+  /**
+   * @return the accumulated latency of all completed handler invocations in milliseconds
+   */
+  long getTotalHandlerLatencyMillis();
+
+  /**
+   * @return the longest latency of a handler invocation in milliseconds
+   */
+  long getMaxHandlerLatencyMillis();
+
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.client.topic.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.operaton.bpm.client.impl.ExternalTaskClientLogger;
+import org.operaton.bpm.client.task.ExternalTaskHandlerMetrics;
+
+/**
+ * <p>Executes external task handlers on an {@link ExecutorService} instead of the
+ * acquisition thread.</p>
+ *
+ * <p>At most <code>maxConcurrentHandlers</code> fetched tasks are in flight at a time, and at
+ * most the configured limit of a topic are executed concurrently. Tasks exceeding the limit
+ * of their topic wait in a per-topic queue. The {@link TopicSubscriptionManager} only fetches
+ * as many tasks as there is free capacity and skips topics without free capacity.</p>
+ *
+ * <p>An executor service created by the client is shut down when the client is stopped and
+ * created anew when it is started again. An executor service supplied by the user is never
+ * shut down.</p>
+ */
+public class ExternalTaskHandlerExecutor implements ExternalTaskHandlerMetrics {
+
+  protected static final TopicSubscriptionManagerLogger LOG = ExternalTaskClientLogger.TOPIC_SUBSCRIPTION_MANAGER_LOGGER;
+
+  public static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 30_000L;
+
+  protected volatile ExecutorService executorService;
+  // null if the executor service is supplied by the user
+  protected Supplier<ExecutorService> executorServiceFactory;
+  protected long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+  protected int maxConcurrentHandlers;
+  protected Map<String, Integer> maxConcurrentHandlersByTopic;
+
+  protected Runnable capacityListener;
+
+  protected ReentrantLock lock = new ReentrantLock();
+  protected Condition allCompleted = lock.newCondition();
+  protected int inFlightCount;
+  protected int queuedCount;
+  protected Map<String, TopicSlots> topicSlots = new HashMap<>();
+
+  protected AtomicLong completedCount = new AtomicLong();
+  protected AtomicLong totalQueueWaitNanos = new AtomicLong();
+  protected AtomicLong maxQueueWaitNanos = new AtomicLong();
+  protected AtomicLong totalHandlerLatencyNanos = new AtomicLong();
+  protected AtomicLong maxHandlerLatencyNanos = new AtomicLong();
+
+  public ExternalTaskHandlerExecutor(ExecutorService executorService,
+                                     int maxConcurrentHandlers,
+                                     Map<String, Integer> maxConcurrentHandlersByTopic) {
+    this.executorService = executorService;
+    this.maxConcurrentHandlers = maxConcurrentHandlers;
+    this.maxConcurrentHandlersByTopic = new HashMap<>(maxConcurrentHandlersByTopic);
+  }
+
+  /**
+   * @param executorServiceFactory creates the executor service owned by this handler executor
+   */
+  public ExternalTaskHandlerExecutor(Supplier<ExecutorService> executorServiceFactory,
+                                     int maxConcurrentHandlers,
+                                     Map<String, Integer> maxConcurrentHandlersByTopic) {
+    this(executorServiceFactory.get(), maxConcurrentHandlers, maxConcurrentHandlersByTopic);
+    this.executorServiceFactory = executorServiceFactory;
+  }
+
+  /**
+   * @param capacityListener notified whenever a handler completes and capacity becomes available
+   */
+  public void setCapacityListener(Runnable capacityListener) {
+    this.capacityListener = capacityListener;
+  }
+
+  /**
+   * @return the number of tasks that can be fetched without exceeding <code>maxConcurrentHandlers</code>
+   */
+  public int getFreeCapacity() {
+    lock.lock();
+    try {
+      return Math.max(0, maxConcurrentHandlers - inFlightCount);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the topic has not reached its concurrency limit
+   */
+  public boolean hasFreeCapacity(String topicName) {
+    lock.lock();
+    try {
+      TopicSlots slots = topicSlots.get(topicName);
+      return slots == null || slots.running + slots.pending.size() < getMaxConcurrentHandlers(topicName);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getMaxConcurrentHandlers(String topicName) {
+    return maxConcurrentHandlersByTopic.getOrDefault(topicName, maxConcurrentHandlers);
+  }
+
+  /**
+   * Executes the handler invocation as soon as its topic has a free slot.
+   */
+  public void execute(String topicName, Runnable handlerInvocation) {
+    QueuedInvocation invocation = new QueuedInvocation(topicName, handlerInvocation);
+
+    lock.lock();
+    try {
+      inFlightCount++;
+      TopicSlots slots = topicSlots.computeIfAbsent(topicName, key -> new TopicSlots());
+      if (slots.running < getMaxConcurrentHandlers(topicName)) {
+        slots.running++;
+      } else {
+        slots.pending.add(invocation);
+        queuedCount++;
+        return;
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    submit(invocation);
+  }
+
+  /**
+   * Submits the invocation to the executor service. If the executor service rejects it, the
+   * slot is handed to the next pending invocation of the topic, which is submitted in turn.
+   */
+  protected void submit(QueuedInvocation invocation) {
+    QueuedInvocation next = invocation;
+    while (next != null) {
+      QueuedInvocation current = next;
+      try {
+        executorService.execute(() -> run(current));
+        next = null;
+      } catch (RejectedExecutionException e) {
+        LOG.handlerExecutionRejected(current.topicName, e);
+        next = release(current);
+        notifyCapacityListener();
+      }
+    }
+  }
+
+  protected void run(QueuedInvocation invocation) {
+    long startTime = System.nanoTime();
+    record(startTime - invocation.queuedAt, totalQueueWaitNanos, maxQueueWaitNanos);
+
+    try {
+      invocation.handlerInvocation.run();
+    } finally {
+      record(System.nanoTime() - startTime, totalHandlerLatencyNanos, maxHandlerLatencyNanos);
+      completedCount.incrementAndGet();
+      complete(invocation);
+    }
+  }
+
+  protected void complete(QueuedInvocation invocation) {
+    QueuedInvocation next = release(invocation);
+
+    if (next != null) {
+      submit(next);
+    }
+
+    notifyCapacityListener();
+  }
+
+  /**
+   * Releases the slot of the invocation.
+   *
+   * @return the next pending invocation of the topic which takes over the slot, or <code>null</code>
+   */
+  protected QueuedInvocation release(QueuedInvocation invocation) {
+    lock.lock();
+    try {
+      inFlightCount--;
+      if (inFlightCount == 0) {
+        allCompleted.signalAll();
+      }
+      TopicSlots slots = topicSlots.get(invocation.topicName);
+      QueuedInvocation next = slots.pending.poll();
+      if (next != null) {
+        queuedCount--;
+      } else {
+        slots.running--;
+        if (slots.running == 0) {
+          topicSlots.remove(invocation.topicName);
+        }
+      }
+      return next;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  protected void notifyCapacityListener() {
+    if (capacityListener != null) {
+      capacityListener.run();
+    }
+  }
+
+  protected void record(long nanos, AtomicLong total, AtomicLong max) {
+    total.addAndGet(nanos);
+    max.accumulateAndGet(nanos, Math::max);
+  }
+
+  /**
+   * Waits until all fetched tasks are handled or the timeout elapses.
+   *
+   * @return <code>true</code> if no task is in flight anymore
+   */
+  public boolean awaitCompletion(long timeoutMillis) throws InterruptedException {
+    long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    lock.lock();
+    try {
+      while (inFlightCount > 0) {
+        if (remainingNanos <= 0) {
+          return false;
+        }
+        remainingNanos = allCompleted.awaitNanos(remainingNanos);
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Creates a new executor service if the owned one was shut down.
+   */
+  public void start() {
+    lock.lock();
+    try {
+      if (executorServiceFactory != null && executorService.isShutdown()) {
+        executorService = executorServiceFactory.get();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits up to the shutdown timeout until all fetched tasks are handled and shuts down
+   * the executor service if it is owned by this handler executor. Handlers still running
+   * when the timeout elapses are interrupted.
+   */
+  public void shutdown() {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMillis);
+    try {
+      boolean completed = awaitCompletion(shutdownTimeoutMillis);
+      if (executorServiceFactory != null) {
+        executorService.shutdown();
+        long remainingNanos = deadline - System.nanoTime();
+        if (!executorService.awaitTermination(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS)) {
+          executorService.shutdownNow();
+        }
+      }
+      if (!completed) {
+        LOG.handlersStillRunningAfterShutdown(getInFlightCount(), shutdownTimeoutMillis);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.exceptionWhileShuttingDown(e);
+    }
+  }
+
+  public long getShutdownTimeoutMillis() {
+    return shutdownTimeoutMillis;
+  }
+
+  /**
+   * @param shutdownTimeoutMillis the time to wait for running handlers when the client is stopped
+   */
+  public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+  }
+
+  public ExecutorService getExecutorService() {
+    return executorService;
+  }
+
+  public int getMaxConcurrentHandlers() {
+    return maxConcurrentHandlers;
+  }
+
+  @Override
+  public int getInFlightCount() {
+    lock.lock();
+    try {
+      return inFlightCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int getQueuedCount() {
+    lock.lock();
+    try {
+      return queuedCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public long getCompletedCount() {
+    return completedCount.get();
+  }
+
+  @Override
+  public long getTotalQueueWaitMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(totalQueueWaitNanos.get());
+  }
+
+  @Override
+  public long getMaxQueueWaitMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(maxQueueWaitNanos.get());
+  }
+
+  @Override
+  public long getTotalHandlerLatencyMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(totalHandlerLatencyNanos.get());
+  }
+
+  @Override
+  public long getMaxHandlerLatencyMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(maxHandlerLatencyNanos.get());
+  }
+
+  protected static class TopicSlots {
+    protected int running;
+    protected Deque<QueuedInvocation> pending = new ArrayDeque<>();
+  }
+
+  protected static class QueuedInvocation {
+    protected final String topicName;
+    protected final Runnable handlerInvocation;
+    protected final long queuedAt = System.nanoTime();
+
+    protected QueuedInvocation(String topicName, Runnable handlerInvocation) {
+      this.topicName = topicName;
+      this.handlerInvocation = handlerInvocation;
+    }
+  }
+
+}
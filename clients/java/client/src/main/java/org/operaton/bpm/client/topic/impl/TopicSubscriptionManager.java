@@ -50,8 +50,11 @@ public class TopicSubscriptionManager implements Runnable {
 
   protected static final TopicSubscriptionManagerLogger LOG = ExternalTaskClientLogger.TOPIC_SUBSCRIPTION_MANAGER_LOGGER;
 
+  protected static final long CAPACITY_WAIT_MILLIS = 1000L;
+
   protected ReentrantLock ACQUISITION_MONITOR = new ReentrantLock(false);
   protected Condition IS_WAITING = ACQUISITION_MONITOR.newCondition();
+  protected Condition HAS_FREE_CAPACITY = ACQUISITION_MONITOR.newCondition();
   protected AtomicBoolean isRunning = new AtomicBoolean(false);
 
   protected ExternalTaskServiceImpl externalTaskService;
@@ -71,6 +74,8 @@ public class TopicSubscriptionManager implements Runnable {
 
   protected long clientLockDuration;
 
+  protected ExternalTaskHandlerExecutor handlerExecutor;
+
   public TopicSubscriptionManager(EngineClient engineClient, TypedValues typedValues, long clientLockDuration) {
     this.engineClient = engineClient;
     this.subscriptions = new CopyOnWriteArrayList<>();
@@ -97,10 +102,25 @@ public class TopicSubscriptionManager implements Runnable {
   protected void acquire() {
     taskTopicRequests.clear();
     externalTaskHandlers.clear();
+
+    int maxTasks = 0;
+    if (handlerExecutor != null) {
+      maxTasks = waitForFreeCapacity();
+      if (maxTasks == 0) {
+        return;
+      }
+    }
+
     subscriptions.forEach(this::prepareAcquisition);
 
-    if (!taskTopicRequests.isEmpty()) {
-      FetchAndLockResponseDto fetchAndLockResponse = fetchAndLock(taskTopicRequests);
+    if (taskTopicRequests.isEmpty() && handlerExecutor != null) {
+      // every topic reached its concurrency limit
+      waitForFreeTopicCapacity();
+    }
+    else if (!taskTopicRequests.isEmpty()) {
+      FetchAndLockResponseDto fetchAndLockResponse = handlerExecutor == null
+          ? fetchAndLock(taskTopicRequests)
+          : fetchAndLock(taskTopicRequests, maxTasks);
 
       fetchAndLockResponse.getExternalTasks().forEach(externalTask -> {
         String topicName = externalTask.getTopicName();
@@ -121,6 +141,11 @@ public class TopicSubscriptionManager implements Runnable {
   }
 
   protected void prepareAcquisition(TopicSubscription subscription) {
+    if (handlerExecutor != null && !handlerExecutor.hasFreeCapacity(subscription.getTopicName())) {
+      // the topic reached its concurrency limit, don't fetch more tasks for it
+      return;
+    }
+
     TopicRequestDto taskTopicRequest = TopicRequestDto.fromTopicSubscription(subscription, clientLockDuration);
     taskTopicRequests.add(taskTopicRequest);
 
@@ -130,11 +155,17 @@ public class TopicSubscriptionManager implements Runnable {
   }
 
   protected FetchAndLockResponseDto fetchAndLock(List<TopicRequestDto> subscriptions) {
+    return fetchAndLock(subscriptions, null);
+  }
+
+  protected FetchAndLockResponseDto fetchAndLock(List<TopicRequestDto> subscriptions, Integer maxTasks) {
     List<ExternalTask> externalTasks = null;
 
     try {
       LOG.fetchAndLock(subscriptions);
-      externalTasks = engineClient.fetchAndLock(subscriptions);
+      externalTasks = maxTasks == null
+          ? engineClient.fetchAndLock(subscriptions)
+          : engineClient.fetchAndLock(subscriptions, maxTasks);
 
     } catch (EngineClientException ex) {
       LOG.exceptionWhilePerformingFetchAndLock(ex);
@@ -144,8 +175,16 @@ public class TopicSubscriptionManager implements Runnable {
     return new FetchAndLockResponseDto(externalTasks);
   }
 
-  @SuppressWarnings("rawtypes")
   protected void handleExternalTask(ExternalTask externalTask, ExternalTaskHandler taskHandler) {
+    if (handlerExecutor != null) {
+      handlerExecutor.execute(externalTask.getTopicName(), () -> executeHandler(externalTask, taskHandler));
+    } else {
+      executeHandler(externalTask, taskHandler);
+    }
+  }
+
+  @SuppressWarnings("rawtypes")
+  protected void executeHandler(ExternalTask externalTask, ExternalTaskHandler taskHandler) {
     ExternalTaskImpl task = (ExternalTaskImpl) externalTask;
 
     Map<String, TypedValueField> variables = task.getVariables();
@@ -164,6 +203,7 @@ public class TopicSubscriptionManager implements Runnable {
   public synchronized void stop() {
     if (isRunning.compareAndSet(true, false)) {
       resume();
+      signalFreeCapacity();
 
       try {
         thread.join();
@@ -171,11 +211,18 @@ public class TopicSubscriptionManager implements Runnable {
         Thread.currentThread().interrupt();
         LOG.exceptionWhileShuttingDown(e);
       }
+
+      if (handlerExecutor != null) {
+        handlerExecutor.shutdown();
+      }
     }
   }
 
   public synchronized void start() {
     if (isRunning.compareAndSet(false, true)) {
+      if (handlerExecutor != null) {
+        handlerExecutor.start();
+      }
       thread = new Thread(this, TopicSubscriptionManager.class.getSimpleName());
       thread.start();
     }
@@ -227,6 +274,51 @@ public class TopicSubscriptionManager implements Runnable {
     }
   }
 
+  /**
+   * Blocks until the handler executor has free capacity or the manager is stopped.
+   *
+   * @return the number of tasks which can be fetched
+   */
+  protected int waitForFreeCapacity() {
+    ACQUISITION_MONITOR.lock();
+    try {
+      int freeCapacity = handlerExecutor.getFreeCapacity();
+      while (freeCapacity == 0 && isRunning.get()) {
+        // signaled by the handler executor when a handler completes
+        HAS_FREE_CAPACITY.await(CAPACITY_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        freeCapacity = handlerExecutor.getFreeCapacity();
+      }
+      return freeCapacity;
+    } catch (InterruptedException e) {
+      // we ignore and just continue to acquire tasks
+      return handlerExecutor.getFreeCapacity();
+    } finally {
+      ACQUISITION_MONITOR.unlock();
+    }
+  }
+
+  /**
+   * Blocks until a topic of the subscriptions has free capacity or the manager is stopped.
+   */
+  protected void waitForFreeTopicCapacity() {
+    ACQUISITION_MONITOR.lock();
+    try {
+      while (isRunning.get() && !hasSubscriptionWithFreeCapacity()) {
+        // signaled by the handler executor when a handler completes
+        HAS_FREE_CAPACITY.await(CAPACITY_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+      }
+    } catch (InterruptedException e) {
+      // we ignore and just continue to acquire tasks
+    } finally {
+      ACQUISITION_MONITOR.unlock();
+    }
+  }
+
+  protected boolean hasSubscriptionWithFreeCapacity() {
+    return subscriptions.isEmpty()
+        || subscriptions.stream().anyMatch(subscription -> handlerExecutor.hasFreeCapacity(subscription.getTopicName()));
+  }
+
   protected void suspend(long waitTime) {
     if (waitTime > 0 && isRunning.get()) {
       ACQUISITION_MONITOR.lock();
@@ -268,8 +360,29 @@ public class TopicSubscriptionManager implements Runnable {
     }
   }
 
+  protected void signalFreeCapacity() {
+    ACQUISITION_MONITOR.lock();
+    try {
+      HAS_FREE_CAPACITY.signal();
+    }
+    finally {
+      ACQUISITION_MONITOR.unlock();
+    }
+  }
+
   public void disableBackoffStrategy() {
     this.isBackoffStrategyDisabled.set(true);
   }
 
+  public void setHandlerExecutor(ExternalTaskHandlerExecutor handlerExecutor) {
+    this.handlerExecutor = handlerExecutor;
+    if (handlerExecutor != null) {
+      handlerExecutor.setCapacityListener(this::signalFreeCapacity);
+    }
+  }
+
+  public ExternalTaskHandlerExecutor getHandlerExecutor() {
+    return handlerExecutor;
+  }
+
 }
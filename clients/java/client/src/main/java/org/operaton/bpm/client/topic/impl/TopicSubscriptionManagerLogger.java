@@ -78,4 +78,16 @@ public class TopicSubscriptionManagerLogger extends ExternalTaskClientLogger {
       "Timed out after %d ms without a signal.".formatted(waitTime));
   }
 
+  protected void handlerExecutionRejected(String topicName, Throwable e) {
+    logError(
+      "010",
+      "Execution of external task handler '%s' was rejected by the handler executor.".formatted(topicName), e);
+  }
+
+  protected void handlersStillRunningAfterShutdown(int inFlightCount, long timeoutMillis) {
+    logWarn(
+      "011",
+      "%d external task handlers are still running %d ms after the client was stopped.".formatted(inFlightCount, timeoutMillis));
+  }
+
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.client.impl;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.client.topic.impl.ExternalTaskHandlerExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ExternalTaskHandlerExecutorTest {
+
+  private static final String T0 = "t0";
+  private static final String T1 = "t1";
+
+  ExecutorService executorService;
+  ExternalTaskHandlerExecutor handlerExecutor;
+  CountDownLatch release;
+  AtomicInteger executions;
+
+  @BeforeEach
+  void setUp() {
+    executorService = Executors.newFixedThreadPool(3);
+    handlerExecutor = new ExternalTaskHandlerExecutor(executorService, 3, Map.of(T0, 1));
+    release = new CountDownLatch(1);
+    executions = new AtomicInteger();
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void shouldLimitConcurrentHandlersOfTopic() throws InterruptedException {
+    // when
+    handlerExecutor.execute(T0, this::blockingHandler);
+    handlerExecutor.execute(T0, this::blockingHandler);
+
+    // then
+    await().atMost(5, TimeUnit.SECONDS).until(() -> executions.get() == 1);
+    assertThat(handlerExecutor.getInFlightCount()).isEqualTo(2);
+    assertThat(handlerExecutor.getQueuedCount()).isEqualTo(1);
+    assertThat(handlerExecutor.getFreeCapacity()).isEqualTo(1);
+    assertThat(handlerExecutor.hasFreeCapacity(T0)).isFalse();
+    assertThat(handlerExecutor.hasFreeCapacity(T1)).isTrue();
+
+    // when
+    release.countDown();
+
+    // then
+    assertThat(handlerExecutor.awaitCompletion(5000)).isTrue();
+    assertThat(executions).hasValue(2);
+    assertThat(handlerExecutor.getQueuedCount()).isZero();
+    assertThat(handlerExecutor.getCompletedCount()).isEqualTo(2);
+    assertThat(handlerExecutor.hasFreeCapacity(T0)).isTrue();
+  }
+
+  @Test
+  void shouldReportFreeCapacity() throws InterruptedException {
+    // when
+    handlerExecutor.execute(T1, this::blockingHandler);
+    handlerExecutor.execute(T1, this::blockingHandler);
+    handlerExecutor.execute(T1, this::blockingHandler);
+
+    // then
+    await().atMost(5, TimeUnit.SECONDS).until(() -> executions.get() == 3);
+    assertThat(handlerExecutor.getFreeCapacity()).isZero();
+
+    // when
+    release.countDown();
+
+    // then
+    assertThat(handlerExecutor.awaitCompletion(5000)).isTrue();
+    assertThat(handlerExecutor.getFreeCapacity()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldNotifyCapacityListener() throws InterruptedException {
+    // given
+    AtomicInteger notifications = new AtomicInteger();
+    handlerExecutor.setCapacityListener(notifications::incrementAndGet);
+    release.countDown();
+
+    // when
+    handlerExecutor.execute(T0, this::blockingHandler);
+
+    // then
+    assertThat(handlerExecutor.awaitCompletion(5000)).isTrue();
+    await().atMost(5, TimeUnit.SECONDS).until(() -> notifications.get() == 1);
+  }
+
+  @Test
+  void shouldRecordHandlerLatency() throws InterruptedException {
+    // when
+    handlerExecutor.execute(T1, () -> sleep(50));
+
+    // then
+    assertThat(handlerExecutor.awaitCompletion(5000)).isTrue();
+    assertThat(handlerExecutor.getTotalHandlerLatencyMillis()).isGreaterThanOrEqualTo(50);
+    assertThat(handlerExecutor.getMaxHandlerLatencyMillis()).isGreaterThanOrEqualTo(50);
+  }
+
+  @Test
+  void shouldDrainPendingInvocationsRejectedByExecutorService() throws InterruptedException {
+    // given an executor service without a queue, so a handler is rejected while its only thread is busy
+    executorService.shutdown();
+    executorService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+    handlerExecutor = new ExternalTaskHandlerExecutor(executorService, 1000, Map.of(T0, 1));
+    AtomicInteger notifications = new AtomicInteger();
+    handlerExecutor.setCapacityListener(notifications::incrementAndGet);
+
+    handlerExecutor.execute(T0, this::blockingHandler);
+    for (int i = 0; i < 20000; i++) {
+      handlerExecutor.execute(T0, this::blockingHandler);
+    }
+    await().atMost(5, TimeUnit.SECONDS).until(() -> executions.get() == 1);
+    assertThat(handlerExecutor.getQueuedCount()).isEqualTo(20000);
+
+    // when the running handler completes and the pending ones are rejected
+    release.countDown();
+
+    // then
+    assertThat(handlerExecutor.awaitCompletion(5000)).isTrue();
+    assertThat(executions).hasValue(1);
+    assertThat(handlerExecutor.getQueuedCount()).isZero();
+    assertThat(handlerExecutor.getCompletedCount()).isEqualTo(1);
+    assertThat(handlerExecutor.hasFreeCapacity(T0)).isTrue();
+    assertThat(notifications).hasValue(20001);
+  }
+
+  @Test
+  void shouldWaitForHandlersAndShutDownOwnedExecutorService() {
+    // given
+    ExecutorService ownedExecutorService = Executors.newFixedThreadPool(3);
+    handlerExecutor = new ExternalTaskHandlerExecutor(() -> ownedExecutorService, 3, Map.of());
+    handlerExecutor.execute(T1, () -> sleep(200));
+    handlerExecutor.execute(T1, () -> sleep(200));
+
+    // when
+    handlerExecutor.shutdown();
+
+    // then
+    assertThat(handlerExecutor.getCompletedCount()).isEqualTo(2);
+    assertThat(handlerExecutor.getInFlightCount()).isZero();
+    assertThat(ownedExecutorService.isTerminated()).isTrue();
+  }
+
+  @Test
+  void shouldNotShutDownExecutorServiceOfUser() {
+    // given
+    handlerExecutor.execute(T1, () -> sleep(200));
+
+    // when
+    handlerExecutor.shutdown();
+
+    // then
+    assertThat(handlerExecutor.getCompletedCount()).isEqualTo(1);
+    assertThat(executorService.isShutdown()).isFalse();
+  }
+
+  @Test
+  void shouldInterruptHandlersAfterShutdownTimeout() {
+    // given
+    ExecutorService ownedExecutorService = Executors.newFixedThreadPool(3);
+    handlerExecutor = new ExternalTaskHandlerExecutor(() -> ownedExecutorService, 3, Map.of());
+    handlerExecutor.setShutdownTimeoutMillis(100);
+    handlerExecutor.execute(T1, this::blockingHandler);
+    await().atMost(5, TimeUnit.SECONDS).until(() -> executions.get() == 1);
+
+    // when
+    handlerExecutor.shutdown();
+
+    // then the blocked handler is interrupted
+    await().atMost(5, TimeUnit.SECONDS).until(ownedExecutorService::isTerminated);
+    assertThat(handlerExecutor.getInFlightCount()).isZero();
+  }
+
+  @Test
+  void shouldCreateNewExecutorServiceOnStart() throws InterruptedException {
+    // given
+    AtomicInteger createdExecutorServices = new AtomicInteger();
+    handlerExecutor = new ExternalTaskHandlerExecutor(() -> {
+      createdExecutorServices.incrementAndGet();
+      return Executors.newFixedThreadPool(3);
+    }, 3, Map.of());
+    handlerExecutor.shutdown();
+
+    // when
+    handlerExecutor.start();
+    handlerExecutor.execute(T1, () -> executions.incrementAndGet());
+
+    // then
+    assertThat(handlerExecutor.awaitCompletion(5000)).isTrue();
+    assertThat(executions).hasValue(1);
+    assertThat(createdExecutorServices).hasValue(2);
+    handlerExecutor.shutdown();
+  }
+
+  private void blockingHandler() {
+    executions.incrementAndGet();
+    try {
+      release.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
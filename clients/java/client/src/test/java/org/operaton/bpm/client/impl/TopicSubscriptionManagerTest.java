@@ -19,6 +19,12 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +36,7 @@ import org.operaton.bpm.client.task.ExternalTaskHandler;
 import org.operaton.bpm.client.task.ExternalTaskService;
 import org.operaton.bpm.client.task.impl.ExternalTaskImpl;
 import org.operaton.bpm.client.topic.TopicSubscription;
+import org.operaton.bpm.client.topic.impl.ExternalTaskHandlerExecutor;
 import org.operaton.bpm.client.topic.impl.TopicSubscriptionBuilderImpl;
 import org.operaton.bpm.client.topic.impl.TopicSubscriptionManager;
 import org.operaton.bpm.client.variable.impl.DefaultValueMappers;
@@ -39,8 +46,13 @@ import org.operaton.bpm.engine.variable.value.PrimitiveValue;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class TopicSubscriptionManagerTest {
@@ -215,6 +227,104 @@ class TopicSubscriptionManagerTest {
 		assertThat(t1Handler.getExecuteCount()).isEqualTo(2);
 	}
 
+	@Test
+	void tasksExecutedOnHandlerExecutor() {
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		ExternalTaskHandlerExecutor handlerExecutor = new ExternalTaskHandlerExecutor(executorService, 5, Map.of());
+		topicSubscriptionManager.setHandlerExecutor(handlerExecutor);
+		when(engineClient.fetchAndLock(anyList(), anyInt())).thenReturn(taskList);
+
+		subscribeTopicT0();
+		subscribeTopicT1();
+		topicSubscriptionManager.start();
+		waitMillies(500);
+		topicSubscriptionManager.stop();
+		executorService.shutdown();
+
+		assertThat(t0Handler.getExecuteCount()).isEqualTo(1);
+		assertThat(t1Handler.getExecuteCount()).isEqualTo(1);
+		assertThat(handlerExecutor.getCompletedCount()).isEqualTo(2);
+		assertThat(handlerExecutor.getInFlightCount()).isZero();
+		// only the free capacity is fetched
+		verify(engineClient, atLeastOnce()).fetchAndLock(anyList(), eq(5));
+	}
+
+	@Test
+	void waitsWhileEveryTopicReachedItsLimit() {
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		AtomicInteger capacityChecks = new AtomicInteger();
+		ExternalTaskHandlerExecutor handlerExecutor = new ExternalTaskHandlerExecutor(executorService, 5, Map.of(T0, 1)) {
+			@Override
+			public boolean hasFreeCapacity(String topicName) {
+				capacityChecks.incrementAndGet();
+				return super.hasFreeCapacity(topicName);
+			}
+		};
+		// the blocked handler is only released after the manager is stopped
+		handlerExecutor.setShutdownTimeoutMillis(0);
+		topicSubscriptionManager.setHandlerExecutor(handlerExecutor);
+		topicSubscriptionManager.disableBackoffStrategy();
+		when(engineClient.fetchAndLock(anyList(), anyInt())).thenReturn(taskList.subList(0, 1));
+		CountDownLatch release = new CountDownLatch(1);
+
+		subscriptionT0 = new TopicSubscriptionBuilderImpl(T0, topicSubscriptionManager)
+				.handler((externalTask, externalTaskService) -> awaitRelease(release))
+				.open();
+		topicSubscriptionManager.start();
+		waitMillies(500);
+		topicSubscriptionManager.stop();
+		release.countDown();
+		executorService.shutdown();
+
+		// the topic is at its limit after the first fetch, so the manager waits instead of spinning
+		verify(engineClient, times(1)).fetchAndLock(anyList(), anyInt());
+		assertThat(capacityChecks.get()).isLessThan(10);
+	}
+
+	@Test
+	void stopWaitsForRunningHandlersAndStartRestartsHandlerThreads() {
+		List<ExecutorService> executorServices = new ArrayList<>();
+		ExternalTaskHandlerExecutor handlerExecutor = new ExternalTaskHandlerExecutor(() -> {
+			ExecutorService executorService = Executors.newFixedThreadPool(2);
+			executorServices.add(executorService);
+			return executorService;
+		}, 5, Map.of());
+		topicSubscriptionManager.setHandlerExecutor(handlerExecutor);
+		when(engineClient.fetchAndLock(anyList(), anyInt())).thenReturn(taskList.subList(0, 1));
+		CountDownLatch started = new CountDownLatch(1);
+
+		subscriptionT0 = new TopicSubscriptionBuilderImpl(T0, topicSubscriptionManager)
+				.handler((externalTask, externalTaskService) -> {
+					started.countDown();
+					waitMillies(300);
+				})
+				.open();
+		topicSubscriptionManager.start();
+		awaitRelease(started);
+		topicSubscriptionManager.stop();
+
+		// the running handler has completed and the handler threads are shut down
+		assertThat(handlerExecutor.getInFlightCount()).isZero();
+		assertThat(handlerExecutor.getCompletedCount()).isEqualTo(1);
+		assertThat(executorServices).hasSize(1);
+		assertThat(executorServices.get(0).isTerminated()).isTrue();
+
+		topicSubscriptionManager.start();
+		await().atMost(5, TimeUnit.SECONDS).until(() -> handlerExecutor.getCompletedCount() == 2);
+		topicSubscriptionManager.stop();
+
+		assertThat(executorServices).hasSize(2);
+		assertThat(executorServices.get(1).isTerminated()).isTrue();
+	}
+
+	private void awaitRelease(CountDownLatch release) {
+		try {
+			release.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	private void waitMillies(int millies) {
 		await().pollDelay(Duration.ofMillis(millies)).until(() -> true);
 	}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.commons.utils.cache;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe LRU {@link Cache} with a fixed capacity and amortized O(1) reads.
+ * <p>
+ * Entries are kept in a {@link ConcurrentHashMap} and, additionally, in a doubly linked
+ * access-order list that is guarded by a single eviction lock. Reads never take that lock:
+ * a hit only records the entry in a lock-free, lossy ring buffer. The buffer is drained into
+ * the access-order list whenever it is half full and the lock is free, and before every
+ * write. Writes (put, remove, clear) are serialized by the eviction lock and evict from the
+ * head of the list in constant time.
+ * <p>
+ * *Note*: Under heavy concurrent reads, the read buffer may drop accesses, which makes
+ * the eviction order an approximation of LRU. In single-threaded use the order is exact.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of mapped values
+ */
+public class ConcurrentBufferedLruCache<K, V> implements Cache<K, V> {
+
+  protected static final int READ_BUFFER_SIZE = 128;
+  protected static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+  protected static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 2;
+
+  private final int capacity;
+
+  private final ConcurrentMap<K, Node<K, V>> cache = new ConcurrentHashMap<>();
+
+  private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+  private final AtomicLong readBufferWriteCount = new AtomicLong();
+  // only written while holding the eviction lock
+  private volatile long readBufferReadCount;
+
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  // sentinel of the access-order list: head.next is the least recently used entry
+  private final Node<K, V> head = new Node<>(null, null);
+
+  /**
+   * Creates the cache with a fixed capacity.
+   *
+   * @param capacity max number of cache entries
+   * @throws IllegalArgumentException if capacity is negative
+   */
+  public ConcurrentBufferedLruCache(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException();
+    }
+    this.capacity = capacity;
+    head.prev = head;
+    head.next = head;
+  }
+
+  @Override
+  public V get(K key) {
+    Node<K, V> node = cache.get(key);
+    if (node == null) {
+      return null;
+    }
+    recordRead(node);
+    return node.value;
+  }
+
+  @Override
+  public void put(K key, V value) {
+    if (key == null || value == null) {
+      throw new NullPointerException();
+    }
+
+    Node<K, V> node = new Node<>(key, value);
+    evictionLock.lock();
+    try {
+      drainReadBuffer();
+
+      Node<K, V> previousNode = cache.put(key, node);
+      if (previousNode != null) {
+        unlink(previousNode);
+      }
+      linkLast(node);
+
+      while (cache.size() > capacity && head.next != head) {
+        Node<K, V> lruNode = head.next;
+        unlink(lruNode);
+        cache.remove(lruNode.key, lruNode);
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public void remove(K key) {
+    evictionLock.lock();
+    try {
+      Node<K, V> node = cache.remove(key);
+      if (node != null) {
+        unlink(node);
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    evictionLock.lock();
+    try {
+      cache.clear();
+      for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+        readBuffer.set(i, null);
+      }
+      readBufferReadCount = readBufferWriteCount.get();
+
+      Node<K, V> node = head.next;
+      while (node != head) {
+        Node<K, V> next = node.next;
+        node.prev = null;
+        node.next = null;
+        node = next;
+      }
+      head.prev = head;
+      head.next = head;
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return cache.isEmpty();
+  }
+
+  @Override
+  public Set<K> keySet() {
+    return cache.keySet();
+  }
+
+  @Override
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * Records the access of the given node in the read buffer and drains the buffer
+   * if enough accesses are pending and no other thread currently holds the lock.
+   */
+  protected void recordRead(Node<K, V> node) {
+    long writeCount = readBufferWriteCount.getAndIncrement();
+    readBuffer.lazySet((int) (writeCount & READ_BUFFER_MASK), node);
+
+    if (writeCount - readBufferReadCount >= READ_BUFFER_DRAIN_THRESHOLD && evictionLock.tryLock()) {
+      try {
+        drainReadBuffer();
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Applies the pending reads to the access-order list. Must be called while holding the
+   * eviction lock.
+   */
+  protected void drainReadBuffer() {
+    long writeCount = readBufferWriteCount.get();
+    long start = Math.max(readBufferReadCount, writeCount - READ_BUFFER_SIZE);
+    for (long i = start; i < writeCount; i++) {
+      Node<K, V> node = readBuffer.getAndSet((int) (i & READ_BUFFER_MASK), null);
+      // skip dropped reads and nodes that were evicted or replaced in the meantime
+      if (node != null && node.next != null) {
+        unlink(node);
+        linkLast(node);
+      }
+    }
+    readBufferReadCount = writeCount;
+  }
+
+  protected void linkLast(Node<K, V> node) {
+    Node<K, V> last = head.prev;
+    node.prev = last;
+    node.next = head;
+    last.next = node;
+    head.prev = node;
+  }
+
+  protected void unlink(Node<K, V> node) {
+    if (node.next != null) {
+      node.prev.next = node.next;
+      node.next.prev = node.prev;
+      node.prev = null;
+      node.next = null;
+    }
+  }
+
+  protected static final class Node<K, V> {
+
+    final K key;
+    final V value;
+
+    // guarded by the eviction lock; null if the node is not linked
+    Node<K, V> prev;
+    Node<K, V> next;
+
+    Node(K key, V value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+}
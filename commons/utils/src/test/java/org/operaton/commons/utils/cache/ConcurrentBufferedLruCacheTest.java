@@ -0,0 +1,227 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.commons.utils.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+
+class ConcurrentBufferedLruCacheTest {
+
+  private ConcurrentBufferedLruCache<String, String> cache;
+
+  @BeforeEach
+  void createCache() {
+    cache = new ConcurrentBufferedLruCache<>(3);
+  }
+
+  @Test
+  void getEntryWithNotExistingKey() {
+    assertThat(cache.get("not existing")).isNull();
+  }
+
+  @Test
+  void getEntry() {
+    cache.put("a", "1");
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.get("a")).isEqualTo("1");
+  }
+
+  @Test
+  void overrideEntry() {
+    cache.put("a", "1");
+    cache.put("a", "2");
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.get("a")).isEqualTo("2");
+  }
+
+  @Test
+  void removeLeastRecentlyInsertedEntry() {
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.put("c", "3");
+    cache.put("d", "4");
+
+    assertThat(cache.size()).isEqualTo(3);
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.get("b")).isEqualTo("2");
+    assertThat(cache.get("c")).isEqualTo("3");
+    assertThat(cache.get("d")).isEqualTo("4");
+  }
+
+  @Test
+  void removeLeastRecentlyUsedEntry() {
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.put("c", "3");
+
+    cache.get("a");
+    cache.get("b");
+
+    cache.put("d", "4");
+
+    assertThat(cache.size()).isEqualTo(3);
+    assertThat(cache.get("c")).isNull();
+    assertThat(cache.get("a")).isEqualTo("1");
+    assertThat(cache.get("b")).isEqualTo("2");
+    assertThat(cache.get("d")).isEqualTo("4");
+  }
+
+  @Test
+  void clearCache() {
+    cache.put("a", "1");
+
+    cache.clear();
+    assertThat(cache.size()).isZero();
+    assertThat(cache.get("a")).isNull();
+  }
+
+  @Test
+  void failToInsertInvalidKey() {
+    assertThatExceptionOfType(NullPointerException.class).isThrownBy(() ->
+
+      cache.put(null, "1"));
+  }
+
+  @Test
+  void failToInsertInvalidValue() {
+    assertThatExceptionOfType(NullPointerException.class).isThrownBy(() ->
+
+      cache.put("a", null));
+  }
+
+  @Test
+  void failToCreateCacheWithInvalidCapacity() {
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+
+      new ConcurrentBufferedLruCache<String, String>(-1);
+    });
+  }
+
+  @Test
+  void removeElementInEmptyCache() {
+
+    // given
+    cache.clear();
+
+    // when
+    cache.remove("123");
+
+    // then
+    assertThat(cache.isEmpty()).isTrue();
+  }
+
+  @Test
+  void removeNoneExistingKeyInCache(){
+    //given
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.put("c", "3");
+
+    // when
+    cache.remove("d");
+
+    // then
+    assertThat(cache.get("a")).isEqualTo("1");
+    assertThat(cache.get("b")).isEqualTo("2");
+    assertThat(cache.get("c")).isEqualTo("3");
+  }
+
+  @Test
+  void removeAllElements() {
+    // given
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.put("c", "3");
+
+    // when
+    cache.remove("a");
+    cache.remove("b");
+    cache.remove("c");
+
+    // then
+    assertThat(cache.isEmpty()).isTrue();
+  }
+
+  @Test
+  void removeLeastRecentlyUsedEntryAfterManyReads() {
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.put("c", "3");
+
+    // more reads than the read buffer can hold
+    for (int i = 0; i < 1000; i++) {
+      cache.get("a");
+      cache.get("c");
+    }
+
+    cache.put("d", "4");
+
+    assertThat(cache.size()).isEqualTo(3);
+    assertThat(cache.get("b")).isNull();
+    assertThat(cache.get("a")).isEqualTo("1");
+    assertThat(cache.get("c")).isEqualTo("3");
+    assertThat(cache.get("d")).isEqualTo("4");
+  }
+
+  @Test
+  void neverExceedCapacityUnderConcurrentAccess() throws Exception {
+    // given
+    int capacity = 50;
+    ConcurrentBufferedLruCache<Integer, Integer> concurrentCache = new ConcurrentBufferedLruCache<>(capacity);
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+    // when
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      int seed = t;
+      futures.add(executorService.submit(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          int key = (i * 31 + seed) % 200;
+          if (concurrentCache.get(key) == null) {
+            concurrentCache.put(key, key);
+          }
+          if (i % 500 == 0) {
+            concurrentCache.remove(key);
+          }
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    executorService.shutdown();
+
+    // then
+    assertThat(concurrentCache.size()).isLessThanOrEqualTo(capacity);
+    for (Integer key : concurrentCache.keySet()) {
+      assertThat(concurrentCache.get(key)).isEqualTo(key);
+    }
+  }
+
+}
@@ -61,6 +61,10 @@ public class OperatonBpmRunLdapProperties extends LdapIdentityProviderPlugin {
         ", usePosixGroups=" + usePosixGroups +
         ", allowAnonymousLogin=" + allowAnonymousLogin +
         ", authorizationCheckEnabled=" + authorizationCheckEnabled +
-        ", passwordCheckCatchAuthenticationException=" + passwordCheckCatchAuthenticationException + "]";
+        ", passwordCheckCatchAuthenticationException=" + passwordCheckCatchAuthenticationException +
+        ", cacheCapacity=" + cacheCapacity +
+        ", cacheTimeToLive=" + cacheTimeToLive +
+        ", memberBatchSize=" + memberBatchSize +
+        ", connectionPoolEnabled=" + connectionPoolEnabled + "]";
   }
 }
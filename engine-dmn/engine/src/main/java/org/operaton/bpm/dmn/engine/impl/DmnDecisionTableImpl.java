@@ -30,6 +30,8 @@ public class DmnDecisionTableImpl implements DmnDecisionLogic {
   protected List<DmnDecisionTableOutputImpl> outputs = new ArrayList<>();
   protected List<DmnDecisionTableRuleImpl> rules = new ArrayList<>();
 
+  protected DmnDecisionTableIndex index;
+
   public DmnHitPolicyHandler getHitPolicyHandler() {
     return hitPolicyHandler;
   }
@@ -62,6 +64,18 @@ public class DmnDecisionTableImpl implements DmnDecisionLogic {
     this.rules = rules;
   }
 
+  /**
+   * @return the index over the input entries of the rules, or <code>null</code> if the
+   *   decision table was transformed without index
+   */
+  public DmnDecisionTableIndex getIndex() {
+    return index;
+  }
+
+  public void setIndex(DmnDecisionTableIndex index) {
+    this.index = index;
+  }
+
   @Override
   public String toString() {
     return "DmnDecisionTableImpl{" +
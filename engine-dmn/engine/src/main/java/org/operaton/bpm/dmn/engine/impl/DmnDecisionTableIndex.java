@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.dmn.engine.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index over the input entries of a decision table which are simple FEEL unary tests, i.e.
+ * literals, comparisons, ranges, lists of them and <code>-</code>. It allows to find the rules
+ * that match an input value by hash lookups and interval checks instead of evaluating the
+ * input entry of every rule.
+ *
+ * <p>Input entries which cannot be indexed, and indexed entries whose literals are of a different
+ * kind than the input value, are reported as rules to evaluate, so that their result is still
+ * determined by the FEEL engine.</p>
+ */
+public class DmnDecisionTableIndex {
+
+  protected final int ruleCount;
+  protected final List<InputIndex> inputIndexes;
+  protected final boolean defaultExpressionLanguageUsed;
+
+  public DmnDecisionTableIndex(int ruleCount, List<InputIndex> inputIndexes, boolean defaultExpressionLanguageUsed) {
+    this.ruleCount = ruleCount;
+    this.inputIndexes = inputIndexes;
+    this.defaultExpressionLanguageUsed = defaultExpressionLanguageUsed;
+  }
+
+  public int getRuleCount() {
+    return ruleCount;
+  }
+
+  public int getInputCount() {
+    return inputIndexes.size();
+  }
+
+  public InputIndex getInputIndex(int inputIdx) {
+    return inputIndexes.get(inputIdx);
+  }
+
+  /**
+   * @return true if input entries without an explicit expression language were indexed, so that
+   *   the index is only valid if FEEL is the default input entry expression language
+   */
+  public boolean isDefaultExpressionLanguageUsed() {
+    return defaultExpressionLanguageUsed;
+  }
+
+  /**
+   * The kind of literals an indexed input entry compares the input value with.
+   */
+  public enum ValueKind {
+    STRING, NUMBER, BOOLEAN;
+
+    /**
+     * @return the kind of the value or <code>null</code> if the index cannot handle the value
+     */
+    public static ValueKind of(Object value) {
+      if (value instanceof String) {
+        return STRING;
+      }
+      else if (value instanceof Boolean) {
+        return BOOLEAN;
+      }
+      else if (toNumber(value) != null) {
+        return NUMBER;
+      }
+      else {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * Converts a value to the number FEEL compares it as.
+   *
+   * @return the number with stripped trailing zeros or <code>null</code> if the value is not a finite number
+   */
+  public static BigDecimal toNumber(Object value) {
+    BigDecimal number = null;
+    if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      number = BigDecimal.valueOf(((Number) value).longValue());
+    }
+    else if (value instanceof Double || value instanceof Float) {
+      double doubleValue = ((Number) value).doubleValue();
+      if (!Double.isNaN(doubleValue) && !Double.isInfinite(doubleValue)) {
+        number = BigDecimal.valueOf(doubleValue);
+      }
+    }
+    else if (value instanceof BigDecimal bigDecimal) {
+      number = bigDecimal;
+    }
+    else if (value instanceof BigInteger bigInteger) {
+      number = new BigDecimal(bigInteger);
+    }
+    return number != null ? number.stripTrailingZeros() : null;
+  }
+
+  /**
+   * Converts a value to the key of the equality index.
+   */
+  public static Object toKey(Object value) {
+    BigDecimal number = toNumber(value);
+    return number != null ? number : value;
+  }
+
+  public static class InputIndex {
+
+    protected final BitSet wildcardRules = new BitSet();
+    protected final BitSet unindexedRules = new BitSet();
+    protected final Map<ValueKind, BitSet> rulesByKind = new EnumMap<>(ValueKind.class);
+    protected final Map<Object, BitSet> equalityIndex = new HashMap<>();
+    protected final List<Interval> intervals = new ArrayList<>();
+
+    public void addWildcard(int ruleIdx) {
+      wildcardRules.set(ruleIdx);
+    }
+
+    public void addUnindexed(int ruleIdx) {
+      unindexedRules.set(ruleIdx);
+    }
+
+    public void addValue(int ruleIdx, Object value) {
+      rulesByKind.computeIfAbsent(ValueKind.of(value), kind -> new BitSet()).set(ruleIdx);
+      equalityIndex.computeIfAbsent(toKey(value), key -> new BitSet()).set(ruleIdx);
+    }
+
+    public void addInterval(int ruleIdx, BigDecimal lower, boolean lowerInclusive, BigDecimal upper, boolean upperInclusive) {
+      rulesByKind.computeIfAbsent(ValueKind.NUMBER, kind -> new BitSet()).set(ruleIdx);
+      intervals.add(new Interval(ruleIdx, lower, lowerInclusive, upper, upperInclusive));
+    }
+
+    /**
+     * Sorts the intervals by their lower bound. Must be called after all entries were added.
+     */
+    public void seal() {
+      intervals.sort(Comparator.comparing(Interval::getLower, Comparator.nullsFirst(Comparator.naturalOrder())));
+    }
+
+    /**
+     * Determines which of the candidate rules match the input value.
+     *
+     * @param value the value of the input variable
+     * @param candidateRules the rules which matched all previous inputs
+     * @param rulesToEvaluate receives the candidate rules whose input entry has to be evaluated
+     *   to decide whether they match
+     * @return the candidate rules which match according to the index
+     */
+    public BitSet match(Object value, BitSet candidateRules, BitSet rulesToEvaluate) {
+      BitSet matchingRules = (BitSet) wildcardRules.clone();
+
+      rulesToEvaluate.or(unindexedRules);
+
+      ValueKind valueKind = ValueKind.of(value);
+      if (valueKind == null) {
+        for (BitSet rules : rulesByKind.values()) {
+          rulesToEvaluate.or(rules);
+        }
+      }
+      else {
+        for (Map.Entry<ValueKind, BitSet> entry : rulesByKind.entrySet()) {
+          if (entry.getKey() != valueKind) {
+            rulesToEvaluate.or(entry.getValue());
+          }
+        }
+
+        BitSet equalRules = equalityIndex.get(toKey(value));
+        if (equalRules != null) {
+          matchingRules.or(equalRules);
+        }
+
+        if (valueKind == ValueKind.NUMBER) {
+          matchIntervals(toNumber(value), matchingRules);
+        }
+      }
+
+      matchingRules.and(candidateRules);
+      rulesToEvaluate.and(candidateRules);
+      return matchingRules;
+    }
+
+    protected void matchIntervals(BigDecimal number, BitSet matchingRules) {
+      for (Interval interval : intervals) {
+        if (interval.lower != null) {
+          int comparison = interval.lower.compareTo(number);
+          if (comparison > 0) {
+            // all following intervals start above the number
+            break;
+          }
+          if (comparison == 0 && !interval.lowerInclusive) {
+            continue;
+          }
+        }
+        if (interval.isBelowUpperBound(number)) {
+          matchingRules.set(interval.ruleIdx);
+        }
+      }
+    }
+  }
+
+  public static class Interval {
+
+    protected final int ruleIdx;
+    protected final BigDecimal lower;
+    protected final boolean lowerInclusive;
+    protected final BigDecimal upper;
+    protected final boolean upperInclusive;
+
+    public Interval(int ruleIdx, BigDecimal lower, boolean lowerInclusive, BigDecimal upper, boolean upperInclusive) {
+      this.ruleIdx = ruleIdx;
+      this.lower = lower;
+      this.lowerInclusive = lowerInclusive;
+      this.upper = upper;
+      this.upperInclusive = upperInclusive;
+    }
+
+    public BigDecimal getLower() {
+      return lower;
+    }
+
+    protected boolean isBelowUpperBound(BigDecimal number) {
+      if (upper == null) {
+        return true;
+      }
+      int comparison = number.compareTo(upper);
+      return comparison < 0 || (comparison == 0 && upperInclusive);
+    }
+
+    @Override
+    public String toString() {
+      return "Interval{" +
+        "ruleIdx=" + ruleIdx +
+        ", lower=" + lower +
+        ", lowerInclusive=" + lowerInclusive +
+        ", upper=" + upper +
+        ", upperInclusive=" + upperInclusive +
+        '}';
+    }
+  }
+
+}
@@ -17,6 +17,7 @@
 package org.operaton.bpm.dmn.engine.impl.evaluation;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +35,7 @@ import org.operaton.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
 import org.operaton.bpm.dmn.engine.impl.DmnDecisionResultEntriesImpl;
 import org.operaton.bpm.dmn.engine.impl.DmnDecisionResultImpl;
 import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableIndex;
 import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableInputImpl;
 import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableOutputImpl;
 import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
@@ -43,6 +45,7 @@ import org.operaton.bpm.dmn.engine.impl.delegate.DmnEvaluatedDecisionRuleImpl;
 import org.operaton.bpm.dmn.engine.impl.delegate.DmnEvaluatedInputImpl;
 import org.operaton.bpm.dmn.engine.impl.delegate.DmnEvaluatedOutputImpl;
 import org.operaton.bpm.dmn.feel.impl.FeelEngine;
+import org.operaton.bpm.dmn.feel.impl.scala.ScalaFeelEngine;
 import org.operaton.bpm.engine.variable.Variables;
 import org.operaton.bpm.engine.variable.context.VariableContext;
 import org.operaton.bpm.engine.variable.impl.context.CompositeVariableContext;
@@ -61,6 +64,10 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
 
   protected final boolean returnBlankTableOutputAsNull;
 
+  // the decision table index mirrors the semantics of the FEEL engine of the DMN engine
+  protected final boolean decisionTableIndexSupported;
+  protected final boolean feelDefaultInputEntryExpressionLanguage;
+
   public DecisionTableEvaluationHandler(DefaultDmnEngineConfiguration configuration) {
     expressionEvaluationHandler = new ExpressionEvaluationHandler(configuration);
     feelEngine = configuration.getFeelEngine();
@@ -71,6 +78,10 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
     inputEntryExpressionLanguage = configuration.getDefaultInputEntryExpressionLanguage();
     outputEntryExpressionLanguage = configuration.getDefaultOutputEntryExpressionLanguage();
     returnBlankTableOutputAsNull = configuration.isReturnBlankTableOutputAsNull();
+
+    decisionTableIndexSupported = feelEngine instanceof ScalaFeelEngine;
+    feelDefaultInputEntryExpressionLanguage = inputEntryExpressionLanguage != null
+        && expressionEvaluationHandler.isFeelExpressionLanguage(inputEntryExpressionLanguage);
   }
 
   @Override
@@ -99,6 +110,12 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
   }
 
   protected void evaluateDecisionTable(DmnDecisionTableImpl decisionTable, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    DmnDecisionTableIndex index = decisionTable.getIndex();
+    if (isIndexApplicable(decisionTable, index)) {
+      evaluateDecisionTableWithIndex(decisionTable, index, variableContext, evaluationResult);
+      return;
+    }
+
     int inputSize = decisionTable.getInputs().size();
     List<DmnDecisionTableRuleImpl> matchingRules = new ArrayList<>(decisionTable.getRules());
     for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
@@ -117,6 +134,61 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
     setEvaluationOutput(decisionTable, matchingRules, variableContext, evaluationResult);
   }
 
+  protected boolean isIndexApplicable(DmnDecisionTableImpl decisionTable, DmnDecisionTableIndex index) {
+    return index != null
+        && decisionTableIndexSupported
+        && (feelDefaultInputEntryExpressionLanguage || !index.isDefaultExpressionLanguageUsed())
+        // the rules may have been changed after the transformation
+        && index.getRuleCount() == decisionTable.getRules().size()
+        && index.getInputCount() == decisionTable.getInputs().size();
+  }
+
+  /**
+   * Filters the rules by the index of the decision table. Only the input entries which are not
+   * covered by the index are evaluated, and only for the rules which matched all previous inputs.
+   */
+  protected void evaluateDecisionTableWithIndex(DmnDecisionTableImpl decisionTable, DmnDecisionTableIndex index, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+    BitSet matchingRuleIdxs = new BitSet(rules.size());
+    matchingRuleIdxs.set(0, rules.size());
+
+    int inputSize = decisionTable.getInputs().size();
+    for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
+      // evaluate input
+      DmnDecisionTableInputImpl input = decisionTable.getInputs().get(inputIdx);
+      DmnEvaluatedInput evaluatedInput = evaluateInput(input, variableContext);
+      evaluationResult.getInputs().add(evaluatedInput);
+
+      if (!matchingRuleIdxs.isEmpty()) {
+        VariableContext localVariableContext = getLocalVariableContext(input, evaluatedInput, variableContext);
+
+        // the FEEL engine tests the value of the input variable
+        Object inputValue = null;
+        String inputVariable = input.getInputVariable();
+        if (localVariableContext.containsVariable(inputVariable)) {
+          inputValue = localVariableContext.resolve(inputVariable).getValue();
+        }
+
+        BitSet ruleIdxsToEvaluate = new BitSet();
+        BitSet inputMatchingRuleIdxs = index.getInputIndex(inputIdx).match(inputValue, matchingRuleIdxs, ruleIdxsToEvaluate);
+        for (int ruleIdx = ruleIdxsToEvaluate.nextSetBit(0); ruleIdx >= 0; ruleIdx = ruleIdxsToEvaluate.nextSetBit(ruleIdx + 1)) {
+          DmnExpressionImpl condition = rules.get(ruleIdx).getConditions().get(inputIdx);
+          if (isConditionApplicable(input, condition, localVariableContext)) {
+            inputMatchingRuleIdxs.set(ruleIdx);
+          }
+        }
+        matchingRuleIdxs = inputMatchingRuleIdxs;
+      }
+    }
+
+    List<DmnDecisionTableRuleImpl> matchingRules = new ArrayList<>(matchingRuleIdxs.cardinality());
+    for (int ruleIdx = matchingRuleIdxs.nextSetBit(0); ruleIdx >= 0; ruleIdx = matchingRuleIdxs.nextSetBit(ruleIdx + 1)) {
+      matchingRules.add(rules.get(ruleIdx));
+    }
+
+    setEvaluationOutput(decisionTable, matchingRules, variableContext, evaluationResult);
+  }
+
   protected DmnEvaluatedInput evaluateInput(DmnDecisionTableInputImpl input, VariableContext variableContext) {
     DmnEvaluatedInputImpl evaluatedInput = new DmnEvaluatedInputImpl(input);
 
@@ -306,9 +306,18 @@ public class DefaultDmnTransform implements DmnTransform, DmnElementTransformCon
       }
     }
 
+    if (isDecisionTableIndexEnabled()) {
+      dmnDecisionTable.setIndex(new DmnDecisionTableIndexBuilder().build(dmnDecisionTable));
+    }
+
     return dmnDecisionTable;
   }
 
+  protected boolean isDecisionTableIndexEnabled() {
+    return transformer instanceof DefaultDmnTransformer defaultDmnTransformer
+        && defaultDmnTransformer.isDecisionTableIndexEnabled();
+  }
+
   protected DmnDecisionTableInputImpl transformDecisionTableInput(Input input) {
     DmnElementTransformHandler<Input, DmnDecisionTableInputImpl> handler = handlerRegistry.getHandler(Input.class);
     DmnDecisionTableInputImpl dmnInput = handler.handleElement(this, input);
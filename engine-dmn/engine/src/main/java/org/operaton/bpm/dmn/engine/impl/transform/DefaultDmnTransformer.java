@@ -36,6 +36,7 @@ public class DefaultDmnTransformer implements DmnTransformer {
   protected DmnElementTransformHandlerRegistry elementTransformHandlerRegistry = new DefaultElementTransformHandlerRegistry();
   protected DmnDataTypeTransformerRegistry dataTypeTransformerRegistry = new DefaultDataTypeTransformerRegistry();
   protected DmnHitPolicyHandlerRegistry hitPolicyHandlerRegistry = new DefaultHitPolicyHandlerRegistry();
+  protected boolean decisionTableIndexEnabled = true;
 
   @Override
   public DmnTransformFactory getTransformFactory() {
@@ -106,6 +107,24 @@ public class DefaultDmnTransformer implements DmnTransformer {
     return this;
   }
 
+  public boolean isDecisionTableIndexEnabled() {
+    return decisionTableIndexEnabled;
+  }
+
+  /**
+   * Controls whether the simple FEEL input entries of decision tables are compiled into a
+   * {@link org.operaton.bpm.dmn.engine.impl.DmnDecisionTableIndex DmnDecisionTableIndex}
+   * on transformation, which speeds up the evaluation of large decision tables. Enabled by default.
+   */
+  public void setDecisionTableIndexEnabled(boolean decisionTableIndexEnabled) {
+    this.decisionTableIndexEnabled = decisionTableIndexEnabled;
+  }
+
+  public DefaultDmnTransformer decisionTableIndexEnabled(boolean decisionTableIndexEnabled) {
+    setDecisionTableIndexEnabled(decisionTableIndexEnabled);
+    return this;
+  }
+
   @Override
   public DmnTransform createTransform() {
     return transformFactory.createTransform(this);
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.dmn.engine.impl.transform;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.operaton.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableIndex;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableIndex.InputIndex;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableIndex.ValueKind;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.operaton.bpm.dmn.engine.impl.DmnExpressionImpl;
+
+/**
+ * Builds the {@link DmnDecisionTableIndex} of a decision table from the FEEL input entries of
+ * its rules. Recognized are string, number and boolean literals, comparisons (<code>&lt; 5</code>),
+ * ranges (<code>[1..10]</code>), comma separated lists of literals, comparisons and ranges of the
+ * same kind, and <code>-</code>. All other input entries are left to the FEEL engine.
+ */
+public class DmnDecisionTableIndexBuilder {
+
+  protected static final String NUMBER = "(-?\\d{1,30}(?:\\.\\d{1,30})?)";
+
+  protected static final Pattern STRING_PATTERN = Pattern.compile("\"([^\"\\\\]*)\"");
+  protected static final Pattern NUMBER_PATTERN = Pattern.compile(NUMBER);
+  protected static final Pattern COMPARISON_PATTERN = Pattern.compile("(<=|>=|<|>)\\s*" + NUMBER);
+  protected static final Pattern RANGE_PATTERN = Pattern.compile("([\\[\\](])\\s*" + NUMBER + "\\s*\\.\\.\\s*" + NUMBER + "\\s*([\\])\\[])");
+
+  protected static final String WILDCARD = "-";
+
+  protected boolean defaultExpressionLanguageUsed;
+
+  public DmnDecisionTableIndex build(DmnDecisionTableImpl decisionTable) {
+    int inputCount = decisionTable.getInputs().size();
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+
+    List<InputIndex> inputIndexes = new ArrayList<>(inputCount);
+    for (int inputIdx = 0; inputIdx < inputCount; inputIdx++) {
+      InputIndex inputIndex = new InputIndex();
+      for (int ruleIdx = 0; ruleIdx < rules.size(); ruleIdx++) {
+        DmnExpressionImpl condition = rules.get(ruleIdx).getConditions().get(inputIdx);
+        addCondition(inputIndex, ruleIdx, condition);
+      }
+      inputIndex.seal();
+      inputIndexes.add(inputIndex);
+    }
+
+    return new DmnDecisionTableIndex(rules.size(), inputIndexes, defaultExpressionLanguageUsed);
+  }
+
+  protected void addCondition(InputIndex inputIndex, int ruleIdx, DmnExpressionImpl condition) {
+    String expression = condition != null ? condition.getExpression() : null;
+    if (expression == null || expression.trim().isEmpty()) {
+      // input entries without expressions are true
+      inputIndex.addWildcard(ruleIdx);
+      return;
+    }
+
+    String expressionLanguage = condition.getExpressionLanguage();
+    if (expressionLanguage == null) {
+      defaultExpressionLanguageUsed = true;
+    }
+    else if (!isFeelExpressionLanguage(expressionLanguage)) {
+      inputIndex.addUnindexed(ruleIdx);
+      return;
+    }
+
+    expression = expression.trim();
+    if (WILDCARD.equals(expression)) {
+      inputIndex.addWildcard(ruleIdx);
+    }
+    else if (!addUnaryTests(inputIndex, ruleIdx, expression)) {
+      inputIndex.addUnindexed(ruleIdx);
+    }
+  }
+
+  /**
+   * @return false if the unary tests are not simple enough to be indexed, in which case
+   *   nothing was added to the index
+   */
+  protected boolean addUnaryTests(InputIndex inputIndex, int ruleIdx, String expression) {
+    List<String> tests = splitTests(expression);
+    if (tests == null) {
+      return false;
+    }
+
+    List<Object> values = new ArrayList<>();
+    List<Object[]> intervals = new ArrayList<>();
+    ValueKind kind = null;
+
+    for (String test : tests) {
+      Object value = parseLiteral(test);
+      Object[] interval = value == null ? parseInterval(test) : null;
+      if (value == null && interval == null) {
+        return false;
+      }
+
+      ValueKind testKind = value != null ? ValueKind.of(value) : ValueKind.NUMBER;
+      if (kind != null && kind != testKind) {
+        // FEEL compares values of different kinds differently, leave them to the FEEL engine
+        return false;
+      }
+      kind = testKind;
+
+      if (value != null) {
+        values.add(value);
+      }
+      else {
+        intervals.add(interval);
+      }
+    }
+
+    for (Object value : values) {
+      inputIndex.addValue(ruleIdx, value);
+    }
+    for (Object[] interval : intervals) {
+      inputIndex.addInterval(ruleIdx, (BigDecimal) interval[0], (Boolean) interval[1], (BigDecimal) interval[2], (Boolean) interval[3]);
+    }
+    return true;
+  }
+
+  /**
+   * Splits the comma separated unary tests, ignoring commas in string literals.
+   *
+   * @return the trimmed tests or <code>null</code> if the expression contains an empty test
+   */
+  protected List<String> splitTests(String expression) {
+    List<String> tests = new ArrayList<>();
+    boolean inString = false;
+    int start = 0;
+    for (int i = 0; i < expression.length(); i++) {
+      char c = expression.charAt(i);
+      if (c == '"') {
+        inString = !inString;
+      }
+      else if (c == ',' && !inString) {
+        tests.add(expression.substring(start, i).trim());
+        start = i + 1;
+      }
+    }
+    tests.add(expression.substring(start).trim());
+
+    return tests.contains("") ? null : tests;
+  }
+
+  /**
+   * @return the string, number or boolean of the literal or <code>null</code> if the test is not a literal
+   */
+  protected Object parseLiteral(String test) {
+    Matcher stringMatcher = STRING_PATTERN.matcher(test);
+    if (stringMatcher.matches()) {
+      return stringMatcher.group(1);
+    }
+    if (NUMBER_PATTERN.matcher(test).matches()) {
+      return new BigDecimal(test);
+    }
+    if ("true".equals(test) || "false".equals(test)) {
+      return Boolean.valueOf(test);
+    }
+    return null;
+  }
+
+  /**
+   * @return lower bound, lower bound inclusive, upper bound and upper bound inclusive of the
+   *   comparison or range, or <code>null</code> if the test is neither of them
+   */
+  protected Object[] parseInterval(String test) {
+    Matcher comparisonMatcher = COMPARISON_PATTERN.matcher(test);
+    if (comparisonMatcher.matches()) {
+      String operator = comparisonMatcher.group(1);
+      BigDecimal bound = new BigDecimal(comparisonMatcher.group(2));
+      return switch (operator) {
+        case "<" -> new Object[] { null, false, bound, false };
+        case "<=" -> new Object[] { null, false, bound, true };
+        case ">" -> new Object[] { bound, false, null, false };
+        default -> new Object[] { bound, true, null, false };
+      };
+    }
+
+    Matcher rangeMatcher = RANGE_PATTERN.matcher(test);
+    if (rangeMatcher.matches()) {
+      boolean lowerInclusive = "[".equals(rangeMatcher.group(1));
+      BigDecimal lower = new BigDecimal(rangeMatcher.group(2));
+      BigDecimal upper = new BigDecimal(rangeMatcher.group(3));
+      boolean upperInclusive = "]".equals(rangeMatcher.group(4));
+      return new Object[] { lower, lowerInclusive, upper, upperInclusive };
+    }
+
+    return null;
+  }
+
+  protected boolean isFeelExpressionLanguage(String expressionLanguage) {
+    return DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE.equals(expressionLanguage) ||
+      DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_ALTERNATIVE.equalsIgnoreCase(expressionLanguage) ||
+      DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_DMN12.equals(expressionLanguage) ||
+      DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_DMN13.equals(expressionLanguage) ||
+      DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_DMN14.equals(expressionLanguage) ||
+      DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_DMN15.equals(expressionLanguage);
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.dmn.engine.evaluate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.dmn.engine.DmnDecision;
+import org.operaton.bpm.dmn.engine.DmnDecisionResult;
+import org.operaton.bpm.dmn.engine.DmnEngine;
+import org.operaton.bpm.dmn.engine.DmnEngineConfiguration;
+import org.operaton.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.operaton.bpm.dmn.engine.impl.transform.DefaultDmnTransformer;
+import org.operaton.bpm.dmn.engine.test.DecisionResource;
+import org.operaton.bpm.dmn.engine.test.DmnEngineTest;
+import org.operaton.bpm.engine.variable.VariableMap;
+import org.operaton.bpm.engine.variable.Variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DecisionTableIndexTest extends DmnEngineTest {
+
+  protected static final String DMN_FILE = "org/operaton/bpm/dmn/engine/evaluate/DecisionTableIndexTest.dmn";
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  void shouldBuildIndexOnTransformation() {
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) decision.getDecisionLogic();
+
+    assertThat(decisionTable.getIndex()).isNotNull();
+    assertThat(decisionTable.getIndex().getRuleCount()).isEqualTo(decisionTable.getRules().size());
+    assertThat(decisionTable.getIndex().getInputCount()).isEqualTo(decisionTable.getInputs().size());
+  }
+
+  @Test
+  void shouldNotBuildIndexIfDisabled() {
+    DmnEngine engine = createEngineWithoutIndex();
+
+    DmnDecision decisionWithoutIndex = parseDecision(engine);
+
+    assertThat(((DmnDecisionTableImpl) decisionWithoutIndex.getDecisionLogic()).getIndex()).isNull();
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  void shouldMatchRules() {
+    assertThat(evaluateRules("gold", 42.5, true)).containsExactly("gold_small", "any", "gold_exact_vip");
+    assertThat(evaluateRules("silver", 150.0, true)).containsExactly("gold_silver_large_vip", "above_limit", "any", "juel_large");
+    assertThat(evaluateRules("bronze", 15.0, false)).containsExactly("bronze_medium", "not_gold_steps", "any", "other_or_bronze");
+    assertThat(evaluateRules("other", 0.5, null)).containsExactly("any", "small");
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  void shouldMatchSameRulesAsWithoutIndex() {
+    DmnEngine engineWithoutIndex = createEngineWithoutIndex();
+    DmnDecision decisionWithoutIndex = parseDecision(engineWithoutIndex);
+
+    List<String> categories = Arrays.asList("gold", "silver", "bronze", "other", "", null);
+    List<Double> amounts = Arrays.asList(null, -1.0, 0.0, 0.5, 1.0, 5.0, 10.0, 15.0, 20.0, 25.0, 30.0, 42.5, 100.0, 100.5, 120.0, 150.0);
+    List<Boolean> vips = Arrays.asList(true, false, null);
+
+    for (String category : categories) {
+      for (Double amount : amounts) {
+        for (Boolean vip : vips) {
+          VariableMap inputs = createInputs(category, amount, vip);
+
+          List<String> expectedRules = collectRules(engineWithoutIndex.evaluateDecision(decisionWithoutIndex, inputs));
+          List<String> actualRules = collectRules(dmnEngine.evaluateDecision(decision, inputs));
+
+          assertThat(actualRules)
+            .describedAs("category=%s, amount=%s, vip=%s", category, amount, vip)
+            .isEqualTo(expectedRules);
+        }
+      }
+    }
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  void shouldNotUseIndexIfRulesChangedAfterTransformation() {
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) decision.getDecisionLogic();
+    decisionTable.getRules().remove(0);
+
+    assertThat(evaluateRules("gold", 42.5, true)).containsExactly("any", "gold_exact_vip");
+  }
+
+  protected List<String> evaluateRules(String category, Double amount, Boolean vip) {
+    return collectRules(dmnEngine.evaluateDecision(decision, createInputs(category, amount, vip)));
+  }
+
+  protected VariableMap createInputs(String category, Double amount, Boolean vip) {
+    return Variables.createVariables()
+      .putValue("category", category)
+      .putValue("amount", amount)
+      .putValue("vip", vip)
+      .putValue("limit", 120);
+  }
+
+  protected List<String> collectRules(DmnDecisionResult result) {
+    List<String> rules = new ArrayList<>();
+    result.forEach(entries -> rules.add(entries.getSingleEntry()));
+    return rules;
+  }
+
+  protected DmnEngine createEngineWithoutIndex() {
+    DefaultDmnEngineConfiguration configuration = (DefaultDmnEngineConfiguration) DmnEngineConfiguration.createDefaultDmnEngineConfiguration();
+    ((DefaultDmnTransformer) configuration.getTransformer()).setDecisionTableIndexEnabled(false);
+    return configuration.buildEngine();
+  }
+
+  protected DmnDecision parseDecision(DmnEngine engine) {
+    return engine.parseDecision("decision", getClass().getClassLoader().getResourceAsStream(DMN_FILE));
+  }
+
+}
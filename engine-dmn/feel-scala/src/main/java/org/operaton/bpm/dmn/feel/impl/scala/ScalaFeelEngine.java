@@ -27,9 +27,11 @@ import camundajar.impl.scala.util.Right;
 import org.camunda.feel.FeelEngine.Failure;
 import org.camunda.feel.api.FeelEngineApi;
 import org.camunda.feel.api.FeelEngineBuilder;
+import org.camunda.feel.api.ParseResult;
 import org.camunda.feel.context.CustomContext;
 import org.camunda.feel.context.VariableProvider;
 import org.camunda.feel.impl.JavaValueMapper;
+import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.valuemapper.CustomValueMapper;
 import org.camunda.feel.valuemapper.ValueMapper.CompositeValueMapper;
 
@@ -38,6 +40,8 @@ import org.operaton.bpm.dmn.feel.impl.scala.function.CustomFunctionTransformer;
 import org.operaton.bpm.dmn.feel.impl.scala.function.FeelCustomFunctionProvider;
 import org.operaton.bpm.dmn.feel.impl.scala.spin.SpinValueMapperFactory;
 import org.operaton.bpm.engine.variable.context.VariableContext;
+import org.operaton.commons.utils.cache.Cache;
+import org.operaton.commons.utils.cache.ConcurrentBufferedLruCache;
 
 import static camundajar.impl.scala.jdk.CollectionConverters.ListHasAsScala;
 import static org.camunda.feel.context.VariableProvider.CompositeVariableProvider;
@@ -78,7 +82,22 @@ public class ScalaFeelEngine implements FeelEngine {
   protected final FeelEngineApi feelEngineApi;
 
   /**
-   * Constructs an instance of the ScalaFeelEngine.
+   * Parsed simple expressions, keyed by expression text. {@code null} if
+   * parsed expressions are not cached.
+   */
+  protected final Cache<String, ParsedExpression> expressionCache;
+
+  /**
+   * Parsed unary tests, keyed by expression text. The input value is passed
+   * to the parsed tests on evaluation, so the input name is not part of the
+   * key. {@code null} if parsed unary tests are not cached.
+   */
+  protected final Cache<String, ParsedExpression> unaryTestsCache;
+
+  /**
+   * Constructs an instance of the ScalaFeelEngine that caches up to
+   * {@link ScalaFeelEngineFactory#DEFAULT_EXPRESSION_CACHE_SIZE} parsed
+   * expressions and unary tests.
    *
    * @param functionProviders the list of custom function providers to be used
    *                          when transforming and resolving functions in the FEEL engine.
@@ -86,6 +105,26 @@ public class ScalaFeelEngine implements FeelEngine {
    *                          that can be executed as part of FEEL expressions.
    */
   public ScalaFeelEngine(java.util.List<FeelCustomFunctionProvider> functionProviders) {
+    this(functionProviders, ScalaFeelEngineFactory.DEFAULT_EXPRESSION_CACHE_SIZE);
+  }
+
+  /**
+   * Constructs an instance of the ScalaFeelEngine.
+   *
+   * @param functionProviders   the list of custom function providers to be used
+   *                            when transforming and resolving functions in the FEEL engine.
+   * @param expressionCacheSize the maximum number of parsed expressions and parsed unary
+   *                            tests to keep; {@code 0} parses on every evaluation.
+   */
+  public ScalaFeelEngine(java.util.List<FeelCustomFunctionProvider> functionProviders, int expressionCacheSize) {
+    if (expressionCacheSize > 0) {
+      expressionCache = new ConcurrentBufferedLruCache<>(expressionCacheSize);
+      unaryTestsCache = new ConcurrentBufferedLruCache<>(expressionCacheSize);
+    } else {
+      expressionCache = null;
+      unaryTestsCache = null;
+    }
+
     List<CustomValueMapper> valueMappers = getValueMappers();
 
     CompositeValueMapper compositeValueMapper = new CompositeValueMapper(valueMappers);
@@ -116,7 +155,8 @@ public class ScalaFeelEngine implements FeelEngine {
       }
     };
 
-    Either<Failure, Object> either = feelEngineApi.evaluateExpression(expression, context).toEither();
+    ParsedExpression parsedExpression = parseExpression(expression);
+    Either<Failure, Object> either = feelEngineApi.evaluate(parsedExpression, context).toEither();
 
     return handleEvaluationResult(either);
   }
@@ -148,8 +188,9 @@ public class ScalaFeelEngine implements FeelEngine {
       }
     };
 
-    // Evaluate the unary tests using the FeelEngineApi
-    Either<Failure, Object> either = feelEngineApi.evaluateUnaryTests(expression, inputVariable, context).toEither();
+    // Evaluate the (cached) parsed unary tests using the FeelEngineApi
+    ParsedExpression parsedUnaryTests = parseUnaryTests(expression);
+    Either<Failure, Object> either = feelEngineApi.evaluateWithInput(parsedUnaryTests, inputVariable, context).toEither();
 
     // Handle the evaluation result
     Object result = handleEvaluationResult(either);
@@ -157,6 +198,47 @@ public class ScalaFeelEngine implements FeelEngine {
     return BoxesRunTime.unboxToBoolean(result);
   }
 
+  /**
+   * Returns the parsed form of a simple expression, parsing it only if it is
+   * not cached yet.
+   *
+   * @param expression the FEEL expression to parse
+   * @return the parsed expression
+   * @throws org.operaton.bpm.dmn.feel.impl.FeelException if the expression cannot be parsed
+   */
+  protected ParsedExpression parseExpression(String expression) {
+    return parse(expression, expressionCache, false);
+  }
+
+  /**
+   * Returns the parsed form of unary tests, parsing them only if they are not
+   * cached yet.
+   *
+   * @param expression the unary tests to parse
+   * @return the parsed unary tests
+   * @throws org.operaton.bpm.dmn.feel.impl.FeelException if the unary tests cannot be parsed
+   */
+  protected ParsedExpression parseUnaryTests(String expression) {
+    return parse(expression, unaryTestsCache, true);
+  }
+
+  private ParsedExpression parse(String expression, Cache<String, ParsedExpression> cache, boolean unaryTests) {
+    ParsedExpression parsedExpression = cache != null && expression != null ? cache.get(expression) : null;
+    if (parsedExpression == null) {
+      ParseResult parseResult = unaryTests
+        ? feelEngineApi.parseUnaryTests(expression)
+        : feelEngineApi.parseExpression(expression);
+      if (!parseResult.isSuccess()) {
+        throw LOGGER.evaluationException(parseResult.failure().message());
+      }
+      parsedExpression = parseResult.parsedExpression();
+      if (cache != null && expression != null) {
+        cache.put(expression, parsedExpression);
+      }
+    }
+    return parsedExpression;
+  }
+
   /**
    * Handles the result of an evaluation by processing the provided `Either` value,
    * which can represent either a successful or failed evaluation.
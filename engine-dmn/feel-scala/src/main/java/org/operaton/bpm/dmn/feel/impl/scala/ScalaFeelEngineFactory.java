@@ -30,6 +30,12 @@ import org.operaton.bpm.dmn.feel.impl.scala.function.FeelCustomFunctionProvider;
  */
 public class ScalaFeelEngineFactory implements FeelEngineFactory {
 
+  /**
+   * The default maximum number of parsed expressions and parsed unary tests
+   * a created engine keeps.
+   */
+  public static final int DEFAULT_EXPRESSION_CACHE_SIZE = 1000;
+
   /**
    * A protected field that stores a list of custom function providers for the FEEL engine.
    * Custom function providers are instances of {@link FeelCustomFunctionProvider} that define
@@ -37,6 +43,12 @@ public class ScalaFeelEngineFactory implements FeelEngineFactory {
    */
   protected List<FeelCustomFunctionProvider> customFunctionProviders;
 
+  /**
+   * The maximum number of parsed expressions and parsed unary tests an engine
+   * created by this factory keeps. A value of {@code 0} disables the cache.
+   */
+  protected int expressionCacheSize = DEFAULT_EXPRESSION_CACHE_SIZE;
+
   /**
    * Default constructor for the ScalaFeelEngineFactory.
    * Initializes the factory with default settings and no custom function providers.
@@ -65,7 +77,7 @@ public class ScalaFeelEngineFactory implements FeelEngineFactory {
    */
   @Override
   public FeelEngine createInstance() {
-      return new ScalaFeelEngine(customFunctionProviders);
+      return new ScalaFeelEngine(customFunctionProviders, expressionCacheSize);
    }
 
   /**
@@ -91,5 +103,25 @@ public class ScalaFeelEngineFactory implements FeelEngineFactory {
     return customFunctionProviders;
   }
 
-}
+  /**
+   * Retrieves the maximum number of parsed expressions and parsed unary tests
+   * an engine created by this factory keeps.
+   *
+   * @return the expression cache size
+   */
+  public int getExpressionCacheSize() {
+    return expressionCacheSize;
+  }
+
+  /**
+   * Sets the maximum number of parsed expressions and parsed unary tests an
+   * engine created by this factory keeps. A value of {@code 0} parses every
+   * expression on each evaluation.
+   *
+   * @param expressionCacheSize the expression cache size, must not be negative
+   */
+  public void setExpressionCacheSize(int expressionCacheSize) {
+    this.expressionCacheSize = expressionCacheSize;
+  }
 
+}
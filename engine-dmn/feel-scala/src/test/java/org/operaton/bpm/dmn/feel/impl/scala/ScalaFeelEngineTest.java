@@ -527,4 +527,45 @@ class ScalaFeelEngineTest {
     assertThat(result).isFalse();
   }
 
+  @Test
+  void shouldReuseParsedUnaryTestsForDifferentInputs() {
+    VariableContext lowInput = Variables.putValue("cellInput", 100).asVariableContext();
+    VariableContext highInput = Variables.putValue("otherInput", 300).asVariableContext();
+
+    assertThat(engine.evaluateSimpleUnaryTests("< 250", "cellInput", lowInput)).isTrue();
+    assertThat(engine.evaluateSimpleUnaryTests("< 250", "otherInput", highInput)).isFalse();
+
+    assertThat(engine.unaryTestsCache.size()).isEqualTo(1);
+    assertThat(engine.expressionCache.size()).isZero();
+  }
+
+  @Test
+  void shouldReuseParsedExpressions() {
+    engine.evaluateSimpleExpression("amount * 2", Variables.putValue("amount", 1).asVariableContext());
+    Object result = engine.evaluateSimpleExpression("amount * 2", Variables.putValue("amount", 21).asVariableContext());
+
+    assertThat(result).isEqualTo(42L);
+    assertThat(engine.expressionCache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotCacheExpressionsThatFailToParse() {
+    VariableContext emptyContext = Variables.emptyVariableContext();
+
+    assertThatExceptionOfType(FeelException.class).isThrownBy(() ->
+      engine.evaluateSimpleUnaryTests("< )", "cellInput", emptyContext));
+
+    assertThat(engine.unaryTestsCache.size()).isZero();
+  }
+
+  @Test
+  void shouldEvaluateWithoutExpressionCache() {
+    ScalaFeelEngine uncachedEngine = new ScalaFeelEngine(Collections.emptyList(), 0);
+    VariableContext variableCtx = Variables.putValue("cellInput", 300).asVariableContext();
+
+    assertThat(uncachedEngine.evaluateSimpleUnaryTests("> 250", "cellInput", variableCtx)).isTrue();
+    assertThat((Object) uncachedEngine.evaluateSimpleExpression("cellInput + 1", variableCtx)).isEqualTo(301L);
+    assertThat(uncachedEngine.expressionCache).isNull();
+  }
+
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.identity.impl.ldap;
+
+import org.operaton.bpm.engine.impl.util.ClockUtil;
+import org.operaton.commons.utils.cache.Cache;
+import org.operaton.commons.utils.cache.ConcurrentBufferedLruCache;
+
+/**
+ * <p>Size and time bounded cache for the results of LDAP searches, shared by all
+ * {@link LdapIdentityProviderSession sessions} of a process engine.</p>
+ *
+ * <p>Entries expire after the configured time to live. The cache holds the raw
+ * search results, authorization checks are applied whenever results are read.</p>
+ */
+public class LdapCache {
+
+  protected final Cache<Object, Entry> entries;
+  protected final long timeToLive;
+
+  public LdapCache(int capacity, long timeToLive) {
+    this.entries = new ConcurrentBufferedLruCache<>(capacity);
+    this.timeToLive = timeToLive;
+  }
+
+  /**
+   * @return the cached value or <code>null</code> if no value is cached for the key or the value has expired
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAt() <= now()) {
+      entries.remove(key);
+      return null;
+    }
+    return (T) entry.value();
+  }
+
+  public void put(Object key, Object value) {
+    entries.put(key, new Entry(value, now() + timeToLive));
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  protected long now() {
+    return ClockUtil.getCurrentTime().getTime();
+  }
+
+  protected record Entry(Object value, long expiresAt) {
+  }
+
+  /**
+   * Key of the entries returned by a search.
+   */
+  public record SearchKey(String baseDn, String filter) {
+  }
+
+  /**
+   * Key of the values of the member attribute of the groups returned by a search.
+   */
+  public record MembersKey(String baseDn, String filter) {
+  }
+
+}
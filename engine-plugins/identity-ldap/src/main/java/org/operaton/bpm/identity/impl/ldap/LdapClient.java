@@ -44,9 +44,19 @@ import org.operaton.bpm.identity.impl.ldap.util.LdapPluginLogger;
  */
 public class LdapClient {
 
+  /**
+   * Environment property which makes the JNDI LDAP provider reuse pooled connections.
+   */
+  public static final String CONNECTION_POOL_PROPERTY = "com.sun.jndi.ldap.connect.pool";
+
   protected LdapContext initialContext;
   protected LdapConfiguration ldapConfiguration;
 
+  /**
+   * Request controls which are set once the context is opened.
+   */
+  protected Control[] requestControls;
+
   public LdapClient(LdapConfiguration ldapConfiguration) {
     this.ldapConfiguration = ldapConfiguration;
   }
@@ -54,10 +64,27 @@ public class LdapClient {
   protected void ensureContextInitialized() {
     if (initialContext == null) {
       initialContext = openContext();
+      if (requestControls != null) {
+        setRequestControls(initialContext, requestControls);
+        requestControls = null;
+      }
     }
   }
 
+  protected LdapContext getContext() {
+    ensureContextInitialized();
+    return initialContext;
+  }
+
   public LdapContext openContext(String dn, String password) {
+    return openContext(dn, password, false);
+  }
+
+  /**
+   * @param pooled if the connection should be taken from the connection pool of the JNDI LDAP provider.
+   *   The pool is configured through the <code>com.sun.jndi.ldap.connect.pool.*</code> system properties.
+   */
+  protected LdapContext openContext(String dn, String password, boolean pooled) {
     Hashtable<String, String> env = new Hashtable<>();
     env.put(Context.INITIAL_CONTEXT_FACTORY, ldapConfiguration.getInitialContextFactory());
     env.put(Context.SECURITY_AUTHENTICATION, ldapConfiguration.getSecurityAuthentication());
@@ -74,6 +101,10 @@ public class LdapClient {
       env.put(Context.SECURITY_PROTOCOL, "ssl");
     }
 
+    if (pooled) {
+      env.put(CONNECTION_POOL_PROPERTY, "true");
+    }
+
     // add additional properties
     Map<String, String> contextProperties = ldapConfiguration.getContextProperties();
     if (contextProperties != null) {
@@ -93,11 +124,14 @@ public class LdapClient {
   }
 
   protected LdapContext openContext() {
-    return openContext(ldapConfiguration.getManagerDn(), ldapConfiguration.getManagerPassword());
+    return openContext(ldapConfiguration.getManagerDn(), ldapConfiguration.getManagerPassword(),
+        ldapConfiguration.isConnectionPoolEnabled());
   }
 
   protected void closeLdapCtx() {
     closeLdapCtx(initialContext);
+    initialContext = null;
+    requestControls = null;
   }
 
   protected void closeLdapCtx(LdapContext context) {
@@ -113,21 +147,37 @@ public class LdapClient {
 
   public LdapSearchResults search(String baseDn, String searchFilter) {
     try {
-      return new LdapSearchResults(initialContext.search(baseDn, searchFilter, ldapConfiguration.getSearchControls()));
+      return new LdapSearchResults(getContext().search(baseDn, searchFilter, ldapConfiguration.getSearchControls()));
     } catch (NamingException e) {
       throw new IdentityProviderException("LDAP search request failed.", e);
     }
   }
 
+  /**
+   * Sets the request controls of the following searches. If no context is open yet, the controls
+   * are kept until the context is opened by the next search.
+   */
   public void setRequestControls(List<Control> listControls) {
+    Control[] controls = listControls.toArray(new Control[0]);
+    if (initialContext == null) {
+      requestControls = controls;
+    } else {
+      setRequestControls(initialContext, controls);
+    }
+  }
+
+  protected void setRequestControls(LdapContext context, Control[] controls) {
     try {
-      initialContext.setRequestControls(listControls.toArray(new Control[0]));
+      context.setRequestControls(controls);
     } catch (NamingException e) {
       throw new IdentityProviderException("LDAP server failed to set request controls.", e);
     }
   }
 
   public Control[] getResponseControls() {
+    if (initialContext == null) {
+      return null;
+    }
     try {
       return initialContext.getResponseControls();
     } catch (NamingException e) {
@@ -75,6 +75,13 @@ public class LdapConfiguration {
 
   protected boolean passwordCheckCatchAuthenticationException = true;
 
+  protected int cacheCapacity; // 0 => disabled
+  protected long cacheTimeToLive = 60000; // milliseconds
+
+  protected int memberBatchSize = 50; // 1 => one search per group member
+
+  protected boolean connectionPoolEnabled;
+
   // getters / setters //////////////////////////////////////
 
   public String getInitialContextFactory() {
@@ -308,4 +315,45 @@ public class LdapConfiguration {
     this.passwordCheckCatchAuthenticationException = passwordCheckCatchAuthenticationException;
   }
 
+  /**
+   * @return the maximum number of LDAP searches whose results are cached, 0 if the cache is disabled
+   */
+  public int getCacheCapacity() {
+    return cacheCapacity;
+  }
+
+  public void setCacheCapacity(int cacheCapacity) {
+    this.cacheCapacity = cacheCapacity;
+  }
+
+  /**
+   * @return the time in milliseconds after which cached search results expire
+   */
+  public long getCacheTimeToLive() {
+    return cacheTimeToLive;
+  }
+
+  public void setCacheTimeToLive(long cacheTimeToLive) {
+    this.cacheTimeToLive = cacheTimeToLive;
+  }
+
+  /**
+   * @return the maximum number of group members which are resolved with a single search
+   */
+  public int getMemberBatchSize() {
+    return memberBatchSize;
+  }
+
+  public void setMemberBatchSize(int memberBatchSize) {
+    this.memberBatchSize = memberBatchSize;
+  }
+
+  public boolean isConnectionPoolEnabled() {
+    return connectionPoolEnabled;
+  }
+
+  public void setConnectionPoolEnabled(boolean connectionPoolEnabled) {
+    this.connectionPoolEnabled = connectionPoolEnabled;
+  }
+
 }
@@ -28,6 +28,8 @@ public class LdapIdentityProviderFactory implements SessionFactory {
 
   protected LdapConfiguration ldapConfiguration;
 
+  protected LdapCache ldapCache;
+
   @Override
   public Class<?> getSessionType() {
     return ReadOnlyIdentityProvider.class;
@@ -35,7 +37,7 @@ public class LdapIdentityProviderFactory implements SessionFactory {
 
   @Override
   public Session openSession() {
-    return new LdapIdentityProviderSession(ldapConfiguration);
+    return new LdapIdentityProviderSession(ldapConfiguration, ldapCache);
   }
 
   public LdapConfiguration getLdapConfiguration() {
@@ -44,6 +46,16 @@ public class LdapIdentityProviderFactory implements SessionFactory {
 
   public void setLdapConfiguration(LdapConfiguration ldapConfiguration) {
     this.ldapConfiguration = ldapConfiguration;
+    this.ldapCache = ldapConfiguration != null && ldapConfiguration.getCacheCapacity() > 0
+        ? new LdapCache(ldapConfiguration.getCacheCapacity(), ldapConfiguration.getCacheTimeToLive())
+        : null;
+  }
+
+  /**
+   * @return the cache shared by the sessions or <code>null</code> if caching is disabled
+   */
+  public LdapCache getLdapCache() {
+    return ldapCache;
   }
 
 }
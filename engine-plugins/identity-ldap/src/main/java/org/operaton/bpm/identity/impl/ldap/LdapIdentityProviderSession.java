@@ -18,16 +18,23 @@ package org.operaton.bpm.identity.impl.ldap;
 
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import javax.naming.InvalidNameException;
 import javax.naming.NamingEnumeration;
 import javax.naming.directory.Attributes;
 import javax.naming.directory.SearchResult;
 import javax.naming.ldap.Control;
 import javax.naming.ldap.LdapContext;
+import javax.naming.ldap.LdapName;
 import javax.naming.ldap.PagedResultsResponseControl;
+import javax.naming.ldap.Rdn;
 import javax.naming.ldap.SortKey;
 
 import org.operaton.bpm.engine.BadUserRequestException;
@@ -72,9 +79,16 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
 
   protected LdapClient ldapClient;
 
+  protected LdapCache ldapCache;
+
   public LdapIdentityProviderSession(LdapConfiguration ldapConfiguration) {
+    this(ldapConfiguration, null);
+  }
+
+  public LdapIdentityProviderSession(LdapConfiguration ldapConfiguration, LdapCache ldapCache) {
     this.ldapConfiguration = ldapConfiguration;
     this.ldapClient = new LdapClient(ldapConfiguration);
+    this.ldapCache = ldapCache;
   }
 
   // Session Lifecycle //////////////////////////////////
@@ -112,13 +126,10 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
   }
 
   public long findUserCountByQueryCriteria(LdapUserQueryImpl query) {
-    ldapClient.ensureContextInitialized();
     return findUserByQueryCriteria(query).size();
   }
 
   public List<User> findUserByQueryCriteria(LdapUserQueryImpl query) {
-    ldapClient.ensureContextInitialized();
-
     // convert DB wildcards to LDAP wildcards if necessary
     if (query.getEmailLike() != null) {
       query.userEmailLike(query.getEmailLike().replaceAll(DB_QUERY_WILDCARD, LDAP_QUERY_WILDCARD));
@@ -151,47 +162,161 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
 
     initializeControls(query);
 
-    List<String> groupMembers = new ArrayList<>();
-    int resultCount = 0;
+    // first find group
+    List<String> groupMembers = findGroupMembers(baseDn, groupSearchFilter);
+
+    int firstResult = Math.min(Math.max(query.getFirstResult(), 0), groupMembers.size());
+    List<String> members = groupMembers.subList(firstResult, groupMembers.size());
+    int batchSize = Math.max(ldapConfiguration.getMemberBatchSize(), 1);
+
+    List<User> userList = new ArrayList<>();
+    String userBaseDn = composeDn(ldapConfiguration.getUserSearchBase(), ldapConfiguration.getBaseDn());
+    for (int i = 0; i < members.size() && userList.size() < query.getMaxResults(); i += batchSize) {
+      List<String> batch = members.subList(i, Math.min(i + batchSize, members.size()));
+      Map<String, User> batchUsers = findUsersByMembers(query, userBaseDn, batch);
+
+      for (String member : batch) {
+        if (userList.size() >= query.getMaxResults()) {
+          break;
+        }
+        User user = batchUsers.containsKey(member) ? batchUsers.get(member) : findUserByMember(query, userBaseDn, member);
+        if (user != null) {
+          userList.add(user);
+        }
+      }
+    }
+
+    return userList;
+  }
+
+  /**
+   * @return the values of the member attribute of all groups found by the search
+   */
+  protected List<String> findGroupMembers(String baseDn, String groupSearchFilter) {
+    LdapCache.MembersKey cacheKey = new LdapCache.MembersKey(baseDn, groupSearchFilter);
+    List<String> groupMembers = ldapCache != null ? ldapCache.get(cacheKey) : null;
+    if (groupMembers != null) {
+      return groupMembers;
+    }
 
+    groupMembers = new ArrayList<>();
     do {
       try (LdapSearchResults searchResults = ldapClient.search(baseDn, groupSearchFilter)) {
-        // first find group
         while (searchResults.hasMoreElements()) {
           String groupMemberAttribute = ldapConfiguration.getGroupMemberAttribute();
           NamingEnumeration<String> allGroupMembers = LdapClient.getAllMembers(groupMemberAttribute, searchResults);
           if (allGroupMembers != null) {
             // iterate group members
             while (allGroupMembers.hasMoreElements()) {
-              if (resultCount >= query.getFirstResult()) {
-                groupMembers.add(allGroupMembers.nextElement());
-              }
-              resultCount++;
+              groupMembers.add(allGroupMembers.nextElement());
             }
           }
         }
       }
-    } while (paginationContinues(groupMembers.size(), query.getMaxResults()));
+    } while (nextPageDetected());
 
-    List<User> userList = new ArrayList<>();
-    String userBaseDn = composeDn(ldapConfiguration.getUserSearchBase(), ldapConfiguration.getBaseDn());
-    int memberCount = 0;
-    for (String memberId : groupMembers) {
-      if (userList.size() < query.getMaxResults() && memberCount >= query.getFirstResult()) {
-        if (ldapConfiguration.isUsePosixGroups()) {
-          query.userId(memberId);
+    if (ldapCache != null) {
+      groupMembers = List.copyOf(groupMembers);
+      ldapCache.put(cacheKey, groupMembers);
+    }
+    return groupMembers;
+  }
+
+  /**
+   * Resolves the given group members with a single search of the form <code>(|(uid=a)(uid=b)...)</code>.
+   * Members which are distinguished names are only resolved if their first RDN is the user id attribute.
+   *
+   * @return the found users mapped by member. Members which are not contained in the result must be resolved
+   *   separately.
+   */
+  protected Map<String, User> findUsersByMembers(LdapUserQueryImpl query, String userBaseDn, List<String> members) {
+    Map<String, User> users = new HashMap<>();
+    if (members.size() < 2) {
+      return users;
+    }
+
+    Map<String, String> userIds = new LinkedHashMap<>();
+    for (String member : members) {
+      String userId = ldapConfiguration.isUsePosixGroups() ? member : getUserIdFromDn(member);
+      if (userId != null) {
+        userIds.put(member, userId);
+      }
+    }
+    if (userIds.size() < 2) {
+      return users;
+    }
+
+    StringWriter search = new StringWriter();
+    search.write("(&");
+    search.write(getUserSearchFilter(query));
+    search.write("(|");
+    for (String userId : userIds.values()) {
+      addFilter(ldapConfiguration.getUserIdAttribute(), escapeLDAPSearchFilter(userId), search);
+    }
+    search.write("))");
+
+    initializeControls(query);
+    List<User> foundUsers = retrieveResults(userBaseDn, search.toString(), this::transformUser,
+        this::isAuthenticatedAndAuthorized, Integer.MAX_VALUE, 0, true, ldapCache != null);
+
+    if (ldapConfiguration.isUsePosixGroups()) {
+      // uids identify the users, members which are not found do not exist
+      Map<String, User> usersById = new HashMap<>();
+      for (User user : foundUsers) {
+        usersById.putIfAbsent(user.getId().toLowerCase(Locale.ROOT), user);
+      }
+      userIds.forEach((member, userId) -> users.put(member, usersById.get(userId.toLowerCase(Locale.ROOT))));
+    } else {
+      Map<LdapName, User> usersByDn = new HashMap<>();
+      for (User user : foundUsers) {
+        LdapName dn = toLdapName(((LdapUserEntity) user).getDn());
+        if (dn != null) {
+          usersByDn.putIfAbsent(dn, user);
         }
-        List<User> users = ldapConfiguration.isUsePosixGroups() ?
-            findUsersWithoutGroupId(query, userBaseDn, true) :
-            findUsersWithoutGroupId(query, memberId, true);
-        if (!users.isEmpty()) {
-          userList.add(users.get(0));
+      }
+      for (String member : userIds.keySet()) {
+        LdapName dn = toLdapName(member);
+        User user = dn != null ? usersByDn.get(dn) : null;
+        if (user != null) {
+          users.put(member, user);
         }
       }
-      memberCount++;
     }
+    return users;
+  }
 
-    return userList;
+  protected User findUserByMember(LdapUserQueryImpl query, String userBaseDn, String member) {
+    List<User> users;
+    if (ldapConfiguration.isUsePosixGroups()) {
+      query.userId(member);
+      users = findUsersWithoutGroupId(query, userBaseDn, true);
+    } else {
+      users = findUsersWithoutGroupId(query, member, true);
+    }
+    return users.isEmpty() ? null : users.get(0);
+  }
+
+  /**
+   * @return the value of the first RDN of the given DN if it is the user id attribute, otherwise <code>null</code>
+   */
+  protected String getUserIdFromDn(String dn) {
+    LdapName name = toLdapName(dn);
+    if (name == null || name.isEmpty()) {
+      return null;
+    }
+    Rdn rdn = name.getRdn(name.size() - 1);
+    if (rdn.size() == 1 && rdn.getType().equalsIgnoreCase(ldapConfiguration.getUserIdAttribute())) {
+      return String.valueOf(rdn.getValue());
+    }
+    return null;
+  }
+
+  protected LdapName toLdapName(String dn) {
+    try {
+      return new LdapName(dn);
+    } catch (InvalidNameException e) {
+      return null;
+    }
   }
 
   @Override
@@ -303,7 +428,8 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
         this::isAuthenticatedAndAuthorized,
         query.getMaxResults(),
         query.getFirstResult(),
-        ignorePagination);
+        ignorePagination,
+        isCacheable(query, ignorePagination));
   }
 
   // Groups ///////////////////////////////////////////////
@@ -324,7 +450,6 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
   }
 
   public long findGroupCountByQueryCriteria(LdapGroupQuery ldapGroupQuery) {
-    ldapClient.ensureContextInitialized();
     return findGroupByQueryCriteria(ldapGroupQuery).size();
   }
 
@@ -339,8 +464,6 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
       query.groupNameLike(query.getNameLike().replaceAll(DB_QUERY_WILDCARD, LDAP_QUERY_WILDCARD));
     }
 
-    ldapClient.ensureContextInitialized();
-
     String groupBaseDn = composeDn(ldapConfiguration.getGroupSearchBase(), ldapConfiguration.getBaseDn());
 
     initializeControls(query);
@@ -351,7 +474,8 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
         this::isAuthorizedToReadGroup,
         query.getMaxResults(),
         query.getFirstResult(),
-        false);
+        false,
+        isCacheable(query, false));
   }
 
   protected String getGroupSearchFilter(LdapGroupQuery query) {
@@ -395,7 +519,21 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
 
   // Utils ////////////////////////////////////////////
 
-  @SuppressWarnings("unchecked")
+  /**
+   * The results of a search are cached if all results are requested and they are not sorted by the server.
+   */
+  protected boolean isCacheable(AbstractQuery<?, ?> query, boolean ignorePagination) {
+    if (ldapCache == null) {
+      return false;
+    }
+    if (ignorePagination) {
+      return true;
+    }
+    return query.getFirstResult() == 0
+        && query.getMaxResults() == Integer.MAX_VALUE
+        && (!ldapConfiguration.isSortControlSupported() || query.getOrderingProperties().isEmpty());
+  }
+
   protected <E extends DbEntity, T> List<T> retrieveResults(String baseDn,
                                                             String filter,
                                                             Function<SearchResult, E> transformEntity,
@@ -403,6 +541,36 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
                                                             int maxResults,
                                                             int firstResult,
                                                             boolean ignorePagination) {
+    return retrieveResults(baseDn, filter, transformEntity, resultCountPredicate, maxResults, firstResult,
+        ignorePagination, false);
+  }
+
+  /**
+   * @param cacheable if the search returns all results, so that they can be served from the {@link LdapCache}
+   */
+  @SuppressWarnings("unchecked")
+  protected <E extends DbEntity, T> List<T> retrieveResults(String baseDn,
+                                                            String filter,
+                                                            Function<SearchResult, E> transformEntity,
+                                                            Predicate<String> resultCountPredicate,
+                                                            int maxResults,
+                                                            int firstResult,
+                                                            boolean ignorePagination,
+                                                            boolean cacheable) {
+    if (cacheable) {
+      List<T> entities = new ArrayList<>();
+      for (SearchResult result : searchAll(baseDn, filter)) {
+        E entity = transformEntity.apply(result);
+        String id = entity.getId();
+        if (id == null) {
+          LdapPluginLogger.INSTANCE.invalidLdapEntityReturned(entity, result);
+        } else if (resultCountPredicate.test(id)) {
+          entities.add((T) entity);
+        }
+      }
+      return entities;
+    }
+
     StringBuilder resultLogger = new StringBuilder();
     if (LdapPluginLogger.INSTANCE.isDebugEnabled()) {
       resultLogger.append("LDAP query results: [");
@@ -448,6 +616,31 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
     return entities;
   }
 
+  /**
+   * @return all results of the search, read from the {@link LdapCache} if possible
+   */
+  protected List<SearchResult> searchAll(String baseDn, String filter) {
+    LdapCache.SearchKey cacheKey = new LdapCache.SearchKey(baseDn, filter);
+    List<SearchResult> results = ldapCache.get(cacheKey);
+    if (results == null) {
+      results = new ArrayList<>();
+      do {
+        try (LdapSearchResults searchResults = ldapClient.search(baseDn, filter)) {
+          while (searchResults.hasMoreElements()) {
+            results.add(searchResults.nextElement());
+          }
+        }
+      } while (nextPageDetected());
+
+      if (LdapPluginLogger.INSTANCE.isDebugEnabled()) {
+        LdapPluginLogger.INSTANCE.queryResult("LDAP query results: " + results);
+      }
+      results = List.copyOf(results);
+      ldapCache.put(cacheKey, results);
+    }
+    return results;
+  }
+
   protected String getDnForUser(String userId) {
     LdapUserEntity user = (LdapUserEntity) createUserQuery(getCommandContext()).userId(userId).singleResult();
     if (user == null) {
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.identity.impl.ldap;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.operaton.bpm.engine.IdentityService;
+import org.operaton.bpm.engine.identity.User;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.util.ClockUtil;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.identity.ldap.util.LdapInMemoryTestExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LdapCacheTest {
+
+  @RegisterExtension
+  @Order(1)
+  static LdapInMemoryTestExtension ldapExtension = new LdapInMemoryTestExtension();
+
+  @RegisterExtension
+  @Order(2)
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder()
+    .configurationResource("operaton.ldap.cache.cfg.xml") // cacheCapacity = 100, cacheTimeToLive = 1000 in this configuration
+    .configurator(ldapExtension::injectLdapUrlIntoProcessEngineConfiguration)
+    .closeEngineAfterAllTests()
+    .build();
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  IdentityService identityService;
+
+  @BeforeEach
+  void setUp() {
+    ClockUtil.setCurrentTime(new Date());
+    ((LdapIdentityProviderFactory) processEngineConfiguration.getIdentityProviderSessionFactory()).getLdapCache().clear();
+    ldapExtension.clearSearchFilters();
+  }
+
+  @AfterEach
+  void tearDown() {
+    ClockUtil.reset();
+  }
+
+  @Test
+  void shouldServeRepeatedLookupsFromCache() {
+    // when
+    User user = identityService.createUserQuery().userId("kermit").singleResult();
+    User cachedUser = identityService.createUserQuery().userId("kermit").singleResult();
+
+    // then
+    assertThat(user.getFirstName()).isEqualTo("Kermit");
+    assertThat(cachedUser.getFirstName()).isEqualTo("Kermit");
+    assertThat(cachedUser).isNotSameAs(user);
+    assertThat(ldapExtension.countSearches("uid=kermit")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSearchAgainWhenCacheEntryExpired() {
+    // given
+    identityService.createUserQuery().userId("kermit").singleResult();
+
+    // when
+    ClockUtil.setCurrentTime(new Date(ClockUtil.getCurrentTime().getTime() + 2000));
+    identityService.createUserQuery().userId("kermit").singleResult();
+
+    // then
+    assertThat(ldapExtension.countSearches("uid=kermit")).isEqualTo(2);
+  }
+
+  @Test
+  void shouldServeGroupMembershipsFromCache() {
+    // given
+    identityService.createUserQuery().memberOfGroup("sales").list();
+    int searches = ldapExtension.getSearchFilters().size();
+
+    // when
+    List<User> users = identityService.createUserQuery().memberOfGroup("sales").list();
+
+    // then
+    assertThat(users).extracting(User::getId).containsExactly("gonzo", "kermit", "fozzie");
+    assertThat(ldapExtension.getSearchFilters()).hasSize(searches);
+  }
+
+  @Test
+  void shouldCheckPasswordWithPooledConnections() {
+    // when/then the password is verified by the directory every time
+    assertThat(identityService.checkPassword("kermit", "kermit")).isTrue();
+    assertThat(identityService.checkPassword("kermit", "fozzie")).isFalse();
+    assertThat(identityService.checkPassword("fozzie", "fozzie")).isTrue();
+  }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.identity.impl.ldap;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.operaton.bpm.engine.IdentityService;
+import org.operaton.bpm.engine.identity.User;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.identity.ldap.util.LdapInMemoryTestExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LdapGroupMemberBatchTest {
+
+  @RegisterExtension
+  @Order(1)
+  static LdapInMemoryTestExtension ldapExtension = new LdapInMemoryTestExtension();
+
+  @RegisterExtension
+  @Order(2)
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder()
+    .configurationResource("operaton.ldap.member.batch.cfg.xml") // no cache in this configuration
+    .configurator(ldapExtension::injectLdapUrlIntoProcessEngineConfiguration)
+    .closeEngineAfterAllTests()
+    .build();
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  IdentityService identityService;
+
+  LdapConfiguration ldapConfiguration;
+  int memberBatchSize;
+
+  @BeforeEach
+  void setUp() {
+    ldapConfiguration = ((LdapIdentityProviderFactory) processEngineConfiguration.getIdentityProviderSessionFactory()).getLdapConfiguration();
+    memberBatchSize = ldapConfiguration.getMemberBatchSize();
+    ldapExtension.clearSearchFilters();
+  }
+
+  @AfterEach
+  void tearDown() {
+    ldapConfiguration.setMemberBatchSize(memberBatchSize);
+  }
+
+  @Test
+  void shouldSearchForEveryLookupWithoutCache() {
+    // when
+    identityService.createUserQuery().userId("kermit").singleResult();
+    identityService.createUserQuery().userId("kermit").singleResult();
+
+    // then
+    assertThat(ldapExtension.countSearches("uid=kermit")).isEqualTo(2);
+  }
+
+  @Test
+  void shouldResolveGroupMembersWithOneSearch() {
+    // when
+    List<User> users = identityService.createUserQuery().memberOfGroup("sales").list();
+
+    // then the members are resolved in the order of the group
+    assertThat(users).extracting(User::getId).containsExactly("gonzo", "kermit", "fozzie");
+    // one search for the group, one for its members and one for the users
+    assertThat(ldapExtension.getSearchFilters()).hasSize(3);
+    assertThat(ldapExtension.countSearches("(|(uid=gonzo)(uid=kermit)(uid=fozzie))")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldResolveGroupMembersOneByOne() {
+    // given
+    ldapConfiguration.setMemberBatchSize(1);
+
+    // when
+    List<User> users = identityService.createUserQuery().memberOfGroup("sales").listPage(1, 2);
+
+    // then
+    assertThat(users).extracting(User::getId).containsExactly("kermit", "fozzie");
+    assertThat(ldapExtension.getSearchFilters()).hasSize(4);
+  }
+
+}
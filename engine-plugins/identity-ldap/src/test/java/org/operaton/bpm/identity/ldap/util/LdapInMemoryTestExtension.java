@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.identity.ldap.util;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSearchRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.identity.impl.ldap.plugin.LdapIdentityProviderPlugin;
+
+/**
+ * This extension is used to set up an embedded in-memory LDAP test instance which records
+ * the filters of all searches it receives, and to populate it with data
+ */
+public class LdapInMemoryTestExtension implements BeforeAllCallback, AfterAllCallback {
+
+    private static final String BASE_DN = "dc=operaton,dc=org";
+    private static final String ADMIN_PASSWORD = "zePassword";
+    private static final String ADMIN_DN = "cn=admin,dc=operaton,dc=org";
+
+    private final List<String> searchFilters = new CopyOnWriteArrayList<>();
+    private InMemoryDirectoryServer directoryServer;
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        directoryServer.shutDown(true);
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) throws Exception {
+        InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig(BASE_DN);
+        config.addAdditionalBindCredentials(ADMIN_DN, ADMIN_PASSWORD);
+        config.setSchema(null);
+        config.addInMemoryOperationInterceptor(new InMemoryOperationInterceptor() {
+            @Override
+            public void processSearchRequest(InMemoryInterceptedSearchRequest request) {
+                searchFilters.add(request.getRequest().getFilter().toString());
+            }
+        });
+
+        directoryServer = new InMemoryDirectoryServer(config);
+        directoryServer.add("dn: " + BASE_DN, "objectClass: domain", "dc: operaton");
+        directoryServer.add("dn: ou=users," + BASE_DN, "objectClass: organizationalUnit", "ou: users");
+        directoryServer.add("dn: ou=groups," + BASE_DN, "objectClass: organizationalUnit", "ou: groups");
+        addUser("kermit", "Kermit", "The Frog");
+        addUser("fozzie", "Fozzie", "Bear");
+        addUser("gonzo", "Gonzo", "The Great");
+        directoryServer.add("dn: ou=sales,ou=groups," + BASE_DN,
+                "objectClass: top",
+                "objectClass: groupOfNames",
+                "ou: sales",
+                "cn: Sales",
+                "member: uid=gonzo,ou=users," + BASE_DN,
+                "member: uid=kermit,ou=users," + BASE_DN,
+                "member: uid=fozzie,ou=users," + BASE_DN);
+        directoryServer.startListening();
+    }
+
+    private void addUser(String userId, String firstName, String lastName) throws Exception {
+        directoryServer.add("dn: uid=" + userId + ",ou=users," + BASE_DN,
+                "objectClass: top",
+                "objectClass: person",
+                "objectClass: inetOrgPerson",
+                "uid: " + userId,
+                "cn: " + firstName,
+                "sn: " + lastName,
+                "mail: " + userId + "@operaton.org",
+                "userPassword: " + userId);
+    }
+
+    /**
+     * If available, injects LDAP instance access data to the LdapIdentityProviderPlugin
+     * @param peConfig {@link ProcessEngineConfigurationImpl} configuration instance
+     */
+    public void injectLdapUrlIntoProcessEngineConfiguration(ProcessEngineConfigurationImpl peConfig) {
+        peConfig.getProcessEnginePlugins().stream()
+                .filter(LdapIdentityProviderPlugin.class::isInstance)
+                .map(LdapIdentityProviderPlugin.class::cast)
+                .findFirst()
+                .ifPresent(ldapPlugin -> {
+                    ldapPlugin.setServerUrl("ldap://localhost:" + directoryServer.getListenPort());
+                    ldapPlugin.setManagerDn(ADMIN_DN);
+                    ldapPlugin.setManagerPassword(ADMIN_PASSWORD);
+                    ldapPlugin.setBaseDn(BASE_DN);
+                });
+    }
+
+    /**
+     * Provides the filters of all searches received since the last {@link #clearSearchFilters()}
+     * @return recorded search filters in the order of the searches
+     */
+    public List<String> getSearchFilters() {
+        return searchFilters;
+    }
+
+    /**
+     * Counts the recorded searches whose filter contains the given part
+     * @param filter part of the search filter
+     * @return number of matching searches
+     */
+    public long countSearches(String filter) {
+        return searchFilters.stream().filter(searchFilter -> searchFilter.contains(filter)).count();
+    }
+
+    public void clearSearchFilters() {
+        searchFilters.clear();
+    }
+}
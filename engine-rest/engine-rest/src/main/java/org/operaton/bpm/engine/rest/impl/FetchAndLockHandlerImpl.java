@@ -17,10 +17,21 @@
 package org.operaton.bpm.engine.rest.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jakarta.servlet.ServletContext;
@@ -36,6 +47,8 @@ import org.operaton.bpm.engine.impl.ProcessEngineImpl;
 import org.operaton.bpm.engine.impl.identity.Authentication;
 import org.operaton.bpm.engine.impl.util.ClockUtil;
 import org.operaton.bpm.engine.impl.util.SingleConsumerCondition;
+import org.operaton.bpm.engine.rest.dto.SortingDto;
+import org.operaton.bpm.engine.rest.dto.externaltask.FetchExternalTasksDto.FetchExternalTaskTopicDto;
 import org.operaton.bpm.engine.rest.dto.externaltask.FetchExternalTasksExtendedDto;
 import org.operaton.bpm.engine.rest.dto.externaltask.LockedExternalTaskDto;
 import org.operaton.bpm.engine.rest.exception.InvalidRequestException;
@@ -53,6 +66,7 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
   protected static final String UNIQUE_WORKER_REQUEST_PARAM_NAME = "fetch-and-lock-unique-worker-request";
   protected static final String BLOCKING_QUEUE_CAPACITY_PARAM_NAME = "fetch-and-lock-queue-capacity";
+  protected static final String DISPATCHER_THREADS_PARAM_NAME = "fetch-and-lock-dispatcher-threads";
 
   protected static final long PENDING_REQUEST_FETCH_INTERVAL = 30L * 1000;
   protected static final long MAX_BACK_OFF_TIME = Long.MAX_VALUE;
@@ -71,6 +85,13 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
   protected boolean isUniqueWorkerRequest;
 
+  /**
+   * Pool that serves the pending requests in dispatcher mode, grouped by their topic
+   * subscriptions. <code>null</code> if the pending requests are served one by one by
+   * the handler thread.
+   */
+  protected ExecutorService dispatcherExecutor;
+
   public FetchAndLockHandlerImpl() {
     this.condition = new SingleConsumerCondition(handlerThread);
   }
@@ -105,6 +126,27 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
     LOG.log(Level.FINEST, "Number of pending requests {0}", pendingRequests.size());
 
+    long backoffTime;
+    if (dispatcherExecutor != null) {
+      backoffTime = dispatchPendingRequests();
+    }
+    else {
+      backoffTime = fetchPendingRequests();
+    }
+
+    final long waitTime = Math.max(0, backoffTime);
+
+    if (pendingRequests.isEmpty()) {
+      suspend(waitTime);
+    }
+    else {
+      // if there are pending requests, try fetch periodically to ensure tasks created on other
+      // cluster nodes and tasks with expired timeouts can be fetched in a timely manner
+      suspend(Math.min(PENDING_REQUEST_FETCH_INTERVAL, waitTime));
+    }
+  }
+
+  protected long fetchPendingRequests() {
     long backoffTime = MAX_BACK_OFF_TIME; //timestamp
 
     Iterator<FetchAndLockRequest> iterator = pendingRequests.iterator();
@@ -118,44 +160,208 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
       LOG.log(Level.FINEST, "Fetch and lock result: {0}", result);
 
-      if (result.wasSuccessful()) {
+      if (completeRequest(pendingRequest, result)) {
+        iterator.remove();
+      }
+      else {
+        final long msUntilTimeout = pendingRequest.getTimeoutTimestamp() - ClockUtil.getCurrentTime().getTime();
+        backoffTime = Math.min(backoffTime, msUntilTimeout);
+      }
+    }
 
-        List<LockedExternalTaskDto> lockedTasks = result.getTasks();
+    return backoffTime;
+  }
 
-        if (!lockedTasks.isEmpty() || isExpired(pendingRequest)) {
-          AsyncResponse asyncResponse = pendingRequest.getAsyncResponse();
-          asyncResponse.resume(lockedTasks);
+  /**
+   * Resumes the request if the result carries locked tasks or an error, or if the request
+   * timed out.
+   *
+   * @return <code>true</code> if the request was resumed, <code>false</code> if it is still pending
+   */
+  protected boolean completeRequest(FetchAndLockRequest pendingRequest, FetchAndLockResult result) {
+    if (result.wasSuccessful()) {
 
-          LOG.log(Level.FINEST, "resume and remove request with {0}", lockedTasks);
+      List<LockedExternalTaskDto> lockedTasks = result.getTasks();
 
-          iterator.remove();
-        }
-        else {
-          final long msUntilTimeout = pendingRequest.getTimeoutTimestamp() - ClockUtil.getCurrentTime().getTime();
-          backoffTime = Math.min(backoffTime, msUntilTimeout);
-        }
+      if (!lockedTasks.isEmpty() || isExpired(pendingRequest)) {
+        AsyncResponse asyncResponse = pendingRequest.getAsyncResponse();
+        asyncResponse.resume(lockedTasks);
+
+        LOG.log(Level.FINEST, "resume and remove request with {0}", lockedTasks);
+
+        return true;
       }
       else {
-        AsyncResponse asyncResponse = pendingRequest.getAsyncResponse();
-        Throwable processEngineException = result.getThrowable();
-        asyncResponse.resume(processEngineException);
+        return false;
+      }
+    }
+    else {
+      AsyncResponse asyncResponse = pendingRequest.getAsyncResponse();
+      Throwable processEngineException = result.getThrowable();
+      asyncResponse.resume(processEngineException);
 
-        LOG.log(Level.FINEST, "Resume and remove request with error", processEngineException);
+      LOG.log(Level.FINEST, "Resume and remove request with error", processEngineException);
 
-        iterator.remove();
+      return true;
+    }
+  }
+
+  /**
+   * <p>Serves the pending requests in dispatcher mode: requests that would issue the same fetch
+   * and lock command apart from the number of tasks are grouped, and every group is handled by a
+   * thread of the dispatcher pool.</p>
+   *
+   * <p>For every group, a single fetch and lock command locks the tasks of all its requests.
+   * The locked tasks are handed out to the waiting requests in the order of their arrival.</p>
+   *
+   * @return the time in milliseconds until the next pending request times out
+   */
+  protected long dispatchPendingRequests() {
+    Map<List<Object>, List<FetchAndLockRequest>> groups = new LinkedHashMap<>();
+    for (FetchAndLockRequest pendingRequest : pendingRequests) {
+      groups.computeIfAbsent(getGroupKey(pendingRequest), key -> new ArrayList<>()).add(pendingRequest);
+    }
+
+    LOG.log(Level.FINEST, "Dispatching {0} groups of pending requests", groups.size());
+
+    Set<FetchAndLockRequest> completedRequests = ConcurrentHashMap.newKeySet();
+    List<Callable<Long>> dispatches = new ArrayList<>(groups.size());
+    for (List<FetchAndLockRequest> group : groups.values()) {
+      dispatches.add(() -> dispatchGroup(group, completedRequests));
+    }
+
+    long backoffTime = MAX_BACK_OFF_TIME;
+    try {
+      for (Future<Long> dispatch : dispatcherExecutor.invokeAll(dispatches)) {
+        backoffTime = Math.min(backoffTime, dispatch.get());
       }
     }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    catch (ExecutionException e) {
+      LOG.log(Level.WARNING, "Dispatching pending requests failed", e.getCause());
+    }
+    finally {
+      pendingRequests.removeIf(completedRequests::contains);
+    }
 
-    final long waitTime = Math.max(0, backoffTime);
+    return backoffTime;
+  }
 
-    if (pendingRequests.isEmpty()) {
-      suspend(waitTime);
+  protected long dispatchGroup(List<FetchAndLockRequest> group, Set<FetchAndLockRequest> completedRequests) {
+    FetchAndLockResult result = tryFetchAndLock(createGroupRequest(group));
+
+    LOG.log(Level.FINEST, "Fetch and lock result for {0} pending requests: {1}", new Object[] { group.size(), result });
+
+    long backoffTime = MAX_BACK_OFF_TIME;
+    int nextTask = 0;
+    for (FetchAndLockRequest pendingRequest : group) {
+      FetchAndLockResult requestResult = result;
+      if (result.wasSuccessful()) {
+        List<LockedExternalTaskDto> lockedTasks = result.getTasks();
+        int lastTask = Math.min(lockedTasks.size(), nextTask + Math.max(0, pendingRequest.getDto().getMaxTasks()));
+        requestResult = FetchAndLockResult.successful(new ArrayList<>(lockedTasks.subList(nextTask, lastTask)));
+        nextTask = lastTask;
+      }
+
+      if (completeRequest(pendingRequest, requestResult)) {
+        completedRequests.add(pendingRequest);
+      }
+      else {
+        final long msUntilTimeout = pendingRequest.getTimeoutTimestamp() - ClockUtil.getCurrentTime().getTime();
+        backoffTime = Math.min(backoffTime, msUntilTimeout);
+      }
     }
-    else {
-      // if there are pending requests, try fetch periodically to ensure tasks created on other
-      // cluster nodes and tasks with expired timeouts can be fetched in a timely manner
-      suspend(Math.min(PENDING_REQUEST_FETCH_INTERVAL, waitTime));
+
+    return backoffTime;
+  }
+
+  /**
+   * Creates the request that fetches and locks the tasks for all requests of the group at once.
+   * Its number of tasks is the sum of the numbers of tasks of the group's requests.
+   */
+  protected FetchAndLockRequest createGroupRequest(List<FetchAndLockRequest> group) {
+    FetchAndLockRequest firstRequest = group.get(0);
+    if (group.size() == 1) {
+      return firstRequest;
+    }
+
+    long maxTasks = 0;
+    for (FetchAndLockRequest request : group) {
+      maxTasks += Math.max(0, request.getDto().getMaxTasks());
     }
+
+    FetchExternalTasksExtendedDto firstDto = firstRequest.getDto();
+    FetchExternalTasksExtendedDto groupDto = new FetchExternalTasksExtendedDto();
+    groupDto.setWorkerId(firstDto.getWorkerId());
+    groupDto.setMaxTasks((int) Math.min(maxTasks, Integer.MAX_VALUE));
+    groupDto.setUsePriority(firstDto.isUsePriority());
+    groupDto.setSorting(firstDto.getSorting());
+    groupDto.setIncludeExtensionProperties(firstDto.isIncludeExtensionProperties());
+    groupDto.setTopics(firstDto.getTopics());
+
+    return new FetchAndLockRequest()
+      .setProcessEngineName(firstRequest.getProcessEngineName())
+      .setAuthentication(firstRequest.getAuthentication())
+      .setDto(groupDto);
+  }
+
+  /**
+   * Requests with equal keys issue the same fetch and lock command apart from the number of
+   * tasks: they are sent to the same process engine by the same user and worker, and subscribe
+   * to the same topics with the same filters, lock durations and fetched variables.
+   */
+  protected List<Object> getGroupKey(FetchAndLockRequest request) {
+    List<Object> key = new ArrayList<>();
+    key.add(request.getProcessEngineName());
+
+    Authentication authentication = request.getAuthentication();
+    if (authentication != null) {
+      key.add(authentication.getUserId());
+      key.add(authentication.getGroupIds());
+      key.add(authentication.getTenantIds());
+    }
+
+    FetchExternalTasksExtendedDto dto = request.getDto();
+    key.add(dto.getWorkerId());
+    key.add(dto.isUsePriority());
+    key.add(dto.isIncludeExtensionProperties());
+
+    List<SortingDto> sorting = dto.getSorting();
+    if (sorting != null) {
+      for (SortingDto sortingDto : sorting) {
+        key.add(Arrays.asList(sortingDto.getSortBy(), sortingDto.getSortOrder(), sortingDto.getParameters()));
+      }
+    }
+
+    List<FetchExternalTaskTopicDto> topics = dto.getTopics();
+    if (topics != null) {
+      for (FetchExternalTaskTopicDto topic : topics) {
+        key.add(Arrays.asList(
+            topic.getTopicName(),
+            topic.getLockDuration(),
+            topic.getBusinessKey(),
+            topic.getProcessDefinitionId(),
+            asList(topic.getProcessDefinitionIdIn()),
+            topic.getProcessDefinitionKey(),
+            asList(topic.getProcessDefinitionKeyIn()),
+            topic.getProcessDefinitionVersionTag(),
+            topic.getProcessVariables(),
+            topic.isWithoutTenantId(),
+            asList(topic.getTenantIdIn()),
+            topic.getVariables(),
+            topic.isDeserializeValues(),
+            topic.isLocalVariables(),
+            topic.isIncludeExtensionProperties()));
+      }
+    }
+
+    return key;
+  }
+
+  protected static List<String> asList(String[] values) {
+    return values != null ? Arrays.asList(values) : null;
   }
 
   protected void removeDuplicates() {
@@ -205,6 +411,10 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
     } catch (InterruptedException e) {
       LOG.log(Level.WARNING, "Shutting down the handler thread failed", e);
     }
+
+    if (dispatcherExecutor != null) {
+      dispatcherExecutor.shutdownNow();
+    }
   }
 
   protected void suspend(long millis) {
@@ -353,6 +563,7 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
       if (servletContext != null) {
         parseUniqueWorkerRequestParam(servletContext.getInitParameter(UNIQUE_WORKER_REQUEST_PARAM_NAME));
         queueCapacity = parseBlockingQueueCapacityParam(servletContext.getInitParameter(BLOCKING_QUEUE_CAPACITY_PARAM_NAME));
+        initializeDispatcher(parseDispatcherThreadsParam(servletContext.getInitParameter(DISPATCHER_THREADS_PARAM_NAME)));
       }
     }
 
@@ -372,6 +583,43 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
     queue = new ArrayBlockingQueue<>(capacity);
   }
 
+  /**
+   * @param threads the number of dispatcher threads; zero disables the dispatcher mode
+   */
+  protected void initializeDispatcher(int threads) {
+    if (dispatcherExecutor != null) {
+      dispatcherExecutor.shutdownNow();
+      dispatcherExecutor = null;
+    }
+
+    if (threads > 0) {
+      LOG.log(Level.FINEST, "Initializing dispatcher with [{0}] threads", threads);
+      AtomicInteger threadCount = new AtomicInteger();
+      String threadNamePrefix = this.getClass().getSimpleName() + "-dispatcher-";
+      dispatcherExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+        Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+  private static int parseDispatcherThreadsParam(String dispatcherThreadsParam) {
+    int threads = 0;
+    if (dispatcherThreadsParam != null) {
+      try {
+        final int parsedThreads = Integer.parseInt(dispatcherThreadsParam);
+        if (parsedThreads < 0) {
+          throw new IllegalArgumentException("Parameter " + DISPATCHER_THREADS_PARAM_NAME + " must not be negative");
+        }
+        threads = parsedThreads;
+      } catch (IllegalArgumentException e) {
+        LOG.log(Level.WARNING, e, () -> "Invalid dispatcher threads parameter: [" + dispatcherThreadsParam + "], falling back to a single handler thread");
+      }
+    }
+    return threads;
+  }
+
   private static int parseBlockingQueueCapacityParam(String queueSizeRequestParam) {
     int capacity = DEFAULT_BLOCKING_QUEUE_CAPACITY;
     if (queueSizeRequestParam != null) {
@@ -52,6 +52,7 @@ import org.operaton.bpm.engine.rest.helper.MockProvider;
 
 import static org.operaton.bpm.engine.rest.impl.FetchAndLockHandlerImpl.BLOCKING_QUEUE_CAPACITY_PARAM_NAME;
 import static org.operaton.bpm.engine.rest.impl.FetchAndLockHandlerImpl.DEFAULT_BLOCKING_QUEUE_CAPACITY;
+import static org.operaton.bpm.engine.rest.impl.FetchAndLockHandlerImpl.DISPATCHER_THREADS_PARAM_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -136,6 +137,11 @@ class FetchAndLockHandlerTest {
     handler.parseUniqueWorkerRequestParam("false");
   }
 
+  @AfterEach
+  void resetDispatcher() {
+    handler.initializeDispatcher(0);
+  }
+
   @Test
   void shouldResumeAsyncResponseDueToAvailableTasks() {
     // given
@@ -488,6 +494,205 @@ class FetchAndLockHandlerTest {
     assertThat(handler.queue.remainingCapacity()).isEqualTo(DEFAULT_BLOCKING_QUEUE_CAPACITY);
   }
 
+  @Test
+  void shouldInitialiseDispatcherWithSpecifiedParam() {
+    // given
+    when(servletContext.getInitParameter(DISPATCHER_THREADS_PARAM_NAME)).then(invocation -> "4");
+
+    // when
+    handler.contextInitialized(servletContextEvent);
+
+    // then
+    assertThat(handler.dispatcherExecutor).isNotNull();
+  }
+
+  @Test
+  void shouldNotInitialiseDispatcherIfInvalidParam() {
+    // given
+    when(servletContext.getInitParameter(DISPATCHER_THREADS_PARAM_NAME)).then(invocation -> "-1");
+
+    // when
+    handler.contextInitialized(servletContextEvent);
+
+    // then
+    assertThat(handler.dispatcherExecutor).isNull();
+  }
+
+  @Test
+  void shouldFetchAndLockOnceForGroupInDispatcherMode() {
+    // given
+    handler.initializeDispatcher(2);
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+
+    AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L), asyncResponse, processEngine);
+    handler.addPendingRequest(createDto(5000L), asyncResponse, processEngine);
+
+    // when
+    handler.acquire();
+
+    // then the initial attempts and a single fetch and lock for the whole group
+    verify(externalTaskQueryTopicBuilder, times(3)).execute();
+    verify(fetchAndLockBuilder, times(2)).maxTasks(5);
+    verify(fetchAndLockBuilder).maxTasks(10);
+    verify(asyncResponse, never()).resume(any());
+    assertThat(handler.getPendingRequests()).hasSize(2);
+    verify(handler).suspend(5000L);
+  }
+
+  @Test
+  void shouldHandOutLockedTasksInOrderOfArrivalInDispatcherMode() {
+    // given
+    handler.initializeDispatcher(2);
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+
+    FetchExternalTasksExtendedDto firstDto = createDto(5000L);
+    firstDto.setMaxTasks(1);
+    FetchExternalTasksExtendedDto secondDto = createDto(5000L);
+    secondDto.setMaxTasks(2);
+
+    AsyncResponse firstResponse = mock(AsyncResponse.class);
+    AsyncResponse secondResponse = mock(AsyncResponse.class);
+    AsyncResponse thirdResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(firstDto, firstResponse, processEngine);
+    handler.addPendingRequest(secondDto, secondResponse, processEngine);
+    handler.addPendingRequest(createDto(5000L), thirdResponse, processEngine);
+
+    List<LockedExternalTask> tasks = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      tasks.add(lockedExternalTaskMock);
+    }
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(tasks);
+
+    // when
+    handler.acquire();
+
+    // then the locked tasks are split up by the number of tasks of every request
+    verify(externalTaskQueryTopicBuilder, times(4)).execute();
+    verify(fetchAndLockBuilder).maxTasks(8);
+    verify(firstResponse).resume(argThat(Matchers.hasSize(1)));
+    verify(secondResponse).resume(argThat(Matchers.hasSize(2)));
+    verify(thirdResponse).resume(argThat(Matchers.hasSize(1)));
+    assertThat(handler.getPendingRequests()).isEmpty();
+  }
+
+  @Test
+  void shouldKeepRequestsPendingIfGroupLockedTooFewTasksInDispatcherMode() {
+    // given
+    handler.initializeDispatcher(2);
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+
+    AsyncResponse firstResponse = mock(AsyncResponse.class);
+    AsyncResponse secondResponse = mock(AsyncResponse.class);
+    AsyncResponse thirdResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L), firstResponse, processEngine);
+    handler.addPendingRequest(createDto(5000L), secondResponse, processEngine);
+    handler.addPendingRequest(createDto(5000L), thirdResponse, processEngine);
+
+    List<LockedExternalTask> tasks = new ArrayList<>();
+    tasks.add(lockedExternalTaskMock);
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(tasks);
+
+    // when
+    handler.acquire();
+
+    // then the only locked task is handed out to the first request
+    verify(externalTaskQueryTopicBuilder, times(4)).execute();
+    verify(fetchAndLockBuilder).maxTasks(15);
+    verify(firstResponse).resume(argThat(Matchers.hasSize(1)));
+    verify(secondResponse, never()).resume(any());
+    verify(thirdResponse, never()).resume(any());
+    assertThat(handler.getPendingRequests()).hasSize(2);
+    verify(handler).suspend(5000L);
+  }
+
+  @Test
+  void shouldResumeGroupWithErrorInDispatcherMode() {
+    // given
+    handler.initializeDispatcher(2);
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+
+    AsyncResponse firstResponse = mock(AsyncResponse.class);
+    AsyncResponse secondResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L), firstResponse, processEngine);
+    handler.addPendingRequest(createDto(5000L), secondResponse, processEngine);
+
+    ProcessEngineException exception = new ProcessEngineException();
+    doThrow(exception).when(externalTaskQueryTopicBuilder).execute();
+
+    // when
+    handler.acquire();
+
+    // then
+    verify(firstResponse).resume(exception);
+    verify(secondResponse).resume(exception);
+    assertThat(handler.getPendingRequests()).isEmpty();
+  }
+
+  @Test
+  void shouldDispatchGroupsOfDifferentTopicsSeparately() {
+    // given
+    handler.initializeDispatcher(2);
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+
+    FetchExternalTasksExtendedDto otherTopicDto = createDto(5000L);
+    otherTopicDto.getTopics().get(0).setTopicName("anotherTopicName");
+
+    AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L), asyncResponse, processEngine);
+    handler.addPendingRequest(otherTopicDto, asyncResponse, processEngine);
+
+    // when
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(2)).topic("aTopicName", 12354L);
+    verify(externalTaskQueryTopicBuilder, times(2)).topic("anotherTopicName", 12354L);
+    verify(fetchAndLockBuilder, never()).maxTasks(10);
+    assertThat(handler.getPendingRequests()).hasSize(2);
+  }
+
+  @Test
+  void shouldDispatchGroupsOfDifferentWorkersSeparately() {
+    // given
+    handler.initializeDispatcher(2);
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+
+    AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L, "aWorkerId"), asyncResponse, processEngine);
+    handler.addPendingRequest(createDto(5000L, "anotherWorkerId"), asyncResponse, processEngine);
+
+    // when
+    handler.acquire();
+
+    // then the tasks are locked for the worker that requested them
+    verify(fetchAndLockBuilder, times(2)).workerId("aWorkerId");
+    verify(fetchAndLockBuilder, times(2)).workerId("anotherWorkerId");
+    verify(fetchAndLockBuilder, never()).maxTasks(10);
+    assertThat(handler.getPendingRequests()).hasSize(2);
+  }
+
+  @Test
+  void shouldResumeExpiredRequestInDispatcherMode() {
+    // given
+    handler.initializeDispatcher(2);
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+
+    AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L), asyncResponse, processEngine);
+
+    addSecondsToClock(5);
+
+    // when
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(2)).execute();
+    verify(asyncResponse).resume(Collections.emptyList());
+    assertThat(handler.getPendingRequests()).isEmpty();
+    verify(handler).suspend(Long.MAX_VALUE);
+  }
+
   protected FetchExternalTasksExtendedDto createDto(Long responseTimeout, String workerId) {
     FetchExternalTasksExtendedDto externalTask = new FetchExternalTasksExtendedDto();
 
@@ -24,8 +24,11 @@ import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
 
 import org.operaton.bpm.application.ProcessApplicationInterface;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.context.Context;
 import org.operaton.bpm.engine.impl.scripting.ExecutableScript;
 import org.operaton.bpm.engine.impl.scripting.engine.DefaultScriptEngineResolver;
+import org.operaton.bpm.engine.impl.scripting.engine.ScriptEnginePool;
 import org.operaton.bpm.engine.impl.scripting.engine.ScriptEngineResolver;
 
 /**
@@ -57,11 +60,29 @@ public class ProcessApplicationScriptEnvironment {
    */
   public synchronized ScriptEngine getScriptEngineForName(String scriptEngineName, boolean cache) {
     if(processApplicationScriptEngineResolver == null) {
-      processApplicationScriptEngineResolver = new DefaultScriptEngineResolver(new ScriptEngineManager(getProcessApplicationClassloader()));
+      DefaultScriptEngineResolver resolver = new DefaultScriptEngineResolver(new ScriptEngineManager(getProcessApplicationClassloader()));
+
+      ProcessEngineConfigurationImpl config = Context.getProcessEngineConfiguration();
+      if (config != null && config.getScriptEnginePoolSize() > 0) {
+        resolver.setScriptEnginePool(new ScriptEnginePool(config.getScriptEnginePoolSize()));
+      }
+      processApplicationScriptEngineResolver = resolver;
     }
     return processApplicationScriptEngineResolver.getScriptEngine(scriptEngineName, cache);
   }
 
+  /**
+   * <p>Hands back a {@link ScriptEngine} returned by {@link #getScriptEngineForName(String, boolean)}
+   * after use. Engines which cannot be cached are pooled per process application if the
+   * process engine has a script engine pool size configured.</p>
+   *
+   * @return true if the engine was taken back by the process application
+   */
+  public synchronized boolean releaseScriptEngine(String scriptEngineName, ScriptEngine scriptEngine) {
+    return processApplicationScriptEngineResolver != null
+        && processApplicationScriptEngineResolver.releaseScriptEngine(scriptEngineName, scriptEngine);
+  }
+
   /**
    * Returns a map of cached environment scripts per script language.
    */
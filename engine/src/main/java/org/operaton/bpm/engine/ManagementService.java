@@ -30,6 +30,7 @@ import org.operaton.bpm.engine.authorization.Permissions;
 import org.operaton.bpm.engine.authorization.ProcessDefinitionPermissions;
 import org.operaton.bpm.engine.authorization.ProcessInstancePermissions;
 import org.operaton.bpm.engine.authorization.Resources;
+import org.operaton.bpm.engine.authorization.SystemPermissions;
 import org.operaton.bpm.engine.batch.Batch;
 import org.operaton.bpm.engine.batch.BatchQuery;
 import org.operaton.bpm.engine.batch.BatchStatisticsQuery;
@@ -39,6 +40,7 @@ import org.operaton.bpm.engine.management.ActivityStatisticsQuery;
 import org.operaton.bpm.engine.management.DeploymentStatisticsQuery;
 import org.operaton.bpm.engine.management.JobDefinition;
 import org.operaton.bpm.engine.management.JobDefinitionQuery;
+import org.operaton.bpm.engine.management.LatencyStatistics;
 import org.operaton.bpm.engine.management.MetricsQuery;
 import org.operaton.bpm.engine.management.ProcessDefinitionStatisticsQuery;
 import org.operaton.bpm.engine.management.SchemaLogQuery;
@@ -1300,6 +1302,31 @@ public interface ManagementService {
    */
   void reportDbMetricsNow();
 
+  /**
+   * Returns the latency distributions of command executions, database flushes and job executions
+   * recorded by this engine since it was started, as well as the latency distribution per command type.
+   * The command types are identified by the simple class name of the command.
+   *
+   * @return the latency statistics, or an empty list if latency metrics are disabled
+   * @throws AuthorizationException
+   *          If the user is not a member of the group {@link Groups#OPERATON_ADMIN}
+   *          and has no {@link SystemPermissions#READ} permission on {@link Resources#SYSTEM}.
+   */
+  List<LatencyStatistics> getLatencyStatistics();
+
+  /**
+   * Returns the latency distributions of command executions, database flushes and job executions
+   * recorded during the last reporting interval of the db metrics reporter. Unlike the values of
+   * {@link #getLatencyStatistics()}, they are replaced on every report.
+   *
+   * @return the latency statistics of the last reporting interval, or an empty list if latency metrics
+   *          are disabled or no report has been made yet
+   * @throws AuthorizationException
+   *          If the user is not a member of the group {@link Groups#OPERATON_ADMIN}
+   *          and has no {@link SystemPermissions#READ} permission on {@link Resources#SYSTEM}.
+   */
+  List<LatencyStatistics> getIntervalLatencyStatistics();
+
   /**
    * Calculates the number of unique task workers based on user task assignees.
    *
@@ -21,6 +21,7 @@ import java.util.UUID;
 import org.operaton.bpm.engine.ProcessEngineBootstrapCommand;
 import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.db.AuthorizationCache;
 import org.operaton.bpm.engine.impl.db.DbEntity;
 import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.operaton.bpm.engine.impl.db.entitymanager.OptimisticLockingListener;
@@ -48,6 +49,10 @@ public class BootstrapEngineCommand implements ProcessEngineBootstrapCommand {
 
     checkDeploymentLockExists(commandContext);
 
+    if (isAuthorizationCacheClusterMode(commandContext)) {
+      initializeAuthorizationVersion(commandContext);
+    }
+
     if (isHistoryCleanupEnabled(commandContext)) {
       checkHistoryCleanupLockExists(commandContext);
       createHistoryCleanupJob(commandContext);
@@ -119,6 +124,27 @@ public class BootstrapEngineCommand implements ProcessEngineBootstrapCommand {
     }
   }
 
+  protected boolean isAuthorizationCacheClusterMode(CommandContext commandContext) {
+    AuthorizationCache authorizationCache = commandContext.getProcessEngineConfiguration().getAuthorizationCache();
+    return authorizationCache != null && authorizationCache.isClusterMode();
+  }
+
+  /**
+   * Creates the property holding the authorization version which the engines of a cluster use
+   * to invalidate their authorization caches.
+   */
+  protected void initializeAuthorizationVersion(CommandContext commandContext) {
+    PropertyManager propertyManager = commandContext.getPropertyManager();
+
+    if (propertyManager.findPropertyById(AuthorizationCache.VERSION_PROPERTY_NAME) == null) {
+      propertyManager.acquireExclusiveLockForStartup();
+
+      if (propertyManager.findPropertyById(AuthorizationCache.VERSION_PROPERTY_NAME) == null) {
+        propertyManager.insert(new PropertyEntity(AuthorizationCache.VERSION_PROPERTY_NAME, AuthorizationCache.newVersion()));
+      }
+    }
+  }
+
   protected void createInstallationProperty(CommandContext commandContext) {
     String installationId = UUID.randomUUID().toString();
     PropertyEntity property = new PropertyEntity(INSTALLATION_PROPERTY_NAME, installationId);
@@ -55,6 +55,7 @@ import org.operaton.bpm.engine.impl.metrics.MetricsRegistry;
 import org.operaton.bpm.engine.management.ActivityStatisticsQuery;
 import org.operaton.bpm.engine.management.DeploymentStatisticsQuery;
 import org.operaton.bpm.engine.management.JobDefinitionQuery;
+import org.operaton.bpm.engine.management.LatencyStatistics;
 import org.operaton.bpm.engine.management.MetricsQuery;
 import org.operaton.bpm.engine.management.ProcessDefinitionStatisticsQuery;
 import org.operaton.bpm.engine.management.SchemaLogQuery;
@@ -549,6 +550,16 @@ public class ManagementServiceImpl extends ServiceImpl implements ManagementServ
     commandExecutor.execute(new ReportDbMetricsCmd());
   }
 
+  @Override
+  public List<LatencyStatistics> getLatencyStatistics() {
+    return commandExecutor.execute(new GetLatencyStatisticsCmd());
+  }
+
+  @Override
+  public List<LatencyStatistics> getIntervalLatencyStatistics() {
+    return commandExecutor.execute(new GetIntervalLatencyStatisticsCmd());
+  }
+
   @Override
   public long getUniqueTaskWorkerCount(Date startTime, Date endTime) {
     return commandExecutor.execute(new GetUniqueTaskWorkerCountCmd(startTime, endTime));
@@ -21,6 +21,7 @@ import java.util.Map;
 import org.operaton.bpm.engine.*;
 import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.cfg.TransactionContextFactory;
+import org.operaton.bpm.engine.impl.db.PrefetchingDbIdGenerator;
 import org.operaton.bpm.engine.impl.el.ExpressionManager;
 import org.operaton.bpm.engine.impl.history.HistoryLevel;
 import org.operaton.bpm.engine.impl.history.event.SimpleIpBasedProvider;
@@ -101,6 +102,10 @@ public class ProcessEngineImpl implements ProcessEngine {
 
     ProcessEngines.registerProcessEngine(this);
 
+    if (processEngineConfiguration.getAsyncDbHistoryEventHandler() != null) {
+      processEngineConfiguration.getAsyncDbHistoryEventHandler().start(processEngineConfiguration);
+    }
+
     if (jobExecutor != null) {
       // register process engine with Job Executor
       jobExecutor.registerProcessEngine(this);
@@ -153,6 +158,16 @@ public class ProcessEngineImpl implements ProcessEngine {
       jobExecutor.unregisterProcessEngine(this);
     }
 
+    if (processEngineConfiguration.getAsyncDbHistoryEventHandler() != null) {
+      // write the buffered history events
+      processEngineConfiguration.getAsyncDbHistoryEventHandler().stop();
+    }
+
+    if (processEngineConfiguration.getIdGenerator() instanceof PrefetchingDbIdGenerator prefetchingDbIdGenerator) {
+      // stop the id block prefetch thread
+      prefetchingDbIdGenerator.close();
+    }
+
     commandExecutorSchemaOperations.execute(new SchemaOperationProcessEngineClose());
 
     processEngineConfiguration.close();
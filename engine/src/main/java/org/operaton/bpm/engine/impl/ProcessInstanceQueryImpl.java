@@ -77,6 +77,9 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
   protected String[] tenantIds;
   protected boolean isProcessDefinitionWithoutTenantId;
 
+  // keyset paging ////////////////////////
+  protected String processInstanceIdAfter;
+
   // or query /////////////////////////////
   protected List<ProcessInstanceQueryImpl> queries = new ArrayList<>(List.of(this));
   protected boolean isOrQueryActive;
@@ -390,6 +393,24 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
       .findDeploymentIdMappingsByQueryCriteria(this);
   }
 
+  /**
+   * Selects the next page of deployment id mappings ordered by process instance id,
+   * starting after the given id.
+   */
+  public List<ImmutablePair<String, String>> executeDeploymentIdMappingsPage(CommandContext commandContext,
+                                                                             String processInstanceIdAfter,
+                                                                             int maxResults) {
+    checkQueryOk();
+
+    this.processInstanceIdAfter = processInstanceIdAfter;
+    this.firstResult = 0;
+    this.maxResults = maxResults;
+
+    return commandContext
+      .getExecutionManager()
+      .findDeploymentIdMappingsPageByQueryCriteria(this);
+  }
+
   @Override
   protected void ensureVariablesInitialized() {
     super.ensureVariablesInitialized();
@@ -421,6 +442,10 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     return processInstanceIds;
   }
 
+  public String getProcessInstanceIdAfter() {
+    return processInstanceIdAfter;
+  }
+
   public List<ProcessInstanceQueryImpl> getQueries() {
     return queries;
   }
@@ -24,6 +24,7 @@ import org.operaton.bpm.engine.impl.util.JsonUtil;
 public abstract class AbstractBatchConfigurationObjectConverter<T extends BatchConfiguration> extends JsonObjectConverter<T> {
 
   protected static final String BATCH_ID = "batchId";
+  protected static final String ELEMENT_CURSOR = "elementCursor";
 
   public abstract JsonObject writeConfiguration(T object);
 
@@ -33,6 +34,9 @@ public abstract class AbstractBatchConfigurationObjectConverter<T extends BatchC
   public final JsonObject toJsonObject(T object) {
     JsonObject json = writeConfiguration(object);
     JsonUtil.addField(json, BATCH_ID, object.getBatchId());
+    if (object.getElementCursor() != null) {
+      JsonUtil.addField(json, ELEMENT_CURSOR, BatchElementCursorJsonConverter.INSTANCE, object.getElementCursor());
+    }
     return json;
   }
 
@@ -40,6 +44,10 @@ public abstract class AbstractBatchConfigurationObjectConverter<T extends BatchC
   public final T toObject(JsonObject jsonObject) {
     T configuration = readConfiguration(jsonObject);
     configuration.setBatchId(JsonUtil.getString(jsonObject, BATCH_ID));
+    if (jsonObject.has(ELEMENT_CURSOR)) {
+      configuration.setElementCursor(JsonUtil.asJavaObject(JsonUtil.getObject(jsonObject, ELEMENT_CURSOR),
+          BatchElementCursorJsonConverter.INSTANCE));
+    }
     return configuration;
   }
 }
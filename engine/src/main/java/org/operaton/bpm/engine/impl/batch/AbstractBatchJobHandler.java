@@ -21,7 +21,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
-import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 
 import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.context.Context;
@@ -56,6 +56,20 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
     T configuration = readConfiguration(batch.getConfigurationBytes());
     String deploymentId = null;
 
+    int batchJobsPerSeed = batch.getBatchJobsPerSeed();
+    int invocationsPerBatchJob = batch.getInvocationsPerBatchJob();
+
+    BatchElementCursor elementCursor = configuration.getElementCursor();
+    if (elementCursor != null && isEmpty(configuration)) {
+      fetchNextElements(configuration, elementCursor, invocationsPerBatchJob * batchJobsPerSeed);
+
+      if (isEmpty(configuration)) {
+        // the last page was empty, there is nothing left to seed
+        batch.setConfigurationBytes(writeConfiguration(configuration));
+        return configuration.getElementCursor() == null;
+      }
+    }
+
     DeploymentMappings idMappings = configuration.getIdMappings();
     boolean deploymentAware = idMappings != null && !idMappings.isEmpty();
 
@@ -68,9 +82,6 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
       deploymentId = mappingToProcess.getDeploymentId();
     }
 
-    int batchJobsPerSeed = batch.getBatchJobsPerSeed();
-    int invocationsPerBatchJob = batch.getInvocationsPerBatchJob();
-
     int numberOfItemsToProcess = Math.min(invocationsPerBatchJob * batchJobsPerSeed, ids.size());
 
     // view of process instances to process
@@ -88,7 +99,29 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
     // update batch configuration
     batch.setConfigurationBytes(writeConfiguration(configuration));
 
-    return deploymentAware ? idMappings.isEmpty() : ids.isEmpty();
+    boolean elementsProcessed = deploymentAware ? idMappings.isEmpty() : ids.isEmpty();
+    return elementsProcessed && configuration.getElementCursor() == null;
+  }
+
+  protected boolean isEmpty(T configuration) {
+    List<String> ids = configuration.getIds();
+    DeploymentMappings idMappings = configuration.getIdMappings();
+    return (ids == null || ids.isEmpty()) && (idMappings == null || idMappings.isEmpty());
+  }
+
+  /**
+   * Pages the next elements of a query-backed batch into the configuration.
+   * The cursor is dropped from the configuration once it is exhausted.
+   */
+  protected void fetchNextElements(T configuration, BatchElementCursor elementCursor, int maxResults) {
+    BatchElementConfiguration elements = elementCursor.next(Context.getCommandContext(), maxResults);
+
+    configuration.setIds(elements.getIds());
+    configuration.setIdMappings(elements.getMappings());
+
+    if (elementCursor.isExhausted()) {
+      configuration.setElementCursor(null);
+    }
   }
 
   @Override
@@ -228,14 +261,27 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
 
   @Override
   public byte[] writeConfiguration(T configuration) {
-    JsonElement jsonObject = getJsonConverterInstance().toJsonObject(configuration);
+    JsonObject jsonObject = getJsonConverterInstance().toJsonObject(configuration);
+
+    ProcessEngineConfigurationImpl engineConfig = Context.getProcessEngineConfiguration();
+    if (engineConfig != null && engineConfig.isCompactBatchConfigurationEnabled()) {
+      return CompactBatchConfigurationFormat.write(jsonObject);
+    }
 
     return JsonUtil.asBytes(jsonObject);
   }
 
   @Override
   public T readConfiguration(byte[] serializedConfiguration) {
-    return getJsonConverterInstance().toObject(JsonUtil.asObject(serializedConfiguration));
+    JsonObject jsonObject;
+    if (CompactBatchConfigurationFormat.isCompact(serializedConfiguration)) {
+      jsonObject = CompactBatchConfigurationFormat.read(serializedConfiguration);
+    }
+    else {
+      jsonObject = JsonUtil.asObject(serializedConfiguration);
+    }
+
+    return getJsonConverterInstance().toObject(jsonObject);
   }
 
   protected abstract AbstractBatchConfigurationObjectConverter<T> getJsonConverterInstance();
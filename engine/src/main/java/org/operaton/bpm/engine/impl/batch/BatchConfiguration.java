@@ -25,6 +25,7 @@ public class BatchConfiguration {
   protected DeploymentMappings idMappings;
   protected boolean failIfNotExists;
   protected String batchId;
+  protected BatchElementCursor elementCursor;
 
   public BatchConfiguration(List<String> ids) {
     this(ids, true);
@@ -82,4 +83,16 @@ public class BatchConfiguration {
     this.batchId = batchId;
   }
 
+  /**
+   * @return the cursor the ids of a query-backed batch are paged from, or
+   *         <code>null</code> if all ids are part of the configuration
+   */
+  public BatchElementCursor getElementCursor() {
+    return elementCursor;
+  }
+
+  public void setElementCursor(BatchElementCursor elementCursor) {
+    this.elementCursor = elementCursor;
+  }
+
 }
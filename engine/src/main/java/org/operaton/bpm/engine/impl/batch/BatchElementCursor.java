@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.batch;
+
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+
+/**
+ * Keyset cursor over the elements of a query-backed batch. Instead of
+ * materializing all element ids when the batch is created, the batch
+ * configuration keeps a cursor and every seed job run fetches the next
+ * page of elements from it.
+ *
+ * <p>A cursor is stored as json as part of the batch configuration, see
+ * {@link BatchElementCursorJsonConverter}.</p>
+ */
+public interface BatchElementCursor {
+
+  /**
+   * Fetches the next page of elements and advances the cursor behind the
+   * last element of the page.
+   *
+   * @param commandContext the current command context
+   * @param maxResults the maximum number of elements to fetch
+   * @return the elements of the page mapped to their deployment ids, empty if the cursor is exhausted
+   */
+  BatchElementConfiguration next(CommandContext commandContext, int maxResults);
+
+  /**
+   * @return <code>true</code> if the last call to {@link #next(CommandContext, int)}
+   *         fetched the remaining elements, i.e. no further page exists
+   */
+  boolean isExhausted();
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.batch;
+
+import java.util.List;
+
+import com.google.gson.JsonObject;
+
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.impl.ProcessInstanceQueryImpl;
+import org.operaton.bpm.engine.impl.identity.Authentication;
+import org.operaton.bpm.engine.impl.json.JsonObjectConverter;
+import org.operaton.bpm.engine.impl.json.JsonProcessInstanceQueryConverter;
+import org.operaton.bpm.engine.impl.util.JsonUtil;
+
+public class BatchElementCursorJsonConverter extends JsonObjectConverter<BatchElementCursor> {
+
+  public static final BatchElementCursorJsonConverter INSTANCE = new BatchElementCursorJsonConverter();
+
+  protected static final String TYPE = "type";
+  protected static final String TYPE_PROCESS_INSTANCE_QUERY = "processInstanceQuery";
+  protected static final String QUERY = "query";
+  protected static final String LAST_PROCESS_INSTANCE_ID = "lastProcessInstanceId";
+  protected static final String EXHAUSTED = "exhausted";
+  protected static final String AUTH_USER_ID = "authUserId";
+  protected static final String AUTH_GROUP_IDS = "authGroupIds";
+  protected static final String AUTH_TENANT_IDS = "authTenantIds";
+  protected static final String AUTHORIZATION_CHECK_ENABLED = "authorizationCheckEnabled";
+  protected static final String TENANT_CHECK_ENABLED = "tenantCheckEnabled";
+
+  @Override
+  public JsonObject toJsonObject(BatchElementCursor cursor) {
+    if (!(cursor instanceof ProcessInstanceQueryBatchElementCursor processInstanceQueryCursor)) {
+      throw new ProcessEngineException("Unsupported batch element cursor " + cursor.getClass().getName());
+    }
+
+    JsonObject json = JsonUtil.createObject();
+    JsonUtil.addField(json, TYPE, TYPE_PROCESS_INSTANCE_QUERY);
+    JsonUtil.addField(json, QUERY, JsonProcessInstanceQueryConverter.INSTANCE, processInstanceQueryCursor.getQuery());
+    JsonUtil.addField(json, LAST_PROCESS_INSTANCE_ID, processInstanceQueryCursor.getLastProcessInstanceId());
+    JsonUtil.addDefaultField(json, EXHAUSTED, false, processInstanceQueryCursor.isExhausted());
+    JsonUtil.addField(json, AUTHORIZATION_CHECK_ENABLED, processInstanceQueryCursor.isAuthorizationCheckEnabled());
+    JsonUtil.addField(json, TENANT_CHECK_ENABLED, processInstanceQueryCursor.isTenantCheckEnabled());
+
+    Authentication authentication = processInstanceQueryCursor.getAuthentication();
+    if (authentication != null) {
+      JsonUtil.addField(json, AUTH_USER_ID, authentication.getUserId());
+      JsonUtil.addListField(json, AUTH_GROUP_IDS, authentication.getGroupIds());
+      JsonUtil.addListField(json, AUTH_TENANT_IDS, authentication.getTenantIds());
+    }
+
+    return json;
+  }
+
+  @Override
+  public BatchElementCursor toObject(JsonObject json) {
+    String type = JsonUtil.getString(json, TYPE);
+    if (!TYPE_PROCESS_INSTANCE_QUERY.equals(type)) {
+      throw new ProcessEngineException("Unsupported batch element cursor type '" + type + "'");
+    }
+
+    ProcessInstanceQueryImpl query = JsonUtil.asJavaObject(JsonUtil.getObject(json, QUERY), JsonProcessInstanceQueryConverter.INSTANCE);
+
+    Authentication authentication = null;
+    if (json.has(AUTH_USER_ID) || json.has(AUTH_GROUP_IDS) || json.has(AUTH_TENANT_IDS)) {
+      String userId = json.has(AUTH_USER_ID) ? JsonUtil.getString(json, AUTH_USER_ID) : null;
+      List<String> groupIds = json.has(AUTH_GROUP_IDS) ? JsonUtil.asStringList(JsonUtil.getArray(json, AUTH_GROUP_IDS)) : null;
+      List<String> tenantIds = json.has(AUTH_TENANT_IDS) ? JsonUtil.asStringList(JsonUtil.getArray(json, AUTH_TENANT_IDS)) : null;
+      authentication = new Authentication(userId, groupIds, tenantIds);
+    }
+
+    ProcessInstanceQueryBatchElementCursor cursor = new ProcessInstanceQueryBatchElementCursor(query, authentication,
+        JsonUtil.getBoolean(json, AUTHORIZATION_CHECK_ENABLED), JsonUtil.getBoolean(json, TENANT_CHECK_ENABLED));
+    if (json.has(LAST_PROCESS_INSTANCE_ID)) {
+      cursor.setLastProcessInstanceId(JsonUtil.getString(json, LAST_PROCESS_INSTANCE_ID));
+    }
+    cursor.setExhausted(JsonUtil.getBoolean(json, EXHAUSTED));
+
+    return cursor;
+  }
+
+}
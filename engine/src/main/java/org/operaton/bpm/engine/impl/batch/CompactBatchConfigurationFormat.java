@@ -0,0 +1,441 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.batch;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.util.EngineUtilLogger;
+import org.operaton.bpm.engine.impl.util.JsonUtil;
+
+/**
+ * Compact binary representation of batch configurations.
+ *
+ * <p>Batch configurations are JSON objects which mostly consist of large arrays of ids.
+ * In the compact format, every top level array of strings is taken out of the JSON object
+ * and written in binary form, using the most compact of the following encodings which
+ * applies to all of its elements:</p>
+ * <ul>
+ *   <li>numeric ids (as created by the {@code DbIdGenerator}) are written as
+ *   zig-zag and varint encoded differences to their predecessor,</li>
+ *   <li>UUIDs in their canonical form (as created by the {@code StrongUuidGenerator})
+ *   are written as 16 bytes,</li>
+ *   <li>any other strings are front coded against their predecessor and deflated.</li>
+ * </ul>
+ * <p>The remaining JSON object is stored as UTF-8 encoded text. The order of the array elements is
+ * preserved, which is required since batch jobs are created from slices of the id lists.</p>
+ *
+ * <p>A compact configuration starts with a zero byte, which never starts a JSON document,
+ * so that {@link #isCompact(byte[])} tells both formats apart.</p>
+ */
+public final class CompactBatchConfigurationFormat {
+
+  private static final EngineUtilLogger LOG = ProcessEngineLogger.UTIL_LOGGER;
+
+  static final byte[] HEADER = { 0, 'O', 'B', 'C', 1 };
+
+  static final int ENCODING_NUMERIC = 1;
+  static final int ENCODING_UUID = 2;
+  static final int ENCODING_STRING = 3;
+
+  private static final int MAX_NUMERIC_ID_LENGTH = 18;
+  private static final int UUID_LENGTH = 36;
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private CompactBatchConfigurationFormat() {
+  }
+
+  public static boolean isCompact(byte[] bytes) {
+    return bytes != null
+        && bytes.length >= HEADER.length
+        && Arrays.equals(bytes, 0, HEADER.length, HEADER, 0, HEADER.length);
+  }
+
+  public static byte[] write(JsonObject configuration) {
+    JsonObject remainder = JsonUtil.createObject();
+    List<String> arrayNames = new ArrayList<>();
+    List<List<String>> arrays = new ArrayList<>();
+
+    for (Map.Entry<String, JsonElement> member : configuration.entrySet()) {
+      List<String> strings = asStringList(member.getValue());
+      if (strings != null) {
+        arrayNames.add(member.getKey());
+        arrays.add(strings);
+      }
+      else {
+        remainder.add(member.getKey(), member.getValue());
+      }
+    }
+
+    Output out = new Output(1024);
+    out.writeBytes(HEADER, 0, HEADER.length);
+    out.writeByteArray(JsonUtil.getGsonMapper().toJson(remainder).getBytes(StandardCharsets.UTF_8));
+    out.writeVarLong(arrays.size());
+    for (int i = 0; i < arrays.size(); i++) {
+      out.writeByteArray(arrayNames.get(i).getBytes(StandardCharsets.UTF_8));
+      writeArray(out, arrays.get(i));
+    }
+    return out.toByteArray();
+  }
+
+  public static JsonObject read(byte[] bytes) {
+    try {
+      ByteBuffer in = ByteBuffer.wrap(bytes, HEADER.length, bytes.length - HEADER.length);
+      JsonObject configuration = JsonUtil.getGsonMapper().fromJson(new String(readByteArray(in), StandardCharsets.UTF_8), JsonObject.class);
+      int arrayCount = readLength(in);
+      for (int i = 0; i < arrayCount; i++) {
+        String name = new String(readByteArray(in), StandardCharsets.UTF_8);
+        configuration.add(name, readArray(in));
+      }
+      return configuration;
+    }
+    catch (DataFormatException | RuntimeException e) {
+      throw LOG.exceptionWhileReadingCompactBatchConfiguration(e);
+    }
+  }
+
+  // arrays //////////////////////////////////////////////////////////////
+
+  private static List<String> asStringList(JsonElement element) {
+    if (!element.isJsonArray()) {
+      return null;
+    }
+    JsonArray array = element.getAsJsonArray();
+    if (array.isEmpty()) {
+      return null;
+    }
+    List<String> strings = new ArrayList<>(array.size());
+    for (JsonElement item : array) {
+      if (!item.isJsonPrimitive() || !item.getAsJsonPrimitive().isString()) {
+        return null;
+      }
+      strings.add(item.getAsString());
+    }
+    return strings;
+  }
+
+  private static void writeArray(Output out, List<String> strings) {
+    if (strings.stream().allMatch(CompactBatchConfigurationFormat::isNumericId)) {
+      out.writeByte(ENCODING_NUMERIC);
+      out.writeVarLong(strings.size());
+      long previous = 0;
+      for (String string : strings) {
+        long value = Long.parseLong(string);
+        out.writeVarLong(zigZag(value - previous));
+        previous = value;
+      }
+    }
+    else if (strings.stream().allMatch(CompactBatchConfigurationFormat::isCanonicalUuid)) {
+      out.writeByte(ENCODING_UUID);
+      out.writeVarLong(strings.size());
+      for (String string : strings) {
+        out.writeLong(parseHex(string, 0, 18));
+        out.writeLong(parseHex(string, 19, UUID_LENGTH));
+      }
+    }
+    else {
+      out.writeByte(ENCODING_STRING);
+      out.writeVarLong(strings.size());
+      Output frontCoded = new Output(strings.size() * 8);
+      byte[] previous = new byte[0];
+      for (String string : strings) {
+        byte[] current = string.getBytes(StandardCharsets.UTF_8);
+        int prefixLength = Arrays.mismatch(previous, current);
+        if (prefixLength < 0) {
+          prefixLength = current.length;
+        }
+        frontCoded.writeVarLong(prefixLength);
+        frontCoded.writeByteArray(Arrays.copyOfRange(current, prefixLength, current.length));
+        previous = current;
+      }
+      out.writeVarLong(frontCoded.size());
+      out.writeByteArray(deflate(frontCoded.toByteArray()));
+    }
+  }
+
+  private static JsonArray readArray(ByteBuffer in) throws DataFormatException {
+    int encoding = in.get() & 0xFF;
+    int size = readLength(in);
+    JsonArray array = new JsonArray(Math.min(size, in.remaining()));
+    switch (encoding) {
+    case ENCODING_NUMERIC:
+      readNumericIds(in, size, array);
+      break;
+    case ENCODING_UUID:
+      readUuids(in, size, array);
+      break;
+    case ENCODING_STRING:
+      readStrings(in, size, array);
+      break;
+    default:
+      throw new IllegalArgumentException("Unknown id list encoding " + encoding);
+    }
+    return array;
+  }
+
+  private static void readNumericIds(ByteBuffer in, int size, JsonArray array) {
+    long previous = 0;
+    for (int i = 0; i < size; i++) {
+      previous += unZigZag(readVarLong(in));
+      array.add(new JsonPrimitive(Long.toString(previous)));
+    }
+  }
+
+  private static void readUuids(ByteBuffer in, int size, JsonArray array) {
+    char[] uuid = new char[UUID_LENGTH];
+    uuid[18] = '-';
+    for (int i = 0; i < size; i++) {
+      formatHex(in.getLong(), uuid, 0, 18);
+      formatHex(in.getLong(), uuid, 19, UUID_LENGTH);
+      array.add(new JsonPrimitive(new String(uuid)));
+    }
+  }
+
+  private static void readStrings(ByteBuffer in, int size, JsonArray array) throws DataFormatException {
+    int inflatedLength = readLength(in);
+    ByteBuffer frontCoded = ByteBuffer.wrap(inflate(readByteArray(in), inflatedLength));
+    byte[] previous = new byte[0];
+    for (int i = 0; i < size; i++) {
+      int prefixLength = readLength(frontCoded);
+      int suffixLength = readLength(frontCoded);
+      if (prefixLength > previous.length) {
+        throw new IllegalArgumentException("Invalid prefix length " + prefixLength);
+      }
+      byte[] current = Arrays.copyOf(previous, prefixLength + suffixLength);
+      frontCoded.get(current, prefixLength, suffixLength);
+      array.add(new JsonPrimitive(new String(current, StandardCharsets.UTF_8)));
+      previous = current;
+    }
+  }
+
+  private static byte[] deflate(byte[] bytes) {
+    Deflater deflater = new Deflater();
+    try {
+      deflater.setInput(bytes);
+      deflater.finish();
+      ByteArrayOutputStream deflated = new ByteArrayOutputStream(bytes.length / 4 + 16);
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        int length = deflater.deflate(buffer);
+        deflated.write(buffer, 0, length);
+      }
+      return deflated.toByteArray();
+    }
+    finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(byte[] bytes, int inflatedLength) throws DataFormatException {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(bytes);
+      byte[] inflated = new byte[inflatedLength];
+      int length = 0;
+      while (length < inflatedLength && !inflater.finished()) {
+        int inflatedBytes = inflater.inflate(inflated, length, inflatedLength - length);
+        if (inflatedBytes == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        length += inflatedBytes;
+      }
+      if (length != inflatedLength) {
+        throw new DataFormatException("Unexpected end of deflated id list");
+      }
+      return inflated;
+    }
+    finally {
+      inflater.end();
+    }
+  }
+
+  private static boolean isNumericId(String string) {
+    int length = string.length();
+    if (length == 0 || length > MAX_NUMERIC_ID_LENGTH || (length > 1 && string.charAt(0) == '0')) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = string.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isCanonicalUuid(String string) {
+    if (string.length() != UUID_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < UUID_LENGTH; i++) {
+      char c = string.charAt(i);
+      boolean valid = (i == 8 || i == 13 || i == 18 || i == 23)
+          ? c == '-'
+          : (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f');
+      if (!valid) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Parses the hex digits between start and end, skipping dashes.
+   */
+  private static long parseHex(String uuid, int start, int end) {
+    long value = 0;
+    for (int i = start; i < end; i++) {
+      char c = uuid.charAt(i);
+      if (c != '-') {
+        value = (value << 4) | Character.digit(c, 16);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Writes the value as lower case hex digits between start and end, with dashes
+   * at the positions of the canonical UUID format.
+   */
+  private static void formatHex(long value, char[] uuid, int start, int end) {
+    long remaining = value;
+    for (int i = end - 1; i >= start; i--) {
+      if (i == 8 || i == 13 || i == 23) {
+        uuid[i] = '-';
+      }
+      else {
+        uuid[i] = HEX_DIGITS[(int) (remaining & 0xF)];
+        remaining >>>= 4;
+      }
+    }
+  }
+
+  // primitives //////////////////////////////////////////////////////////
+
+  private static byte[] readByteArray(ByteBuffer in) {
+    int length = readLength(in);
+    if (length > in.remaining()) {
+      throw new IllegalArgumentException("Invalid length " + length);
+    }
+    byte[] bytes = new byte[length];
+    in.get(bytes);
+    return bytes;
+  }
+
+  private static int readLength(ByteBuffer in) {
+    long value = readVarLong(in);
+    if (value < 0 || value > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid length " + value);
+    }
+    return (int) value;
+  }
+
+  private static long readVarLong(ByteBuffer in) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.get();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint");
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Unsynchronized, growable byte buffer.
+   */
+  private static class Output {
+
+    private byte[] buffer;
+    private int size;
+
+    Output(int initialCapacity) {
+      buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    int size() {
+      return size;
+    }
+
+    void writeByte(int value) {
+      ensureCapacity(1);
+      buffer[size++] = (byte) value;
+    }
+
+    void writeBytes(byte[] bytes, int offset, int length) {
+      ensureCapacity(length);
+      System.arraycopy(bytes, offset, buffer, size, length);
+      size += length;
+    }
+
+    void writeByteArray(byte[] bytes) {
+      writeVarLong(bytes.length);
+      writeBytes(bytes, 0, bytes.length);
+    }
+
+    void writeLong(long value) {
+      ensureCapacity(Long.BYTES);
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        buffer[size++] = (byte) (value >>> shift);
+      }
+    }
+
+    void writeVarLong(long value) {
+      ensureCapacity(10);
+      long remaining = value;
+      while ((remaining & ~0x7FL) != 0) {
+        buffer[size++] = (byte) ((remaining & 0x7F) | 0x80);
+        remaining >>>= 7;
+      }
+      buffer[size++] = (byte) remaining;
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(buffer, size);
+    }
+
+    private void ensureCapacity(int additionalBytes) {
+      if (size + additionalBytes > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additionalBytes));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.batch;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.operaton.bpm.engine.IdentityService;
+import org.operaton.bpm.engine.impl.ProcessInstanceQueryImpl;
+import org.operaton.bpm.engine.impl.identity.Authentication;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.util.ImmutablePair;
+
+/**
+ * {@link BatchElementCursor} that pages through the result of a process
+ * instance query ordered by process instance id. The authentication and the
+ * authorization and tenant check settings of the command that created the
+ * batch are kept with the cursor and applied to the query for every page.
+ */
+public class ProcessInstanceQueryBatchElementCursor implements BatchElementCursor {
+
+  protected ProcessInstanceQueryImpl query;
+  protected String lastProcessInstanceId;
+  protected boolean exhausted;
+
+  protected Authentication authentication;
+  protected boolean authorizationCheckEnabled;
+  protected boolean tenantCheckEnabled;
+
+  public ProcessInstanceQueryBatchElementCursor(ProcessInstanceQueryImpl query,
+                                                Authentication authentication,
+                                                boolean authorizationCheckEnabled,
+                                                boolean tenantCheckEnabled) {
+    this.query = query;
+    this.authentication = authentication;
+    this.authorizationCheckEnabled = authorizationCheckEnabled;
+    this.tenantCheckEnabled = tenantCheckEnabled;
+  }
+
+  @Override
+  public BatchElementConfiguration next(CommandContext commandContext, int maxResults) {
+    BatchElementConfiguration elements = new BatchElementConfiguration();
+    if (exhausted) {
+      return elements;
+    }
+
+    List<ImmutablePair<String, String>> mappings = executeWithCreatorChecks(commandContext,
+        () -> query.executeDeploymentIdMappingsPage(commandContext, lastProcessInstanceId, maxResults));
+
+    if (!mappings.isEmpty()) {
+      lastProcessInstanceId = mappings.get(mappings.size() - 1).getRight();
+      elements.addDeploymentMappings(mappings);
+    }
+    exhausted = mappings.size() < maxResults;
+
+    return elements;
+  }
+
+  protected <T> T executeWithCreatorChecks(CommandContext commandContext, Supplier<T> page) {
+    IdentityService identityService = commandContext.getProcessEngineConfiguration().getIdentityService();
+    Authentication currentAuthentication = identityService.getCurrentAuthentication();
+    boolean currentAuthorizationCheckEnabled = commandContext.isAuthorizationCheckEnabled();
+    boolean currentTenantCheckEnabled = commandContext.isTenantCheckEnabled();
+
+    identityService.setAuthentication(authentication);
+    setAuthorizationCheckEnabled(commandContext, authorizationCheckEnabled);
+    setTenantCheckEnabled(commandContext, tenantCheckEnabled);
+    try {
+      return page.get();
+
+    } finally {
+      identityService.setAuthentication(currentAuthentication);
+      setAuthorizationCheckEnabled(commandContext, currentAuthorizationCheckEnabled);
+      setTenantCheckEnabled(commandContext, currentTenantCheckEnabled);
+    }
+  }
+
+  protected void setAuthorizationCheckEnabled(CommandContext commandContext, boolean enabled) {
+    if (enabled) {
+      commandContext.enableAuthorizationCheck();
+    } else {
+      commandContext.disableAuthorizationCheck();
+    }
+  }
+
+  protected void setTenantCheckEnabled(CommandContext commandContext, boolean enabled) {
+    if (enabled) {
+      commandContext.enableTenantCheck();
+    } else {
+      commandContext.disableTenantCheck();
+    }
+  }
+
+  @Override
+  public boolean isExhausted() {
+    return exhausted;
+  }
+
+  public void setExhausted(boolean exhausted) {
+    this.exhausted = exhausted;
+  }
+
+  public ProcessInstanceQueryImpl getQuery() {
+    return query;
+  }
+
+  public String getLastProcessInstanceId() {
+    return lastProcessInstanceId;
+  }
+
+  public void setLastProcessInstanceId(String lastProcessInstanceId) {
+    this.lastProcessInstanceId = lastProcessInstanceId;
+  }
+
+  public Authentication getAuthentication() {
+    return authentication;
+  }
+
+  public boolean isAuthorizationCheckEnabled() {
+    return authorizationCheckEnabled;
+  }
+
+  public boolean isTenantCheckEnabled() {
+    return tenantCheckEnabled;
+  }
+
+}
@@ -39,6 +39,7 @@ public class BatchBuilder {
   protected String type;
 
   protected Integer totalJobsCount;
+  protected Integer instanceCount;
 
   protected Permission permission;
   protected PermissionHandler permissionHandler;
@@ -70,6 +71,15 @@ public class BatchBuilder {
     return this;
   }
 
+  /**
+   * Sets the number of instances the batch operates on. Needed for batches whose
+   * configuration does not contain the instance ids, e.g. query-backed batches.
+   */
+  public BatchBuilder instanceCount(int instanceCount) {
+    this.instanceCount = instanceCount;
+    return this;
+  }
+
   public BatchBuilder permission(Permission permission) {
     this.permission = permission;
     return this;
@@ -152,10 +162,7 @@ public class BatchBuilder {
       batch.setTotalJobs(totalJobsCount);
 
     } else {
-      List<String> instanceIds = config.getIds();
-
-      int instanceCount = instanceIds.size();
-      int totalJobs = calculateTotalJobs(instanceCount, invocationPerBatchJobCount);
+      int totalJobs = calculateTotalJobs(getInstanceCount(), invocationPerBatchJobCount);
 
       batch.setTotalJobs(totalJobs);
     }
@@ -184,10 +191,7 @@ public class BatchBuilder {
     }
 
     if (operationLogInstanceCountHandler != null) {
-      List<String> instanceIds = config.getIds();
-
-      int instanceCount = instanceIds.size();
-      operationLogInstanceCountHandler.write(commandContext, instanceCount);
+      operationLogInstanceCountHandler.write(commandContext, getInstanceCount());
 
     } else {
       operationLogHandler.write(commandContext);
@@ -195,6 +199,15 @@ public class BatchBuilder {
     }
   }
 
+  protected int getInstanceCount() {
+    if (instanceCount != null) {
+      return instanceCount;
+    }
+
+    List<String> instanceIds = config.getIds();
+    return instanceIds.size();
+  }
+
   protected int calculateTotalJobs(int instanceCount, int invocationPerBatchJobCount) {
     if (instanceCount == 0 || invocationPerBatchJobCount == 0) {
       return 0;
@@ -154,4 +154,16 @@ public class ConfigurationLogger extends ProcessEngineLogger {
             + "Please keep in mind that levels different from 'READ_COMMITTED' are known to cause deadlocks and other unexpected behaviours.",
         transactionIsolationLevel);
   }
+
+  public void logStartupReport(String processEngineName, StartupReport startupReport) {
+    logDebug("021", "Startup report of process engine '{}': {}", processEngineName, startupReport);
+  }
+
+  public ProcessEngineException asyncDbHistoryEventHandlerNotSupported() {
+    return new ProcessEngineException(exceptionMessage("022",
+        "The configuration property 'enableAsyncDbHistoryEventHandler' is not supported with the history removal time "
+            + "strategy 'end' and the history cleanup strategy 'removalTimeBased': the removal time is added to the history "
+            + "when the root process instance ends, before the buffered history is written. Please set property "
+            + "'historyRemovalTimeStrategy' to 'start' or property 'historyCleanupStrategy' to 'endTimeBased'."));
+  }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.cfg;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.operaton.bpm.engine.ProcessEngineException;
+
+/**
+ * Executes the initialization steps of a {@link ProcessEngineConfigurationImpl} and records their
+ * timings in a {@link StartupReport}.
+ *
+ * <p>Steps declared with {@link #asyncStep(String, Runnable, String...)} are executed on a bootstrap
+ * thread if parallel bootstrap is enabled, while the following steps continue on the calling thread.
+ * A step that uses the result of an asynchronous step has to declare it as a dependency and waits
+ * for it before it is started. Without parallel bootstrap, all steps are executed in the order in
+ * which they are declared.</p>
+ */
+public class ProcessEngineBootstrap implements AutoCloseable {
+
+  public static final String THREAD_NAME_PREFIX = "operaton-bootstrap-";
+
+  protected final boolean parallel;
+  protected final int parallelism;
+  protected final StartupReport report;
+
+  protected final Map<String, CompletableFuture<Void>> asyncSteps = new HashMap<>();
+  protected ExecutorService executorService;
+
+  public ProcessEngineBootstrap(boolean parallel, int parallelism, StartupReport report) {
+    this.parallel = parallel;
+    this.parallelism = parallelism;
+    this.report = report;
+  }
+
+  /**
+   * Executes the step on the calling thread, after the given asynchronous steps have completed.
+   */
+  public void step(String name, Runnable step, String... dependencies) {
+    await(dependencies);
+    execute(name, step);
+  }
+
+  /**
+   * Executes the step on a bootstrap thread, after the given asynchronous steps have completed.
+   * Executes it like {@link #step(String, Runnable, String...)} if parallel bootstrap is disabled.
+   */
+  public void asyncStep(String name, Runnable step, String... dependencies) {
+    if (!parallel) {
+      step(name, step, dependencies);
+      return;
+    }
+
+    List<CompletableFuture<Void>> dependencyFutures = new ArrayList<>();
+    for (String dependency : dependencies) {
+      CompletableFuture<Void> dependencyFuture = asyncSteps.get(dependency);
+      if (dependencyFuture != null) {
+        dependencyFutures.add(dependencyFuture);
+      }
+    }
+
+    // steps resolve classes and resources through the context class loader of the caller
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    CompletableFuture<Void> future = CompletableFuture
+        .allOf(dependencyFutures.toArray(new CompletableFuture[0]))
+        .thenRunAsync(() -> {
+          Thread thread = Thread.currentThread();
+          ClassLoader previousClassLoader = thread.getContextClassLoader();
+          thread.setContextClassLoader(contextClassLoader);
+          try {
+            execute(name, step);
+          } finally {
+            thread.setContextClassLoader(previousClassLoader);
+          }
+        }, getExecutorService());
+
+    asyncSteps.put(name, future);
+  }
+
+  /**
+   * Waits until the given asynchronous steps have completed and rethrows their failure.
+   * Dependencies that were executed synchronously are ignored.
+   */
+  public void await(String... dependencies) {
+    for (String dependency : dependencies) {
+      CompletableFuture<Void> future = asyncSteps.get(dependency);
+      if (future != null) {
+        join(future);
+      }
+    }
+  }
+
+  /**
+   * Waits until all asynchronous steps have completed and rethrows the first failure.
+   */
+  public void awaitAll() {
+    for (CompletableFuture<Void> future : asyncSteps.values()) {
+      join(future);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if asynchronous steps are executed on bootstrap threads
+   */
+  public boolean isParallel() {
+    return parallel;
+  }
+
+  public StartupReport getReport() {
+    return report;
+  }
+
+  @Override
+  public void close() {
+    if (executorService != null) {
+      executorService.shutdownNow();
+    }
+  }
+
+  protected void execute(String name, Runnable step) {
+    report.run(name, step);
+  }
+
+  protected void join(CompletableFuture<Void> future) {
+    try {
+      future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      } else if (cause instanceof Error error) {
+        throw error;
+      } else {
+        throw new ProcessEngineException(cause);
+      }
+    }
+  }
+
+  protected ExecutorService getExecutorService() {
+    if (executorService == null) {
+      AtomicInteger threadCount = new AtomicInteger();
+      executorService = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+        Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return executorService;
+  }
+
+}
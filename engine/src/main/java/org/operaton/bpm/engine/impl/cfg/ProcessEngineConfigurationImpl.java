@@ -138,11 +138,14 @@ import org.operaton.bpm.engine.impl.cmmn.transformer.CmmnTransformFactory;
 import org.operaton.bpm.engine.impl.cmmn.transformer.CmmnTransformListener;
 import org.operaton.bpm.engine.impl.cmmn.transformer.CmmnTransformer;
 import org.operaton.bpm.engine.impl.cmmn.transformer.DefaultCmmnTransformFactory;
+import org.operaton.bpm.engine.impl.db.AuthorizationCache;
 import org.operaton.bpm.engine.impl.db.DbIdGenerator;
+import org.operaton.bpm.engine.impl.db.PrefetchingDbIdGenerator;
 import org.operaton.bpm.engine.impl.db.entitymanager.DbEntityManagerFactory;
 import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCacheKeyMapping;
 import org.operaton.bpm.engine.impl.db.sql.DbSqlPersistenceProviderFactory;
 import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.operaton.bpm.engine.impl.db.sql.MyBatisMappingSnapshot;
 import org.operaton.bpm.engine.impl.delegate.DefaultDelegateInterceptor;
 import org.operaton.bpm.engine.impl.diagnostics.DiagnosticsCollector;
 import org.operaton.bpm.engine.impl.diagnostics.DiagnosticsRegistry;
@@ -195,6 +198,7 @@ import org.operaton.bpm.engine.impl.history.HistoryRemovalTimeProvider;
 import org.operaton.bpm.engine.impl.history.event.HistoricDecisionInstanceManager;
 import org.operaton.bpm.engine.impl.history.event.HostnameProvider;
 import org.operaton.bpm.engine.impl.history.event.SimpleIpBasedProvider;
+import org.operaton.bpm.engine.impl.history.handler.AsyncDbHistoryEventHandler;
 import org.operaton.bpm.engine.impl.history.handler.CompositeDbHistoryEventHandler;
 import org.operaton.bpm.engine.impl.history.handler.CompositeHistoryEventHandler;
 import org.operaton.bpm.engine.impl.history.handler.DbHistoryEventHandler;
@@ -278,12 +282,15 @@ import org.operaton.bpm.engine.impl.runtime.CorrelationHandler;
 import org.operaton.bpm.engine.impl.runtime.DefaultConditionHandler;
 import org.operaton.bpm.engine.impl.runtime.DefaultCorrelationHandler;
 import org.operaton.bpm.engine.impl.runtime.DefaultDeserializationTypeValidator;
+import org.operaton.bpm.engine.impl.scripting.CompiledScriptStore;
+import org.operaton.bpm.engine.impl.scripting.InMemoryCompiledScriptStore;
 import org.operaton.bpm.engine.impl.scripting.ScriptFactory;
 import org.operaton.bpm.engine.impl.scripting.engine.BeansResolverFactory;
 import org.operaton.bpm.engine.impl.scripting.engine.DefaultScriptEngineResolver;
 import org.operaton.bpm.engine.impl.scripting.engine.OperatonScriptEngineManager;
 import org.operaton.bpm.engine.impl.scripting.engine.ResolverFactory;
 import org.operaton.bpm.engine.impl.scripting.engine.ScriptBindingsFactory;
+import org.operaton.bpm.engine.impl.scripting.engine.ScriptEnginePool;
 import org.operaton.bpm.engine.impl.scripting.engine.ScriptEngineResolver;
 import org.operaton.bpm.engine.impl.scripting.engine.ScriptingEngines;
 import org.operaton.bpm.engine.impl.scripting.engine.VariableScopeResolverFactory;
@@ -338,6 +345,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   public static final int DEFAULT_INVOCATIONS_PER_BATCH_JOB = 1;
 
+  public static final String AUTHORIZATION_CACHE_MODE_DISABLED = "disabled";
+  public static final String AUTHORIZATION_CACHE_MODE_LOCAL = "local";
+  public static final String AUTHORIZATION_CACHE_MODE_CLUSTER = "cluster";
+
   protected static final Map<Object, Object> DEFAULT_BEANS_MAP = new HashMap<>();
 
   protected static final String PRODUCT_NAME = "Operaton BPM Runtime";
@@ -457,12 +468,37 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected volatile SqlSessionFactory sqlSessionFactory;
   protected volatile TransactionFactory transactionFactory;
 
+  /**
+   * If true and {@link #jdbcBatchProcessing} is enabled, consecutive inserts of the same
+   * entity type are flushed as multi-row <code>INSERT</code> statements where a mapping exists
+   * (variable instances and the variable and activity instance history).
+   */
+  protected volatile boolean jdbcBatchMultiRowInserts;
+
+  /**
+   * Maximum number of rows inserted by a single multi-row <code>INSERT</code>. Keeps the number
+   * of bind parameters per statement below the limits of the supported databases.
+   */
+  protected volatile int jdbcBatchMultiRowInsertSize = 50;
+
 
   // ID GENERATOR /////////////////////////////////////////////////////////////
   protected volatile IdGenerator idGenerator;
   protected volatile DataSource idGeneratorDataSource;
   protected volatile String idGeneratorDataSourceJndiName;
 
+  /**
+   * If true, the default id generator prefetches the next id block asynchronously
+   * and hands out ids without locking, see {@link PrefetchingDbIdGenerator}.
+   */
+  protected volatile boolean idGeneratorPrefetchEnabled;
+
+  /**
+   * Number of ids every thread reserves at once when {@link #idGeneratorPrefetchEnabled} is true.
+   * Values less or equal to one disable thread local id blocks.
+   */
+  protected volatile int idGeneratorThreadLocalBlockSize;
+
   // INCIDENT HANDLER /////////////////////////////////////////////////////////
 
   protected volatile Map<String, IncidentHandler> incidentHandlers;
@@ -497,6 +533,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    * default priority for batch jobs
    */
   protected volatile long batchJobPriority = DefaultPriorityProvider.DEFAULT_PRIORITY;
+  /**
+   * If true, batch configurations are written in a compact binary format
+   * (see {@link org.operaton.bpm.engine.impl.batch.CompactBatchConfigurationFormat})
+   * instead of JSON. Configurations in either format can always be read, enable this
+   * only when all engines sharing the database are able to read the compact format.
+   */
+  protected volatile boolean compactBatchConfigurationEnabled = false;
+  /**
+   * If true, batches created from a runtime process instance query store the query
+   * and a keyset cursor instead of all process instance ids. Each seed job run then
+   * pages the next ids from the database, so the memory used to create and seed a
+   * batch does not depend on the number of instances.
+   */
+  protected volatile boolean queryBackedBatchSeedingEnabled = false;
 
   // OTHER ////////////////////////////////////////////////////////////////////
   protected volatile List<FormEngine> customFormEngines;
@@ -522,6 +572,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected volatile Charset defaultCharset;
 
   protected volatile ExpressionManager expressionManager;
+
+  /**
+   * If greater than zero, value expressions of the default {@link JuelExpressionManager} are
+   * compiled once they have been evaluated this many times, e.g. the conditions of frequently
+   * taken sequence flows. Compiled expressions dispatch operators directly and cache the bean
+   * getters and methods they call; they revert to interpretation where that is not safe.
+   */
+  protected volatile int expressionCompileThreshold = 0;
   protected volatile ElProvider dmnElProvider;
   protected volatile ScriptingEngines scriptingEngines;
   protected volatile List<ResolverFactory> resolverFactories;
@@ -533,6 +591,27 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected volatile boolean autoStoreScriptVariables;
   protected volatile boolean enableScriptCompilation = true;
   protected volatile boolean enableScriptEngineCaching = true;
+  /**
+   * The number of idle script engines kept per script language (and process application) for
+   * languages whose engines are not thread-safe and can therefore not be cached. Such engines
+   * are created for every script evaluation if set to 0 (default). Pooled engines are reused
+   * sequentially, so global state a script leaves in the engine is visible to later scripts,
+   * and they keep the engine settings (e.g. of Graal JS) they were created with.
+   */
+  protected volatile int scriptEnginePoolSize = 0;
+  /**
+   * Keeps compiled scripts of thread-safe script engines independently of the deployment cache,
+   * so that evicted or redeployed process definitions reuse them. If not set, an
+   * {@link InMemoryCompiledScriptStore} is created when {@link #compiledScriptStoreCapacity} is
+   * greater than 0.
+   */
+  protected volatile CompiledScriptStore compiledScriptStore;
+  protected volatile int compiledScriptStoreCapacity = 0;
+  /**
+   * When set to true, the scripts of newly deployed process definitions are compiled during
+   * the deployment instead of on their first execution.
+   */
+  protected volatile boolean enableScriptWarmUp;
   protected volatile boolean enableFetchScriptEngineFromProcessApplication = true;
   protected volatile boolean enableScriptEngineLoadExternalResources;
   protected volatile boolean enableScriptEngineNashornCompatibility;
@@ -698,10 +777,27 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected volatile boolean enableDefaultDbHistoryEventHandler = true;
 
+  /**
+   * If true, the default {@link DbHistoryEventHandler} is replaced by an
+   * {@link AsyncDbHistoryEventHandler} that writes history events after the producing
+   * transaction committed, in batches on a background thread. The engine fails to build if it is
+   * combined with the history removal time strategy 'end' and the history cleanup strategy 'removalTimeBased'.
+   */
+  protected volatile boolean enableAsyncDbHistoryEventHandler = false;
+
+  protected volatile AsyncDbHistoryEventHandler asyncDbHistoryEventHandler;
+
   protected volatile PermissionProvider permissionProvider;
 
   protected volatile boolean isExecutionTreePrefetchEnabled = true;
 
+  /**
+   * If true, the variables of all executions of a process instance are fetched with a
+   * single query when the variables of one of its executions are accessed first, instead
+   * of one query per execution.
+   */
+  protected volatile boolean isVariablePrefetchEnabled = false;
+
   /**
    * If true, the incident handlers init as {@link CompositeIncidentHandler} and
    * multiple incident handlers can be added for the same Incident type.
@@ -763,6 +859,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected volatile boolean isTaskMetricsEnabled = true;
 
+  /**
+   * If true, the latencies of commands, database flushes and job executions are recorded
+   * in histograms, see {@link ManagementService#getLatencyStatistics()}.
+   * Has no effect if {@link #isMetricsEnabled} is false.
+   */
+  protected volatile boolean isLatencyMetricsEnabled;
+
   /**
    * the historic job log host name
    */
@@ -840,6 +943,63 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected volatile boolean isUseSharedSqlSessionFactory;
 
+  /**
+   * If enabled, the SqlSessionFactory is built from the mapping snapshot which is generated
+   * for each database during the build, as long as the snapshot matches the mappings on the classpath.
+   * The snapshot contains the mappings with all database specific properties resolved and the
+   * statements of other databases removed, which shortens the bootstrap of the engine.
+   */
+  protected volatile boolean myBatisMappingSnapshotEnabled = true;
+
+  /**
+   * If enabled, initialization steps which do not depend on the following ones, such as building
+   * the DMN engine and the SqlSessionFactory, are executed on separate bootstrap threads while the
+   * engine continues with the remaining steps. See {@link #init(ProcessEngineBootstrap)}.
+   */
+  protected volatile boolean parallelBootstrapEnabled = false;
+
+  /**
+   * The number of threads which execute the asynchronous initialization steps if
+   * {@link #parallelBootstrapEnabled} is set.
+   */
+  protected volatile int parallelBootstrapThreads = 2;
+
+  /**
+   * If enabled, rarely used subsystems are initialized when they are used for the first time instead
+   * of during the bootstrap. This applies to the discovery of the script engines on the classpath.
+   */
+  protected volatile boolean lazyBootstrapEnabled = false;
+
+  /**
+   * The timings of the initialization steps of the last bootstrap.
+   */
+  protected volatile StartupReport startupReport;
+
+  /**
+   * Controls the cache for the outcome of authorization checks:
+   * <ul>
+   *   <li>{@value #AUTHORIZATION_CACHE_MODE_DISABLED}: every check queries the database.</li>
+   *   <li>{@value #AUTHORIZATION_CACHE_MODE_LOCAL}: the cache is invalidated when this engine commits
+   *   changes to authorizations. Use it only if no other engine modifies the authorizations of the database.</li>
+   *   <li>{@value #AUTHORIZATION_CACHE_MODE_CLUSTER}: in addition, changes are recorded in a version property
+   *   which every engine checks at most once per {@link #authorizationCacheVersionCheckInterval}.</li>
+   * </ul>
+   */
+  protected volatile String authorizationCacheMode = AUTHORIZATION_CACHE_MODE_DISABLED;
+
+  /**
+   * The maximum number of entries of the authorization cache.
+   */
+  protected volatile int authorizationCacheCapacity = 10000;
+
+  /**
+   * The interval in milliseconds in which the authorization version is read from the database
+   * if the authorization cache runs in {@value #AUTHORIZATION_CACHE_MODE_CLUSTER} mode.
+   */
+  protected volatile long authorizationCacheVersionCheckInterval = 1000;
+
+  protected volatile AuthorizationCache authorizationCache;
+
   //History cleanup configuration
   protected volatile String historyCleanupBatchWindowStartTime;
   protected volatile String historyCleanupBatchWindowEndTime = "00:00";
@@ -867,6 +1027,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected volatile int historyCleanupDegreeOfParallelism = 1;
 
+  /**
+   * Number of partitions the removal-time-based history cleanup is split into. Every partition is
+   * processed by its own cleanup job and owns a range of the seconds of an hour of the removal time;
+   * rows are deleted per table in chunks of {@link #historyCleanupBatchSize} ordered by id.
+   * {@code 0} disables partitioning and the jobs are created according to {@link #historyCleanupDegreeOfParallelism}.
+   */
+  protected volatile int historyCleanupPartitions = 0;
+
   protected volatile String historyTimeToLive;
 
   /**
@@ -1053,79 +1221,115 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   @Override
   public ProcessEngine buildProcessEngine() {
+    startupReport = new StartupReport();
     init();
-    processEngine = new ProcessEngineImpl(this);
-    invokePostProcessEngineBuild(processEngine);
+    startupReport.run("createProcessEngine", () -> processEngine = new ProcessEngineImpl(this));
+    startupReport.run("invokePostProcessEngineBuild", () -> invokePostProcessEngineBuild(processEngine));
+    startupReport.complete();
+    LOG.logStartupReport(processEngineName, startupReport);
     return processEngine;
   }
 
   // init /////////////////////////////////////////////////////////////////////
 
   protected void init() {
-    invokePreInit();
-    initDefaultCharset();
-    initHistoryLevel();
-    initHistoryEventProducer();
-    initCmmnHistoryEventProducer();
-    initDmnHistoryEventProducer();
-    initHistoryEventHandler();
-    initExpressionManager();
-    initBeans();
-    initArtifactFactory();
-    initFormEngines();
-    initFormTypes();
-    initFormFieldValidators();
-    initScripting();
-    initDmnEngine();
-    initBusinessCalendarManager();
-    initCommandContextFactory();
-    initTransactionContextFactory();
+    if (startupReport == null) {
+      startupReport = new StartupReport();
+    }
+    if (parallelBootstrapEnabled && parallelBootstrapThreads < 1) {
+      throw LOG.invalidPropertyValue("parallelBootstrapThreads", String.valueOf(parallelBootstrapThreads),
+          "the number of bootstrap threads must be greater than 0");
+    }
+    try (ProcessEngineBootstrap bootstrap = new ProcessEngineBootstrap(parallelBootstrapEnabled, parallelBootstrapThreads, startupReport)) {
+      init(bootstrap);
+    }
+  }
+
+  /**
+   * Declares the initialization steps of the configuration. Steps that may run in parallel to the
+   * following ones are declared as asynchronous steps, the steps which use their results declare
+   * them as dependencies. Without parallel bootstrap, the steps are executed in their original order.
+   */
+  protected void init(ProcessEngineBootstrap bootstrap) {
+    bootstrap.step("invokePreInit", this::invokePreInit);
+    bootstrap.step("initDefaultCharset", this::initDefaultCharset);
+
+    if (bootstrap.isParallel()) {
+      // the database steps only depend on the configuration and take the longest,
+      // so they are started first
+      bootstrap.asyncStep("initDataSource", this::initDataSource);
+      bootstrap.step("initTransactionFactory", this::initTransactionFactory);
+      bootstrap.asyncStep("initSqlSessionFactory", this::initSqlSessionFactory, "initDataSource");
+    }
+
+    bootstrap.step("initHistoryLevel", this::initHistoryLevel);
+    bootstrap.step("initHistoryEventProducer", this::initHistoryEventProducer);
+    bootstrap.step("initCmmnHistoryEventProducer", this::initCmmnHistoryEventProducer);
+    bootstrap.step("initDmnHistoryEventProducer", this::initDmnHistoryEventProducer);
+    bootstrap.step("initHistoryEventHandler", this::initHistoryEventHandler);
+    bootstrap.step("initExpressionManager", this::initExpressionManager);
+    bootstrap.step("initBeans", this::initBeans);
+    bootstrap.step("initArtifactFactory", this::initArtifactFactory);
+    bootstrap.step("initFormEngines", this::initFormEngines);
+    bootstrap.step("initFormTypes", this::initFormTypes);
+    bootstrap.step("initFormFieldValidators", this::initFormFieldValidators);
+    bootstrap.step("initScripting", this::initScripting);
+    bootstrap.asyncStep("initDmnEngine", this::initDmnEngine);
+    bootstrap.step("initBusinessCalendarManager", this::initBusinessCalendarManager);
+    bootstrap.step("initCommandContextFactory", this::initCommandContextFactory);
+    bootstrap.step("initTransactionContextFactory", this::initTransactionContextFactory);
 
     // Database type needs to be detected before CommandExecutors are initialized
-    initDataSource();
-
-    initExceptionCodeProvider();
-    initCommandExecutors();
-    initServices();
-    initIdGenerator();
-    initFailedJobCommandFactory();
-    initDeployers();
-    initJobProvider();
-    initExternalTaskPriorityProvider();
-    initBatchHandlers();
-    initJobExecutor();
-    initTransactionFactory();
-    initSqlSessionFactory();
-    initIdentityProviderSessionFactory();
-    initSessionFactories();
-    initValueTypeResolver();
-    initTypeValidator();
-    initSerialization();
-    initDelegateInterceptor();
-    initEventHandlers();
-    initProcessApplicationManager();
-    initCorrelationHandler();
-    initConditionHandler();
-    initIncidentHandlers();
-    initPasswordDigest();
-    initDeploymentRegistration();
-    initDeploymentHandlerFactory();
-    initResourceAuthorizationProvider();
-    initPermissionProvider();
-    initHostName();
-    initMetrics();
-    initDiagnostics();
-    initMigration();
-    initCommandCheckers();
-    initDefaultUserPermissionForTask();
-    initHistoryRemovalTime();
-    initHistoryCleanup();
-    initInvocationsPerBatchJobByBatchType();
-    initAdminUser();
-    initAdminGroups();
-    initPasswordPolicy();
-    initOperationLog();
-    invokePostInit();
+    if (!bootstrap.isParallel()) {
+      bootstrap.step("initDataSource", this::initDataSource);
+    }
+
+    bootstrap.step("initExceptionCodeProvider", this::initExceptionCodeProvider);
+    bootstrap.step("initCommandExecutors", this::initCommandExecutors, "initDataSource");
+    bootstrap.step("initServices", this::initServices);
+    bootstrap.step("initIdGenerator", this::initIdGenerator);
+    bootstrap.step("initFailedJobCommandFactory", this::initFailedJobCommandFactory);
+    bootstrap.step("initDeployers", this::initDeployers, "initDmnEngine");
+    bootstrap.step("initJobProvider", this::initJobProvider);
+    bootstrap.step("initExternalTaskPriorityProvider", this::initExternalTaskPriorityProvider);
+    bootstrap.step("initBatchHandlers", this::initBatchHandlers);
+    bootstrap.step("initJobExecutor", this::initJobExecutor);
+    if (!bootstrap.isParallel()) {
+      bootstrap.step("initTransactionFactory", this::initTransactionFactory);
+      bootstrap.step("initSqlSessionFactory", this::initSqlSessionFactory);
+    }
+    bootstrap.step("initIdentityProviderSessionFactory", this::initIdentityProviderSessionFactory);
+    bootstrap.step("initSessionFactories", this::initSessionFactories, "initSqlSessionFactory");
+    bootstrap.step("initValueTypeResolver", this::initValueTypeResolver);
+    bootstrap.step("initTypeValidator", this::initTypeValidator);
+    bootstrap.step("initSerialization", this::initSerialization);
+    bootstrap.step("initDelegateInterceptor", this::initDelegateInterceptor);
+    bootstrap.step("initEventHandlers", this::initEventHandlers);
+    bootstrap.step("initProcessApplicationManager", this::initProcessApplicationManager);
+    bootstrap.step("initCorrelationHandler", this::initCorrelationHandler);
+    bootstrap.step("initConditionHandler", this::initConditionHandler);
+    bootstrap.step("initIncidentHandlers", this::initIncidentHandlers);
+    bootstrap.step("initPasswordDigest", this::initPasswordDigest);
+    bootstrap.step("initDeploymentRegistration", this::initDeploymentRegistration);
+    bootstrap.step("initDeploymentHandlerFactory", this::initDeploymentHandlerFactory);
+    bootstrap.step("initResourceAuthorizationProvider", this::initResourceAuthorizationProvider);
+    bootstrap.step("initPermissionProvider", this::initPermissionProvider);
+    bootstrap.step("initAuthorizationCache", this::initAuthorizationCache);
+    bootstrap.step("initHostName", this::initHostName);
+    bootstrap.step("initMetrics", this::initMetrics);
+    bootstrap.step("initDiagnostics", this::initDiagnostics);
+    bootstrap.step("initMigration", this::initMigration);
+    bootstrap.step("initCommandCheckers", this::initCommandCheckers);
+    bootstrap.step("initDefaultUserPermissionForTask", this::initDefaultUserPermissionForTask);
+    bootstrap.step("initHistoryRemovalTime", this::initHistoryRemovalTime);
+    bootstrap.step("initHistoryCleanup", this::initHistoryCleanup);
+    bootstrap.step("initInvocationsPerBatchJobByBatchType", this::initInvocationsPerBatchJobByBatchType);
+    bootstrap.step("initAdminUser", this::initAdminUser);
+    bootstrap.step("initAdminGroups", this::initAdminGroups);
+    bootstrap.step("initPasswordPolicy", this::initPasswordPolicy);
+    bootstrap.step("initOperationLog", this::initOperationLog);
+    bootstrap.awaitAll();
+    bootstrap.step("invokePostInit", this::invokePostInit);
   }
 
   public void initExceptionCodeProvider() {
@@ -1178,6 +1382,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         "value for number of threads for history cleanup should be between 1 and %s".formatted(HistoryCleanupCmd.MAX_THREADS_NUMBER));
     }
 
+    if (historyCleanupPartitions < 0 || historyCleanupPartitions > HistoryCleanupCmd.MAX_PARTITIONS_NUMBER) {
+      throw LOG.invalidPropertyValue("historyCleanupPartitions", String.valueOf(historyCleanupPartitions),
+        "value for number of history cleanup partitions should be between 0 and %s".formatted(HistoryCleanupCmd.MAX_PARTITIONS_NUMBER));
+    }
+
+    if (historyCleanupPartitions > 0 && !HISTORY_CLEANUP_STRATEGY_REMOVAL_TIME_BASED.equals(historyCleanupStrategy)) {
+      throw LOG.invalidPropertyValue("historyCleanupPartitions", String.valueOf(historyCleanupPartitions),
+        "history cleanup partitions can only be used in conjunction with '%s' history cleanup strategy".formatted(HISTORY_CLEANUP_STRATEGY_REMOVAL_TIME_BASED));
+    }
+
     if (historyCleanupBatchWindowStartTime != null) {
       initHistoryCleanupBatchWindowStartTime();
     }
@@ -1883,6 +2097,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   }
 
   protected InputStream getMyBatisXmlConfigurationSteam() {
+    if (myBatisMappingSnapshotEnabled) {
+      InputStream snapshot = MyBatisMappingSnapshot.getMappingFile(DEFAULT_MYBATIS_MAPPING_FILE, databaseType);
+      if (snapshot != null) {
+        return snapshot;
+      }
+    }
     return ReflectUtil.getResourceAsStream(DEFAULT_MYBATIS_MAPPING_FILE);
   }
 
@@ -1965,6 +2185,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       }
 
     }
+    if (asyncDbHistoryEventHandler != null) {
+      addSessionFactory(new GenericManagerFactory(AsyncDbHistoryEventHandler.TransactionHistoryEvents.class));
+    }
     if (customSessionFactories != null) {
       for (SessionFactory sessionFactory : customSessionFactories) {
         addSessionFactory(sessionFactory);
@@ -1983,6 +2206,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     dbSqlSessionFactory.setCmmnEnabled(cmmnEnabled);
     dbSqlSessionFactory.setDmnEnabled(dmnEnabled);
     dbSqlSessionFactory.setDatabaseTablePrefix(databaseTablePrefix);
+    dbSqlSessionFactory.setJdbcBatchMultiRowInserts(jdbcBatchMultiRowInserts);
+    dbSqlSessionFactory.setJdbcBatchMultiRowInsertSize(jdbcBatchMultiRowInsertSize);
 
     //hack for the case when schema is defined via databaseTablePrefix parameter and not via databaseSchema parameter
     if (databaseTablePrefix != null && databaseSchema == null && databaseTablePrefix.contains(".")) {
@@ -2399,7 +2624,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         idGeneratorCommandExecutor = commandExecutorTxRequiresNew;
       }
 
-      DbIdGenerator dbIdGenerator = new DbIdGenerator();
+      DbIdGenerator dbIdGenerator;
+      if (idGeneratorPrefetchEnabled) {
+        PrefetchingDbIdGenerator prefetchingDbIdGenerator = new PrefetchingDbIdGenerator();
+        prefetchingDbIdGenerator.setThreadLocalBlockSize(idGeneratorThreadLocalBlockSize);
+        dbIdGenerator = prefetchingDbIdGenerator;
+      } else {
+        dbIdGenerator = new DbIdGenerator();
+      }
       dbIdGenerator.setIdBlockSize(idBlockSize);
       dbIdGenerator.setCommandExecutor(idGeneratorCommandExecutor);
       idGenerator = dbIdGenerator;
@@ -2476,6 +2708,26 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     metricsRegistry.createMeter(Metrics.EXECUTED_DECISION_INSTANCES);
     metricsRegistry.createMeter(Metrics.EXECUTED_DECISION_ELEMENTS);
+
+    if (isLatencyMetricsEnabled) {
+      metricsRegistry.createLatencyHistogram(Metrics.COMMAND_EXECUTION_LATENCY);
+      metricsRegistry.createLatencyHistogram(Metrics.DB_FLUSH_LATENCY);
+      metricsRegistry.createLatencyHistogram(Metrics.JOB_EXECUTION_LATENCY);
+    }
+
+    if (scriptEnginePoolSize > 0) {
+      metricsRegistry.createDbMeter(Metrics.SCRIPT_ENGINE_POOL_HIT);
+      metricsRegistry.createDbMeter(Metrics.SCRIPT_ENGINE_POOL_MISS);
+    }
+
+    if (asyncDbHistoryEventHandler != null) {
+      metricsRegistry.createDbMeter(Metrics.HISTORY_EVENTS_RETRIED);
+      metricsRegistry.createDbMeter(Metrics.HISTORY_EVENTS_DROPPED);
+
+      if (isLatencyMetricsEnabled) {
+        metricsRegistry.createLatencyHistogram(Metrics.HISTORY_EVENT_WRITE_LAG);
+      }
+    }
   }
 
   protected void initSerialization() {
@@ -2569,7 +2821,28 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       resolverFactories.add(new BeansResolverFactory());
     }
     if (scriptEngineResolver == null) {
-      scriptEngineResolver = new DefaultScriptEngineResolver(new OperatonScriptEngineManager());
+      if (lazyBootstrapEnabled) {
+        // discover the engines with the class loader of the bootstrap, not of the first caller
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        scriptEngineResolver = new DefaultScriptEngineResolver(() -> new OperatonScriptEngineManager(classLoader));
+      } else {
+        scriptEngineResolver = new DefaultScriptEngineResolver(new OperatonScriptEngineManager());
+      }
+    }
+    if (scriptEnginePoolSize < 0) {
+      throw LOG.invalidPropertyValue("scriptEnginePoolSize", String.valueOf(scriptEnginePoolSize),
+          "the script engine pool size must not be negative");
+    }
+    if (compiledScriptStoreCapacity < 0) {
+      throw LOG.invalidPropertyValue("compiledScriptStoreCapacity", String.valueOf(compiledScriptStoreCapacity),
+          "the capacity of the compiled script store must not be negative");
+    }
+    if (compiledScriptStore == null && compiledScriptStoreCapacity > 0) {
+      compiledScriptStore = new InMemoryCompiledScriptStore(compiledScriptStoreCapacity);
+    }
+    if (scriptEnginePoolSize > 0 && scriptEngineResolver instanceof DefaultScriptEngineResolver defaultResolver
+        && defaultResolver.getScriptEnginePool() == null) {
+      defaultResolver.setScriptEnginePool(new ScriptEnginePool(scriptEnginePoolSize));
     }
     if (scriptingEngines == null) {
       scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(resolverFactories), scriptEngineResolver);
@@ -2620,6 +2893,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       expressionManager = new JuelExpressionManager(beans);
     }
 
+    if (expressionCompileThreshold < 0) {
+      throw LOG.invalidPropertyValue("expressionCompileThreshold", String.valueOf(expressionCompileThreshold),
+          "must not be negative");
+    }
+    if (expressionCompileThreshold > 0 && expressionManager instanceof JuelExpressionManager juelExpressionManager) {
+      juelExpressionManager.setCompileThreshold(expressionCompileThreshold);
+    }
 
     expressionManager.addFunction(CommandContextFunctions.CURRENT_USER,
         ReflectUtil.getMethod(CommandContextFunctions.class, CommandContextFunctions.CURRENT_USER));
@@ -2745,7 +3025,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected void initHistoryEventHandler() {
     if (historyEventHandler == null) {
-      if (enableDefaultDbHistoryEventHandler) {
+      if (enableDefaultDbHistoryEventHandler && enableAsyncDbHistoryEventHandler) {
+        if (isRemovalTimeAddedOnEnd()) {
+          throw LOG.asyncDbHistoryEventHandlerNotSupported();
+        }
+        if (asyncDbHistoryEventHandler == null) {
+          asyncDbHistoryEventHandler = new AsyncDbHistoryEventHandler();
+        }
+        CompositeHistoryEventHandler compositeHistoryEventHandler = new CompositeHistoryEventHandler(customHistoryEventHandlers);
+        compositeHistoryEventHandler.add(asyncDbHistoryEventHandler);
+        historyEventHandler = compositeHistoryEventHandler;
+      } else if (enableDefaultDbHistoryEventHandler) {
         historyEventHandler = new CompositeDbHistoryEventHandler(customHistoryEventHandlers);
       } else {
         historyEventHandler = new CompositeHistoryEventHandler(customHistoryEventHandlers);
@@ -2753,6 +3043,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
   }
 
+  /**
+   * With the removal time strategy 'end', the removal time is added to the history of a process
+   * instance in bulk when it ends. The asynchronous history event handler cannot support this,
+   * since the history may not be written at that time.
+   */
+  protected boolean isRemovalTimeAddedOnEnd() {
+    return (historyRemovalTimeStrategy == null || HISTORY_REMOVAL_TIME_STRATEGY_END.equals(historyRemovalTimeStrategy))
+        && (historyCleanupStrategy == null || HISTORY_CLEANUP_STRATEGY_REMOVAL_TIME_BASED.equals(historyCleanupStrategy));
+  }
+
   // password digest //////////////////////////////////////////////////////////
 
   protected void initPasswordDigest() {
@@ -2806,6 +3106,30 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
   }
 
+  protected void initAuthorizationCache() {
+    String mode = authorizationCacheMode != null ? authorizationCacheMode.toLowerCase() : AUTHORIZATION_CACHE_MODE_DISABLED;
+    if (!AUTHORIZATION_CACHE_MODE_DISABLED.equals(mode)
+        && !AUTHORIZATION_CACHE_MODE_LOCAL.equals(mode)
+        && !AUTHORIZATION_CACHE_MODE_CLUSTER.equals(mode)) {
+      throw LOG.invalidPropertyValue("authorizationCacheMode", authorizationCacheMode,
+          "authorization cache mode must be set to '%s', '%s' or '%s'".formatted(AUTHORIZATION_CACHE_MODE_DISABLED,
+              AUTHORIZATION_CACHE_MODE_LOCAL, AUTHORIZATION_CACHE_MODE_CLUSTER));
+    }
+    if (authorizationCacheCapacity < 1) {
+      throw LOG.invalidPropertyValue("authorizationCacheCapacity", String.valueOf(authorizationCacheCapacity),
+          "the capacity of the authorization cache must be greater than 0");
+    }
+    if (authorizationCacheVersionCheckInterval < 0) {
+      throw LOG.invalidPropertyValue("authorizationCacheVersionCheckInterval", String.valueOf(authorizationCacheVersionCheckInterval),
+          "the version check interval must not be negative");
+    }
+
+    if (!AUTHORIZATION_CACHE_MODE_DISABLED.equals(mode)) {
+      authorizationCache = new AuthorizationCache(authorizationCacheCapacity,
+          AUTHORIZATION_CACHE_MODE_CLUSTER.equals(mode), authorizationCacheVersionCheckInterval);
+    }
+  }
+
   protected void initPermissionProvider() {
     if (permissionProvider == null) {
       permissionProvider = new DefaultPermissionProvider();
@@ -3225,6 +3549,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public int getExpressionCompileThreshold() {
+    return expressionCompileThreshold;
+  }
+
+  public ProcessEngineConfigurationImpl setExpressionCompileThreshold(int expressionCompileThreshold) {
+    this.expressionCompileThreshold = expressionCompileThreshold;
+    return this;
+  }
+
   public ElProvider getDmnElProvider() {
     return dmnElProvider;
   }
@@ -3357,6 +3690,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isJdbcBatchMultiRowInserts() {
+    return jdbcBatchMultiRowInserts;
+  }
+
+  public ProcessEngineConfigurationImpl setJdbcBatchMultiRowInserts(boolean jdbcBatchMultiRowInserts) {
+    this.jdbcBatchMultiRowInserts = jdbcBatchMultiRowInserts;
+    return this;
+  }
+
+  public int getJdbcBatchMultiRowInsertSize() {
+    return jdbcBatchMultiRowInsertSize;
+  }
+
+  public ProcessEngineConfigurationImpl setJdbcBatchMultiRowInsertSize(int jdbcBatchMultiRowInsertSize) {
+    this.jdbcBatchMultiRowInsertSize = jdbcBatchMultiRowInsertSize;
+    return this;
+  }
+
   public TransactionFactory getTransactionFactory() {
     return transactionFactory;
   }
@@ -3799,6 +4150,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.idGeneratorDataSourceJndiName = idGeneratorDataSourceJndiName;
   }
 
+  public boolean isIdGeneratorPrefetchEnabled() {
+    return idGeneratorPrefetchEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setIdGeneratorPrefetchEnabled(boolean idGeneratorPrefetchEnabled) {
+    this.idGeneratorPrefetchEnabled = idGeneratorPrefetchEnabled;
+    return this;
+  }
+
+  public int getIdGeneratorThreadLocalBlockSize() {
+    return idGeneratorThreadLocalBlockSize;
+  }
+
+  public ProcessEngineConfigurationImpl setIdGeneratorThreadLocalBlockSize(int idGeneratorThreadLocalBlockSize) {
+    this.idGeneratorThreadLocalBlockSize = idGeneratorThreadLocalBlockSize;
+    return this;
+  }
+
   public ProcessApplicationManager getProcessApplicationManager() {
     return processApplicationManager;
   }
@@ -3848,6 +4217,27 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.enableDefaultDbHistoryEventHandler = enableDefaultDbHistoryEventHandler;
   }
 
+  public boolean isEnableAsyncDbHistoryEventHandler() {
+    return enableAsyncDbHistoryEventHandler;
+  }
+
+  public ProcessEngineConfigurationImpl setEnableAsyncDbHistoryEventHandler(boolean enableAsyncDbHistoryEventHandler) {
+    this.enableAsyncDbHistoryEventHandler = enableAsyncDbHistoryEventHandler;
+    return this;
+  }
+
+  /**
+   * @return the asynchronous history event handler if it is enabled, otherwise <code>null</code>
+   */
+  public AsyncDbHistoryEventHandler getAsyncDbHistoryEventHandler() {
+    return asyncDbHistoryEventHandler;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncDbHistoryEventHandler(AsyncDbHistoryEventHandler asyncDbHistoryEventHandler) {
+    this.asyncDbHistoryEventHandler = asyncDbHistoryEventHandler;
+    return this;
+  }
+
   public List<HistoryEventHandler> getCustomHistoryEventHandlers() {
     return customHistoryEventHandlers;
   }
@@ -3902,6 +4292,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.customBatchJobHandlers = customBatchJobHandlers;
   }
 
+  public boolean isCompactBatchConfigurationEnabled() {
+    return compactBatchConfigurationEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setCompactBatchConfigurationEnabled(boolean compactBatchConfigurationEnabled) {
+    this.compactBatchConfigurationEnabled = compactBatchConfigurationEnabled;
+    return this;
+  }
+
+  public boolean isQueryBackedBatchSeedingEnabled() {
+    return queryBackedBatchSeedingEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setQueryBackedBatchSeedingEnabled(boolean queryBackedBatchSeedingEnabled) {
+    this.queryBackedBatchSeedingEnabled = queryBackedBatchSeedingEnabled;
+    return this;
+  }
+
   public int getBatchJobsPerSeed() {
     return batchJobsPerSeed;
   }
@@ -4093,6 +4501,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.isExecutionTreePrefetchEnabled = isExecutionTreePrefetchingEnabled;
   }
 
+  public boolean isVariablePrefetchEnabled() {
+    return isVariablePrefetchEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setVariablePrefetchEnabled(boolean isVariablePrefetchEnabled) {
+    this.isVariablePrefetchEnabled = isVariablePrefetchEnabled;
+    return this;
+  }
+
   public ProcessEngineImpl getProcessEngine() {
     return processEngine;
   }
@@ -4423,6 +4840,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isLatencyMetricsEnabled() {
+    return isLatencyMetricsEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setLatencyMetricsEnabled(boolean isLatencyMetricsEnabled) {
+    this.isLatencyMetricsEnabled = isLatencyMetricsEnabled;
+    return this;
+  }
+
+  /**
+   * @return the metrics registry if latency metrics are recorded, <code>null</code> otherwise
+   */
+  public MetricsRegistry getLatencyMetricsRegistry() {
+    return isMetricsEnabled && isLatencyMetricsEnabled ? metricsRegistry : null;
+  }
+
   public boolean isEnableScriptEngineCaching() {
     return enableScriptEngineCaching;
   }
@@ -4432,6 +4865,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public int getScriptEnginePoolSize() {
+    return scriptEnginePoolSize;
+  }
+
+  public ProcessEngineConfigurationImpl setScriptEnginePoolSize(int scriptEnginePoolSize) {
+    this.scriptEnginePoolSize = scriptEnginePoolSize;
+    return this;
+  }
+
+  public CompiledScriptStore getCompiledScriptStore() {
+    return compiledScriptStore;
+  }
+
+  public ProcessEngineConfigurationImpl setCompiledScriptStore(CompiledScriptStore compiledScriptStore) {
+    this.compiledScriptStore = compiledScriptStore;
+    return this;
+  }
+
+  public int getCompiledScriptStoreCapacity() {
+    return compiledScriptStoreCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setCompiledScriptStoreCapacity(int compiledScriptStoreCapacity) {
+    this.compiledScriptStoreCapacity = compiledScriptStoreCapacity;
+    return this;
+  }
+
+  public boolean isEnableScriptWarmUp() {
+    return enableScriptWarmUp;
+  }
+
+  public ProcessEngineConfigurationImpl setEnableScriptWarmUp(boolean enableScriptWarmUp) {
+    this.enableScriptWarmUp = enableScriptWarmUp;
+    return this;
+  }
+
   public boolean isEnableFetchScriptEngineFromProcessApplication() {
     return enableFetchScriptEngineFromProcessApplication;
   }
@@ -4689,6 +5158,85 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return isUseSharedSqlSessionFactory;
   }
 
+  public boolean isParallelBootstrapEnabled() {
+    return parallelBootstrapEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setParallelBootstrapEnabled(boolean parallelBootstrapEnabled) {
+    this.parallelBootstrapEnabled = parallelBootstrapEnabled;
+    return this;
+  }
+
+  public int getParallelBootstrapThreads() {
+    return parallelBootstrapThreads;
+  }
+
+  public ProcessEngineConfigurationImpl setParallelBootstrapThreads(int parallelBootstrapThreads) {
+    this.parallelBootstrapThreads = parallelBootstrapThreads;
+    return this;
+  }
+
+  public boolean isLazyBootstrapEnabled() {
+    return lazyBootstrapEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setLazyBootstrapEnabled(boolean lazyBootstrapEnabled) {
+    this.lazyBootstrapEnabled = lazyBootstrapEnabled;
+    return this;
+  }
+
+  /**
+   * @return the timings of the initialization steps of the last bootstrap, or <code>null</code> if
+   * the configuration was not initialized yet
+   */
+  public StartupReport getStartupReport() {
+    return startupReport;
+  }
+
+  public String getAuthorizationCacheMode() {
+    return authorizationCacheMode;
+  }
+
+  public ProcessEngineConfigurationImpl setAuthorizationCacheMode(String authorizationCacheMode) {
+    this.authorizationCacheMode = authorizationCacheMode;
+    return this;
+  }
+
+  public int getAuthorizationCacheCapacity() {
+    return authorizationCacheCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setAuthorizationCacheCapacity(int authorizationCacheCapacity) {
+    this.authorizationCacheCapacity = authorizationCacheCapacity;
+    return this;
+  }
+
+  public long getAuthorizationCacheVersionCheckInterval() {
+    return authorizationCacheVersionCheckInterval;
+  }
+
+  public ProcessEngineConfigurationImpl setAuthorizationCacheVersionCheckInterval(long authorizationCacheVersionCheckInterval) {
+    this.authorizationCacheVersionCheckInterval = authorizationCacheVersionCheckInterval;
+    return this;
+  }
+
+  /**
+   * @return the authorization cache or <code>null</code> if the {@link #authorizationCacheMode} is
+   * {@value #AUTHORIZATION_CACHE_MODE_DISABLED}
+   */
+  public AuthorizationCache getAuthorizationCache() {
+    return authorizationCache;
+  }
+
+  public boolean isMyBatisMappingSnapshotEnabled() {
+    return myBatisMappingSnapshotEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setMyBatisMappingSnapshotEnabled(boolean myBatisMappingSnapshotEnabled) {
+    this.myBatisMappingSnapshotEnabled = myBatisMappingSnapshotEnabled;
+    return this;
+  }
+
   public boolean getDisableStrictCallActivityValidation() {
     return disableStrictCallActivityValidation;
   }
@@ -4928,6 +5476,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.historyCleanupDegreeOfParallelism = historyCleanupDegreeOfParallelism;
   }
 
+  public int getHistoryCleanupPartitions() {
+    return historyCleanupPartitions;
+  }
+
+  public ProcessEngineConfigurationImpl setHistoryCleanupPartitions(int historyCleanupPartitions) {
+    this.historyCleanupPartitions = historyCleanupPartitions;
+    return this;
+  }
+
   public void setBatchOperationHistoryTimeToLive(String batchOperationHistoryTimeToLive) {
     this.batchOperationHistoryTimeToLive = batchOperationHistoryTimeToLive;
   }
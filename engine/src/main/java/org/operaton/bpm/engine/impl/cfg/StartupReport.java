@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.cfg;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timings of the steps that were executed while building a process engine, see
+ * {@link ProcessEngineConfigurationImpl#getStartupReport()}.
+ */
+public class StartupReport {
+
+  protected final List<Step> steps = Collections.synchronizedList(new ArrayList<>());
+  protected final long startTime = System.nanoTime();
+  protected volatile long endTime;
+
+  /**
+   * Executes the step on the calling thread and records its timing.
+   */
+  public void run(String name, Runnable step) {
+    long start = System.nanoTime();
+    step.run();
+    addStep(name, start, System.nanoTime() - start, Thread.currentThread().getName());
+  }
+
+  public void addStep(String name, long startNanos, long durationNanos, String threadName) {
+    steps.add(new Step(name, startNanos - startTime, durationNanos, threadName));
+  }
+
+  public void complete() {
+    endTime = System.nanoTime();
+  }
+
+  /**
+   * @return the executed steps in the order in which they were started
+   */
+  public List<Step> getSteps() {
+    synchronized (steps) {
+      List<Step> result = new ArrayList<>(steps);
+      result.sort((first, second) -> Long.compare(first.getStartOffsetNanos(), second.getStartOffsetNanos()));
+      return result;
+    }
+  }
+
+  /**
+   * @return the step with the given name or <code>null</code> if it was not executed
+   */
+  public Step getStep(String name) {
+    synchronized (steps) {
+      for (Step step : steps) {
+        if (step.getName().equals(name)) {
+          return step;
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * @return the wall clock time from the start of the bootstrap until it was completed, or
+   * until now if it is still running
+   */
+  public long getTotalDurationMillis() {
+    long end = endTime != 0 ? endTime : System.nanoTime();
+    return TimeUnit.NANOSECONDS.toMillis(end - startTime);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder()
+        .append("Process engine bootstrap took ").append(getTotalDurationMillis()).append(" ms");
+    for (Step step : getSteps()) {
+      report.append(System.lineSeparator())
+          .append(String.format("  %-40s %6d ms  (started at %5d ms on %s)",
+              step.getName(), step.getDurationMillis(), step.getStartOffsetMillis(), step.getThreadName()));
+    }
+    return report.toString();
+  }
+
+  public static class Step {
+
+    protected final String name;
+    protected final long startOffsetNanos;
+    protected final long durationNanos;
+    protected final String threadName;
+
+    public Step(String name, long startOffsetNanos, long durationNanos, String threadName) {
+      this.name = name;
+      this.startOffsetNanos = startOffsetNanos;
+      this.durationNanos = durationNanos;
+      this.threadName = threadName;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public long getStartOffsetNanos() {
+      return startOffsetNanos;
+    }
+
+    public long getStartOffsetMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(startOffsetNanos);
+    }
+
+    public long getDurationNanos() {
+      return durationNanos;
+    }
+
+    public long getDurationMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    }
+
+    public String getThreadName() {
+      return threadName;
+    }
+
+  }
+
+}
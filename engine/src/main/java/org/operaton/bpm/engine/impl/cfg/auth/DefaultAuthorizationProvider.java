@@ -34,7 +34,6 @@ import org.operaton.bpm.engine.identity.User;
 import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.context.Context;
 import org.operaton.bpm.engine.impl.db.entitymanager.DbEntityManager;
-import org.operaton.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
 import org.operaton.bpm.engine.impl.history.event.HistoryEvent;
 import org.operaton.bpm.engine.impl.identity.Authentication;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
@@ -383,8 +382,8 @@ public class DefaultAuthorizationProvider implements ResourceAuthorizationProvid
 
   protected HistoryEvent findHistoricProcessInstance(String rootProcessInstanceId) {
     return Context.getCommandContext()
-        .getDbEntityManager()
-        .selectById(HistoricProcessInstanceEventEntity.class, rootProcessInstanceId);
+        .getHistoricProcessInstanceManager()
+        .findHistoricProcessInstanceEventIncludingPending(rootProcessInstanceId);
   }
 
   protected Permission[] getHistoricPermissions(boolean enforceSpecificVariablePermission) {
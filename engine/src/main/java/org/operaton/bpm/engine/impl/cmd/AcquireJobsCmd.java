@@ -62,9 +62,7 @@ public class AcquireJobsCmd implements Command<AcquiredJobs>, OptimisticLockingL
 
     acquiredJobs = new AcquiredJobs(numJobsToAcquire);
 
-    List<AcquirableJobEntity> jobs = commandContext
-      .getJobManager()
-      .findNextJobsToExecute(new Page(0, numJobsToAcquire));
+    List<AcquirableJobEntity> jobs = findNextJobsToExecute(commandContext);
 
     Map<String, List<String>> exclusiveJobsByProcessInstance = new HashMap<>();
 
@@ -98,6 +96,12 @@ public class AcquireJobsCmd implements Command<AcquiredJobs>, OptimisticLockingL
     return acquiredJobs;
   }
 
+  protected List<AcquirableJobEntity> findNextJobsToExecute(CommandContext commandContext) {
+    return commandContext
+      .getJobManager()
+      .findNextJobsToExecute(new Page(0, numJobsToAcquire));
+  }
+
   protected void lockJob(AcquirableJobEntity job) {
     String lockOwner = jobExecutor.getLockOwner();
     job.setLockOwner(lockOwner);
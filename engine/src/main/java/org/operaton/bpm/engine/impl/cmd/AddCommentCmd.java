@@ -138,8 +138,8 @@ public class AddCommentCmd implements Command<Comment>, Serializable {
 
   protected HistoricProcessInstanceEventEntity getHistoricRootProcessInstance(String rootProcessInstanceId) {
     return Context.getCommandContext()
-      .getDbEntityManager()
-      .selectById(HistoricProcessInstanceEventEntity.class, rootProcessInstanceId);
+      .getHistoricProcessInstanceManager()
+      .findHistoricProcessInstanceEventIncludingPending(rootProcessInstanceId);
   }
 
   protected void provideRemovalTime(CommentEntity comment) {
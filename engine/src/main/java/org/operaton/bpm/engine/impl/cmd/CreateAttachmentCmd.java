@@ -138,8 +138,8 @@ public class CreateAttachmentCmd implements Command<Attachment> {
   }
 
   protected HistoricProcessInstanceEventEntity getHistoricRootProcessInstance(String rootProcessInstanceId) {
-    return Context.getCommandContext().getDbEntityManager()
-      .selectById(HistoricProcessInstanceEventEntity.class, rootProcessInstanceId);
+    return Context.getCommandContext().getHistoricProcessInstanceManager()
+      .findHistoricProcessInstanceEventIncludingPending(rootProcessInstanceId);
   }
 
   protected void provideRemovalTime(AttachmentEntity attachment) {
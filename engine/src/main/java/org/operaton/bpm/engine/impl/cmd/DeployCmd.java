@@ -38,15 +38,18 @@ import org.operaton.bpm.engine.history.UserOperationLogEntry;
 import org.operaton.bpm.engine.impl.ProcessEngineLogger;
 import org.operaton.bpm.engine.impl.bpmn.deployer.BpmnDeployer;
 import org.operaton.bpm.engine.impl.cfg.CommandChecker;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.cfg.TransactionLogger;
 import org.operaton.bpm.engine.impl.cfg.TransactionState;
 import org.operaton.bpm.engine.impl.cmmn.deployer.CmmnDeployer;
+import org.operaton.bpm.engine.impl.context.Context;
 import org.operaton.bpm.engine.impl.interceptor.Command;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.persistence.deploy.DeploymentFailListener;
 import org.operaton.bpm.engine.impl.persistence.entity.DeploymentEntity;
 import org.operaton.bpm.engine.impl.persistence.entity.DeploymentManager;
 import org.operaton.bpm.engine.impl.persistence.entity.ProcessApplicationDeploymentImpl;
+import org.operaton.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.operaton.bpm.engine.impl.persistence.entity.ProcessDefinitionManager;
 import org.operaton.bpm.engine.impl.persistence.entity.PropertyChange;
 import org.operaton.bpm.engine.impl.persistence.entity.ResourceEntity;
@@ -55,6 +58,7 @@ import org.operaton.bpm.engine.impl.persistence.entity.UserOperationLogManager;
 import org.operaton.bpm.engine.impl.repository.CandidateDeploymentImpl;
 import org.operaton.bpm.engine.impl.repository.DeploymentBuilderImpl;
 import org.operaton.bpm.engine.impl.repository.ProcessApplicationDeploymentBuilderImpl;
+import org.operaton.bpm.engine.impl.scripting.ScriptWarmUp;
 import org.operaton.bpm.engine.impl.util.ClockUtil;
 import org.operaton.bpm.engine.impl.util.StringUtil;
 import org.operaton.bpm.engine.repository.CandidateDeployment;
@@ -181,11 +185,39 @@ public class DeployCmd implements Command<DeploymentWithDefinitions>, Serializab
       return deploymentToRegister;
     });
 
+    warmUpScripts(commandContext, deployment);
+
     createUserOperationLog(deploymentBuilder, deployment, commandContext);
 
     return deployment;
   }
 
+  /**
+   * Compiles the scripts of the newly deployed process definitions if script warm-up is enabled.
+   * Scripts of process application deployments are compiled with the script engines of the
+   * process application.
+   */
+  protected void warmUpScripts(CommandContext commandContext, DeploymentWithDefinitions deployment) {
+    ProcessEngineConfigurationImpl configuration = commandContext.getProcessEngineConfiguration();
+    List<ProcessDefinition> processDefinitions = deployment.getDeployedProcessDefinitions();
+    if (!configuration.isEnableScriptWarmUp() || processDefinitions == null || processDefinitions.isEmpty()) {
+      return;
+    }
+
+    ScriptWarmUp scriptWarmUp = new ScriptWarmUp(configuration);
+    Runnable warmUp = () -> processDefinitions
+        .forEach(processDefinition -> scriptWarmUp.warmUp((ProcessDefinitionEntity) processDefinition));
+
+    if (deploymentBuilder instanceof ProcessApplicationDeploymentBuilderImpl appDeploymentBuilder) {
+      Context.executeWithinProcessApplication(() -> {
+        warmUp.run();
+        return null;
+      }, appDeploymentBuilder.getProcessApplicationReference());
+    } else {
+      warmUp.run();
+    }
+  }
+
   protected void acquireExclusiveLock(CommandContext commandContext) {
     if (commandContext.getProcessEngineConfiguration().isDeploymentLockUsed()) {
       // Acquire global exclusive lock: this ensures that there can be only one
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.operaton.bpm.engine.impl.cfg.CommandChecker;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.metrics.MetricsRegistry;
+import org.operaton.bpm.engine.management.LatencyStatistics;
+
+public class GetIntervalLatencyStatisticsCmd implements Command<List<LatencyStatistics>> {
+
+  @Override
+  public List<LatencyStatistics> execute(CommandContext commandContext) {
+    commandContext.getAuthorizationManager().checkOperatonAdminOrPermission(CommandChecker::checkReadDiagnosticsData);
+
+    ProcessEngineConfigurationImpl configuration = commandContext.getProcessEngineConfiguration();
+    MetricsRegistry metricsRegistry = configuration.getLatencyMetricsRegistry();
+    if (metricsRegistry == null) {
+      return new ArrayList<>();
+    }
+
+    return new ArrayList<>(metricsRegistry.getIntervalLatencyStatistics().values());
+  }
+
+}
@@ -51,6 +51,8 @@ public class HistoryCleanupCmd implements Command<Job> {
 
   public static final int MAX_THREADS_NUMBER = 8;
 
+  public static final int MAX_PARTITIONS_NUMBER = 3600;
+
   private final boolean immediatelyDue;
 
   public HistoryCleanupCmd(boolean immediatelyDue) {
@@ -77,15 +79,24 @@ public class HistoryCleanupCmd implements Command<Job> {
     //find job instance
     List<Job> historyCleanupJobs = getHistoryCleanupJobs();
 
-    int degreeOfParallelism = processEngineConfiguration.getHistoryCleanupDegreeOfParallelism();
-    int[][] minuteChunks = HistoryCleanupHelper.listMinuteChunks(degreeOfParallelism);
+    int partitions = processEngineConfiguration.getHistoryCleanupPartitions();
+    int degreeOfParallelism;
+    int[][] chunks;
+    if (partitions > 0) {
+      // every job owns a range of seconds of the hour instead of a range of minutes
+      degreeOfParallelism = partitions;
+      chunks = HistoryCleanupHelper.listSecondChunks(partitions);
+    } else {
+      degreeOfParallelism = processEngineConfiguration.getHistoryCleanupDegreeOfParallelism();
+      chunks = HistoryCleanupHelper.listMinuteChunks(degreeOfParallelism);
+    }
 
     if (shouldCreateJobs(historyCleanupJobs)) {
-      historyCleanupJobs = createJobs(minuteChunks);
+      historyCleanupJobs = createJobs(chunks);
 
     }
     else if (shouldReconfigureJobs(historyCleanupJobs)) {
-      historyCleanupJobs = reconfigureJobs(historyCleanupJobs, degreeOfParallelism, minuteChunks);
+      historyCleanupJobs = reconfigureJobs(historyCleanupJobs, degreeOfParallelism, chunks);
 
     }
     else if (shouldSuspendJobs(historyCleanupJobs)) {
@@ -201,12 +212,27 @@ public class HistoryCleanupCmd implements Command<Job> {
   }
 
   protected HistoryCleanupContext createCleanupContext(int[] minuteChunk, int maxRetries) {
+    if (Context.getProcessEngineConfiguration().getHistoryCleanupPartitions() > 0) {
+      return createPartitionedCleanupContext(minuteChunk, maxRetries);
+    }
+
     int minuteFrom = minuteChunk[0];
     int minuteTo = minuteChunk[1];
 
     return new HistoryCleanupContext(immediatelyDue, minuteFrom, minuteTo, maxRetries);
   }
 
+  protected HistoryCleanupContext createPartitionedCleanupContext(int[] secondChunk, int maxRetries) {
+    int secondFrom = secondChunk[0];
+    int secondTo = secondChunk[1];
+
+    // keep the covering minutes so the job configuration stays readable for non-partitioned cleanup
+    HistoryCleanupContext context = new HistoryCleanupContext(immediatelyDue, secondFrom / 60, (secondTo - 1) / 60, maxRetries);
+    context.setSecondFrom(secondFrom);
+    context.setSecondTo(secondTo);
+    return context;
+  }
+
   protected void writeUserOperationLog(CommandContext commandContext) {
     PropertyChange propertyChange = new PropertyChange("immediatelyDue", null, immediatelyDue);
     commandContext.getOperationLogManager()
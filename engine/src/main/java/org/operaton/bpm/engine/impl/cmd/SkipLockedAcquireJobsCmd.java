@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.cmd;
+
+import java.util.List;
+
+import org.operaton.bpm.engine.impl.Page;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.operaton.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+
+/**
+ * Acquires jobs with <code>SELECT ... FOR UPDATE SKIP LOCKED</code>. The selected jobs stay locked
+ * in the database until the acquisition commits, and jobs locked by a concurrent acquisition are
+ * skipped, so job executors on different nodes acquire disjoint sets of jobs instead of failing
+ * with optimistic locking exceptions.
+ *
+ * <p>Falls back to the regular acquisition query on databases without <code>SKIP LOCKED</code>
+ * support (e.g. H2, DB2, MS SQL Server).</p>
+ */
+public class SkipLockedAcquireJobsCmd extends AcquireJobsCmd {
+
+  public SkipLockedAcquireJobsCmd(JobExecutor jobExecutor) {
+    super(jobExecutor);
+  }
+
+  public SkipLockedAcquireJobsCmd(JobExecutor jobExecutor, int numJobsToAcquire) {
+    super(jobExecutor, numJobsToAcquire);
+  }
+
+  @Override
+  protected List<AcquirableJobEntity> findNextJobsToExecute(CommandContext commandContext) {
+    return commandContext
+      .getJobManager()
+      .findNextJobsToExecute(new Page(0, numJobsToAcquire), true);
+  }
+
+}
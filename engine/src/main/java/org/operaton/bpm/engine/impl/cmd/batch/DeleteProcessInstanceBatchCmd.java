@@ -29,15 +29,19 @@ import org.operaton.bpm.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.operaton.bpm.engine.impl.ProcessInstanceQueryImpl;
 import org.operaton.bpm.engine.impl.batch.BatchConfiguration;
 import org.operaton.bpm.engine.impl.batch.BatchElementConfiguration;
+import org.operaton.bpm.engine.impl.batch.BatchElementCursor;
+import org.operaton.bpm.engine.impl.batch.ProcessInstanceQueryBatchElementCursor;
 import org.operaton.bpm.engine.impl.batch.builder.BatchBuilder;
 import org.operaton.bpm.engine.impl.batch.deletion.DeleteProcessInstanceBatchConfiguration;
 import org.operaton.bpm.engine.impl.interceptor.Command;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.json.JsonProcessInstanceQueryConverter;
 import org.operaton.bpm.engine.impl.persistence.entity.PropertyChange;
 import org.operaton.bpm.engine.runtime.ProcessInstanceQuery;
 import org.operaton.commons.utils.CollectionUtil;
 
 import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotEmpty;
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensurePositive;
 
 /**
  * @author Askar Akhmerov
@@ -72,6 +76,13 @@ public class DeleteProcessInstanceBatchCmd implements Command<Batch> {
 
   @Override
   public Batch execute(CommandContext commandContext) {
+    if (isQueryBacked(commandContext)) {
+      Batch batch = createQueryBackedBatch(commandContext);
+      if (batch != null) {
+        return batch;
+      }
+    }
+
     BatchElementConfiguration elementConfiguration = collectProcessInstanceIds(commandContext);
 
     ensureNotEmpty(BadUserRequestException.class, "processInstanceIds", elementConfiguration.getIds());
@@ -84,6 +95,48 @@ public class DeleteProcessInstanceBatchCmd implements Command<Batch> {
         .build();
   }
 
+  protected boolean isQueryBacked(CommandContext commandContext) {
+    return commandContext.getProcessEngineConfiguration().isQueryBackedBatchSeedingEnabled()
+        && CollectionUtil.isEmpty(processInstanceIds)
+        && historicProcessInstanceQuery == null
+        && processInstanceQuery != null;
+  }
+
+  /**
+   * Creates a batch that stores the process instance query and pages the ids
+   * with every seed job run instead of collecting all of them up front.
+   *
+   * @return the batch or <code>null</code> if the query cannot be stored
+   */
+  protected Batch createQueryBackedBatch(CommandContext commandContext) {
+    ProcessInstanceQueryImpl instanceQuery = (ProcessInstanceQueryImpl) this.processInstanceQuery;
+
+    if (!JsonProcessInstanceQueryConverter.INSTANCE.isSupported(instanceQuery)) {
+      // e.g. a variable value of the query cannot be stored as json
+      return null;
+    }
+
+    long instanceCount = instanceQuery.count();
+    ensurePositive(BadUserRequestException.class, "processInstanceIds", instanceCount);
+
+    // the authorization and tenant checks of the creating command are applied to every page
+    BatchElementCursor elementCursor = new ProcessInstanceQueryBatchElementCursor(instanceQuery,
+        commandContext.getAuthentication(),
+        commandContext.isAuthorizationCheckEnabled(),
+        commandContext.isTenantCheckEnabled());
+
+    BatchConfiguration configuration = getConfiguration(new BatchElementConfiguration());
+    configuration.setElementCursor(elementCursor);
+
+    return new BatchBuilder(commandContext)
+        .type(Batch.TYPE_PROCESS_INSTANCE_DELETION)
+        .config(configuration)
+        .instanceCount((int) Math.min(instanceCount, Integer.MAX_VALUE))
+        .permission(BatchPermissions.CREATE_BATCH_DELETE_RUNNING_PROCESS_INSTANCES)
+        .operationLogHandler(this::writeUserOperationLog)
+        .build();
+  }
+
   protected BatchElementConfiguration collectProcessInstanceIds(CommandContext commandContext) {
     BatchElementConfiguration elementConfiguration = new BatchElementConfiguration();
 
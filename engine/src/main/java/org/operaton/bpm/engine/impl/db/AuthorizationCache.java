@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.db;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.operaton.commons.utils.cache.Cache;
+import org.operaton.commons.utils.cache.ConcurrentBufferedLruCache;
+
+/**
+ * <p>Engine wide cache for the outcome of authorization checks and for the
+ * lookups the engine performs before every authorization check (the group ids
+ * for which authorizations exist and whether revoke authorizations exist for a
+ * user).</p>
+ *
+ * <p>All entries belong to a generation. Every committed change to an
+ * {@link org.operaton.bpm.engine.impl.persistence.entity.AuthorizationEntity}
+ * starts a new generation, which makes all existing entries stale. Callers must
+ * read the generation with {@link #getGeneration()} <em>before</em> they query the
+ * database and pass it to {@link #put(Object, Object, long)}, so that a result
+ * computed from data that was changed in the meantime is never cached.</p>
+ *
+ * <p>In cluster mode, the engines share a version token stored in the property
+ * table. Each engine compares its last known token with the database at most
+ * once per version check interval and drops its entries when the token changed.</p>
+ */
+public class AuthorizationCache {
+
+  /** Name of the property which holds the authorization version in cluster mode. */
+  public static final String VERSION_PROPERTY_NAME = "authorization.version";
+
+  protected static final Object AUTHORIZED_GROUP_IDS_KEY = new Object();
+
+  protected final Cache<Object, Entry> entries;
+  protected final AtomicLong generation = new AtomicLong();
+  protected final boolean clusterMode;
+  protected final long versionCheckIntervalNanos;
+
+  protected volatile String version;
+  protected volatile long nextVersionCheck;
+
+  public AuthorizationCache(int capacity, boolean clusterMode, long versionCheckIntervalMillis) {
+    this.entries = new ConcurrentBufferedLruCache<>(capacity);
+    this.clusterMode = clusterMode;
+    this.versionCheckIntervalNanos = TimeUnit.MILLISECONDS.toNanos(versionCheckIntervalMillis);
+    this.nextVersionCheck = System.nanoTime();
+  }
+
+  public long getGeneration() {
+    return generation.get();
+  }
+
+  /**
+   * @return the cached value or <code>null</code> if no value of the current
+   * generation is cached for the key
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key) {
+    Entry entry = entries.get(key);
+    if (entry != null && entry.generation() == generation.get()) {
+      return (T) entry.value();
+    }
+    return null;
+  }
+
+  /**
+   * Caches the value unless authorizations changed since <code>generation</code>
+   * was read.
+   */
+  public void put(Object key, Object value, long generation) {
+    if (generation == this.generation.get()) {
+      entries.put(key, new Entry(value, generation));
+    }
+  }
+
+  /**
+   * Drops all entries. Called after a transaction which modified
+   * authorizations has committed.
+   */
+  public void invalidate() {
+    generation.incrementAndGet();
+    entries.clear();
+  }
+
+  public boolean isClusterMode() {
+    return clusterMode;
+  }
+
+  /**
+   * @return true if the engine should read the authorization version from the
+   * database and pass it to {@link #checkVersion(String)}
+   */
+  public boolean isVersionCheckDue() {
+    return clusterMode && System.nanoTime() - nextVersionCheck >= 0;
+  }
+
+  /**
+   * Invalidates the cache if the given version read from the database differs
+   * from the last known one.
+   */
+  public void checkVersion(String currentVersion) {
+    nextVersionCheck = System.nanoTime() + versionCheckIntervalNanos;
+    String knownVersion = version;
+    if (knownVersion == null || !knownVersion.equals(currentVersion)) {
+      version = currentVersion;
+      invalidate();
+    }
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public static String newVersion() {
+    return UUID.randomUUID().toString();
+  }
+
+  // keys //////////////////////////////////////////////////////////
+
+  public static Object authorizedGroupIdsKey() {
+    return AUTHORIZED_GROUP_IDS_KEY;
+  }
+
+  public static Object revokeAuthorizationKey(String userId, Collection<String> groupIds) {
+    return new RevokeKey(userId, sorted(groupIds));
+  }
+
+  /**
+   * @return the key for the outcome of the given check or <code>null</code> if
+   * the check cannot be cached because it depends on a query parameter
+   */
+  public static Object decisionKey(AuthorizationCheck authCheck) {
+    CheckKey checkKey = checkKey(authCheck.getPermissionChecks());
+    if (checkKey == null) {
+      return null;
+    }
+    return new DecisionKey(authCheck.getAuthUserId(), sorted(authCheck.getAuthGroupIds()),
+        authCheck.isRevokeAuthorizationCheckEnabled(), checkKey);
+  }
+
+  protected static CheckKey checkKey(CompositePermissionCheck compositeCheck) {
+    if (compositeCheck == null) {
+      return null;
+    }
+
+    List<AtomicCheckKey> atomicChecks = new ArrayList<>();
+    for (PermissionCheck check : compositeCheck.getAtomicChecks()) {
+      if (check.getResourceIdQueryParam() != null) {
+        return null;
+      }
+      atomicChecks.add(new AtomicCheckKey(check.getResourceType(), check.getResourceId(), check.getPerms(),
+          check.getAuthorizationNotFoundReturnValue()));
+    }
+
+    List<CheckKey> compositeChecks = new ArrayList<>();
+    for (CompositePermissionCheck subCheck : compositeCheck.getCompositeChecks()) {
+      CheckKey subKey = checkKey(subCheck);
+      if (subKey == null) {
+        return null;
+      }
+      compositeChecks.add(subKey);
+    }
+
+    return new CheckKey(compositeCheck.isDisjunctive(), atomicChecks, compositeChecks);
+  }
+
+  protected static List<String> sorted(Collection<String> groupIds) {
+    if (groupIds == null) {
+      return List.of();
+    }
+    return groupIds.stream().sorted().toList();
+  }
+
+  protected record Entry(Object value, long generation) {
+  }
+
+  protected record RevokeKey(String userId, List<String> groupIds) {
+  }
+
+  protected record DecisionKey(String userId, List<String> groupIds, boolean revokeCheck, CheckKey check) {
+  }
+
+  protected record CheckKey(boolean disjunctive, List<AtomicCheckKey> atomicChecks, List<CheckKey> compositeChecks) {
+  }
+
+  protected record AtomicCheckKey(int resourceType, String resourceId, int perms, Long notFoundReturnValue) {
+  }
+}
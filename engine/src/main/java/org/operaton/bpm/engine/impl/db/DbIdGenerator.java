@@ -33,7 +33,8 @@ public class DbIdGenerator implements IdGenerator {
   protected CommandExecutor commandExecutor;
 
   public DbIdGenerator() {
-    reset();
+    nextId = 0;
+    lastId = -1;
   }
 
   @Override
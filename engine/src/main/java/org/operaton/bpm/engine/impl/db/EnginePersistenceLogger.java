@@ -810,6 +810,134 @@ public class EnginePersistenceLogger extends ProcessEngineLogger {
 
   // exception code 110 is already taken. See requiredOperatonAdminOrPermissionException() for details.
 
+  public void prefetchIdBlockFailed(Throwable cause) {
+    logWarn(
+      "111",
+      "Prefetching the next id block failed, fetching it synchronously instead: {}",
+      cause.getMessage(),
+      cause
+    );
+  }
+
+  public void retryWritingHistoryEvents(int eventCount, int attempt, Throwable cause) {
+    logWarn(
+      "112",
+      "Writing {} buffered history events failed in attempt {}, retrying: {}",
+      eventCount,
+      attempt,
+      cause.getMessage(),
+      cause
+    );
+  }
+
+  public void historyEventDropped(Object historyEvent, String reason) {
+    logError(
+      "113",
+      "Dropped history event {}: {}",
+      historyEvent,
+      reason
+    );
+  }
+
+  public void replayHistoryEvents(int eventCount, Object file) {
+    logInfo(
+      "114",
+      "Replaying {} history events from the history event log {}",
+      eventCount,
+      file
+    );
+  }
+
+  public void historyEventsRemainingOnShutdown(int eventCount, Object file) {
+    logWarn(
+      "115",
+      "Stopped the history event writer with {} events remaining. They are replayed from the history event log {} on the next start.",
+      eventCount,
+      file
+    );
+  }
+
+  public ProcessEngineException historyEventNotLogged(Object historyEvent, Throwable cause) {
+    return new ProcessEngineException(exceptionMessage(
+      "116",
+      "Cannot append history event {} to the history event log: {}",
+      historyEvent,
+      cause.getMessage()
+    ), cause);
+  }
+
+  public void usingMappingSnapshot(String mappingFile) {
+    logDebug(
+      "117",
+      "Building the SqlSessionFactory from the mapping snapshot {}",
+      mappingFile
+    );
+  }
+
+  public void mappingSnapshotNotFound(String mappingFile) {
+    logDebug(
+      "118",
+      "There is no mapping snapshot {}, building the SqlSessionFactory from the original mappings",
+      mappingFile
+    );
+  }
+
+  public void mappingSnapshotOutdated(String mappingFile) {
+    logInfo(
+      "119",
+      "The mapping snapshot {} was generated from different mappings, building the SqlSessionFactory from the original mappings",
+      mappingFile
+    );
+  }
+
+  public ProcessEngineException mappingResourceNotFound(String resource) {
+    return new ProcessEngineException(exceptionMessage(
+      "120",
+      "Mapping resource {} not found",
+      resource
+    ));
+  }
+
+  public void historyEventsNotLogged(int eventCount, Throwable cause) {
+    logWarn(
+      "121",
+      "Cannot append {} history events to the history event log, they are only buffered in memory: {}",
+      eventCount,
+      cause.getMessage(),
+      cause
+    );
+  }
+
+  public void historyEventsNotAborted(Object logPosition, Throwable cause) {
+    logWarn(
+      "122",
+      "Cannot mark the history events at position {} of the history event log as aborted. "
+          + "They are replayed on the next start: {}",
+      logPosition,
+      cause.getMessage(),
+      cause
+    );
+  }
+
+  public void replayedHistoryEventSkipped(Object historyEvent) {
+    logDebug(
+      "123",
+      "Skipped replayed history event {}, it was written before the last shutdown",
+      historyEvent
+    );
+  }
+
+  public void historyEventRecordSkipped(Object logPosition, Object file, Throwable cause) {
+    logError(
+      "124",
+      "Skipped the history events at position {} of the history event log {}, they cannot be read: {}",
+      logPosition,
+      file,
+      cause.getMessage(),
+      cause
+    );
+  }
+
   public static List<SQLException> findRelatedSqlExceptions(Throwable exception) {
     List<SQLException> sqlExceptionList = new ArrayList<>();
     Throwable cause = exception;
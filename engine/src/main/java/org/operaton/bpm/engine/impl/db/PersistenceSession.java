@@ -58,6 +58,13 @@ public interface PersistenceSession extends Session {
 
   List<?> selectList(String statement, Object parameter);
 
+  /**
+   * Like {@link #selectList(String, Object)} but reads at most <code>maxRows</code> rows
+   * from the result set. Used for statements that must not restrict the result in SQL
+   * (e.g. <code>FOR UPDATE SKIP LOCKED</code> on Oracle).
+   */
+  List<?> selectList(String statement, Object parameter, int maxRows);
+
   <T extends DbEntity> T selectById(Class<T> type, String id);
 
   Object selectOne(String statement, Object parameter);
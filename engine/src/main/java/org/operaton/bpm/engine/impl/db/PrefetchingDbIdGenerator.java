@@ -0,0 +1,251 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.cmd.GetNextIdBlockCmd;
+
+/**
+ * <p>A {@link DbIdGenerator} that does not block engine threads on the database
+ * while ids are available.</p>
+ *
+ * <p>Ids are handed out from the current block by an atomic counter. Once the number of
+ * remaining ids in the current block drops below the {@link #setPrefetchThreshold(int) prefetch threshold},
+ * the next block is fetched asynchronously by a background thread, so that it is usually
+ * available when the current block is exhausted. Only if the prefetched block has not arrived
+ * yet, threads wait for it.</p>
+ *
+ * <p>Optionally, every thread can reserve a sub-block of {@link #setThreadLocalBlockSize(int) threadLocalBlockSize}
+ * ids at once, which removes the contention on the shared counter entirely. Note that ids are then
+ * no longer handed out in ascending order across threads.</p>
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  protected static final String PREFETCH_THREAD_NAME = "operaton-id-block-prefetch";
+  protected static final long PREFETCH_SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+  protected int prefetchThreshold;
+  protected int threadLocalBlockSize;
+
+  protected volatile IdRange currentRange;
+  protected volatile int generation;
+  // guarded by this
+  protected CompletableFuture<IdBlock> prefetchedBlock;
+  protected ExecutorService prefetchExecutor;
+  protected volatile boolean closed;
+
+  protected final ThreadLocal<LocalIdRange> localRange = ThreadLocal.withInitial(LocalIdRange::new);
+
+  public PrefetchingDbIdGenerator() {
+    currentRange = new IdRange(nextId, lastId);
+  }
+
+  @Override
+  public String getNextId() {
+    if (threadLocalBlockSize > 1) {
+      return Long.toString(nextLocalId());
+    } else {
+      return Long.toString(nextSharedId());
+    }
+  }
+
+  protected long nextSharedId() {
+    while (true) {
+      IdRange range = currentRange;
+      long id = range.next.getAndIncrement();
+      if (id <= range.lastId) {
+        checkPrefetch(range, id);
+        return id;
+      }
+      switchToNextBlock(range);
+    }
+  }
+
+  protected long nextLocalId() {
+    LocalIdRange local = localRange.get();
+    if (local.generation != generation || local.nextId > local.lastId) {
+      reserveLocalRange(local);
+    }
+    return local.nextId++;
+  }
+
+  protected void reserveLocalRange(LocalIdRange local) {
+    while (true) {
+      int currentGeneration = generation;
+      IdRange range = currentRange;
+      long firstId = range.next.getAndAdd(threadLocalBlockSize);
+      if (firstId <= range.lastId) {
+        local.nextId = firstId;
+        local.lastId = Math.min(firstId + threadLocalBlockSize - 1, range.lastId);
+        local.generation = currentGeneration;
+        checkPrefetch(range, local.lastId);
+        return;
+      }
+      switchToNextBlock(range);
+    }
+  }
+
+  protected void checkPrefetch(IdRange range, long id) {
+    if (range.lastId - id < getEffectivePrefetchThreshold()
+        && !range.prefetchTriggered.get()
+        && range.prefetchTriggered.compareAndSet(false, true)) {
+      prefetchNewBlock(range);
+    }
+  }
+
+  protected synchronized void prefetchNewBlock(IdRange range) {
+    if (!closed && currentRange == range && prefetchedBlock == null) {
+      prefetchedBlock = CompletableFuture.supplyAsync(this::fetchNewBlock, getPrefetchExecutor());
+    }
+  }
+
+  protected synchronized void switchToNextBlock(IdRange exhaustedRange) {
+    if (currentRange != exhaustedRange) {
+      // another thread already switched to a new block
+      return;
+    }
+
+    IdBlock idBlock = null;
+    CompletableFuture<IdBlock> prefetched = prefetchedBlock;
+    prefetchedBlock = null;
+    if (prefetched != null) {
+      try {
+        idBlock = prefetched.join();
+      } catch (CompletionException e) {
+        LOG.prefetchIdBlockFailed(e.getCause());
+      }
+    }
+    if (idBlock == null) {
+      idBlock = fetchNewBlock();
+    }
+
+    currentRange = new IdRange(idBlock.getNextId(), idBlock.getLastId());
+  }
+
+  @Override
+  protected synchronized void getNewBlock() {
+    switchToNextBlock(currentRange);
+  }
+
+  protected IdBlock fetchNewBlock() {
+    return commandExecutor.execute(new GetNextIdBlockCmd(idBlockSize));
+  }
+
+  protected synchronized ExecutorService getPrefetchExecutor() {
+    if (prefetchExecutor == null) {
+      // the single thread terminates when idle, so that no thread outlives the process engine
+      prefetchExecutor = new ThreadPoolExecutor(0, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+        Thread thread = new Thread(runnable, PREFETCH_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return prefetchExecutor;
+  }
+
+  /**
+   * Stops prefetching and shuts down the prefetch thread, waiting for a running prefetch to
+   * complete. Ids are still handed out afterwards; new blocks are then fetched synchronously.
+   */
+  public void close() {
+    ExecutorService executor;
+    synchronized (this) {
+      closed = true;
+      executor = prefetchExecutor;
+      prefetchExecutor = null;
+    }
+    if (executor != null) {
+      executor.shutdown();
+      try {
+        executor.awaitTermination(PREFETCH_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  protected int getEffectivePrefetchThreshold() {
+    return prefetchThreshold > 0 ? prefetchThreshold : Math.max(1, idBlockSize / 2);
+  }
+
+  public int getPrefetchThreshold() {
+    return prefetchThreshold;
+  }
+
+  /**
+   * @param prefetchThreshold the number of remaining ids in the current block at which the next
+   *   block is prefetched. Defaults to half of the id block size if not set.
+   */
+  public void setPrefetchThreshold(int prefetchThreshold) {
+    this.prefetchThreshold = prefetchThreshold;
+  }
+
+  public int getThreadLocalBlockSize() {
+    return threadLocalBlockSize;
+  }
+
+  /**
+   * @param threadLocalBlockSize the number of ids every thread reserves at once. Values
+   *   less or equal to one disable thread local sub-blocks.
+   */
+  public void setThreadLocalBlockSize(int threadLocalBlockSize) {
+    this.threadLocalBlockSize = threadLocalBlockSize;
+  }
+
+  /**
+   * Reset inner state so that the generator fetches a new block of IDs from the database
+   * when the next ID generation request is received. A block that is currently prefetched
+   * and all thread local sub-blocks are discarded.
+   */
+  @Override
+  public synchronized void reset() {
+    super.reset();
+    prefetchedBlock = null;
+    generation++;
+    currentRange = new IdRange(nextId, lastId);
+  }
+
+  protected static class IdRange {
+
+    protected final AtomicLong next;
+    protected final long lastId;
+    protected final AtomicBoolean prefetchTriggered = new AtomicBoolean();
+
+    protected IdRange(long nextId, long lastId) {
+      this.next = new AtomicLong(nextId);
+      this.lastId = lastId;
+    }
+  }
+
+  protected static class LocalIdRange {
+
+    protected long nextId = 0;
+    protected long lastId = -1;
+    protected int generation = -1;
+  }
+}
@@ -61,10 +61,15 @@ import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperationManage
 import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperationType;
 import org.operaton.bpm.engine.impl.identity.db.DbGroupQueryImpl;
 import org.operaton.bpm.engine.impl.identity.db.DbUserQueryImpl;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.interceptor.Session;
 import org.operaton.bpm.engine.impl.jobexecutor.JobExecutorContext;
+import org.operaton.bpm.engine.impl.metrics.MetricsRegistry;
+import org.operaton.bpm.engine.impl.persistence.entity.AuthorizationEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.AuthorizationManager;
 import org.operaton.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 import org.operaton.bpm.engine.impl.util.EnsureUtil;
+import org.operaton.bpm.engine.management.Metrics;
 import org.operaton.bpm.engine.repository.ResourceTypes;
 import org.operaton.commons.utils.CollectionUtil;
 
@@ -183,6 +188,19 @@ public class DbEntityManager implements Session, EntityLoadListener {
     return filterLoadedObjects(loadedObjects);
   }
 
+  /**
+   * Selects the list without relying on paging in the statement itself: at most
+   * <code>maxRows</code> rows are read from the result set.
+   */
+  @SuppressWarnings("unchecked")
+  public List selectListReadingAtMost(String statement, ListQueryParameterObject parameter, int maxRows) {
+    if(parameter.getFirstResult() == -1 || maxRows == -1) {
+      return Collections.emptyList();
+    }
+    List loadedObjects = persistenceSession.selectList(statement, parameter, maxRows);
+    return filterLoadedObjects(loadedObjects);
+  }
+
   public Object selectOne(String statement, Object parameter) {
     Object result = persistenceSession.selectOne(statement, parameter);
     if (result instanceof DbEntity loadedObject) {
@@ -287,18 +305,56 @@ public class DbEntityManager implements Session, EntityLoadListener {
 
   @Override
   public void flush() {
+    MetricsRegistry latencyMetricsRegistry = getLatencyMetricsRegistry();
+    long startTime = latencyMetricsRegistry != null ? System.nanoTime() : 0L;
 
-    // flush the entity cache which inserts operations to the db operation manager
-    flushEntityCache();
+    try {
+      // flush the entity cache which inserts operations to the db operation manager
+      flushEntityCache();
 
-    // flush the db operation manager
-    flushDbOperationManager();
+      // flush the db operation manager
+      flushDbOperationManager();
+    } finally {
+      // failed flushes are recorded as well, they are often the slowest ones
+      if (latencyMetricsRegistry != null) {
+        latencyMetricsRegistry.recordLatency(Metrics.DB_FLUSH_LATENCY, (System.nanoTime() - startTime) / 1000);
+      }
+    }
+  }
+
+  protected MetricsRegistry getLatencyMetricsRegistry() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    return processEngineConfiguration != null ? processEngineConfiguration.getLatencyMetricsRegistry() : null;
   }
 
   public void setIgnoreForeignKeysForNextFlush(boolean ignoreForeignKeysForNextFlush) {
     isIgnoreForeignKeysForNextFlush = ignoreForeignKeysForNextFlush;
   }
 
+  /**
+   * Notifies the {@link AuthorizationManager} if the flush modifies authorizations, so that
+   * the authorization cache can be invalidated once the transaction commits. In cluster mode,
+   * the update of the shared authorization version is flushed together with the change.
+   */
+  protected void addAuthorizationChangeOperations(List<DbOperation> operationsToFlush) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    CommandContext commandContext = Context.getCommandContext();
+    if (processEngineConfiguration == null || processEngineConfiguration.getAuthorizationCache() == null
+        || commandContext == null) {
+      return;
+    }
+
+    for (DbOperation operation : operationsToFlush) {
+      if (operation.getEntityType() != null && AuthorizationEntity.class.isAssignableFrom(operation.getEntityType())) {
+        DbOperation versionUpdate = commandContext.getAuthorizationManager().authorizationsChanged();
+        if (versionUpdate != null) {
+          operationsToFlush.add(versionUpdate);
+        }
+        return;
+      }
+    }
+  }
+
   protected void flushDbOperationManager() {
 
     // obtain totally ordered operation list from operation manager
@@ -307,6 +363,8 @@ public class DbEntityManager implements Session, EntityLoadListener {
       return;
     }
 
+    addAuthorizationChangeOperations(operationsToFlush);
+
     LOG.databaseFlushSummary(operationsToFlush);
 
     // If we want to delete all table data as bulk operation, on tables which have self references,
@@ -16,8 +16,14 @@
  */
 package org.operaton.bpm.engine.impl.db.entitymanager.operation;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -71,14 +77,22 @@ public class DbOperationManager {
   /** bulk modifications (DELETE, UPDATE) for which order of execution is important */
   public Set<DbBulkOperation> bulkOperationsInsertionOrder = new LinkedHashSet<>();
 
+  /** DELETEs of a single entity, indexed by entity type and id */
+  protected Map<Class<?>, Map<String, DbEntityOperation>> deletesById = new HashMap<>();
+
   public boolean addOperation(DbEntityOperation newOperation) {
     if(newOperation.getOperationType() == INSERT) {
       return getInsertsForType(newOperation.getEntityType(), true)
           .add(newOperation);
 
     } else if(newOperation.getOperationType() == DELETE) {
-      return getDeletesByType(newOperation.getEntityType(), true)
+      boolean added = getDeletesByType(newOperation.getEntityType(), true)
           .add(newOperation);
+      if (added) {
+        deletesById.computeIfAbsent(newOperation.getEntityType(), type -> new HashMap<>())
+            .put(newOperation.getEntity().getId(), newOperation);
+      }
+      return added;
 
     } else { // UPDATE
       return getUpdatesByType(newOperation.getEntityType(), true)
@@ -195,60 +209,81 @@ public class DbOperationManager {
 
 
   /**
+   * Orders the operations such that an INSERT happens after the INSERTs of the entities
+   * it references, and an UPDATE or DELETE happens after the operations on the entities
+   * that reference it. Operations that do not depend on each other keep their pre-sorted order.
+   *
+   * The operations are indexed by entity id, so that the order is computed in linear time
+   * in the number of operations and references.
+   *
    * Assumptions:
    * a) all operations in the set work on entities such that the entities implement {@link HasDbReferences}.
    * b) all operations in the set work on the same type (ie. all operations are INSERTs or DELETEs).
    *
    */
   protected List<DbEntityOperation> sortByReferences(SortedSet<DbEntityOperation> preSorted) {
-    // copy the pre-sorted set and apply final sorting to list
     List<DbEntityOperation> opList = new ArrayList<>(preSorted);
+    if (opList.size() < 2) {
+      return opList;
+    }
 
-    for (int i = 0; i < opList.size(); i++) {
-
-      DbEntityOperation currentOperation = opList.get(i);
-      DbEntity currentEntity = currentOperation.getEntity();
-      Set<String> currentReferences = currentOperation.getFlushRelevantEntityReferences();
-
-      // check whether this operation must be placed after another operation
-      int moveTo = i;
-      for(int k = i+1; k < opList.size(); k++) {
-        DbEntityOperation otherOperation = opList.get(k);
-        DbEntity otherEntity = otherOperation.getEntity();
-        Set<String> otherReferences = otherOperation.getFlushRelevantEntityReferences();
-
-        if(currentOperation.getOperationType() == INSERT) {
-
+    Map<String, DbEntityOperation> operationsById = new HashMap<>();
+    for (DbEntityOperation operation : opList) {
+      operationsById.put(operation.getEntity().getId(), operation);
+    }
 
+    // the operations that must be flushed before an operation
+    Map<DbEntityOperation, List<DbEntityOperation>> predecessors = new IdentityHashMap<>();
+    for (DbEntityOperation operation : opList) {
+      Set<String> references = operation.getFlushRelevantEntityReferences();
+      if (references == null) {
+        continue;
+      }
+      for (String reference : references) {
+        DbEntityOperation referencedOperation = operationsById.get(reference);
+        if (referencedOperation == null || referencedOperation == operation) {
+          continue;
+        }
+        if (operation.getOperationType() == INSERT) {
           // if we reference the other entity, we need to be inserted after that entity
-          if(currentReferences != null && currentReferences.contains(otherEntity.getId())) {
-            moveTo = k;
-            break; // we can only reference a single entity
-          }
+          predecessors.computeIfAbsent(operation, op -> new ArrayList<>()).add(referencedOperation);
+        } else {
+          // UPDATE or DELETE: if the other entity has a reference to us, we must be placed after the other entity
+          predecessors.computeIfAbsent(referencedOperation, op -> new ArrayList<>()).add(operation);
+        }
+      }
+    }
 
-        } else { // UPDATE or DELETE
+    if (predecessors.isEmpty()) {
+      return opList;
+    }
 
-          // if the other entity has a reference to us, we must be placed after the other entity
-          if(otherReferences != null && otherReferences.contains(currentEntity.getId())) {
-            moveTo = k;
-            // cannot break, there may be another entity further to the right which also references us
+    // depth-first traversal that adds every operation after its predecessors
+    List<DbEntityOperation> sorted = new ArrayList<>(opList.size());
+    Set<DbEntityOperation> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<PendingOperation> stack = new ArrayDeque<>();
+    for (DbEntityOperation operation : opList) {
+      if (visited.add(operation)) {
+        stack.push(new PendingOperation(operation, predecessors));
+        while (!stack.isEmpty()) {
+          PendingOperation pending = stack.peek();
+          if (pending.predecessors.hasNext()) {
+            DbEntityOperation predecessor = pending.predecessors.next();
+            if (visited.add(predecessor)) {
+              stack.push(new PendingOperation(predecessor, predecessors));
+            }
+          } else {
+            stack.pop();
+            sorted.add(pending.operation);
           }
-
         }
       }
-
-      if(moveTo > i) {
-        opList.remove(i);
-        opList.add(moveTo, currentOperation);
-        i--;
-      }
     }
 
-    return opList;
+    return sorted;
   }
 
   protected void determineDependencies(List<DbOperation> flush) {
-    TreeSet<DbEntityOperation> defaultValue = new TreeSet<>();
     for (DbOperation operation : flush) {
       if (operation instanceof DbEntityOperation dbEntityOperation) {
         DbEntity entity = dbEntityOperation.getEntity();
@@ -256,15 +291,27 @@ public class DbOperationManager {
           Map<String, Class> dependentEntities = hasDbReferences.getDependentEntities();
 
           if (dependentEntities != null) {
-            dependentEntities.forEach((id, type) -> deletes.getOrDefault(type, defaultValue).forEach(o -> {
-              if (id.equals(o.getEntity().getId())) {
-                o.setDependency(operation);
+            dependentEntities.forEach((id, type) -> {
+              DbEntityOperation dependentOperation = deletesById.getOrDefault(type, Collections.emptyMap()).get(id);
+              if (dependentOperation != null) {
+                dependentOperation.setDependency(operation);
               }
-            }));
+            });
           }
 
         }
       }
     }
   }
+
+  protected static class PendingOperation {
+
+    protected final DbEntityOperation operation;
+    protected final Iterator<DbEntityOperation> predecessors;
+
+    protected PendingOperation(DbEntityOperation operation, Map<DbEntityOperation, List<DbEntityOperation>> predecessors) {
+      this.operation = operation;
+      this.predecessors = predecessors.getOrDefault(operation, Collections.emptyList()).iterator();
+    }
+  }
 }
@@ -20,6 +20,7 @@ import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -36,7 +37,6 @@ import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperationType;
 import org.operaton.bpm.engine.impl.util.EnsureUtil;
 import org.operaton.bpm.engine.impl.util.ExceptionUtil;
-import org.operaton.commons.utils.CollectionUtil;
 
 import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
@@ -55,9 +55,15 @@ public class BatchDbSqlSession extends DbSqlSession {
 
   @Override
   public FlushResult executeDbOperations(List<DbOperation> operations) {
-    for (DbOperation operation : operations) {
+    List<List<DbOperation>> statements = groupOperationsByStatement(operations);
+
+    for (List<DbOperation> statement : statements) {
       // stage operation
-      executeDbOperation(operation);
+      if (statement.size() == 1) {
+        executeDbOperation(statement.get(0));
+      } else {
+        insertEntities(statement);
+      }
     }
 
     List<BatchResult> batchResults;
@@ -65,14 +71,64 @@ public class BatchDbSqlSession extends DbSqlSession {
       // applies all operations
       batchResults = flushBatchOperations();
     } catch (PersistenceException e) {
-      return postProcessBatchFailure(operations, e);
+      return postProcessBatchFailure(operations, statements, e);
+    }
+
+    return postProcessBatchSuccess(operations, statements, batchResults);
+  }
+
+  /**
+   * Groups the operations by the statement that executes them. Without multi-row inserts,
+   * every operation is executed by its own statement. With multi-row inserts enabled, consecutive
+   * inserts of the same entity type are coalesced into a single statement, provided that a
+   * multi-row insert statement is mapped for the entity type.
+   */
+  protected List<List<DbOperation>> groupOperationsByStatement(List<DbOperation> operations) {
+    List<List<DbOperation>> statements = new ArrayList<>(operations.size());
+    boolean multiRowInserts = dbSqlSessionFactory.isJdbcBatchMultiRowInserts();
+    int multiRowInsertSize = dbSqlSessionFactory.getJdbcBatchMultiRowInsertSize();
+
+    List<DbOperation> multiRowInsert = null;
+    for (DbOperation operation : operations) {
+      if (multiRowInserts && isMultiRowInsertSupported(operation)) {
+        if (multiRowInsert != null
+            && multiRowInsert.size() < multiRowInsertSize
+            && multiRowInsert.get(0).getEntityType() == operation.getEntityType()) {
+          multiRowInsert.add(operation);
+          continue;
+        }
+        multiRowInsert = new ArrayList<>();
+        multiRowInsert.add(operation);
+        statements.add(multiRowInsert);
+      } else {
+        multiRowInsert = null;
+        statements.add(Collections.singletonList(operation));
+      }
+    }
+
+    return statements;
+  }
+
+  protected boolean isMultiRowInsertSupported(DbOperation operation) {
+    return operation.getOperationType() == DbOperationType.INSERT
+        && dbSqlSessionFactory.getMultiRowInsertStatement(operation.getEntityType()) != null;
+  }
+
+  protected void insertEntities(List<DbOperation> operations) {
+    String insertStatement = dbSqlSessionFactory.getMultiRowInsertStatement(operations.get(0).getEntityType());
+
+    List<DbEntity> entities = new ArrayList<>(operations.size());
+    for (DbOperation operation : operations) {
+      entities.add(((DbEntityOperation) operation).getEntity());
     }
 
-    return postProcessBatchSuccess(operations, batchResults);
+    executeInsertEntity(insertStatement, entities);
   }
 
-  protected FlushResult postProcessBatchSuccess(List<DbOperation> operations, List<BatchResult> batchResults) {
-    Iterator<DbOperation> operationsIt = operations.iterator();
+  protected FlushResult postProcessBatchSuccess(List<DbOperation> operations,
+                                                List<List<DbOperation>> statements,
+                                                List<BatchResult> batchResults) {
+    Iterator<List<DbOperation>> operationsIt = statements.iterator();
     List<DbOperation> failedOperations = new ArrayList<>();
     for (BatchResult successfulBatch : batchResults) {
       // even if all batches are successful, there can be concurrent modification failures
@@ -88,7 +144,9 @@ public class BatchDbSqlSession extends DbSqlSession {
     return FlushResult.withFailures(failedOperations);
   }
 
-  protected FlushResult postProcessBatchFailure(List<DbOperation> operations, PersistenceException exception) {
+  protected FlushResult postProcessBatchFailure(List<DbOperation> operations,
+                                                List<List<DbOperation>> statements,
+                                                PersistenceException exception) {
     BatchExecutorException batchExecutorException =
         ExceptionUtil.findBatchExecutorException(exception);
 
@@ -100,7 +158,7 @@ public class BatchDbSqlSession extends DbSqlSession {
     List<BatchResult> successfulBatches = batchExecutorException.getSuccessfulBatchResults();
     BatchUpdateException cause = batchExecutorException.getBatchUpdateException();
 
-    Iterator<DbOperation> operationsIt = operations.iterator();
+    Iterator<List<DbOperation>> operationsIt = statements.iterator();
     List<DbOperation> failedOperations = new ArrayList<>();
 
     for (BatchResult successfulBatch : successfulBatches) {
@@ -110,7 +168,8 @@ public class BatchDbSqlSession extends DbSqlSession {
     int[] failedBatchUpdateCounts = cause.getUpdateCounts();
     postProcessJdbcBatchResult(operationsIt, failedBatchUpdateCounts, exception, failedOperations);
 
-    List<DbOperation> remainingOperations = CollectionUtil.collectInList(operationsIt);
+    List<DbOperation> remainingOperations = new ArrayList<>();
+    operationsIt.forEachRemaining(remainingOperations::addAll);
     return FlushResult.withFailuresAndRemaining(failedOperations, remainingOperations);
   }
 
@@ -131,10 +190,14 @@ public class BatchDbSqlSession extends DbSqlSession {
    * <p>See {@link BatchUpdateException#getUpdateCounts()} for the specification
    * of cases 2 and 3.
    *
+   * <p>Each statement result belongs to one group of operations, see
+   * {@link #groupOperationsByStatement(List)}. A multi-row insert either inserts
+   * all of its rows or fails as a whole, so its result applies to all of its operations.
+   *
    * @return all failed operations
    */
   protected void postProcessJdbcBatchResult(
-      Iterator<DbOperation> operationsIt,
+      Iterator<List<DbOperation>> operationsIt,
       int[] statementResults,
       PersistenceException failure,
       List<DbOperation> failedOperations) {
@@ -144,38 +207,11 @@ public class BatchDbSqlSession extends DbSqlSession {
       EnsureUtil.ensureTrue("More batch results than scheduled operations detected. This indicates a bug",
           operationsIt.hasNext());
 
-      DbOperation operation = operationsIt.next();
-
-      if (statementResult == Statement.SUCCESS_NO_INFO) {
-
-        if (requiresAffectedRows(operation.getOperationType())) {
-          throw LOG.batchingNotSupported(operation);
-        } else {
-          postProcessOperationPerformed(operation, 1, null);
-        }
-
-      } else if (statementResult == Statement.EXECUTE_FAILED) {
-
-        /*
-         * All operations are marked with the root failure exception; this is not quite
-         * correct and leads to the situation that we treat all failed operations in the
-         * same way, whereas they might fail for different reasons.
-         *
-         * More precise would be to use BatchUpdateException#getNextException.
-         * E.g. if we have three failed statements in a batch, #getNextException can be used to
-         * access each operation's individual failure. However, this behavior is not
-         * guaranteed by the java.sql javadocs (it doesn't specify that the number
-         * and order of next exceptions matches the number of failures, unlike for row counts),
-         * so we decided to not rely on it.
-         */
-        postProcessOperationPerformed(operation, 0, failure);
-        failureHandled = true;
-      } else { // it is the number of affected rows
-        postProcessOperationPerformed(operation, statementResult, null);
-      }
+      List<DbOperation> statementOperations = operationsIt.next();
 
-      if (operation.isFailed()) {
-        failedOperations.add(operation); // the operation is added to the list only if it's marked as failed
+      for (DbOperation operation : statementOperations) {
+        int rowsAffected = statementOperations.size() == 1 ? statementResult : 1;
+        failureHandled |= postProcessStatementResult(operation, statementResult, rowsAffected, failure, failedOperations);
       }
     }
 
@@ -186,12 +222,58 @@ public class BatchDbSqlSession extends DbSqlSession {
       EnsureUtil.ensureTrue("More batch results than scheduled operations detected. This indicates a bug",
           operationsIt.hasNext());
 
-      DbOperation failedOperation = operationsIt.next();
-      postProcessOperationPerformed(failedOperation, 0, failure);
-      if (failedOperation.isFailed()) {
-        failedOperations.add(failedOperation); // the operation is added to the list only if it's marked as failed
+      for (DbOperation failedOperation : operationsIt.next()) {
+        postProcessOperationPerformed(failedOperation, 0, failure);
+        if (failedOperation.isFailed()) {
+          failedOperations.add(failedOperation); // the operation is added to the list only if it's marked as failed
+        }
+      }
+    }
+  }
+
+  /**
+   * @return true if the statement failed
+   */
+  protected boolean postProcessStatementResult(DbOperation operation,
+                                               int statementResult,
+                                               int rowsAffected,
+                                               PersistenceException failure,
+                                               List<DbOperation> failedOperations) {
+    boolean failed = false;
+
+    if (statementResult == Statement.SUCCESS_NO_INFO) {
+
+      if (requiresAffectedRows(operation.getOperationType())) {
+        throw LOG.batchingNotSupported(operation);
+      } else {
+        postProcessOperationPerformed(operation, 1, null);
       }
+
+    } else if (statementResult == Statement.EXECUTE_FAILED) {
+
+      /*
+       * All operations are marked with the root failure exception; this is not quite
+       * correct and leads to the situation that we treat all failed operations in the
+       * same way, whereas they might fail for different reasons.
+       *
+       * More precise would be to use BatchUpdateException#getNextException.
+       * E.g. if we have three failed statements in a batch, #getNextException can be used to
+       * access each operation's individual failure. However, this behavior is not
+       * guaranteed by the java.sql javadocs (it doesn't specify that the number
+       * and order of next exceptions matches the number of failures, unlike for row counts),
+       * so we decided to not rely on it.
+       */
+      postProcessOperationPerformed(operation, 0, failure);
+      failed = true;
+    } else { // it is the number of affected rows
+      postProcessOperationPerformed(operation, rowsAffected, null);
     }
+
+    if (operation.isFailed()) {
+      failedOperations.add(operation); // the operation is added to the list only if it's marked as failed
+    }
+
+    return failed;
   }
 
   protected boolean requiresAffectedRows(DbOperationType operationType) {
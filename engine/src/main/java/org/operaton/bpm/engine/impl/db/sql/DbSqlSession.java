@@ -37,6 +37,7 @@ import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 
@@ -116,10 +117,25 @@ public abstract class DbSqlSession extends AbstractPersistenceSession {
     return resultList;
   }
 
+  @Override
+  public List<?> selectList(String statement, Object parameter, int maxRows) {
+    statement = dbSqlSessionFactory.mapStatement(statement);
+    List<Object> resultList = executeSelectList(statement, parameter, maxRows);
+    for (Object object : resultList) {
+      fireEntityLoaded(object);
+    }
+    return resultList;
+  }
+
   public List<Object> executeSelectList(String statement, Object parameter) {
     return ExceptionUtil.doWithExceptionWrapper(() -> sqlSession.selectList(statement, parameter));
   }
 
+  public List<Object> executeSelectList(String statement, Object parameter, int maxRows) {
+    RowBounds rowBounds = new RowBounds(0, maxRows);
+    return ExceptionUtil.doWithExceptionWrapper(() -> sqlSession.selectList(statement, parameter, rowBounds));
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public <T extends DbEntity> T selectById(Class<T> type, String id) {
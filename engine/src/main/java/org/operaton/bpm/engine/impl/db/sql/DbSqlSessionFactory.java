@@ -43,6 +43,10 @@ public class DbSqlSessionFactory implements SessionFactory {
   public static final String POSTGRES = "postgres";
   public static final String MARIADB = "mariadb";
   public static final String[] SUPPORTED_DATABASES = {MSSQL, DB2, ORACLE, H2, MYSQL, POSTGRES, MARIADB};
+  /** databases supporting <code>SELECT ... FOR UPDATE SKIP LOCKED</code> (mysql 8.0+, mariadb 10.6+) */
+  protected static final List<String> SKIP_LOCKED_DATABASES = List.of(ORACLE, MYSQL, POSTGRES, MARIADB);
+  // oracle does not allow 'for update' together with ROWNUM/FETCH FIRST in the same query
+  protected static final List<String> SKIP_LOCKED_WITH_LIMIT_DATABASES = List.of(MYSQL, POSTGRES, MARIADB);
 
   protected static final Map<String, Map<String, String>> databaseSpecificStatements = new HashMap<>();
 
@@ -127,6 +131,8 @@ public class DbSqlSessionFactory implements SessionFactory {
 
   private static final String CONSTANT_DATEPART_MINUTE = "constant.datepart.minute";
 
+  private static final String CONSTANT_DATEPART_SECOND = "constant.datepart.second";
+
   private static final String CONSTANT_NULL_START_TIME = "constant.null.startTime";
 
   private static final String CONSTANT_VARCHAR_CAST = "constant.varchar.cast";
@@ -208,6 +214,7 @@ public class DbSqlSessionFactory implements SessionFactory {
     constants.put(CONSTANT_DATEPART_QUARTER, "QUARTER");
     constants.put(CONSTANT_DATEPART_MONTH, "MONTH");
     constants.put(CONSTANT_DATEPART_MINUTE, "MINUTE");
+    constants.put(CONSTANT_DATEPART_SECOND, "SECOND");
     constants.put(CONSTANT_NULL_START_TIME, "null START_TIME_");
     constants.put(CONSTANT_VARCHAR_CAST, "'${key}'");
     constants.put(CONSTANT_INTEGER_CAST, "NULL");
@@ -356,6 +363,7 @@ public class DbSqlSessionFactory implements SessionFactory {
       constants.put(CONSTANT_DATEPART_QUARTER, "QUARTER");
       constants.put(CONSTANT_DATEPART_MONTH, "MONTH");
       constants.put(CONSTANT_DATEPART_MINUTE, "MINUTE");
+      constants.put(CONSTANT_DATEPART_SECOND, "SECOND");
       constants.put(CONSTANT_NULL_START_TIME, "null START_TIME_");
       constants.put(CONSTANT_VARCHAR_CAST, "'${key}'");
       constants.put(CONSTANT_INTEGER_CAST, "NULL");
@@ -506,6 +514,7 @@ public class DbSqlSessionFactory implements SessionFactory {
       constants.put(CONSTANT_DATEPART_QUARTER, "QUARTER");
       constants.put(CONSTANT_DATEPART_MONTH, "MONTH");
       constants.put(CONSTANT_DATEPART_MINUTE, "MINUTE");
+      constants.put(CONSTANT_DATEPART_SECOND, "SECOND");
       constants.put(CONSTANT_NULL_START_TIME, "null START_TIME_");
       constants.put(CONSTANT_VARCHAR_CAST, "cast('${key}' as varchar(64))");
       constants.put(CONSTANT_INTEGER_CAST, "cast(NULL as integer)");
@@ -575,6 +584,13 @@ public class DbSqlSessionFactory implements SessionFactory {
     addDatabaseSpecificStatement(ORACLE, "selectHistoricBatchIdsForCleanup", "selectHistoricBatchIdsForCleanup_oracle");
     addDatabaseSpecificStatement(ORACLE, "selectTaskMetricIdsForCleanup", "selectTaskMetricIdsForCleanup_oracle");
 
+    addDatabaseSpecificStatement(ORACLE, "selectNextJobsToExecuteSkipLocked", "selectNextJobsToExecuteSkipLocked_oracle");
+
+    addDatabaseSpecificStatement(ORACLE, "insertMultipleVariableInstance", "insertMultipleVariableInstance_oracle");
+    addDatabaseSpecificStatement(ORACLE, "insertMultipleHistoricActivityInstanceEvent", "insertMultipleHistoricActivityInstanceEvent_oracle");
+    addDatabaseSpecificStatement(ORACLE, "insertMultipleHistoricVariableInstance", "insertMultipleHistoricVariableInstance_oracle");
+    addDatabaseSpecificStatement(ORACLE, "insertMultipleHistoricVariableUpdateEvent", "insertMultipleHistoricVariableUpdateEvent_oracle");
+
     addDatabaseSpecificStatement(ORACLE, "deleteAttachmentsByRemovalTime", "deleteAttachmentsByRemovalTime_oracle");
     addDatabaseSpecificStatement(ORACLE, "deleteCommentsByRemovalTime", "deleteCommentsByRemovalTime_oracle");
     addDatabaseSpecificStatement(ORACLE, "deleteHistoricActivityInstancesByRemovalTime", "deleteHistoricActivityInstancesByRemovalTime_oracle");
@@ -594,6 +610,8 @@ public class DbSqlSessionFactory implements SessionFactory {
     addDatabaseSpecificStatement(ORACLE, "deleteHistoricBatchesByRemovalTime", "deleteHistoricBatchesByRemovalTime_oracle");
     addDatabaseSpecificStatement(ORACLE, "deleteAuthorizationsByRemovalTime", "deleteAuthorizationsByRemovalTime_oracle");
     addDatabaseSpecificStatement(ORACLE, "deleteTaskMetricsByRemovalTime", "deleteTaskMetricsByRemovalTime_oracle");
+    addDatabaseSpecificStatement(ORACLE, "selectHistoryCleanupPartitionIds", "selectHistoryCleanupPartitionIds_oracle");
+    addDatabaseSpecificStatement(ORACLE, "deleteHistoryCleanupPartitionChunk", "deleteHistoryCleanupPartitionChunk_oracle");
 
     constants = new HashMap<>();
     constants.put(CONSTANT_EVENT, "cast('event' as nvarchar2(255))");
@@ -602,6 +620,7 @@ public class DbSqlSessionFactory implements SessionFactory {
     constants.put(CONSTANT_DATEPART_QUARTER, "'Q'");
     constants.put(CONSTANT_DATEPART_MONTH, "'MM'");
     constants.put(CONSTANT_DATEPART_MINUTE, "'MI'");
+    constants.put(CONSTANT_DATEPART_SECOND, "'SS'");
     constants.put(CONSTANT_NULL_START_TIME, "null START_TIME_");
     constants.put(CONSTANT_VARCHAR_CAST, "'${key}'");
     constants.put(CONSTANT_INTEGER_CAST, "NULL");
@@ -699,6 +718,7 @@ public class DbSqlSessionFactory implements SessionFactory {
     constants.put(CONSTANT_DATEPART_QUARTER, "QUARTER");
     constants.put(CONSTANT_DATEPART_MONTH, "MONTH");
     constants.put(CONSTANT_DATEPART_MINUTE, "MINUTE");
+    constants.put(CONSTANT_DATEPART_SECOND, "SECOND");
     constants.put(CONSTANT_NULL_START_TIME, "CAST(NULL as timestamp) as START_TIME_");
     constants.put(CONSTANT_VARCHAR_CAST, "cast('${key}' as varchar(64))");
     constants.put(CONSTANT_INTEGER_CAST, "cast(NULL as integer)");
@@ -839,6 +859,7 @@ public class DbSqlSessionFactory implements SessionFactory {
     constants.put(CONSTANT_DATEPART_QUARTER, "QUARTER");
     constants.put(CONSTANT_DATEPART_MONTH, "MONTH");
     constants.put(CONSTANT_DATEPART_MINUTE, "MINUTE");
+    constants.put(CONSTANT_DATEPART_SECOND, "SECOND");
     constants.put(CONSTANT_NULL_START_TIME, "CAST(NULL AS datetime2) AS START_TIME_");
     constants.put(CONSTANT_VARCHAR_CAST, "'${key}'");
     constants.put(CONSTANT_INTEGER_CAST, "NULL");
@@ -869,6 +890,15 @@ public class DbSqlSessionFactory implements SessionFactory {
 
   protected boolean jdbcBatchProcessing;
 
+  /**
+   * If enabled, consecutive inserts of the same entity type are flushed as a single
+   * multi-row <code>INSERT</code> statement, provided that a <code>insertMultiple&lt;Entity&gt;</code>
+   * statement is mapped for the entity. Only has an effect with JDBC batch processing.
+   */
+  protected boolean jdbcBatchMultiRowInserts = false;
+  protected int jdbcBatchMultiRowInsertSize = 50;
+  protected Map<Class<?>,String> multiRowInsertStatements = new ConcurrentHashMap<>();
+
   public DbSqlSessionFactory(boolean jdbcBatchProcessing) {
     this.jdbcBatchProcessing = jdbcBatchProcessing;
   }
@@ -1065,6 +1095,23 @@ public class DbSqlSessionFactory implements SessionFactory {
     return getStatement(object.getClass(), insertStatements, "insert");
   }
 
+  /**
+   * @return the statement that inserts a list of entities of the given type with a single
+   * multi-row <code>INSERT</code>, or <code>null</code> if no such statement is mapped
+   */
+  public String getMultiRowInsertStatement(Class<?> persistentObjectClass) {
+    String statement = multiRowInsertStatements.get(persistentObjectClass);
+    if (statement == null) {
+      String className = ClassNameUtil.getClassNameWithoutPackage(persistentObjectClass);
+      statement = mapStatement("insertMultiple" + className.substring(0, className.length() - 6));
+      if (sqlSessionFactory == null || !sqlSessionFactory.getConfiguration().hasStatement(statement, false)) {
+        statement = "";
+      }
+      multiRowInsertStatements.put(persistentObjectClass, statement);
+    }
+    return statement.isEmpty() ? null : statement;
+  }
+
   public String getUpdateStatement(DbEntity object) {
     return getStatement(object.getClass(), updateStatements, "update");
   }
@@ -1200,6 +1247,35 @@ public class DbSqlSessionFactory implements SessionFactory {
     this.isDbHistoryUsed = isDbHistoryUsed;
   }
 
+  public boolean isJdbcBatchMultiRowInserts() {
+    return jdbcBatchMultiRowInserts;
+  }
+
+  public void setJdbcBatchMultiRowInserts(boolean jdbcBatchMultiRowInserts) {
+    this.jdbcBatchMultiRowInserts = jdbcBatchMultiRowInserts;
+  }
+
+  public int getJdbcBatchMultiRowInsertSize() {
+    return jdbcBatchMultiRowInsertSize;
+  }
+
+  public void setJdbcBatchMultiRowInsertSize(int jdbcBatchMultiRowInsertSize) {
+    this.jdbcBatchMultiRowInsertSize = jdbcBatchMultiRowInsertSize;
+  }
+
+  public boolean isSkipLockedSupported() {
+    return SKIP_LOCKED_DATABASES.contains(databaseType);
+  }
+
+  /**
+   * @return <code>true</code> if a <code>SELECT ... FOR UPDATE SKIP LOCKED</code> statement can
+   *   restrict the number of rows in SQL, <code>false</code> if the rows must be limited while
+   *   reading the result set.
+   */
+  public boolean isSkipLockedWithLimitSupported() {
+    return SKIP_LOCKED_WITH_LIMIT_DATABASES.contains(databaseType);
+  }
+
   public boolean isCmmnEnabled() {
     return cmmnEnabled;
   }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.db.sql;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.operaton.bpm.engine.impl.util.IoUtil;
+import org.operaton.bpm.engine.impl.util.ReflectUtil;
+
+/**
+ * Access to the MyBatis mapping snapshot generated by the {@link MyBatisMappingSnapshotGenerator}
+ * during the build. The snapshot contains a copy of the engine mappings per database in which all
+ * database specific properties are resolved and the statements that are only mapped for other
+ * databases are removed. The sql fragments are kept and still included by MyBatis. The snapshot
+ * is only used if it was generated from the mappings which are present on the classpath, so that
+ * changed mappings are never shadowed by an outdated snapshot.
+ */
+public final class MyBatisMappingSnapshot {
+
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  public static final String SNAPSHOT_DIRECTORY = "org/operaton/bpm/engine/impl/mapping/snapshot/";
+  public static final String SNAPSHOT_PROPERTIES = SNAPSHOT_DIRECTORY + "snapshot.properties";
+  public static final String MAPPING_FILE_NAME = "mappings.xml";
+  public static final String CHECKSUM_PROPERTY = "checksum";
+
+  protected static final Pattern COMMENT = Pattern.compile("<!--.*?-->", Pattern.DOTALL);
+  protected static final Pattern MAPPER_RESOURCE = Pattern.compile("<mapper\\s+resource=\"([^\"]+)\"");
+
+  private MyBatisMappingSnapshot() {
+  }
+
+  public static String getSnapshotDirectory(String databaseType) {
+    return SNAPSHOT_DIRECTORY + databaseType + "/";
+  }
+
+  /**
+   * @return the snapshot of the given mapping file for the database type or <code>null</code> if no
+   * up-to-date snapshot is available
+   */
+  public static InputStream getMappingFile(String mappingFile, String databaseType) {
+    if (databaseType == null) {
+      return null;
+    }
+
+    String snapshotMappingFile = getSnapshotDirectory(databaseType) + MAPPING_FILE_NAME;
+    Properties snapshotProperties = readSnapshotProperties();
+    InputStream snapshot = ReflectUtil.getResourceAsStream(snapshotMappingFile);
+    if (snapshotProperties == null || snapshot == null) {
+      LOG.mappingSnapshotNotFound(snapshotMappingFile);
+      IoUtil.closeSilently(snapshot);
+      return null;
+    }
+
+    String expectedChecksum = snapshotProperties.getProperty(CHECKSUM_PROPERTY);
+    String actualChecksum = Long.toString(checksum(mappingFile, readMapperResources(mappingFile)));
+    if (!actualChecksum.equals(expectedChecksum)) {
+      LOG.mappingSnapshotOutdated(snapshotMappingFile);
+      IoUtil.closeSilently(snapshot);
+      return null;
+    }
+
+    LOG.usingMappingSnapshot(snapshotMappingFile);
+    return snapshot;
+  }
+
+  /**
+   * @return the resources of the mappers which are referenced by the mapping file
+   */
+  public static List<String> readMapperResources(String mappingFile) {
+    String content = new String(readResource(mappingFile), StandardCharsets.UTF_8);
+    Matcher matcher = MAPPER_RESOURCE.matcher(COMMENT.matcher(content).replaceAll(""));
+    List<String> mapperResources = new ArrayList<>();
+    while (matcher.find()) {
+      mapperResources.add(matcher.group(1));
+    }
+    return mapperResources;
+  }
+
+  /**
+   * @return a checksum over the content of the mapping file and all of its mappers
+   */
+  public static long checksum(String mappingFile, List<String> mapperResources) {
+    CRC32 checksum = new CRC32();
+    checksum.update(readResource(mappingFile));
+    for (String mapperResource : mapperResources) {
+      checksum.update(readResource(mapperResource));
+    }
+    return checksum.getValue();
+  }
+
+  protected static Properties readSnapshotProperties() {
+    InputStream inputStream = ReflectUtil.getResourceAsStream(SNAPSHOT_PROPERTIES);
+    if (inputStream == null) {
+      return null;
+    }
+    try (inputStream) {
+      Properties properties = new Properties();
+      properties.load(inputStream);
+      return properties;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  protected static byte[] readResource(String resource) {
+    InputStream inputStream = ReflectUtil.getResourceAsStream(resource);
+    if (inputStream == null) {
+      throw LOG.mappingResourceNotFound(resource);
+    }
+    try {
+      return IoUtil.readInputStream(inputStream, resource);
+    } finally {
+      IoUtil.closeSilently(inputStream);
+    }
+  }
+
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.db.sql;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.apache.ibatis.builder.xml.XMLConfigBuilder;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.builder.xml.XMLMapperEntityResolver;
+import org.apache.ibatis.parsing.PropertyParser;
+import org.apache.ibatis.session.Configuration;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.util.ReflectUtil;
+import org.w3c.dom.Document;
+import org.w3c.dom.DocumentType;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Build time generator of the {@link MyBatisMappingSnapshot}. For every supported
+ * database it writes a copy of the engine mappings in which
+ *
+ * <ul>
+ *   <li>all database specific properties (e.g. <code>${limitBefore}</code>) are resolved,</li>
+ *   <li>the statements that are only mapped for other databases are removed,</li>
+ *   <li>comments are stripped.</li>
+ * </ul>
+ *
+ * The table prefix is kept as <code>${prefix}</code> and resolved when the snapshot is loaded.
+ *
+ * <p>Usage: <code>MyBatisMappingSnapshotGenerator &lt;classes directory&gt;</code></p>
+ */
+public class MyBatisMappingSnapshotGenerator {
+
+  protected static final String PREFIX_PROPERTY = "prefix";
+  protected static final Set<String> STATEMENT_ELEMENTS = Set.of("select", "insert", "update", "delete");
+
+  protected final File classesDirectory;
+
+  public MyBatisMappingSnapshotGenerator(File classesDirectory) {
+    this.classesDirectory = classesDirectory;
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: MyBatisMappingSnapshotGenerator <classes directory>");
+    }
+    new MyBatisMappingSnapshotGenerator(new File(args[0])).generate();
+  }
+
+  public void generate() throws Exception {
+    String mappingFile = ProcessEngineConfigurationImpl.DEFAULT_MYBATIS_MAPPING_FILE;
+    List<String> mapperResources = MyBatisMappingSnapshot.readMapperResources(mappingFile);
+    Set<String> statements = getStatements(mappingFile);
+
+    for (String databaseType : DbSqlSessionFactory.SUPPORTED_DATABASES) {
+      generate(databaseType, mapperResources, statements);
+    }
+
+    // written without the timestamp of Properties#store to keep the build reproducible
+    long checksum = MyBatisMappingSnapshot.checksum(mappingFile, mapperResources);
+    Files.writeString(getFile(MyBatisMappingSnapshot.SNAPSHOT_PROPERTIES).toPath(),
+        MyBatisMappingSnapshot.CHECKSUM_PROPERTY + "=" + checksum + "\n", StandardCharsets.ISO_8859_1);
+  }
+
+  protected void generate(String databaseType, List<String> mapperResources, Set<String> statements) throws Exception {
+    Properties properties = new Properties();
+    properties.put(PREFIX_PROPERTY, "${" + PREFIX_PROPERTY + "}");
+    ProcessEngineConfigurationImpl.initSqlSessionFactoryProperties(properties, "", databaseType);
+    checkPropertiesAreStable(properties);
+
+    Set<String> unusedStatements = getStatementsOfOtherDatabases(databaseType);
+    String snapshotDirectory = MyBatisMappingSnapshot.getSnapshotDirectory(databaseType);
+
+    List<String> snapshotResources = new ArrayList<>();
+    for (String mapperResource : mapperResources) {
+      String snapshotResource = snapshotDirectory + mapperResource.substring(mapperResource.lastIndexOf('/') + 1);
+      Document document = parse(mapperResource);
+      transform(document, properties, unusedStatements);
+      write(document, getFile(snapshotResource));
+      snapshotResources.add(snapshotResource);
+    }
+    writeMappingFile(snapshotDirectory + MyBatisMappingSnapshot.MAPPING_FILE_NAME, snapshotResources);
+
+    Set<String> expectedStatements = new HashSet<>(statements);
+    expectedStatements.removeIf(statement -> unusedStatements.contains(statement.substring(statement.lastIndexOf('.') + 1)));
+    checkSnapshot(databaseType, snapshotResources, properties, expectedStatements);
+  }
+
+  /**
+   * @return the names of all statements of the original mappings
+   */
+  protected Set<String> getStatements(String mappingFile) throws IOException {
+    Properties properties = new Properties();
+    properties.put(PREFIX_PROPERTY, "");
+    ProcessEngineConfigurationImpl.initSqlSessionFactoryProperties(properties, "", DbSqlSessionFactory.H2);
+    try (InputStream inputStream = ReflectUtil.getResourceAsStream(mappingFile)) {
+      return new HashSet<>(new XMLConfigBuilder(inputStream, "", properties).parse().getMappedStatementNames());
+    }
+  }
+
+  /**
+   * Resolves the properties and removes the unused statements of a single mapper.
+   */
+  protected void transform(Document document, Properties properties, Set<String> unusedStatements) {
+    Element mapper = document.getDocumentElement();
+    for (Element element : getChildElements(mapper)) {
+      if (STATEMENT_ELEMENTS.contains(element.getNodeName()) && unusedStatements.contains(element.getAttribute("id"))) {
+        mapper.removeChild(element);
+      }
+    }
+
+    resolveProperties(mapper, properties);
+  }
+
+  protected void resolveProperties(Node node, Properties properties) {
+    NamedNodeMap attributes = node.getAttributes();
+    if (attributes != null) {
+      for (int i = 0; i < attributes.getLength(); i++) {
+        Node attribute = attributes.item(i);
+        attribute.setNodeValue(PropertyParser.parse(attribute.getNodeValue(), properties));
+      }
+    }
+    if (node.getNodeType() == Node.TEXT_NODE || node.getNodeType() == Node.CDATA_SECTION_NODE) {
+      node.setNodeValue(PropertyParser.parse(node.getNodeValue(), properties));
+    }
+    NodeList children = node.getChildNodes();
+    for (int i = 0; i < children.getLength(); i++) {
+      resolveProperties(children.item(i), properties);
+    }
+  }
+
+  /**
+   * The snapshot is parsed again with the same properties when it is loaded. This only yields the
+   * same statements if no property value references another property.
+   */
+  protected void checkPropertiesAreStable(Properties properties) {
+    for (String name : properties.stringPropertyNames()) {
+      String value = properties.getProperty(name);
+      if (!PREFIX_PROPERTY.equals(name) && !value.equals(PropertyParser.parse(value, properties))) {
+        throw new IllegalStateException("Property '" + name + "' references another property: " + value);
+      }
+    }
+  }
+
+  /**
+   * @return the database specific statements which are mapped for other databases but never for the given one
+   */
+  protected Set<String> getStatementsOfOtherDatabases(String databaseType) {
+    Set<String> statements = new HashSet<>();
+    Set<String> usedStatements = new HashSet<>();
+    for (Map.Entry<String, Map<String, String>> databaseStatements : DbSqlSessionFactory.getDatabaseSpecificStatements().entrySet()) {
+      Map<String, String> mappings = databaseStatements.getValue();
+      if (databaseType.equals(databaseStatements.getKey())) {
+        usedStatements.addAll(mappings.values());
+      } else {
+        statements.addAll(mappings.values());
+      }
+      // the generic statements are used by all databases without a mapping
+      usedStatements.addAll(mappings.keySet());
+    }
+    statements.removeAll(usedStatements);
+    return statements;
+  }
+
+  protected void checkSnapshot(String databaseType, List<String> snapshotResources, Properties properties, Set<String> expectedStatements) throws IOException {
+    Configuration snapshot = new Configuration();
+    snapshot.setVariables(properties);
+    for (String snapshotResource : snapshotResources) {
+      try (InputStream inputStream = Files.newInputStream(getFile(snapshotResource).toPath())) {
+        new XMLMapperBuilder(inputStream, snapshot, snapshotResource, snapshot.getSqlFragments()).parse();
+      }
+    }
+
+    Set<String> actualStatements = new HashSet<>(snapshot.getMappedStatementNames());
+    if (!expectedStatements.equals(actualStatements)) {
+      throw new IllegalStateException("The mapping snapshot for " + databaseType + " does not contain the expected statements");
+    }
+  }
+
+  // xml handling /////////////////////////////////////////////////////////////
+
+  protected Document parse(String resource) throws Exception {
+    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+    factory.setValidating(true);
+    factory.setIgnoringComments(true);
+
+    DocumentBuilder builder = factory.newDocumentBuilder();
+    builder.setEntityResolver(new XMLMapperEntityResolver());
+    builder.setErrorHandler(new ErrorHandler() {
+      @Override
+      public void warning(SAXParseException exception) {
+        // ignore
+      }
+
+      @Override
+      public void error(SAXParseException exception) throws SAXException {
+        throw exception;
+      }
+
+      @Override
+      public void fatalError(SAXParseException exception) throws SAXException {
+        throw exception;
+      }
+    });
+    try (InputStream inputStream = ReflectUtil.getResourceAsStream(resource)) {
+      if (inputStream == null) {
+        throw new IOException("Mapping resource " + resource + " not found");
+      }
+      return builder.parse(inputStream);
+    }
+  }
+
+  protected void write(Document document, File file) throws Exception {
+    Transformer transformer = TransformerFactory.newInstance().newTransformer();
+    transformer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
+    DocumentType doctype = document.getDoctype();
+    if (doctype != null) {
+      transformer.setOutputProperty(OutputKeys.DOCTYPE_PUBLIC, doctype.getPublicId());
+      transformer.setOutputProperty(OutputKeys.DOCTYPE_SYSTEM, doctype.getSystemId());
+    }
+    try (OutputStream out = Files.newOutputStream(file.toPath())) {
+      transformer.transform(new DOMSource(document), new StreamResult(out));
+    }
+  }
+
+  protected void writeMappingFile(String resource, List<String> mapperResources) throws Exception {
+    Document document = parse(ProcessEngineConfigurationImpl.DEFAULT_MYBATIS_MAPPING_FILE);
+    Element mappers = (Element) document.getElementsByTagName("mappers").item(0);
+    while (mappers.hasChildNodes()) {
+      mappers.removeChild(mappers.getFirstChild());
+    }
+    for (String mapperResource : mapperResources) {
+      Element mapper = document.createElement("mapper");
+      mapper.setAttribute("resource", mapperResource);
+      mappers.appendChild(mapper);
+    }
+    write(document, getFile(resource));
+  }
+
+  protected File getFile(String resource) throws IOException {
+    File file = new File(classesDirectory, resource);
+    File directory = file.getParentFile();
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Could not create directory " + directory);
+    }
+    return file;
+  }
+
+  protected static List<Element> getChildElements(Element element) {
+    List<Element> elements = new ArrayList<>();
+    NodeList children = element.getChildNodes();
+    for (int i = 0; i < children.getLength(); i++) {
+      if (children.item(i) instanceof Element child) {
+        elements.add(child);
+      }
+    }
+    return elements;
+  }
+
+}
@@ -41,6 +41,7 @@ public class JuelExpressionManager implements ExpressionManager, ElProviderCompa
 
   protected Map<String, Method> functions = new HashMap<>();
   protected ExpressionFactory expressionFactory;
+  protected int compileThreshold;
   protected Map<Object, Object> beans;
   protected volatile boolean initialized;
   protected ELResolver elResolver;
@@ -54,9 +55,6 @@ public class JuelExpressionManager implements ExpressionManager, ElProviderCompa
   }
 
   public JuelExpressionManager(Map<Object, Object> beans) {
-    // Use the ExpressionFactoryImpl built-in version of juel, with parametrised
-    // method expressions enabled
-    expressionFactory = new ExpressionFactoryImpl();
     this.beans = beans;
   }
 
@@ -79,10 +77,29 @@ public class JuelExpressionManager implements ExpressionManager, ElProviderCompa
     return expressionFactory.createValueExpression(parsingElContext, expression, Object.class);
   }
 
+  public ExpressionFactory getExpressionFactory() {
+    ensureInitialized();
+    return expressionFactory;
+  }
+
   public void setExpressionFactory(ExpressionFactory expressionFactory) {
     this.expressionFactory = expressionFactory;
   }
 
+  /**
+   * Lets the default expression factory compile value expressions which have been evaluated at
+   * least <code>threshold</code> times. Compiled expressions only take shortcuts if the resolver
+   * chain is a {@link ProcessEngineElResolver}, i.e. the chain created by
+   * {@link #createElResolver()}; they fall back to interpretation otherwise. Has no effect on an
+   * expression factory set with {@link #setExpressionFactory(ExpressionFactory)} or once the
+   * expression manager is initialized.
+   *
+   * @param threshold the number of evaluations, <code>0</code> to interpret all expressions
+   */
+  public void setCompileThreshold(int threshold) {
+    this.compileThreshold = threshold;
+  }
+
   public ELContext getElContext(VariableScope variableScope) {
     ensureInitialized();
     ELContext elContext = null;
@@ -122,6 +139,9 @@ public class JuelExpressionManager implements ExpressionManager, ElProviderCompa
     if (!initialized) {
       synchronized (this) {
         if (!initialized) {
+          if (expressionFactory == null) {
+            expressionFactory = createExpressionFactory();
+          }
           elResolver = createElResolver();
           functionMapper = createFunctionMapper();
           parsingElContext = new ProcessEngineElContext(functionMapper);
@@ -131,8 +151,17 @@ public class JuelExpressionManager implements ExpressionManager, ElProviderCompa
     }
   }
 
+  protected ExpressionFactory createExpressionFactory() {
+    // Use the ExpressionFactoryImpl built-in version of juel, with parametrised
+    // method expressions enabled and a concurrent cache of parsed expressions
+    if (compileThreshold > 0) {
+      return new ExpressionFactoryImpl(ExpressionFactoryImpl.Profile.JEE6, compileThreshold);
+    }
+    return new ExpressionFactoryImpl();
+  }
+
   protected ELResolver createElResolver() {
-    CompositeELResolver compositeELResolver = new CompositeELResolver();
+    CompositeELResolver compositeELResolver = new ProcessEngineElResolver();
     compositeELResolver.add(new VariableScopeElResolver());
     compositeELResolver.add(new VariableContextElResolver());
     compositeELResolver.add(new MockElResolver());
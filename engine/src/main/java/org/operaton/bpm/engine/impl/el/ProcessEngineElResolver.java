@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.el;
+
+import java.util.List;
+import java.util.Map;
+import jakarta.el.CompositeELResolver;
+import jakarta.el.ELContext;
+
+import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.mock.Mocks;
+import org.operaton.bpm.impl.juel.BeanResolutionGuard;
+
+/**
+ * The resolver chain created by {@link JuelExpressionManager#createElResolver()}.
+ * <p>
+ * Apart from the array, list and map resolvers, the resolvers of that chain only resolve
+ * top-level identifiers (<code>base == null</code>), with two exceptions that depend on the
+ * current thread: the resolvers of a process application and registered {@link Mocks}. As long
+ * as neither is present, any other base is resolved by a bean resolver, which lets compiled
+ * expressions use their inline caches.
+ */
+public class ProcessEngineElResolver extends CompositeELResolver implements BeanResolutionGuard {
+
+  @Override
+  public boolean isResolvedAsBean(ELContext context, Object base) {
+    return !base.getClass().isArray()
+        && !(base instanceof List<?>)
+        && !(base instanceof Map<?, ?>)
+        && Context.getCurrentProcessApplication() == null
+        && Mocks.getMocks().isEmpty();
+  }
+
+}
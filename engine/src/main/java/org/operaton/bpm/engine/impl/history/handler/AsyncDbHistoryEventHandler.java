@@ -0,0 +1,699 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.history.handler;
+
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.batch.history.HistoricBatchEntity;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.cfg.TransactionContext;
+import org.operaton.bpm.engine.impl.cfg.TransactionState;
+import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCache;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityState;
+import org.operaton.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.operaton.bpm.engine.impl.history.event.HistoricScopeInstanceEvent;
+import org.operaton.bpm.engine.impl.history.event.HistoryEvent;
+import org.operaton.bpm.engine.impl.history.handler.HistoryEventWriteAheadLog.LogPosition;
+import org.operaton.bpm.engine.impl.history.handler.HistoryEventWriteAheadLog.LogRecord;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+import org.operaton.bpm.engine.impl.interceptor.Session;
+import org.operaton.bpm.engine.impl.metrics.MetricsRegistry;
+import org.operaton.bpm.engine.impl.util.ExceptionUtil;
+import org.operaton.bpm.engine.management.Metrics;
+
+/**
+ * <p>History event handler that writes history events to the database in the background
+ * instead of inside the transaction that produces them.</p>
+ *
+ * <p>The events of a transaction are collected in a {@link TransactionHistoryEvents} session of
+ * the command context until the transaction commits and are then appended to a bounded in-memory
+ * buffer, in commit order. Events of transactions that roll back are discarded. A single writer
+ * thread takes the events from the buffer and writes them in batches, each batch in a new
+ * transaction, using the {@link DbHistoryEventHandler}.</p>
+ *
+ * <ul>
+ * <li>If a write-ahead log file is configured, the events of a transaction are appended to it
+ * when the transaction starts to commit, before the database commit. If the transaction rolls
+ * back, the events are marked as aborted in the log. Events that are not written when the process
+ * stops are replayed from the log on the next start, so they are written at least once. Replayed
+ * events that were already written are skipped. A crash between the append and the database commit
+ * may leave the events of a transaction in the log that did not commit.</li>
+ * <li>If the buffer is full, committing transactions wait until the writer frees space for
+ * their events. Events that do not fit into the buffer within the backpressure timeout are
+ * dropped.</li>
+ * <li>Failed batches are retried. Events of a batch that still fails are written one by one,
+ * and events that cannot be written are dropped.</li>
+ * <li>On {@link #stop()}, the writer writes all buffered events before it terminates.</li>
+ * </ul>
+ *
+ * <p>Dropped and retried events are counted by the {@link Metrics#HISTORY_EVENTS_DROPPED} and
+ * {@link Metrics#HISTORY_EVENTS_RETRIED} meters. If latency metrics are enabled, the time between
+ * the commit of an event and its write is recorded in the {@link Metrics#HISTORY_EVENT_WRITE_LAG}
+ * histogram.</p>
+ *
+ * <p>Note that history is eventually consistent with this handler: history queries do not
+ * see the events of a transaction until the writer has written them. The engine itself resolves
+ * historic process instances and batches that are not written yet with {@link #findPendingEvent(Class, String)}.</p>
+ */
+public class AsyncDbHistoryEventHandler implements HistoryEventHandler {
+
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  /** the event types that can be resolved by {@link #findPendingEvent(Class, String)} */
+  protected static final List<Class<? extends HistoryEvent>> PENDING_EVENT_TYPES = List.of(
+      HistoricProcessInstanceEventEntity.class, HistoricBatchEntity.class);
+
+  protected int bufferCapacity = 10000;
+  protected int batchSize = 500;
+  protected long backpressureTimeoutMillis = 10000;
+  protected int maxRetries = 3;
+  protected long retryDelayMillis = 1000;
+  protected long shutdownTimeoutMillis = 60000;
+  protected String writeAheadLogFile;
+  protected boolean writeAheadLogForceWrites = true;
+
+  protected DbHistoryEventHandler dbHistoryEventHandler = new BatchDbHistoryEventHandler();
+  protected CommandExecutor commandExecutor;
+  protected MetricsRegistry metricsRegistry;
+
+  protected BlockingQueue<BufferedHistoryEvent> buffer;
+  protected volatile HistoryEventWriteAheadLog writeAheadLog;
+  protected Thread writerThread;
+  protected volatile boolean running;
+  protected volatile boolean stopping;
+
+  /** committing transactions in commit order */
+  protected final Deque<TransactionHistoryEvents> committingTransactions = new ArrayDeque<>();
+  /** the latest buffered event of the {@link #PENDING_EVENT_TYPES} by type and id, until it is written */
+  protected final Map<String, HistoryEvent> pendingEvents = new ConcurrentHashMap<>();
+
+  protected final AtomicLong writtenEventCount = new AtomicLong();
+  protected final AtomicLong retriedEventCount = new AtomicLong();
+  protected final AtomicLong droppedEventCount = new AtomicLong();
+
+  // lifecycle ////////////////////////////////////////////////////////////////
+
+  public synchronized void start(ProcessEngineConfigurationImpl processEngineConfiguration) {
+    if (running) {
+      return;
+    }
+
+    commandExecutor = processEngineConfiguration.getCommandExecutorTxRequiresNew();
+    metricsRegistry = processEngineConfiguration.isMetricsEnabled() ? processEngineConfiguration.getMetricsRegistry() : null;
+    buffer = new ArrayBlockingQueue<>(bufferCapacity);
+
+    List<LogRecord> replayedRecords = Collections.emptyList();
+    if (writeAheadLogFile != null) {
+      writeAheadLog = new HistoryEventWriteAheadLog(Paths.get(writeAheadLogFile), writeAheadLogForceWrites);
+      replayedRecords = writeAheadLog.open();
+    }
+
+    stopping = false;
+    running = true;
+    writerThread = new Thread(this::writeBufferedEvents, "Operaton History Event Writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+
+    if (!replayedRecords.isEmpty()) {
+      int eventCount = replayedRecords.stream().mapToInt(logRecord -> logRecord.getEvents().size()).sum();
+      LOG.replayHistoryEvents(eventCount, writeAheadLog.getFile());
+      for (LogRecord replayedRecord : replayedRecords) {
+        bufferEvents(replayedRecord.getEvents(), replayedRecord.getPosition(), true);
+      }
+    }
+  }
+
+  /**
+   * Stops the writer after it has written all buffered events. Afterwards, events are
+   * written synchronously again.
+   */
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+
+    stopping = true;
+    try {
+      writerThread.join(shutdownTimeoutMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (writerThread.isAlive()) {
+      // the writer did not catch up in time, the remaining events stay in the log
+      writerThread.interrupt();
+      running = false;
+
+    } else {
+      synchronized (committingTransactions) {
+        running = false;
+        // events of transactions that committed after the writer terminated
+        List<BufferedHistoryEvent> remainingEvents = new ArrayList<>();
+        buffer.drainTo(remainingEvents);
+        writeRemainingEvents(remainingEvents);
+      }
+    }
+
+    if (writeAheadLog != null) {
+      if (!buffer.isEmpty()) {
+        LOG.historyEventsRemainingOnShutdown(buffer.size(), writeAheadLog.getFile());
+      }
+      writeAheadLog.close();
+      writeAheadLog = null;
+    }
+  }
+
+  protected void writeRemainingEvents(List<BufferedHistoryEvent> remainingEvents) {
+    if (remainingEvents.isEmpty()) {
+      return;
+    }
+    try {
+      writeBatch(remainingEvents);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  // producing side ///////////////////////////////////////////////////////////
+
+  @Override
+  public void handleEvent(HistoryEvent historyEvent) {
+    CommandContext commandContext = Context.getCommandContext();
+    if (!running || commandContext == null) {
+      dbHistoryEventHandler.handleEvent(historyEvent);
+      return;
+    }
+
+    TransactionHistoryEvents transaction = commandContext.getSession(TransactionHistoryEvents.class);
+    if (!transaction.listenersRegistered) {
+      registerTransactionListeners(commandContext, transaction);
+    }
+    transaction.events.add(historyEvent);
+  }
+
+  @Override
+  public void handleEvents(List<HistoryEvent> historyEvents) {
+    for (HistoryEvent historyEvent : historyEvents) {
+      handleEvent(historyEvent);
+    }
+  }
+
+  protected void registerTransactionListeners(CommandContext commandContext, TransactionHistoryEvents transaction) {
+    transaction.listenersRegistered = true;
+
+    TransactionContext transactionContext = commandContext.getTransactionContext();
+    transactionContext.addTransactionListener(TransactionState.COMMITTING, context -> transactionCommitting(transaction));
+    transactionContext.addTransactionListener(TransactionState.COMMITTED, context -> transactionCompleted(transaction, true));
+    transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, context -> transactionCompleted(transaction, false));
+  }
+
+  /**
+   * Enqueues the transaction in commit order and appends its events to the write-ahead log
+   * before the database commit.
+   */
+  protected void transactionCommitting(TransactionHistoryEvents transaction) {
+    List<byte[]> serializedEvents = writeAheadLog != null ? serialize(transaction.events) : Collections.emptyList();
+
+    synchronized (committingTransactions) {
+      transaction.committing = true;
+      committingTransactions.add(transaction);
+
+      HistoryEventWriteAheadLog log = writeAheadLog;
+      if (!serializedEvents.isEmpty() && log != null) {
+        try {
+          transaction.logPosition = log.append(serializedEvents);
+        } catch (ProcessEngineException e) {
+          LOG.historyEventsNotLogged(transaction.events.size(), e);
+        }
+      }
+    }
+  }
+
+  /**
+   * @throws ProcessEngineException if an event cannot be serialized, which fails the transaction
+   *   rather than buffering an event that would be lost on a crash
+   */
+  protected List<byte[]> serialize(List<HistoryEvent> events) {
+    List<byte[]> serializedEvents = new ArrayList<>(events.size());
+    for (HistoryEvent event : events) {
+      try {
+        serializedEvents.add(HistoryEventWriteAheadLog.serialize(event));
+      } catch (ProcessEngineException e) {
+        throw LOG.historyEventNotLogged(event, e);
+      }
+    }
+    return serializedEvents;
+  }
+
+  /**
+   * Buffers the events of all completed transactions at the head of the commit order.
+   * Transactions that commit concurrently may complete in a different order than they
+   * started to commit; their events are buffered in the order of the start of the commit.
+   */
+  protected void transactionCompleted(TransactionHistoryEvents transaction, boolean committed) {
+    synchronized (committingTransactions) {
+      if (transaction.completed) {
+        // rolled back after a failing listener of the committed transaction
+        return;
+      }
+      transaction.completed = true;
+      transaction.committed = committed;
+
+      if (!transaction.committing) {
+        // rolled back before the commit started
+        return;
+      }
+
+      if (!committed) {
+        abort(transaction);
+      }
+
+      TransactionHistoryEvents head;
+      while ((head = committingTransactions.peek()) != null && head.completed) {
+        committingTransactions.poll();
+        if (head.committed) {
+          bufferEvents(head.events, head.logPosition, false);
+        }
+      }
+    }
+  }
+
+  protected void abort(TransactionHistoryEvents transaction) {
+    HistoryEventWriteAheadLog log = writeAheadLog;
+    if (transaction.logPosition != null && log != null) {
+      try {
+        log.abort(transaction.logPosition);
+      } catch (ProcessEngineException e) {
+        LOG.historyEventsNotAborted(transaction.logPosition, e);
+      }
+    }
+  }
+
+  /**
+   * @param logPosition the position of the events in the write-ahead log, or <code>null</code> if they are not logged
+   * @param replayed true if the events are replayed from the write-ahead log and may have been written already
+   */
+  protected void bufferEvents(List<HistoryEvent> events, LogPosition logPosition, boolean replayed) {
+    if (!running) {
+      // the handler was stopped while the transaction was committing
+      writeEvents(events);
+      acknowledge(logPosition);
+      return;
+    }
+
+    long now = System.nanoTime();
+    for (int i = 0; i < events.size(); i++) {
+      HistoryEvent event = events.get(i);
+      addPendingEvent(event);
+
+      // the position is acknowledged once the last event of the transaction is written
+      boolean last = i == events.size() - 1;
+      bufferEvent(new BufferedHistoryEvent(event, now, last ? logPosition : null, replayed));
+    }
+  }
+
+  protected void bufferEvent(BufferedHistoryEvent bufferedEvent) {
+    try {
+      if (!buffer.offer(bufferedEvent, backpressureTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        dropEvent(bufferedEvent, "the history event buffer is full");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      dropEvent(bufferedEvent, "interrupted while waiting for the history event buffer");
+    }
+  }
+
+  // pending events ///////////////////////////////////////////////////////////
+
+  /**
+   * Returns the latest event of the given type and id that is not written to the database yet,
+   * either because the current transaction has not committed or because it is still buffered.
+   * Only the {@link #PENDING_EVENT_TYPES} can be resolved.
+   *
+   * @return the event or <code>null</code> if there is no such pending event
+   */
+  public <T extends HistoryEvent> T findPendingEvent(Class<T> eventType, String id) {
+    if (!running || id == null) {
+      return null;
+    }
+
+    CommandContext commandContext = Context.getCommandContext();
+    if (commandContext != null) {
+      List<HistoryEvent> transactionEvents = commandContext.getSession(TransactionHistoryEvents.class).events;
+      for (int i = transactionEvents.size() - 1; i >= 0; i--) {
+        HistoryEvent event = transactionEvents.get(i);
+        if (eventType.isInstance(event) && id.equals(event.getId())) {
+          return eventType.cast(event);
+        }
+      }
+    }
+
+    HistoryEvent pendingEvent = pendingEvents.get(getPendingEventKey(eventType, id));
+    return eventType.isInstance(pendingEvent) ? eventType.cast(pendingEvent) : null;
+  }
+
+  protected void addPendingEvent(HistoryEvent event) {
+    for (Class<? extends HistoryEvent> eventType : PENDING_EVENT_TYPES) {
+      if (eventType.isInstance(event) && event.getId() != null) {
+        pendingEvents.put(getPendingEventKey(eventType, event.getId()), event);
+      }
+    }
+  }
+
+  protected void removePendingEvent(HistoryEvent event) {
+    for (Class<? extends HistoryEvent> eventType : PENDING_EVENT_TYPES) {
+      if (eventType.isInstance(event) && event.getId() != null) {
+        // a later event of the same entity stays pending
+        pendingEvents.remove(getPendingEventKey(eventType, event.getId()), event);
+      }
+    }
+  }
+
+  protected String getPendingEventKey(Class<?> eventType, String id) {
+    return eventType.getName() + ":" + id;
+  }
+
+  // writing side /////////////////////////////////////////////////////////////
+
+  protected void writeBufferedEvents() {
+    List<BufferedHistoryEvent> batch = new ArrayList<>(batchSize);
+
+    while (!stopping || !buffer.isEmpty()) {
+      try {
+        BufferedHistoryEvent first = buffer.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        buffer.drainTo(batch, batchSize - 1);
+
+        writeBatch(batch);
+
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  protected void writeBatch(List<BufferedHistoryEvent> batch) throws InterruptedException {
+    List<HistoryEvent> events = new ArrayList<>(batch.size());
+    boolean replayed = false;
+    LogPosition lastLogPosition = null;
+    for (BufferedHistoryEvent bufferedEvent : batch) {
+      events.add(bufferedEvent.event);
+      replayed |= bufferedEvent.replayed;
+      if (bufferedEvent.logPosition != null) {
+        lastLogPosition = bufferedEvent.logPosition;
+      }
+    }
+
+    // replayed events are isolated right away, as some of them are likely written already
+    int attempts = replayed ? 1 : maxRetries + 1;
+    boolean written = false;
+    for (int attempt = 1; !written && attempt <= attempts; attempt++) {
+      try {
+        writeEvents(events);
+        written = true;
+
+      } catch (RuntimeException e) {
+        if (attempt < attempts) {
+          LOG.retryWritingHistoryEvents(events.size(), attempt, e);
+          retriedEventCount.addAndGet(events.size());
+          markOccurrence(Metrics.HISTORY_EVENTS_RETRIED, events.size());
+          Thread.sleep(retryDelayMillis * attempt);
+        }
+      }
+    }
+
+    if (written) {
+      for (BufferedHistoryEvent bufferedEvent : batch) {
+        eventWritten(bufferedEvent);
+      }
+    } else {
+      // isolate the events that cannot be written
+      for (BufferedHistoryEvent bufferedEvent : batch) {
+        writeIsolatedEvent(bufferedEvent);
+      }
+    }
+
+    // the events are written in log order, so all records up to the last one are done
+    acknowledge(lastLogPosition);
+  }
+
+  protected void writeIsolatedEvent(BufferedHistoryEvent bufferedEvent) {
+    try {
+      writeEvents(Collections.singletonList(bufferedEvent.event));
+      eventWritten(bufferedEvent);
+
+    } catch (ProcessEngineException e) {
+      if (bufferedEvent.replayed && ExceptionUtil.checkConstraintViolationException(e)) {
+        // written before the process stopped, but not acknowledged
+        LOG.replayedHistoryEventSkipped(bufferedEvent.event);
+        removePendingEvent(bufferedEvent.event);
+      } else {
+        dropEvent(bufferedEvent, e.getMessage());
+      }
+
+    } catch (RuntimeException e) {
+      dropEvent(bufferedEvent, e.getMessage());
+    }
+  }
+
+  protected void writeEvents(List<HistoryEvent> events) {
+    commandExecutor.execute(commandContext -> {
+      dbHistoryEventHandler.handleEvents(events);
+      return null;
+    });
+  }
+
+  protected void eventWritten(BufferedHistoryEvent bufferedEvent) {
+    writtenEventCount.incrementAndGet();
+    removePendingEvent(bufferedEvent.event);
+
+    if (metricsRegistry != null) {
+      long lagMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - bufferedEvent.bufferTime);
+      metricsRegistry.recordLatency(Metrics.HISTORY_EVENT_WRITE_LAG, lagMicros);
+    }
+  }
+
+  protected void dropEvent(BufferedHistoryEvent bufferedEvent, String reason) {
+    LOG.historyEventDropped(bufferedEvent.event, reason);
+    droppedEventCount.incrementAndGet();
+    markOccurrence(Metrics.HISTORY_EVENTS_DROPPED, 1);
+    removePendingEvent(bufferedEvent.event);
+  }
+
+  protected void acknowledge(LogPosition logPosition) {
+    HistoryEventWriteAheadLog log = writeAheadLog;
+    if (logPosition != null && log != null) {
+      log.acknowledge(logPosition);
+    }
+  }
+
+  protected void markOccurrence(String name, long times) {
+    if (metricsRegistry != null) {
+      metricsRegistry.markOccurrence(name, times);
+    }
+  }
+
+  // metrics //////////////////////////////////////////////////////////////////
+
+  /**
+   * @return the number of events that are buffered and not yet written
+   */
+  public int getLag() {
+    return buffer != null ? buffer.size() : 0;
+  }
+
+  public long getWrittenEventCount() {
+    return writtenEventCount.get();
+  }
+
+  public long getRetriedEventCount() {
+    return retriedEventCount.get();
+  }
+
+  public long getDroppedEventCount() {
+    return droppedEventCount.get();
+  }
+
+  // getters / setters ////////////////////////////////////////////////////////
+
+  public int getBufferCapacity() {
+    return bufferCapacity;
+  }
+
+  public void setBufferCapacity(int bufferCapacity) {
+    this.bufferCapacity = bufferCapacity;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public long getBackpressureTimeoutMillis() {
+    return backpressureTimeoutMillis;
+  }
+
+  public void setBackpressureTimeoutMillis(long backpressureTimeoutMillis) {
+    this.backpressureTimeoutMillis = backpressureTimeoutMillis;
+  }
+
+  public int getMaxRetries() {
+    return maxRetries;
+  }
+
+  public void setMaxRetries(int maxRetries) {
+    this.maxRetries = maxRetries;
+  }
+
+  public long getRetryDelayMillis() {
+    return retryDelayMillis;
+  }
+
+  public void setRetryDelayMillis(long retryDelayMillis) {
+    this.retryDelayMillis = retryDelayMillis;
+  }
+
+  public long getShutdownTimeoutMillis() {
+    return shutdownTimeoutMillis;
+  }
+
+  public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+  }
+
+  public String getWriteAheadLogFile() {
+    return writeAheadLogFile;
+  }
+
+  /**
+   * @param writeAheadLogFile the file that keeps the buffered events until they are written,
+   *   or <code>null</code> to buffer the events in memory only
+   */
+  public void setWriteAheadLogFile(String writeAheadLogFile) {
+    this.writeAheadLogFile = writeAheadLogFile;
+  }
+
+  public boolean isWriteAheadLogForceWrites() {
+    return writeAheadLogForceWrites;
+  }
+
+  public void setWriteAheadLogForceWrites(boolean writeAheadLogForceWrites) {
+    this.writeAheadLogForceWrites = writeAheadLogForceWrites;
+  }
+
+  public DbHistoryEventHandler getDbHistoryEventHandler() {
+    return dbHistoryEventHandler;
+  }
+
+  public void setDbHistoryEventHandler(DbHistoryEventHandler dbHistoryEventHandler) {
+    this.dbHistoryEventHandler = dbHistoryEventHandler;
+  }
+
+  // helper classes ///////////////////////////////////////////////////////////
+
+  /**
+   * The history events of a transaction that has not committed yet. Opened as a session of the
+   * command context, so that every transaction collects its events without coordination.
+   */
+  public static class TransactionHistoryEvents implements Session {
+    protected final List<HistoryEvent> events = new ArrayList<>();
+    protected boolean listenersRegistered;
+    protected LogPosition logPosition;
+    protected boolean committing;
+    protected boolean completed;
+    protected boolean committed;
+  }
+
+  protected static class BufferedHistoryEvent {
+    protected final HistoryEvent event;
+    protected final long bufferTime;
+    protected final LogPosition logPosition;
+    protected final boolean replayed;
+
+    public BufferedHistoryEvent(HistoryEvent event, long bufferTime, LogPosition logPosition, boolean replayed) {
+      this.event = event;
+      this.bufferTime = bufferTime;
+      this.logPosition = logPosition;
+      this.replayed = replayed;
+    }
+  }
+
+  /**
+   * Writes the events of a batch that stem from different transactions. In the producing
+   * transaction, an event that updates a history entity is the cached entity itself if the
+   * entity was inserted in the same transaction. In a batch, the update is a separate object
+   * and replaces the cached entity instead.
+   */
+  public static class BatchDbHistoryEventHandler extends DbHistoryEventHandler {
+
+    @Override
+    protected void insertOrUpdate(HistoryEvent historyEvent) {
+      if (!isInitialEvent(historyEvent) && historyEvent.getId() != null) {
+        DbEntityCache dbEntityCache = getDbEntityManager().getDbEntityCache();
+        CachedDbEntity cachedEntity = dbEntityCache.getCachedEntity(historyEvent.getClass(), historyEvent.getId());
+
+        if (cachedEntity != null && cachedEntity.getEntity() != historyEvent) {
+          if (historyEvent instanceof HistoricScopeInstanceEvent scopeInstanceEvent
+              && cachedEntity.getEntity() instanceof HistoricScopeInstanceEvent cachedScopeInstanceEvent) {
+            scopeInstanceEvent.setStartTime(cachedScopeInstanceEvent.getStartTime());
+          }
+
+          if (cachedEntity.getEntityState() == DbEntityState.TRANSIENT) {
+            dbEntityCache.remove(cachedEntity);
+            dbEntityCache.putTransient(historyEvent);
+          } else {
+            getDbEntityManager().merge(historyEvent);
+          }
+          return;
+        }
+      }
+
+      super.insertOrUpdate(historyEvent);
+    }
+  }
+
+}
@@ -0,0 +1,533 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.history.handler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.operaton.bpm.engine.impl.history.event.HistoryEvent;
+import org.operaton.bpm.engine.impl.persistence.entity.util.ByteArrayField;
+import org.operaton.bpm.engine.impl.persistence.entity.util.TypedValueField;
+import org.operaton.bpm.engine.repository.ResourceTypes;
+
+/**
+ * <p>Log that keeps the history events buffered by the {@link AsyncDbHistoryEventHandler}
+ * until they are written to the database, so that they can be replayed after a crash.</p>
+ *
+ * <p>The log consists of segment files named after the configured file with the segment number
+ * as suffix, e.g. <code>history.log.1</code>. The events of a transaction are appended as a single
+ * record before the transaction commits. If the transaction rolls back afterwards, an abort record
+ * cancels the events record. When the segment reaches the segment size, the next record starts a new
+ * segment.</p>
+ *
+ * <p>The writer acknowledges the records in the order they were appended. The position after the
+ * last acknowledged record is stored in the checkpoint file (<code>history.log.checkpoint</code>),
+ * and segments that only contain acknowledged records are deleted. On {@link #open()}, the records
+ * after the checkpoint that were not aborted are returned for replay. Events are therefore written
+ * at least once: if the process stops after the events of a batch were written but before they
+ * were acknowledged, they are replayed on the next start.</p>
+ */
+public class HistoryEventWriteAheadLog {
+
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  protected static final byte EVENTS_RECORD = 1;
+  protected static final byte ABORT_RECORD = 2;
+
+  protected static final long DEFAULT_SEGMENT_SIZE = 16L * 1024 * 1024;
+
+  /**
+   * The types that history events are composed of besides the history events themselves.
+   * Events are only written if they consist of these types, so every written event can be read.
+   */
+  protected static final Set<Class<?>> EVENT_VALUE_TYPES = Set.of(
+      String.class, Number.class, Integer.class, Long.class, Double.class, Boolean.class,
+      Date.class, Timestamp.class, byte[].class, ArrayList.class, Object[].class, Enum.class,
+      ResourceTypes.class, ByteArrayField.class, TypedValueField.class);
+
+  protected static final ObjectInputFilter EVENT_FILTER = filterInfo -> {
+    Class<?> serialClass = filterInfo.serialClass();
+    if (serialClass == null) {
+      return ObjectInputFilter.Status.UNDECIDED;
+    }
+    if (isEventType(serialClass)) {
+      return ObjectInputFilter.Status.ALLOWED;
+    }
+    return ObjectInputFilter.Status.REJECTED;
+  };
+
+  protected final Path file;
+  protected final boolean forceWrites;
+  protected long segmentSize = DEFAULT_SEGMENT_SIZE;
+  protected final ReentrantLock lock = new ReentrantLock();
+
+  protected FileChannel channel;
+  protected long segment;
+  protected long firstSegment;
+  protected FileChannel checkpointChannel;
+  protected LogPosition checkpoint;
+
+  /**
+   * @param file the base name of the segment and checkpoint files, created if they do not exist
+   * @param forceWrites if true, every append is forced to the storage device before it returns
+   */
+  public HistoryEventWriteAheadLog(Path file, boolean forceWrites) {
+    this.file = file;
+    this.forceWrites = forceWrites;
+  }
+
+  /**
+   * Opens the log and returns the records that were appended but neither acknowledged nor aborted
+   * before the log was closed the last time, in the order they were appended. New records are
+   * appended to a new segment.
+   */
+  public List<LogRecord> open() {
+    lock.lock();
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+
+      checkpointChannel = FileChannel.open(getCheckpointFile(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      checkpoint = readCheckpoint();
+
+      TreeMap<Long, Path> segments = findSegments();
+      List<LogRecord> records = readRecords(segments);
+
+      long lastSegment = segments.isEmpty() ? checkpoint.segment : Math.max(segments.lastKey(), checkpoint.segment);
+      openSegment(lastSegment + 1);
+      deleteSegmentsBefore(records.isEmpty() ? segment : records.get(0).position.segment);
+
+      return records;
+
+    } catch (IOException e) {
+      throw new ProcessEngineException("Cannot open history event log " + file, e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Appends the given serialized events of a transaction to the log as a single record.
+   *
+   * @return the position of the record, used to {@link #abort(LogPosition) abort} or
+   *   {@link #acknowledge(LogPosition) acknowledge} it
+   */
+  public LogPosition append(List<byte[]> serializedEvents) {
+    int size = Integer.BYTES;
+    for (byte[] event : serializedEvents) {
+      size += Integer.BYTES + event.length;
+    }
+    ByteBuffer payload = ByteBuffer.allocate(size);
+    payload.putInt(serializedEvents.size());
+    for (byte[] event : serializedEvents) {
+      payload.putInt(event.length).put(event);
+    }
+
+    lock.lock();
+    try {
+      return writeRecord(EVENTS_RECORD, payload.array());
+
+    } catch (IOException e) {
+      throw new ProcessEngineException("Cannot append to history event log " + file, e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Cancels the record at the given position because the transaction that appended it rolled back.
+   */
+  public void abort(LogPosition position) {
+    ByteBuffer payload = ByteBuffer.allocate(2 * Long.BYTES);
+    payload.putLong(position.segment).putLong(position.offset);
+
+    lock.lock();
+    try {
+      writeRecord(ABORT_RECORD, payload.array());
+
+    } catch (IOException e) {
+      throw new ProcessEngineException("Cannot append to history event log " + file, e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Acknowledges that the record at the given position and all records before it have been written
+   * to the database. Stores the checkpoint and deletes the segments that are no longer needed.
+   */
+  public void acknowledge(LogPosition position) {
+    lock.lock();
+    try {
+      if (checkpointChannel == null || position.compareTo(checkpoint) <= 0) {
+        return;
+      }
+
+      ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+      buffer.putLong(position.segment).putLong(position.end).flip();
+      checkpointChannel.position(0);
+      while (buffer.hasRemaining()) {
+        checkpointChannel.write(buffer);
+      }
+      if (forceWrites) {
+        checkpointChannel.force(false);
+      }
+      checkpoint = new LogPosition(position.segment, position.end, position.end);
+
+      if (position.segment > firstSegment) {
+        deleteSegmentsBefore(position.segment);
+      }
+
+    } catch (IOException e) {
+      throw new ProcessEngineException("Cannot acknowledge history events in log " + file, e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void close() {
+    lock.lock();
+    try {
+      if (channel != null) {
+        channel.close();
+        channel = null;
+      }
+      if (checkpointChannel != null) {
+        checkpointChannel.close();
+        checkpointChannel = null;
+      }
+    } catch (IOException e) {
+      throw new ProcessEngineException("Cannot close history event log " + file, e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  public long getSegmentSize() {
+    return segmentSize;
+  }
+
+  /**
+   * @param segmentSize the size in bytes after which the next record starts a new segment
+   */
+  public void setSegmentSize(long segmentSize) {
+    this.segmentSize = segmentSize;
+  }
+
+  // segments //////////////////////////////////////////////////////////////////
+
+  protected LogPosition writeRecord(byte type, byte[] payload) throws IOException {
+    if (channel.size() >= segmentSize) {
+      channel.close();
+      openSegment(segment + 1);
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + 1 + payload.length);
+    buffer.putInt(1 + payload.length).put(type).put(payload).flip();
+
+    long offset = channel.size();
+    channel.position(offset);
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    if (forceWrites) {
+      channel.force(false);
+    }
+    return new LogPosition(segment, offset, channel.position());
+  }
+
+  protected void openSegment(long segment) throws IOException {
+    this.segment = segment;
+    channel = FileChannel.open(getSegmentFile(segment), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+  }
+
+  protected void deleteSegmentsBefore(long segment) throws IOException {
+    for (Map.Entry<Long, Path> entry : findSegments().headMap(segment).entrySet()) {
+      Files.deleteIfExists(entry.getValue());
+    }
+    firstSegment = segment;
+  }
+
+  protected TreeMap<Long, Path> findSegments() throws IOException {
+    TreeMap<Long, Path> segments = new TreeMap<>();
+    String prefix = file.getFileName().toString() + ".";
+
+    try (DirectoryStream<Path> paths = Files.newDirectoryStream(file.toAbsolutePath().getParent(), prefix + "*")) {
+      for (Path path : paths) {
+        String suffix = path.getFileName().toString().substring(prefix.length());
+        if (!suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit)) {
+          segments.put(Long.parseLong(suffix), path);
+        }
+      }
+    }
+    return segments;
+  }
+
+  protected Path getSegmentFile(long segment) {
+    return file.resolveSibling(file.getFileName().toString() + "." + segment);
+  }
+
+  protected Path getCheckpointFile() {
+    return file.resolveSibling(file.getFileName().toString() + ".checkpoint");
+  }
+
+  // reading ///////////////////////////////////////////////////////////////////
+
+  protected LogPosition readCheckpoint() throws IOException {
+    if (checkpointChannel.size() < 2 * Long.BYTES) {
+      return new LogPosition(0, 0, 0);
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+    checkpointChannel.position(0);
+    readFully(checkpointChannel, buffer);
+    buffer.flip();
+    long checkpointSegment = buffer.getLong();
+    long checkpointOffset = buffer.getLong();
+    return new LogPosition(checkpointSegment, checkpointOffset, checkpointOffset);
+  }
+
+  protected List<LogRecord> readRecords(TreeMap<Long, Path> segments) throws IOException {
+    Map<LogPosition, LogRecord> records = new LinkedHashMap<>();
+
+    for (Map.Entry<Long, Path> entry : segments.tailMap(checkpoint.segment).entrySet()) {
+      long start = entry.getKey() == checkpoint.segment ? checkpoint.end : 0;
+      try (FileChannel segmentChannel = FileChannel.open(entry.getValue(), StandardOpenOption.READ)) {
+        readSegment(entry.getKey(), segmentChannel, start, records);
+      }
+    }
+
+    return new ArrayList<>(records.values());
+  }
+
+  protected void readSegment(long segment, FileChannel segmentChannel, long start, Map<LogPosition, LogRecord> records) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+    long size = segmentChannel.size();
+
+    segmentChannel.position(start);
+    while (segmentChannel.position() + Integer.BYTES <= size) {
+      long offset = segmentChannel.position();
+      header.clear();
+      readFully(segmentChannel, header);
+      int length = header.flip().getInt();
+
+      if (length <= 0 || segmentChannel.position() + length > size) {
+        // incomplete record of an append that was interrupted by a crash
+        break;
+      }
+
+      ByteBuffer record = ByteBuffer.allocate(length);
+      readFully(segmentChannel, record);
+      record.flip();
+      byte type = record.get();
+
+      if (type == EVENTS_RECORD) {
+        LogPosition position = new LogPosition(segment, offset, segmentChannel.position());
+        try {
+          records.put(position, new LogRecord(position, readEvents(record)));
+        } catch (RuntimeException e) {
+          // a record that cannot be read must not prevent the replay of the others
+          LOG.historyEventRecordSkipped(position, file, e);
+        }
+
+      } else if (type == ABORT_RECORD) {
+        long abortedSegment = record.getLong();
+        long abortedOffset = record.getLong();
+        records.values().removeIf(logRecord -> logRecord.position.segment == abortedSegment
+            && logRecord.position.offset == abortedOffset);
+      }
+    }
+  }
+
+  protected List<HistoryEvent> readEvents(ByteBuffer record) {
+    int count = record.getInt();
+    List<HistoryEvent> events = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      byte[] serializedEvent = new byte[record.getInt()];
+      record.get(serializedEvent);
+      events.add(deserialize(serializedEvent));
+    }
+    return events;
+  }
+
+  protected void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        throw new IOException("Unexpected end of history event log " + file);
+      }
+    }
+  }
+
+  // serialization /////////////////////////////////////////////////////////////
+
+  /**
+   * @throws ProcessEngineException if the event consists of types that are not accepted when it is read
+   */
+  public static byte[] serialize(HistoryEvent event) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new EventOutputStream(bytes)) {
+      out.writeObject(event);
+    } catch (IOException e) {
+      throw new ProcessEngineException("Cannot serialize history event " + event, e);
+    }
+    return bytes.toByteArray();
+  }
+
+  public static HistoryEvent deserialize(byte[] serializedEvent) {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serializedEvent))) {
+      in.setObjectInputFilter(EVENT_FILTER);
+      Object event = in.readObject();
+      if (!(event instanceof HistoryEvent historyEvent)) {
+        throw new InvalidClassException(event != null ? event.getClass().getName() : null, "not a history event");
+      }
+      return historyEvent;
+    } catch (IOException | ClassNotFoundException e) {
+      throw new ProcessEngineException("Cannot deserialize history event", e);
+    }
+  }
+
+  protected static boolean isEventType(Class<?> serialClass) {
+    return HistoryEvent.class.isAssignableFrom(serialClass) || EVENT_VALUE_TYPES.contains(serialClass);
+  }
+
+  // helper classes ////////////////////////////////////////////////////////////
+
+  /**
+   * Rejects the types that the {@link #EVENT_FILTER} rejects when the event is read.
+   */
+  protected static class EventOutputStream extends ObjectOutputStream {
+
+    public EventOutputStream(OutputStream out) throws IOException {
+      super(out);
+    }
+
+    @Override
+    protected void annotateClass(Class<?> serialClass) throws IOException {
+      if (!isEventType(serialClass)) {
+        throw new InvalidClassException(serialClass.getName(), "not accepted in the history event log");
+      }
+    }
+  }
+
+  /**
+   * The position of a record in the log: its segment, its offset in the segment and
+   * the offset after the record.
+   */
+  public static class LogPosition implements Comparable<LogPosition> {
+
+    protected final long segment;
+    protected final long offset;
+    protected final long end;
+
+    public LogPosition(long segment, long offset, long end) {
+      this.segment = segment;
+      this.offset = offset;
+      this.end = end;
+    }
+
+    public long getSegment() {
+      return segment;
+    }
+
+    public long getOffset() {
+      return offset;
+    }
+
+    public long getEnd() {
+      return end;
+    }
+
+    @Override
+    public int compareTo(LogPosition other) {
+      int result = Long.compare(segment, other.segment);
+      return result != 0 ? result : Long.compare(end, other.end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof LogPosition position)) {
+        return false;
+      }
+      return segment == position.segment && offset == position.offset;
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(segment) * 31 + Long.hashCode(offset);
+    }
+
+    @Override
+    public String toString() {
+      return segment + ":" + offset;
+    }
+  }
+
+  /**
+   * A record that is replayed on {@link #open()}: the events of a transaction and their position.
+   */
+  public static class LogRecord {
+
+    protected final LogPosition position;
+    protected final List<HistoryEvent> events;
+
+    public LogRecord(LogPosition position, List<HistoryEvent> events) {
+      this.position = position;
+      this.events = events;
+    }
+
+    public LogPosition getPosition() {
+      return position;
+    }
+
+    public List<HistoryEvent> getEvents() {
+      return events;
+    }
+  }
+
+}
@@ -414,8 +414,8 @@ public class DefaultDmnHistoryEventProducer implements DmnHistoryEventProducer {
   }
 
   protected HistoricProcessInstanceEventEntity getHistoricRootProcessInstance(String rootProcessInstanceId) {
-    return Context.getCommandContext().getDbEntityManager()
-      .selectById(HistoricProcessInstanceEventEntity.class, rootProcessInstanceId);
+    return Context.getCommandContext().getHistoricProcessInstanceManager()
+      .findHistoricProcessInstanceEventIncludingPending(rootProcessInstanceId);
   }
 
 }
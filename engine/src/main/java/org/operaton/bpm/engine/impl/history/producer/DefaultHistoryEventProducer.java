@@ -1311,8 +1311,8 @@ public class DefaultHistoryEventProducer implements HistoryEventProducer {
 
   protected HistoricProcessInstanceEventEntity getHistoricRootProcessInstance(String rootProcessInstanceId) {
     return Context.getCommandContext()
-      .getDbEntityManager()
-      .selectById(HistoricProcessInstanceEventEntity.class, rootProcessInstanceId);
+      .getHistoricProcessInstanceManager()
+      .findHistoricProcessInstanceEventIncludingPending(rootProcessInstanceId);
   }
 
   protected ProcessDefinition findProcessDefinitionById(String processDefinitionId) {
@@ -1325,13 +1325,13 @@ public class DefaultHistoryEventProducer implements HistoryEventProducer {
   protected HistoricBatchEntity getHistoricBatchById(String batchId) {
     return Context.getCommandContext()
       .getHistoricBatchManager()
-      .findHistoricBatchById(batchId);
+      .findHistoricBatchByIdIncludingPending(batchId);
   }
 
   protected HistoricBatchEntity getHistoricBatchByJobId(String jobId) {
     return Context.getCommandContext()
       .getHistoricBatchManager()
-      .findHistoricBatchByJobId(jobId);
+      .findHistoricBatchByJobIdIncludingPending(jobId);
   }
 
   protected void addRemovalTimeToHistoricJobLog(HistoricBatchEntity historicBatch) {
@@ -23,6 +23,9 @@ import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.cmd.CommandLogger;
 import org.operaton.bpm.engine.impl.context.Context;
 import org.operaton.bpm.engine.impl.context.ProcessEngineContextImpl;
+import org.operaton.bpm.engine.impl.metrics.MetricsRegistry;
+import org.operaton.bpm.engine.impl.util.ClassNameUtil;
+import org.operaton.bpm.engine.management.Metrics;
 
 /**
  * <p>Interceptor used for opening the {@link CommandContext} and {@link CommandInvocationContext}.</p>
@@ -96,6 +99,9 @@ public class CommandContextInterceptor extends CommandInterceptor {
     CommandInvocationContext commandInvocationContext = new CommandInvocationContext(command, processEngineConfiguration, isOuterCommand);
     Context.setCommandInvocationContext(commandInvocationContext);
 
+    MetricsRegistry latencyMetricsRegistry = openNew ? processEngineConfiguration.getLatencyMetricsRegistry() : null;
+    long startTime = latencyMetricsRegistry != null ? System.nanoTime() : 0L;
+
     try {
       if(openNew) {
         LOG.debugOpeningNewCommandContext();
@@ -119,7 +125,13 @@ public class CommandContextInterceptor extends CommandInterceptor {
       try {
         if (openNew) {
           LOG.closingCommandContext();
-          context.close(commandInvocationContext);
+          try {
+            context.close(commandInvocationContext);
+          } finally {
+            if (latencyMetricsRegistry != null) {
+              recordLatency(latencyMetricsRegistry, command, startTime);
+            }
+          }
         } else {
           commandInvocationContext.rethrow();
         }
@@ -136,6 +148,17 @@ public class CommandContextInterceptor extends CommandInterceptor {
     return null;
   }
 
+  protected void recordLatency(MetricsRegistry metricsRegistry, Command<?> command, long startTime) {
+    long latency = (System.nanoTime() - startTime) / 1000;
+    metricsRegistry.recordLatency(Metrics.COMMAND_EXECUTION_LATENCY, latency);
+
+    // anonymous class/lambda implementations of the Command interface are only counted in total
+    String className = ClassNameUtil.getClassNameWithoutPackage(command);
+    if (!command.getClass().isAnonymousClass() && !className.contains("$$Lambda")) {
+      metricsRegistry.recordCommandLatency(className, latency);
+    }
+  }
+
   protected boolean isFromSameEngine(CommandContext existingCommandContext) {
     return processEngineConfiguration == existingCommandContext.getProcessEngineConfiguration();
   }
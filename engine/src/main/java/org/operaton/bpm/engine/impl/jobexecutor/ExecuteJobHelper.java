@@ -23,6 +23,8 @@ import org.operaton.bpm.engine.impl.cmd.ExecuteJobsCmd;
 import org.operaton.bpm.engine.impl.interceptor.Command;
 import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
 import org.operaton.bpm.engine.impl.interceptor.ProcessDataContext;
+import org.operaton.bpm.engine.impl.metrics.MetricsRegistry;
+import org.operaton.bpm.engine.management.Metrics;
 
 public final class ExecuteJobHelper {
 
@@ -48,6 +50,8 @@ public final class ExecuteJobHelper {
 
   public static void executeJob(CommandExecutor commandExecutor, JobFailureCollector jobFailureCollector, Command<Void> cmd,
       ProcessEngineConfigurationImpl configuration) {
+    MetricsRegistry latencyMetricsRegistry = configuration != null ? configuration.getLatencyMetricsRegistry() : null;
+    long startTime = latencyMetricsRegistry != null ? System.nanoTime() : 0L;
     try {
       commandExecutor.execute(cmd);
     } catch (RuntimeException exception) {
@@ -59,6 +63,9 @@ public final class ExecuteJobHelper {
       // wrap the exception and throw it to indicate the ExecuteJobCmd failed
       throw LOG.wrapJobExecutionFailure(jobFailureCollector, exception);
     } finally {
+      if (latencyMetricsRegistry != null) {
+        latencyMetricsRegistry.recordLatency(Metrics.JOB_EXECUTION_LATENCY, (System.nanoTime() - startTime) / 1000);
+      }
       // preserve MDC properties before listener invocation and clear MDC for job listener
       ProcessDataContext processDataContext = null;
       if (configuration != null) {
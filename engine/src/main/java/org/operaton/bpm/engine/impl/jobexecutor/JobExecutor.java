@@ -72,6 +72,13 @@ public abstract class JobExecutor {
    */
   protected int backoffDecreaseThreshold = 100;
 
+  /**
+   * If true, jobs are acquired with <code>SELECT ... FOR UPDATE SKIP LOCKED</code> on databases
+   * that support it, so that concurrent job executors do not compete for the same jobs.
+   * Requires MySQL 8.0 or MariaDB 10.6 and later on these databases.
+   */
+  protected boolean acquireWithSkipLocked = false;
+
   protected String lockOwner = UUID.randomUUID().toString();
   protected int lockTimeInMillis = 5 * 60 * 1000;
 
@@ -98,7 +105,11 @@ public abstract class JobExecutor {
 
   protected void ensureInitialization() {
   if (acquireJobsCmdFactory == null) {
-    acquireJobsCmdFactory =  new DefaultAcquireJobsCommandFactory(this);
+    if (acquireWithSkipLocked) {
+      acquireJobsCmdFactory = new SkipLockedAcquireJobsCommandFactory(this);
+    } else {
+      acquireJobsCmdFactory = new DefaultAcquireJobsCommandFactory(this);
+    }
   }
     acquireJobsRunnable = new SequentialJobAcquisitionRunnable(this);
   }
@@ -353,6 +364,14 @@ public abstract class JobExecutor {
     this.acquireJobsCmdFactory = acquireJobsCmdFactory;
   }
 
+  public boolean isAcquireWithSkipLocked() {
+    return acquireWithSkipLocked;
+  }
+
+  public void setAcquireWithSkipLocked(boolean acquireWithSkipLocked) {
+    this.acquireWithSkipLocked = acquireWithSkipLocked;
+  }
+
   public boolean isActive() {
     return isActive;
   }
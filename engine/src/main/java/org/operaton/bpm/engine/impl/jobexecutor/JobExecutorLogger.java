@@ -253,4 +253,9 @@ public class JobExecutorLogger extends ProcessEngineLogger {
     logDebug("040", "Arithmetic exception occurred while computing total queue capacity for logging.");
   }
 
+  public void debugHistoryCleanupPartitionRemovedRows(int secondFrom, int secondTo, String tableName, long rows, long rowsPerSecond) {
+    logDebug("041", "History cleanup partition [{}, {}) removed {} rows from table '{}' ({} rows/s)",
+        secondFrom, secondTo, rows, tableName, rowsPerSecond);
+  }
+
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.jobexecutor;
+
+import org.operaton.bpm.engine.impl.cmd.SkipLockedAcquireJobsCmd;
+import org.operaton.bpm.engine.impl.interceptor.Command;
+
+public class SkipLockedAcquireJobsCommandFactory implements AcquireJobsCommandFactory {
+
+  protected JobExecutor jobExecutor;
+
+  public SkipLockedAcquireJobsCommandFactory(JobExecutor jobExecutor) {
+    this.jobExecutor = jobExecutor;
+  }
+
+  @Override
+  public Command<AcquiredJobs> getCommand(int numJobsToAcquire) {
+    return new SkipLockedAcquireJobsCmd(jobExecutor, numJobsToAcquire);
+  }
+}
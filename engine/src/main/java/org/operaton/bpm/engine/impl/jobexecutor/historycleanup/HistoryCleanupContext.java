@@ -25,6 +25,8 @@ public class HistoryCleanupContext {
   private int minuteFrom;
   private int minuteTo;
   private int maxRetries;
+  private Integer secondFrom;
+  private Integer secondTo;
 
   public HistoryCleanupContext(boolean immediatelyDue, int minuteFrom, int minuteTo, int maxRetries) {
     this.immediatelyDue = immediatelyDue;
@@ -69,4 +71,20 @@ public class HistoryCleanupContext {
   public void setMaxRetries(int maxRetries) {
     this.maxRetries = maxRetries;
   }
+
+  public Integer getSecondFrom() {
+    return secondFrom;
+  }
+
+  public void setSecondFrom(Integer secondFrom) {
+    this.secondFrom = secondFrom;
+  }
+
+  public Integer getSecondTo() {
+    return secondTo;
+  }
+
+  public void setSecondTo(Integer secondTo) {
+    this.secondTo = secondTo;
+  }
 }
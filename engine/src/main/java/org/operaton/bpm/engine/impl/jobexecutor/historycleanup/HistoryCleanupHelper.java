@@ -162,6 +162,22 @@ public final class HistoryCleanupHelper {
     return minuteChunks;
   }
 
+  /**
+   * Splits the seconds of an hour into the given number of partitions. Each partition is
+   * described by its first second (inclusive) and its last second (exclusive).
+   */
+  public static int[][] listSecondChunks(int numberOfChunks) throws IllegalArgumentException {
+    if (numberOfChunks <= 0 || numberOfChunks > 3600) {
+      throw new IllegalArgumentException("Number of chunks must be between 1 and 3600, but is " + numberOfChunks);
+    }
+    final int[][] secondChunks = new int[numberOfChunks][2];
+    for (int i = 0; i < numberOfChunks; i++) {
+      secondChunks[i][0] = 3600 * i / numberOfChunks;
+      secondChunks[i][1] = 3600 * (i + 1) / numberOfChunks;
+    }
+    return secondChunks;
+  }
+
   public static boolean isBatchWindowConfigured(CommandContext commandContext) {
     return commandContext.getProcessEngineConfiguration().getBatchWindowManager().isBatchWindowConfigured(commandContext.getProcessEngineConfiguration());
   }
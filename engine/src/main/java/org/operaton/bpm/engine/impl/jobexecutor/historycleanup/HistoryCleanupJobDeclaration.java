@@ -65,6 +65,8 @@ public class HistoryCleanupJobDeclaration extends JobDeclaration<HistoryCleanupC
     config.setImmediatelyDue(context.isImmediatelyDue());
     config.setMinuteFrom(context.getMinuteFrom());
     config.setMinuteTo(context.getMinuteTo());
+    config.setSecondFrom(context.getSecondFrom());
+    config.setSecondTo(context.getSecondTo());
     return config;
   }
 
@@ -54,10 +54,16 @@ public class HistoryCleanupJobHandler implements JobHandler<HistoryCleanupJobHan
     return new HistoryCleanupRemovalTime();
   }
 
+  protected HistoryCleanupRemovalTimePartition getPartitionedTimeBasedHandler() {
+    return new HistoryCleanupRemovalTimePartition();
+  }
+
   protected HistoryCleanupHandler initCleanupHandler(HistoryCleanupJobHandlerConfiguration configuration, CommandContext commandContext) {
     HistoryCleanupHandler cleanupHandler;
 
-    if (isHistoryCleanupStrategyRemovalTimeBased(commandContext)) {
+    if (isHistoryCleanupStrategyRemovalTimeBased(commandContext) && configuration.isPartitioned()) {
+      cleanupHandler = getPartitionedTimeBasedHandler();
+    } else if (isHistoryCleanupStrategyRemovalTimeBased(commandContext)) {
       cleanupHandler = getTimeBasedHandler();
     } else {
       cleanupHandler = new HistoryCleanupBatch();
@@ -36,6 +36,8 @@ public class HistoryCleanupJobHandlerConfiguration implements JobHandlerConfigur
   public static final String JOB_CONFIG_EXECUTE_AT_ONCE = "immediatelyDue";
   public static final String JOB_CONFIG_MINUTE_FROM = "minuteFrom";
   public static final String JOB_CONFIG_MINUTE_TO = "minuteTo";
+  public static final String JOB_CONFIG_SECOND_FROM = "secondFrom";
+  public static final String JOB_CONFIG_SECOND_TO = "secondTo";
 
   /**
    * Counts runs without data. Is used within batch window to calculate the delay between two job runs in case no data for cleanup was found.
@@ -54,6 +56,16 @@ public class HistoryCleanupJobHandlerConfiguration implements JobHandlerConfigur
 
   private int minuteTo = 59;
 
+  /**
+   * First second of the hour (inclusive) covered by a partitioned cleanup job, {@code null} if the job is not partitioned.
+   */
+  private Integer secondFrom;
+
+  /**
+   * Last second of the hour (exclusive) covered by a partitioned cleanup job, {@code null} if the job is not partitioned.
+   */
+  private Integer secondTo;
+
   @Override
   public String toCanonicalString() {
     JsonObject json = JsonUtil.createObject();
@@ -61,6 +73,10 @@ public class HistoryCleanupJobHandlerConfiguration implements JobHandlerConfigur
     JsonUtil.addField(json, JOB_CONFIG_EXECUTE_AT_ONCE, immediatelyDue);
     JsonUtil.addField(json, JOB_CONFIG_MINUTE_FROM, minuteFrom);
     JsonUtil.addField(json, JOB_CONFIG_MINUTE_TO, minuteTo);
+    if (isPartitioned()) {
+      JsonUtil.addField(json, JOB_CONFIG_SECOND_FROM, secondFrom);
+      JsonUtil.addField(json, JOB_CONFIG_SECOND_TO, secondTo);
+    }
     return json.toString();
   }
 
@@ -74,6 +90,10 @@ public class HistoryCleanupJobHandlerConfiguration implements JobHandlerConfigur
     }
     config.setMinuteFrom(JsonUtil.getInt(jsonObject, JOB_CONFIG_MINUTE_FROM));
     config.setMinuteTo(JsonUtil.getInt(jsonObject, JOB_CONFIG_MINUTE_TO));
+    if (jsonObject.has(JOB_CONFIG_SECOND_FROM) && jsonObject.has(JOB_CONFIG_SECOND_TO)) {
+      config.setSecondFrom(JsonUtil.getInt(jsonObject, JOB_CONFIG_SECOND_FROM));
+      config.setSecondTo(JsonUtil.getInt(jsonObject, JOB_CONFIG_SECOND_TO));
+    }
     return config;
   }
 
@@ -124,5 +144,25 @@ public class HistoryCleanupJobHandlerConfiguration implements JobHandlerConfigur
   public void setMinuteTo(int minuteTo) {
     this.minuteTo = minuteTo;
   }
+
+  public Integer getSecondFrom() {
+    return secondFrom;
+  }
+
+  public void setSecondFrom(Integer secondFrom) {
+    this.secondFrom = secondFrom;
+  }
+
+  public Integer getSecondTo() {
+    return secondTo;
+  }
+
+  public void setSecondTo(Integer secondTo) {
+    this.secondTo = secondTo;
+  }
+
+  public boolean isPartitioned() {
+    return secondFrom != null && secondTo != null;
+  }
 }
 
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.jobexecutor.historycleanup;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.batch.history.HistoricBatchEntity;
+import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.db.DbEntity;
+import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.operaton.bpm.engine.impl.history.event.HistoricDecisionInputInstanceEntity;
+import org.operaton.bpm.engine.impl.history.event.HistoricDecisionInstanceEntity;
+import org.operaton.bpm.engine.impl.history.event.HistoricDecisionOutputInstanceEntity;
+import org.operaton.bpm.engine.impl.history.event.HistoricDetailEventEntity;
+import org.operaton.bpm.engine.impl.history.event.HistoricExternalTaskLogEntity;
+import org.operaton.bpm.engine.impl.history.event.UserOperationLogEntryEventEntity;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.jobexecutor.JobExecutorLogger;
+import org.operaton.bpm.engine.impl.persistence.entity.AttachmentEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.AuthorizationEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.CommentEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoricIdentityLinkLogEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoricIncidentEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoricJobLogEventEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoricTaskInstanceEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.TableDataManager;
+import org.operaton.bpm.engine.impl.persistence.entity.TaskMeterLogEntity;
+import org.operaton.bpm.engine.impl.util.ClockUtil;
+import org.operaton.bpm.engine.management.Metrics;
+
+/**
+ * Removal-time-based history cleanup of a single partition. A partition owns a range of the
+ * seconds of an hour of the removal time (see {@link HistoryCleanupJobHandlerConfiguration#getSecondFrom()}),
+ * so that an arbitrary number of cleanup jobs can work side by side without competing for the same rows.
+ *
+ * <p>Every table is cleaned up separately: the ids of the next chunk are selected in id order
+ * and the chunk is deleted as a bounded id range. The number of removed rows is reported per table.</p>
+ */
+public class HistoryCleanupRemovalTimePartition extends HistoryCleanupHandler {
+
+  protected static final JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
+  protected static final String REMOVAL_TIME_COLUMN = "REMOVAL_TIME_";
+
+  /**
+   * The tables in the order they are cleaned up, which is the order of the
+   * non-partitioned {@link HistoryCleanupRemovalTime}.
+   */
+  protected static final List<CleanupTable> PROCESS_TABLES = List.of(
+      new CleanupTable(HistoricActivityInstanceEntity.class, "ACT_HI_ACTINST"),
+      new CleanupTable(HistoricTaskInstanceEntity.class, "ACT_HI_TASKINST"),
+      new CleanupTable(HistoricVariableInstanceEntity.class, "ACT_HI_VARINST"),
+      new CleanupTable(HistoricDetailEventEntity.class, "ACT_HI_DETAIL"),
+      new CleanupTable(HistoricIncidentEntity.class, "ACT_HI_INCIDENT"),
+      new CleanupTable(HistoricExternalTaskLogEntity.class, "ACT_HI_EXT_TASK_LOG"),
+      new CleanupTable(HistoricJobLogEventEntity.class, "ACT_HI_JOB_LOG"),
+      new CleanupTable(UserOperationLogEntryEventEntity.class, "ACT_HI_OP_LOG"),
+      new CleanupTable(HistoricIdentityLinkLogEntity.class, "ACT_HI_IDENTITYLINK"),
+      new CleanupTable(CommentEntity.class, "ACT_HI_COMMENT"),
+      new CleanupTable(AttachmentEntity.class, "ACT_HI_ATTACHMENT"),
+      new CleanupTable(ByteArrayEntity.class, "ACT_GE_BYTEARRAY"),
+      new CleanupTable(AuthorizationEntity.class, "ACT_RU_AUTHORIZATION"),
+      new CleanupTable(HistoricProcessInstanceEntity.class, "ACT_HI_PROCINST"));
+
+  protected static final List<CleanupTable> DMN_TABLES = List.of(
+      new CleanupTable(HistoricDecisionInputInstanceEntity.class, "ACT_HI_DEC_IN"),
+      new CleanupTable(HistoricDecisionOutputInstanceEntity.class, "ACT_HI_DEC_OUT"),
+      new CleanupTable(HistoricDecisionInstanceEntity.class, "ACT_HI_DECINST"));
+
+  protected static final CleanupTable BATCH_TABLE = new CleanupTable(HistoricBatchEntity.class, "ACT_HI_BATCH");
+
+  protected static final CleanupTable TASK_METRICS_TABLE = new CleanupTable(TaskMeterLogEntity.class, "ACT_RU_TASK_METER_LOG", "TIMESTAMP_");
+
+  protected Map<CleanupTable, DbOperation> deleteOperations = new LinkedHashMap<>();
+  protected boolean hasFullChunk;
+  protected long startTime;
+
+  @Override
+  public void performCleanup() {
+    startTime = System.nanoTime();
+    Date now = ClockUtil.getCurrentTime();
+
+    for (CleanupTable table : PROCESS_TABLES) {
+      performTableCleanup(table, now);
+    }
+
+    if (isDmnEnabled()) {
+      for (CleanupTable table : DMN_TABLES) {
+        performTableCleanup(table, now);
+      }
+    }
+
+    performTableCleanup(BATCH_TABLE, now);
+
+    Integer taskMetricsTimeToLive = getTaskMetricsTimeToLive();
+    if (taskMetricsTimeToLive != null) {
+      // data inserted prior to now minus timeToLive-days can be removed
+      Date removalTime = Date.from(now.toInstant().minus(taskMetricsTimeToLive, ChronoUnit.DAYS));
+      performTableCleanup(TASK_METRICS_TABLE, removalTime);
+    }
+  }
+
+  protected void performTableCleanup(CleanupTable table, Date removalTime) {
+    TableDataManager tableDataManager = Context.getCommandContext().getTableDataManager();
+    int batchSize = getBatchSize();
+
+    List<String> ids = tableDataManager.findHistoryCleanupPartitionIds(table.name, table.timeColumn, removalTime,
+        configuration.getSecondFrom(), configuration.getSecondTo(), batchSize);
+
+    if (!ids.isEmpty()) {
+      DbOperation deleteOperation = tableDataManager.deleteHistoryCleanupPartitionChunk(table.entityType, table.name,
+          table.timeColumn, removalTime, configuration.getSecondFrom(), configuration.getSecondTo(),
+          ids.get(0), ids.get(ids.size() - 1));
+
+      deleteOperations.put(table, deleteOperation);
+      hasFullChunk |= ids.size() == batchSize;
+    }
+  }
+
+  @Override
+  public void execute(CommandContext commandContext) {
+    logRemovedRows();
+    super.execute(commandContext);
+  }
+
+  protected void logRemovedRows() {
+    long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+
+    for (Map.Entry<CleanupTable, DbOperation> deleteOperation : deleteOperations.entrySet()) {
+      long rows = deleteOperation.getValue().getRowsAffected();
+      LOG.debugHistoryCleanupPartitionRemovedRows(configuration.getSecondFrom(), configuration.getSecondTo(),
+          deleteOperation.getKey().name, rows, rows * 1000 / elapsedMillis);
+    }
+  }
+
+  @Override
+  protected Map<String, Long> reportMetrics() {
+    Map<String, Long> reports = new HashMap<>();
+
+    for (Map.Entry<CleanupTable, DbOperation> deleteOperation : deleteOperations.entrySet()) {
+      CleanupTable table = deleteOperation.getKey();
+      long rows = deleteOperation.getValue().getRowsAffected();
+
+      if (rows > 0) {
+        reports.put(Metrics.HISTORY_CLEANUP_REMOVED_ROWS + "-" + table.name.toLowerCase(), rows);
+      }
+
+      String instanceMetric = getInstanceMetric(table.entityType);
+      if (instanceMetric != null) {
+        reports.put(instanceMetric, rows);
+      }
+    }
+
+    return reports;
+  }
+
+  /**
+   * @return the name of the metric that the non-partitioned cleanup reports for the given entity type
+   */
+  protected String getInstanceMetric(Class<? extends DbEntity> entityType) {
+    if (entityType == HistoricProcessInstanceEntity.class) {
+      return Metrics.HISTORY_CLEANUP_REMOVED_PROCESS_INSTANCES;
+    } else if (entityType == HistoricDecisionInstanceEntity.class) {
+      return Metrics.HISTORY_CLEANUP_REMOVED_DECISION_INSTANCES;
+    } else if (entityType == HistoricBatchEntity.class) {
+      return Metrics.HISTORY_CLEANUP_REMOVED_BATCH_OPERATIONS;
+    } else if (entityType == TaskMeterLogEntity.class) {
+      return Metrics.HISTORY_CLEANUP_REMOVED_TASK_METRICS;
+    }
+    return null;
+  }
+
+  @Override
+  protected boolean shouldRescheduleNow() {
+    return hasFullChunk;
+  }
+
+  protected boolean isDmnEnabled() {
+    return Context
+        .getProcessEngineConfiguration()
+        .isDmnEnabled();
+  }
+
+  protected Integer getTaskMetricsTimeToLive() {
+    return Context
+        .getProcessEngineConfiguration()
+        .getParsedTaskMetricsTimeToLive();
+  }
+
+  public int getBatchSize() {
+    return Context
+        .getProcessEngineConfiguration()
+        .getHistoryCleanupBatchSize();
+  }
+
+  protected static class CleanupTable {
+
+    protected final Class<? extends DbEntity> entityType;
+    protected final String name;
+    protected final String timeColumn;
+
+    public CleanupTable(Class<? extends DbEntity> entityType, String name) {
+      this(entityType, name, REMOVAL_TIME_COLUMN);
+    }
+
+    public CleanupTable(Class<? extends DbEntity> entityType, String name, String timeColumn) {
+      this.entityType = entityType;
+      this.name = name;
+      this.timeColumn = timeColumn;
+    }
+  }
+
+}
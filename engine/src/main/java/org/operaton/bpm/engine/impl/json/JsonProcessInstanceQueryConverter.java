@@ -0,0 +1,400 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.operaton.bpm.engine.impl.json;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.impl.ProcessInstanceQueryImpl;
+import org.operaton.bpm.engine.impl.QueryOperator;
+import org.operaton.bpm.engine.impl.QueryVariableValue;
+import org.operaton.bpm.engine.impl.persistence.entity.SuspensionState;
+import org.operaton.bpm.engine.impl.util.JsonUtil;
+
+/**
+ * Converts the criteria of a {@link ProcessInstanceQueryImpl}. Ordering properties
+ * are not converted. Variable conditions are only supported for untyped
+ * <code>String</code>, <code>Boolean</code>, <code>Short</code>, <code>Integer</code>,
+ * <code>Long</code>, <code>Double</code> and <code>Date</code> values, see
+ * {@link #isSupported(ProcessInstanceQueryImpl)}.
+ */
+public class JsonProcessInstanceQueryConverter extends JsonObjectConverter<ProcessInstanceQueryImpl> {
+
+  public static final JsonProcessInstanceQueryConverter INSTANCE = new JsonProcessInstanceQueryConverter();
+
+  public static final String PROCESS_INSTANCE_ID = "processInstanceId";
+  public static final String ROOT_PROCESS_INSTANCE_ID = "rootProcessInstanceId";
+  public static final String PROCESS_INSTANCE_IDS = "processInstanceIds";
+  public static final String BUSINESS_KEY = "businessKey";
+  public static final String BUSINESS_KEY_LIKE = "businessKeyLike";
+  public static final String PROCESS_DEFINITION_ID = "processDefinitionId";
+  public static final String PROCESS_DEFINITION_KEY = "processDefinitionKey";
+  public static final String PROCESS_DEFINITION_KEYS = "processDefinitionKeys";
+  public static final String PROCESS_DEFINITION_KEY_NOT_IN = "processDefinitionKeyNotIn";
+  public static final String DEPLOYMENT_ID = "deploymentId";
+  public static final String SUPER_PROCESS_INSTANCE_ID = "superProcessInstanceId";
+  public static final String SUB_PROCESS_INSTANCE_ID = "subProcessInstanceId";
+  public static final String ACTIVE = "active";
+  public static final String SUSPENDED = "suspended";
+  public static final String WITH_INCIDENT = "withIncident";
+  public static final String INCIDENT_TYPE = "incidentType";
+  public static final String INCIDENT_ID = "incidentId";
+  public static final String INCIDENT_MESSAGE = "incidentMessage";
+  public static final String INCIDENT_MESSAGE_LIKE = "incidentMessageLike";
+  public static final String CASE_INSTANCE_ID = "caseInstanceId";
+  public static final String SUPER_CASE_INSTANCE_ID = "superCaseInstanceId";
+  public static final String SUB_CASE_INSTANCE_ID = "subCaseInstanceId";
+  public static final String ACTIVITY_IDS = "activityIds";
+  public static final String ROOT_PROCESS_INSTANCES = "rootProcessInstances";
+  public static final String LEAF_PROCESS_INSTANCES = "leafProcessInstances";
+  public static final String TENANT_IDS = "tenantIds";
+  public static final String WITHOUT_TENANT_ID = "withoutTenantId";
+  public static final String PROCESS_DEFINITION_WITHOUT_TENANT_ID = "processDefinitionWithoutTenantId";
+  public static final String VARIABLES = "variables";
+  public static final String VARIABLE_NAMES_IGNORE_CASE = "variableNamesIgnoreCase";
+  public static final String VARIABLE_VALUES_IGNORE_CASE = "variableValuesIgnoreCase";
+  public static final String OR_QUERIES = "orQueries";
+
+  public static final String NAME = "name";
+  public static final String VALUE = "value";
+  public static final String VALUE_TYPE = "valueType";
+  public static final String OPERATOR = "operator";
+  public static final String NAME_IGNORE_CASE = "nameIgnoreCase";
+  public static final String VALUE_IGNORE_CASE = "valueIgnoreCase";
+
+  protected static final String VALUE_TYPE_SHORT = "short";
+  protected static final String VALUE_TYPE_INTEGER = "integer";
+  protected static final String VALUE_TYPE_LONG = "long";
+  protected static final String VALUE_TYPE_DOUBLE = "double";
+  protected static final String VALUE_TYPE_DATE = "date";
+
+  /**
+   * @return <code>true</code> if all criteria of the query and its or-queries can be
+   *   converted without changing the result of the query
+   */
+  public boolean isSupported(ProcessInstanceQueryImpl query) {
+    for (ProcessInstanceQueryImpl orQuery : query.getQueries()) {
+      for (QueryVariableValue variable : orQuery.getQueryVariableValues()) {
+        if (!isSupported(variable)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  protected boolean isSupported(QueryVariableValue variable) {
+    Object value = variable.getValue();
+    return variable.getTypedValue().getType() == null
+        && (value == null
+          || value instanceof String
+          || value instanceof Boolean
+          || value instanceof Short
+          || value instanceof Integer
+          || value instanceof Long
+          || value instanceof Double
+          || value instanceof Date);
+  }
+
+  @Override
+  public JsonObject toJsonObject(ProcessInstanceQueryImpl query) {
+    return toJsonObject(query, false);
+  }
+
+  protected JsonObject toJsonObject(ProcessInstanceQueryImpl query, boolean isOrQueryActive) {
+    JsonObject json = JsonUtil.createObject();
+
+    JsonUtil.addField(json, PROCESS_INSTANCE_ID, query.getProcessInstanceId());
+    JsonUtil.addField(json, ROOT_PROCESS_INSTANCE_ID, query.getRootProcessInstanceId());
+    if (query.getProcessInstanceIds() != null) {
+      JsonUtil.addListField(json, PROCESS_INSTANCE_IDS, List.copyOf(query.getProcessInstanceIds()));
+    }
+    JsonUtil.addField(json, BUSINESS_KEY, query.getBusinessKey());
+    JsonUtil.addField(json, BUSINESS_KEY_LIKE, query.getBusinessKeyLike());
+    JsonUtil.addField(json, PROCESS_DEFINITION_ID, query.getProcessDefinitionId());
+    JsonUtil.addField(json, PROCESS_DEFINITION_KEY, query.getProcessDefinitionKey());
+    JsonUtil.addArrayField(json, PROCESS_DEFINITION_KEYS, query.getProcessDefinitionKeys());
+    JsonUtil.addArrayField(json, PROCESS_DEFINITION_KEY_NOT_IN, query.getProcessDefinitionKeyNotIn());
+    JsonUtil.addField(json, DEPLOYMENT_ID, query.getDeploymentId());
+    JsonUtil.addField(json, SUPER_PROCESS_INSTANCE_ID, query.getSuperProcessInstanceId());
+    JsonUtil.addField(json, SUB_PROCESS_INSTANCE_ID, query.getSubProcessInstanceId());
+    addSuspensionStateField(json, query.getSuspensionState());
+    JsonUtil.addDefaultField(json, WITH_INCIDENT, false, query.isWithIncident());
+    JsonUtil.addField(json, INCIDENT_TYPE, query.getIncidentType());
+    JsonUtil.addField(json, INCIDENT_ID, query.getIncidentId());
+    JsonUtil.addField(json, INCIDENT_MESSAGE, query.getIncidentMessage());
+    JsonUtil.addField(json, INCIDENT_MESSAGE_LIKE, query.getIncidentMessageLike());
+    JsonUtil.addField(json, CASE_INSTANCE_ID, query.getCaseInstanceId());
+    JsonUtil.addField(json, SUPER_CASE_INSTANCE_ID, query.getSuperCaseInstanceId());
+    JsonUtil.addField(json, SUB_CASE_INSTANCE_ID, query.getSubCaseInstanceId());
+    JsonUtil.addArrayField(json, ACTIVITY_IDS, query.getActivityIds());
+    JsonUtil.addDefaultField(json, ROOT_PROCESS_INSTANCES, false, query.isRootProcessInstances());
+    JsonUtil.addDefaultField(json, LEAF_PROCESS_INSTANCES, false, query.isLeafProcessInstances());
+    addTenantIdFields(json, query);
+    JsonUtil.addDefaultField(json, PROCESS_DEFINITION_WITHOUT_TENANT_ID, false, query.isProcessDefinitionWithoutTenantId());
+    JsonUtil.addDefaultField(json, VARIABLE_NAMES_IGNORE_CASE, false, query.isVariableNamesIgnoreCase());
+    JsonUtil.addDefaultField(json, VARIABLE_VALUES_IGNORE_CASE, false, query.isVariableValuesIgnoreCase());
+    addVariablesField(json, query.getQueryVariableValues());
+
+    if (query.getQueries().size() > 1 && !isOrQueryActive) {
+      JsonArray orQueries = JsonUtil.createArray();
+
+      for (ProcessInstanceQueryImpl orQuery : query.getQueries()) {
+        if (orQuery != null && orQuery.isOrQueryActive()) {
+          orQueries.add(toJsonObject(orQuery, true));
+        }
+      }
+
+      JsonUtil.addField(json, OR_QUERIES, orQueries);
+    }
+
+    return json;
+  }
+
+  protected void addSuspensionStateField(JsonObject jsonObject, SuspensionState suspensionState) {
+    if (suspensionState != null) {
+      if (suspensionState.equals(SuspensionState.ACTIVE)) {
+        JsonUtil.addField(jsonObject, ACTIVE, true);
+      }
+      else if (suspensionState.equals(SuspensionState.SUSPENDED)) {
+        JsonUtil.addField(jsonObject, SUSPENDED, true);
+      }
+    }
+  }
+
+  protected void addTenantIdFields(JsonObject jsonObject, ProcessInstanceQueryImpl query) {
+    if (query.getTenantIds() != null) {
+      JsonUtil.addArrayField(jsonObject, TENANT_IDS, query.getTenantIds());
+    }
+    else if (query.isTenantIdSet()) {
+      JsonUtil.addField(jsonObject, WITHOUT_TENANT_ID, true);
+    }
+  }
+
+  protected void addVariablesField(JsonObject jsonObject, List<QueryVariableValue> variables) {
+    if (!variables.isEmpty()) {
+      JsonArray variablesArray = JsonUtil.createArray();
+      for (QueryVariableValue variable : variables) {
+        variablesArray.add(toJsonObject(variable));
+      }
+      JsonUtil.addField(jsonObject, VARIABLES, variablesArray);
+    }
+  }
+
+  protected JsonObject toJsonObject(QueryVariableValue variable) {
+    if (!isSupported(variable)) {
+      throw new ProcessEngineException("Cannot convert the value of query variable '" + variable.getName() + "' to json");
+    }
+
+    JsonObject jsonObject = JsonUtil.createObject();
+    JsonUtil.addField(jsonObject, NAME, variable.getName());
+    JsonUtil.addField(jsonObject, OPERATOR, variable.getOperator().name());
+    JsonUtil.addDefaultField(jsonObject, NAME_IGNORE_CASE, false, variable.isVariableNameIgnoreCase());
+    JsonUtil.addDefaultField(jsonObject, VALUE_IGNORE_CASE, false, variable.isVariableValueIgnoreCase());
+
+    Object value = variable.getValue();
+    if (value instanceof Date date) {
+      JsonUtil.addDateField(jsonObject, VALUE, date);
+      JsonUtil.addField(jsonObject, VALUE_TYPE, VALUE_TYPE_DATE);
+    }
+    else {
+      JsonUtil.addFieldRawValue(jsonObject, VALUE, value);
+      if (value instanceof Short) {
+        JsonUtil.addField(jsonObject, VALUE_TYPE, VALUE_TYPE_SHORT);
+      }
+      else if (value instanceof Integer) {
+        JsonUtil.addField(jsonObject, VALUE_TYPE, VALUE_TYPE_INTEGER);
+      }
+      else if (value instanceof Long) {
+        JsonUtil.addField(jsonObject, VALUE_TYPE, VALUE_TYPE_LONG);
+      }
+      else if (value instanceof Double) {
+        JsonUtil.addField(jsonObject, VALUE_TYPE, VALUE_TYPE_DOUBLE);
+      }
+    }
+
+    return jsonObject;
+  }
+
+  @Override
+  public ProcessInstanceQueryImpl toObject(JsonObject json) {
+    return toObject(json, false);
+  }
+
+  protected ProcessInstanceQueryImpl toObject(JsonObject json, boolean isOrQuery) {
+    ProcessInstanceQueryImpl query = new ProcessInstanceQueryImpl();
+    if (isOrQuery) {
+      query.setOrQueryActive();
+    }
+    if (json.has(OR_QUERIES)) {
+      for (JsonElement jsonElement : JsonUtil.getArray(json, OR_QUERIES)) {
+        query.addOrQuery(toObject(JsonUtil.getObject(jsonElement), true));
+      }
+    }
+    if (json.has(PROCESS_INSTANCE_ID)) {
+      query.processInstanceId(JsonUtil.getString(json, PROCESS_INSTANCE_ID));
+    }
+    if (json.has(ROOT_PROCESS_INSTANCE_ID)) {
+      query.rootProcessInstanceId(JsonUtil.getString(json, ROOT_PROCESS_INSTANCE_ID));
+    }
+    if (json.has(PROCESS_INSTANCE_IDS)) {
+      query.processInstanceIds(new HashSet<>(JsonUtil.asStringList(JsonUtil.getArray(json, PROCESS_INSTANCE_IDS))));
+    }
+    if (json.has(BUSINESS_KEY)) {
+      query.processInstanceBusinessKey(JsonUtil.getString(json, BUSINESS_KEY));
+    }
+    if (json.has(BUSINESS_KEY_LIKE)) {
+      query.processInstanceBusinessKeyLike(JsonUtil.getString(json, BUSINESS_KEY_LIKE));
+    }
+    if (json.has(PROCESS_DEFINITION_ID)) {
+      query.processDefinitionId(JsonUtil.getString(json, PROCESS_DEFINITION_ID));
+    }
+    if (json.has(PROCESS_DEFINITION_KEY)) {
+      query.processDefinitionKey(JsonUtil.getString(json, PROCESS_DEFINITION_KEY));
+    }
+    if (json.has(PROCESS_DEFINITION_KEYS)) {
+      query.processDefinitionKeyIn(getArray(json, PROCESS_DEFINITION_KEYS));
+    }
+    if (json.has(PROCESS_DEFINITION_KEY_NOT_IN)) {
+      query.processDefinitionKeyNotIn(getArray(json, PROCESS_DEFINITION_KEY_NOT_IN));
+    }
+    if (json.has(DEPLOYMENT_ID)) {
+      query.deploymentId(JsonUtil.getString(json, DEPLOYMENT_ID));
+    }
+    if (json.has(SUPER_PROCESS_INSTANCE_ID)) {
+      query.superProcessInstanceId(JsonUtil.getString(json, SUPER_PROCESS_INSTANCE_ID));
+    }
+    if (json.has(SUB_PROCESS_INSTANCE_ID)) {
+      query.subProcessInstanceId(JsonUtil.getString(json, SUB_PROCESS_INSTANCE_ID));
+    }
+    if (json.has(ACTIVE) && JsonUtil.getBoolean(json, ACTIVE)) {
+      query.active();
+    }
+    if (json.has(SUSPENDED) && JsonUtil.getBoolean(json, SUSPENDED)) {
+      query.suspended();
+    }
+    if (json.has(WITH_INCIDENT) && JsonUtil.getBoolean(json, WITH_INCIDENT)) {
+      query.withIncident();
+    }
+    if (json.has(INCIDENT_TYPE)) {
+      query.incidentType(JsonUtil.getString(json, INCIDENT_TYPE));
+    }
+    if (json.has(INCIDENT_ID)) {
+      query.incidentId(JsonUtil.getString(json, INCIDENT_ID));
+    }
+    if (json.has(INCIDENT_MESSAGE)) {
+      query.incidentMessage(JsonUtil.getString(json, INCIDENT_MESSAGE));
+    }
+    if (json.has(INCIDENT_MESSAGE_LIKE)) {
+      query.incidentMessageLike(JsonUtil.getString(json, INCIDENT_MESSAGE_LIKE));
+    }
+    if (json.has(CASE_INSTANCE_ID)) {
+      query.caseInstanceId(JsonUtil.getString(json, CASE_INSTANCE_ID));
+    }
+    if (json.has(SUPER_CASE_INSTANCE_ID)) {
+      query.superCaseInstanceId(JsonUtil.getString(json, SUPER_CASE_INSTANCE_ID));
+    }
+    if (json.has(SUB_CASE_INSTANCE_ID)) {
+      query.subCaseInstanceId(JsonUtil.getString(json, SUB_CASE_INSTANCE_ID));
+    }
+    if (json.has(ACTIVITY_IDS)) {
+      query.activityIdIn(getArray(json, ACTIVITY_IDS));
+    }
+    if (json.has(ROOT_PROCESS_INSTANCES) && JsonUtil.getBoolean(json, ROOT_PROCESS_INSTANCES)) {
+      query.rootProcessInstances();
+    }
+    if (json.has(LEAF_PROCESS_INSTANCES) && JsonUtil.getBoolean(json, LEAF_PROCESS_INSTANCES)) {
+      query.leafProcessInstances();
+    }
+    if (json.has(TENANT_IDS)) {
+      query.tenantIdIn(getArray(json, TENANT_IDS));
+    }
+    if (json.has(WITHOUT_TENANT_ID)) {
+      query.withoutTenantId();
+    }
+    if (json.has(PROCESS_DEFINITION_WITHOUT_TENANT_ID) && JsonUtil.getBoolean(json, PROCESS_DEFINITION_WITHOUT_TENANT_ID)) {
+      query.processDefinitionWithoutTenantId();
+    }
+    if (json.has(VARIABLES)) {
+      addVariables(query, JsonUtil.getArray(json, VARIABLES));
+    }
+    if (json.has(VARIABLE_NAMES_IGNORE_CASE) && JsonUtil.getBoolean(json, VARIABLE_NAMES_IGNORE_CASE)) {
+      query.matchVariableNamesIgnoreCase();
+    }
+    if (json.has(VARIABLE_VALUES_IGNORE_CASE) && JsonUtil.getBoolean(json, VARIABLE_VALUES_IGNORE_CASE)) {
+      query.matchVariableValuesIgnoreCase();
+    }
+
+    return query;
+  }
+
+  protected String[] getArray(JsonObject json, String memberName) {
+    return JsonUtil.asStringList(JsonUtil.getArray(json, memberName)).toArray(new String[0]);
+  }
+
+  protected void addVariables(ProcessInstanceQueryImpl query, JsonArray variables) {
+    for (JsonElement variable : variables) {
+      JsonObject variableObj = JsonUtil.getObject(variable);
+      String name = JsonUtil.getString(variableObj, NAME);
+      Object value = getVariableValue(variableObj);
+      QueryOperator operator = QueryOperator.valueOf(JsonUtil.getString(variableObj, OPERATOR));
+
+      switch (operator) {
+        case EQUALS -> query.variableValueEquals(name, value);
+        case NOT_EQUALS -> query.variableValueNotEquals(name, value);
+        case GREATER_THAN -> query.variableValueGreaterThan(name, value);
+        case GREATER_THAN_OR_EQUAL -> query.variableValueGreaterThanOrEqual(name, value);
+        case LESS_THAN -> query.variableValueLessThan(name, value);
+        case LESS_THAN_OR_EQUAL -> query.variableValueLessThanOrEqual(name, value);
+        case LIKE -> query.variableValueLike(name, (String) value);
+        case NOT_LIKE -> query.variableValueNotLike(name, (String) value);
+      }
+
+      List<QueryVariableValue> queryVariableValues = query.getQueryVariableValues();
+      QueryVariableValue queryVariableValue = queryVariableValues.get(queryVariableValues.size() - 1);
+      queryVariableValue.setVariableNameIgnoreCase(JsonUtil.getBoolean(variableObj, NAME_IGNORE_CASE));
+      queryVariableValue.setVariableValueIgnoreCase(JsonUtil.getBoolean(variableObj, VALUE_IGNORE_CASE));
+    }
+  }
+
+  protected Object getVariableValue(JsonObject variableObj) {
+    if (!variableObj.has(VALUE)) {
+      return null;
+    }
+
+    String valueType = JsonUtil.getString(variableObj, VALUE_TYPE, null);
+    if (valueType == null) {
+      return JsonUtil.getRawObject(variableObj, VALUE);
+    }
+
+    return switch (valueType) {
+      case VALUE_TYPE_SHORT -> (short) JsonUtil.getInt(variableObj, VALUE);
+      case VALUE_TYPE_INTEGER -> JsonUtil.getInt(variableObj, VALUE);
+      case VALUE_TYPE_LONG -> JsonUtil.getLong(variableObj, VALUE);
+      case VALUE_TYPE_DOUBLE -> variableObj.get(VALUE).getAsDouble();
+      case VALUE_TYPE_DATE -> new Date(JsonUtil.getLong(variableObj, VALUE));
+      default -> throw new ProcessEngineException("Unknown query variable value type '" + valueType + "'");
+    };
+  }
+
+}
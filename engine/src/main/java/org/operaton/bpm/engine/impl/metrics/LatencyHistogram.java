@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.operaton.bpm.engine.management.LatencyStatistics;
+
+/**
+ * A latency histogram with fixed log-linear buckets, based on {@link LongAdder}s.
+ * <p>
+ * Values below {@link #SUB_BUCKET_COUNT} are counted exactly. Every power of two above
+ * is split into {@link #SUB_BUCKET_COUNT} linear buckets, which bounds the relative error of
+ * the reported percentiles to 1/{@link #SUB_BUCKET_COUNT}. Recording a value does not allocate
+ * and does not block concurrent recorders.
+ *
+ * @see LatencyStatistics
+ */
+public class LatencyHistogram {
+
+  protected static final int SUB_BUCKET_BITS = 4;
+  protected static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  protected static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+
+  /** values above are counted in the last bucket (about 19 hours in microseconds) */
+  public static final long MAX_TRACKABLE_VALUE = (1L << 36) - 1;
+
+  protected static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_VALUE) + 1;
+
+  protected final String name;
+  protected final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+  protected final LongAccumulator max = new LongAccumulator(Math::max, 0);
+  protected final LongAccumulator intervalMax = new LongAccumulator(Math::max, 0);
+
+  public LatencyHistogram(String name) {
+    this.name = name;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records a latency value.
+   *
+   * @param value the latency in microseconds, negative values are recorded as zero
+   */
+  public void record(long value) {
+    long trackedValue = Math.min(Math.max(value, 0), MAX_TRACKABLE_VALUE);
+    buckets[bucketIndex(trackedValue)].increment();
+    max.accumulate(trackedValue);
+    intervalMax.accumulate(trackedValue);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the current number of recorded values per bucket
+   */
+  public long[] getBucketCounts() {
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets[i].sum();
+    }
+    return counts;
+  }
+
+  /**
+   * @return the statistics over all values recorded since the histogram was created or cleared
+   */
+  public LatencyStatistics getStatistics() {
+    return createStatistics(name, getBucketCounts(), max.get());
+  }
+
+  /**
+   * @return the highest value recorded since the last call of this method, which starts a new interval
+   */
+  public long getAndResetIntervalMax() {
+    return intervalMax.getThenReset();
+  }
+
+  public void clear() {
+    for (LongAdder bucket : buckets) {
+      bucket.reset();
+    }
+    max.reset();
+    intervalMax.reset();
+  }
+
+  /**
+   * Creates statistics from bucket counts, e.g. from the difference of two
+   * {@link #getBucketCounts() snapshots} of the same histogram.
+   */
+  public static LatencyStatistics createStatistics(String name, long[] bucketCounts, long max) {
+    long count = 0;
+    for (long bucketCount : bucketCounts) {
+      count += bucketCount;
+    }
+
+    return new LatencyStatisticsImpl(name,
+        count,
+        valueAtPercentile(bucketCounts, count, 50.0),
+        valueAtPercentile(bucketCounts, count, 99.0),
+        valueAtPercentile(bucketCounts, count, 99.9),
+        max);
+  }
+
+  protected static long valueAtPercentile(long[] bucketCounts, long count, double percentile) {
+    if (count == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+    long seen = 0;
+    for (int i = 0; i < bucketCounts.length; i++) {
+      seen += bucketCounts[i];
+      if (seen >= rank) {
+        return highestValueInBucket(i);
+      }
+    }
+    return MAX_TRACKABLE_VALUE;
+  }
+
+  protected static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) & SUB_BUCKET_MASK;
+    return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  protected static long highestValueInBucket(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    int subBucket = index & SUB_BUCKET_MASK;
+    return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+  }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.metrics;
+
+import org.operaton.bpm.engine.management.LatencyStatistics;
+
+public class LatencyStatisticsImpl implements LatencyStatistics {
+
+  protected String name;
+  protected long count;
+  protected long p50;
+  protected long p99;
+  protected long p999;
+  protected long max;
+
+  public LatencyStatisticsImpl(String name, long count, long p50, long p99, long p999, long max) {
+    this.name = name;
+    this.count = count;
+    this.p50 = p50;
+    this.p99 = p99;
+    this.p999 = p999;
+    this.max = max;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public long getCount() {
+    return count;
+  }
+
+  @Override
+  public long getP50() {
+    return p50;
+  }
+
+  @Override
+  public long getP99() {
+    return p99;
+  }
+
+  @Override
+  public long getP999() {
+    return p999;
+  }
+
+  @Override
+  public long getMax() {
+    return max;
+  }
+
+  @Override
+  public String toString() {
+    return "LatencyStatisticsImpl [name=" + name
+        + ", count=" + count
+        + ", p50=" + p50
+        + ", p99=" + p99
+        + ", p999=" + p999
+        + ", max=" + max + "]";
+  }
+}
@@ -18,6 +18,9 @@ package org.operaton.bpm.engine.impl.metrics;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.operaton.bpm.engine.management.LatencyStatistics;
 
 /**
  * @author Daniel Meyer
@@ -27,6 +30,9 @@ public class MetricsRegistry {
 
   protected Map<String, Meter> dbMeters = new HashMap<>();
   protected Map<String, Meter> diagnosticsMeters = new HashMap<>();
+  protected Map<String, LatencyHistogram> latencyHistograms = new HashMap<>();
+  protected Map<String, LatencyHistogram> commandLatencyHistograms = new ConcurrentHashMap<>();
+  protected Map<String, LatencyStatistics> intervalLatencyStatistics = new ConcurrentHashMap<>();
 
   public Meter getDbMeterByName(String name) {
     return dbMeters.get(name);
@@ -83,4 +89,60 @@ public class MetricsRegistry {
     Meter dbMeter = new Meter(name);
     dbMeters.put(name, dbMeter);
   }
+
+  public LatencyHistogram getLatencyHistogramByName(String name) {
+    return latencyHistograms.get(name);
+  }
+
+  public Map<String, LatencyHistogram> getLatencyHistograms() {
+    return latencyHistograms;
+  }
+
+  /**
+   * @return the latency histograms per command, keyed by the simple class name of the command
+   */
+  public Map<String, LatencyHistogram> getCommandLatencyHistograms() {
+    return commandLatencyHistograms;
+  }
+
+  /**
+   * Records a latency value in the histogram with the given name, if it exists.
+   *
+   * @param value the latency in microseconds
+   */
+  public void recordLatency(String name, long value) {
+    LatencyHistogram histogram = latencyHistograms.get(name);
+
+    if (histogram != null) {
+      histogram.record(value);
+    }
+  }
+
+  /**
+   * Records the latency of a command. The histogram of the command is created on first use.
+   *
+   * @param value the latency in microseconds
+   */
+  public void recordCommandLatency(String commandName, long value) {
+    commandLatencyHistograms.computeIfAbsent(commandName, LatencyHistogram::new).record(value);
+  }
+
+  /**
+   * @return the latency distributions of the last reporting interval of the metrics reporter, keyed
+   * by the name of the histogram. Unlike meters, these are gauges: every report replaces them.
+   */
+  public Map<String, LatencyStatistics> getIntervalLatencyStatistics() {
+    return intervalLatencyStatistics;
+  }
+
+  public void setIntervalLatencyStatistics(LatencyStatistics statistics) {
+    intervalLatencyStatistics.put(statistics.getName(), statistics);
+  }
+
+  /**
+   * Creates a latency histogram. Histograms are not cleared by the metrics reporter.
+   */
+  public void createLatencyHistogram(String name) {
+    latencyHistograms.put(name, new LatencyHistogram(name));
+  }
 }
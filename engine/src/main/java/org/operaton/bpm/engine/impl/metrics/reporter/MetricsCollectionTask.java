@@ -17,13 +17,16 @@
 package org.operaton.bpm.engine.impl.metrics.reporter;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TimerTask;
 
 import org.operaton.bpm.engine.impl.ProcessEngineLogger;
 import org.operaton.bpm.engine.impl.interceptor.Command;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+import org.operaton.bpm.engine.impl.metrics.LatencyHistogram;
 import org.operaton.bpm.engine.impl.metrics.Meter;
 import org.operaton.bpm.engine.impl.metrics.MetricsLogger;
 import org.operaton.bpm.engine.impl.metrics.MetricsRegistry;
@@ -43,6 +46,12 @@ public class MetricsCollectionTask extends TimerTask {
   protected CommandExecutor commandExecutor;
   protected String reporterId;
 
+  /**
+   * The bucket counts of the latency histograms at the last collection, used to report
+   * the percentiles of the values recorded since then
+   */
+  protected Map<String, long[]> reportedLatencyBucketCounts = new HashMap<>();
+
   public MetricsCollectionTask(MetricsRegistry metricsRegistry, CommandExecutor commandExecutor) {
     this.metricsRegistry = metricsRegistry;
     this.commandExecutor = commandExecutor;
@@ -74,9 +83,33 @@ public class MetricsCollectionTask extends TimerTask {
 
     }
 
+    collectLatencyMetrics();
+
     commandExecutor.execute(new MetricsCollectionCmd(logs));
   }
 
+  /**
+   * Publishes the latency percentiles of the values recorded since the last collection as gauges
+   * of the metrics registry. They are not written to the meter log since percentiles cannot be summed.
+   */
+  protected void collectLatencyMetrics() {
+    for (LatencyHistogram histogram : metricsRegistry.getLatencyHistograms().values()) {
+      // reset the max before taking the snapshot, so that it covers every value counted in the interval
+      long intervalMax = histogram.getAndResetIntervalMax();
+      long[] bucketCounts = histogram.getBucketCounts();
+      long[] reportedBucketCounts = reportedLatencyBucketCounts.put(histogram.getName(), bucketCounts);
+
+      long[] intervalBucketCounts = bucketCounts.clone();
+      if (reportedBucketCounts != null) {
+        for (int i = 0; i < intervalBucketCounts.length; i++) {
+          intervalBucketCounts[i] -= reportedBucketCounts[i];
+        }
+      }
+
+      metricsRegistry.setIntervalLatencyStatistics(LatencyHistogram.createStatistics(histogram.getName(), intervalBucketCounts, intervalMax));
+    }
+  }
+
   public String getReporter() {
     return reporterId;
   }
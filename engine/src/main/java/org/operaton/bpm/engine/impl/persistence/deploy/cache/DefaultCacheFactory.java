@@ -18,17 +18,19 @@ package org.operaton.bpm.engine.impl.persistence.deploy.cache;
 
 
 import org.operaton.commons.utils.cache.Cache;
-import org.operaton.commons.utils.cache.ConcurrentLruCache;
+import org.operaton.commons.utils.cache.ConcurrentBufferedLruCache;
 
 /**
  * <p>Provides the default cache implementation for the deployment caches see {@link DeploymentCache}.</p>
  *
+ * <p>Uses a {@link ConcurrentBufferedLruCache}, which serves cache hits without scanning or locking.</p>
+ *
  * @author Johannes Heinemann
  */
 public class DefaultCacheFactory implements CacheFactory {
 
   @Override
   public <T> Cache<String, T> createCache(int maxNumberOfElementsInCache) {
-    return new ConcurrentLruCache<>(maxNumberOfElementsInCache);
+    return new ConcurrentBufferedLruCache<>(maxNumberOfElementsInCache);
   }
 }
@@ -68,7 +68,9 @@ import org.operaton.bpm.engine.impl.batch.BatchQueryImpl;
 import org.operaton.bpm.engine.impl.batch.BatchStatisticsQueryImpl;
 import org.operaton.bpm.engine.impl.batch.history.HistoricBatchQueryImpl;
 import org.operaton.bpm.engine.impl.cfg.CommandChecker;
+import org.operaton.bpm.engine.impl.cfg.TransactionState;
 import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.db.AuthorizationCache;
 import org.operaton.bpm.engine.impl.db.AuthorizationCheck;
 import org.operaton.bpm.engine.impl.db.CompositePermissionCheck;
 import org.operaton.bpm.engine.impl.db.DbEntity;
@@ -76,7 +78,9 @@ import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
 import org.operaton.bpm.engine.impl.db.PermissionCheck;
 import org.operaton.bpm.engine.impl.db.PermissionCheckBuilder;
+import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbBulkOperation;
 import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperationType;
 import org.operaton.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionQueryImpl;
 import org.operaton.bpm.engine.impl.dmn.entity.repository.DecisionRequirementsDefinitionQueryImpl;
 import org.operaton.bpm.engine.impl.identity.Authentication;
@@ -143,6 +147,14 @@ public class AuthorizationManager extends AbstractManager {
 
   protected Boolean isRevokeAuthCheckUsed;
 
+  /**
+   * Set once authorizations were modified in this command. From then on, the shared
+   * {@link AuthorizationCache} is bypassed since it does not reflect the uncommitted changes.
+   */
+  protected boolean authorizationsChanged;
+
+  protected boolean authorizationVersionChecked;
+
   public PermissionCheckBuilder newPermissionCheckBuilder() {
     return new PermissionCheckBuilder();
   }
@@ -290,7 +302,23 @@ public class AuthorizationManager extends AbstractManager {
     boolean isRevokeAuthorizationCheckEnabled = isRevokeAuthCheckEnabled(userId, groupIds);
     CompositePermissionCheck compositePermissionCheck = createCompositePermissionCheck(permissionCheck);
     AuthorizationCheck authCheck = new AuthorizationCheck(userId, filteredGroupIds, compositePermissionCheck, isRevokeAuthorizationCheckEnabled);
-    return getDbEntityManager().selectBoolean("isUserAuthorizedForResource", authCheck);
+    return isUserAuthorizedForResource(authCheck);
+  }
+
+  protected boolean isUserAuthorizedForResource(AuthorizationCheck authCheck) {
+    AuthorizationCache cache = getAuthorizationCache();
+    Object key = cache != null ? AuthorizationCache.decisionKey(authCheck) : null;
+    if (key == null) {
+      return getDbEntityManager().selectBoolean("isUserAuthorizedForResource", authCheck);
+    }
+
+    Boolean authorized = cache.get(key);
+    if (authorized == null) {
+      long generation = cache.getGeneration();
+      authorized = getDbEntityManager().selectBoolean("isUserAuthorizedForResource", authCheck);
+      cache.put(key, authorized, generation);
+    }
+    return authorized;
   }
 
   protected boolean isRevokeAuthCheckEnabled(String userId, List<String> groupIds) {
@@ -308,10 +336,7 @@ public class AuthorizationManager extends AbstractManager {
         isRevokeAuthCheckEnabled = false;
       }
       else {
-        final Map<String, Object> params = new HashMap<>();
-        params.put(USER_ID, userId);
-        params.put("authGroupIds", filterAuthenticatedGroupIds(groupIds));
-        isRevokeAuthCheckEnabled = getDbEntityManager().selectBoolean("selectRevokeAuthorization", params);
+        isRevokeAuthCheckEnabled = selectRevokeAuthorizationExists(userId, filterAuthenticatedGroupIds(groupIds));
       }
       this.isRevokeAuthCheckUsed = isRevokeAuthCheckEnabled;
     }
@@ -319,6 +344,24 @@ public class AuthorizationManager extends AbstractManager {
     return isRevokeAuthCheckEnabled;
   }
 
+  protected boolean selectRevokeAuthorizationExists(String userId, List<String> authGroupIds) {
+    AuthorizationCache cache = getAuthorizationCache();
+    Object key = cache != null ? AuthorizationCache.revokeAuthorizationKey(userId, authGroupIds) : null;
+    Boolean revokeAuthorizationExists = key != null ? cache.get(key) : null;
+
+    if (revokeAuthorizationExists == null) {
+      long generation = cache != null ? cache.getGeneration() : 0;
+      final Map<String, Object> params = new HashMap<>();
+      params.put(USER_ID, userId);
+      params.put("authGroupIds", authGroupIds);
+      revokeAuthorizationExists = getDbEntityManager().selectBoolean("selectRevokeAuthorization", params);
+      if (key != null) {
+        cache.put(key, revokeAuthorizationExists, generation);
+      }
+    }
+    return revokeAuthorizationExists;
+  }
+
   protected CompositePermissionCheck createCompositePermissionCheck(PermissionCheck permissionCheck) {
     CompositePermissionCheck compositePermissionCheck = new CompositePermissionCheck();
     compositePermissionCheck.setAtomicChecks(Arrays.asList(permissionCheck));
@@ -335,7 +378,7 @@ public class AuthorizationManager extends AbstractManager {
 
     boolean isRevokeAuthorizationCheckEnabled = isRevokeAuthCheckEnabled(userId, groupIds);
     AuthorizationCheck authCheck = new AuthorizationCheck(userId, filteredGroupIds, compositePermissionCheck, isRevokeAuthorizationCheckEnabled);
-    return getDbEntityManager().selectBoolean("isUserAuthorizedForResource", authCheck);
+    return isUserAuthorizedForResource(authCheck);
   }
 
   public boolean isAuthorized(CompositePermissionCheck compositePermissionCheck) {
@@ -1148,17 +1191,78 @@ public class AuthorizationManager extends AbstractManager {
 
   protected Set<String> getAllGroups() {
     if(availableAuthorizedGroupIds == null) {
-      availableAuthorizedGroupIds = new HashSet<>();
-      List<String> groupsFromDatabase = getDbEntityManager().selectList("selectAuthorizedGroupIds");
+      AuthorizationCache cache = getAuthorizationCache();
+      Set<String> cachedGroupIds = cache != null ? cache.get(AuthorizationCache.authorizedGroupIdsKey()) : null;
 
-      groupsFromDatabase.stream()
-        .filter(Objects::nonNull)
-        .forEach(availableAuthorizedGroupIds::add);
+      if (cachedGroupIds != null) {
+        availableAuthorizedGroupIds = new HashSet<>(cachedGroupIds);
+      }
+      else {
+        long generation = cache != null ? cache.getGeneration() : 0;
+        availableAuthorizedGroupIds = new HashSet<>();
+        List<String> groupsFromDatabase = getDbEntityManager().selectList("selectAuthorizedGroupIds");
+
+        groupsFromDatabase.stream()
+          .filter(Objects::nonNull)
+          .forEach(availableAuthorizedGroupIds::add);
+
+        if (cache != null) {
+          cache.put(AuthorizationCache.authorizedGroupIdsKey(), Set.copyOf(availableAuthorizedGroupIds), generation);
+        }
+      }
     }
 
     return availableAuthorizedGroupIds;
   }
 
+  // authorization cache ///////////////////////////////////////////////
+
+  /**
+   * @return the engine's authorization cache or <code>null</code> if the cache is disabled
+   * or must not be used by this command because it modified authorizations
+   */
+  protected AuthorizationCache getAuthorizationCache() {
+    if (authorizationsChanged) {
+      return null;
+    }
+
+    AuthorizationCache cache = Context.getProcessEngineConfiguration().getAuthorizationCache();
+    if (cache != null && !authorizationVersionChecked) {
+      authorizationVersionChecked = true;
+      if (cache.isVersionCheckDue()) {
+        PropertyEntity version = getDbEntityManager().selectById(PropertyEntity.class, AuthorizationCache.VERSION_PROPERTY_NAME);
+        cache.checkVersion(version != null ? version.getValue() : null);
+      }
+    }
+    return cache;
+  }
+
+  /**
+   * Invoked when authorizations are flushed to the database. Stops using the
+   * {@link AuthorizationCache} for the rest of the command and invalidates it
+   * once the transaction has committed.
+   *
+   * @return the operation that updates the authorization version shared between the
+   * engines of a cluster, or <code>null</code> if nothing needs to be flushed
+   */
+  public DbOperation authorizationsChanged() {
+    AuthorizationCache cache = Context.getProcessEngineConfiguration().getAuthorizationCache();
+    if (cache == null || authorizationsChanged) {
+      return null;
+    }
+
+    authorizationsChanged = true;
+    Context.getCommandContext()
+      .getTransactionContext()
+      .addTransactionListener(TransactionState.COMMITTED, commandContext -> cache.invalidate());
+
+    if (!cache.isClusterMode()) {
+      return null;
+    }
+    PropertyEntity version = new PropertyEntity(AuthorizationCache.VERSION_PROPERTY_NAME, AuthorizationCache.newVersion());
+    return new DbBulkOperation(DbOperationType.UPDATE_BULK, PropertyEntity.class, "updatePropertyValue", version);
+  }
+
   protected boolean isAuthCheckExecuted() {
 
     Authentication currentAuthentication = getCurrentAuthentication();
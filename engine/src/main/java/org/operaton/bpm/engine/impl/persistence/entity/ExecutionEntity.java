@@ -53,6 +53,7 @@ import org.operaton.bpm.engine.impl.history.producer.HistoryEventProducer;
 import org.operaton.bpm.engine.impl.incident.IncidentContext;
 import org.operaton.bpm.engine.impl.incident.IncidentHandling;
 import org.operaton.bpm.engine.impl.interceptor.AtomicOperationInvocation;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.jobexecutor.MessageJobDeclaration;
 import org.operaton.bpm.engine.impl.jobexecutor.TimerDeclarationImpl;
 import org.operaton.bpm.engine.impl.pvm.PvmActivity;
@@ -1260,9 +1261,59 @@ public class ExecutionEntity extends PvmExecutionImpl implements Execution, Proc
 
   @Override
   public Collection<VariableInstanceEntity> provideVariables() {
+    if (processInstanceId != null && isVariablePrefetchEnabled()) {
+      return prefetchProcessInstanceVariables();
+    }
     return Context.getCommandContext().getVariableInstanceManager().findVariableInstancesByExecutionId(id);
   }
 
+  /**
+   * @return true if process instance variable prefetching is enabled
+   */
+  protected boolean isVariablePrefetchEnabled() {
+    return Context.getProcessEngineConfiguration().isVariablePrefetchEnabled();
+  }
+
+  /**
+   * Fetch the variables of all executions inside the same process instance with a single
+   * query and hand them to the cached executions of the process instance whose variables
+   * are not initialized yet. Executions loaded later in the same command are served from
+   * the result of that query as well.
+   *
+   * Like {@link #ensureExecutionTreeInitialized()}, this trades the number of queries
+   * for the amount of fetched data: resolving a variable in a nested scope would otherwise
+   * issue one query per ancestor scope.
+   *
+   * @return the variables of this execution
+   */
+  protected Collection<VariableInstanceEntity> prefetchProcessInstanceVariables() {
+    if (isExecutionTreePrefetchEnabled()) {
+      // load the execution tree first so that all executions receive their variables
+      ensureProcessInstanceInitialized();
+    }
+
+    CommandContext commandContext = Context.getCommandContext();
+    Map<String, List<VariableInstanceEntity>> variablesByExecution = commandContext
+      .getVariableInstanceManager()
+      .findExecutionVariablesByProcessInstanceId(processInstanceId);
+
+    List<ExecutionEntity> cachedExecutions = commandContext
+      .getDbEntityManager()
+      .getCachedEntitiesByType(ExecutionEntity.class);
+
+    for (ExecutionEntity execution : cachedExecutions) {
+      if (execution != this
+          && processInstanceId.equals(execution.getProcessInstanceId())
+          && !execution.variableStore.isInitialized()) {
+        execution.variableStore.setVariablesProvider(
+            new VariableCollectionProvider<>(variablesByExecution.get(execution.id)));
+      }
+    }
+
+    List<VariableInstanceEntity> executionVariables = variablesByExecution.get(id);
+    return executionVariables != null ? new ArrayList<>(executionVariables) : new ArrayList<>();
+  }
+
   @Override
   public Collection<VariableInstanceEntity> provideVariables(Collection<String> variableNames) {
     return Context.getCommandContext().getVariableInstanceManager().findVariableInstancesByExecutionIdAndVariableNames(id, variableNames);
@@ -151,6 +151,12 @@ public class ExecutionManager extends AbstractManager {
     return getDbEntityManager().selectList("selectProcessInstanceDeploymentIdMappingsByQueryCriteria", processInstanceQuery);
   }
 
+  @SuppressWarnings("unchecked")
+  public List<ImmutablePair<String, String>> findDeploymentIdMappingsPageByQueryCriteria(ProcessInstanceQueryImpl processInstanceQuery) {
+    configureQuery(processInstanceQuery);
+    return getDbEntityManager().selectList("selectProcessInstanceDeploymentIdMappingsPageByQueryCriteria", processInstanceQuery);
+  }
+
   @SuppressWarnings("unchecked")
   public List<ExecutionEntity> findEventScopeExecutionsByActivityId(String activityRef, String parentExecutionId) {
     Map<String, String> parameters = new HashMap<>();
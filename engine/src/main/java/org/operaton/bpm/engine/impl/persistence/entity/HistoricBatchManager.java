@@ -39,6 +39,7 @@ import org.operaton.bpm.engine.impl.history.HistoryLevel;
 import org.operaton.bpm.engine.impl.history.event.HistoryEvent;
 import org.operaton.bpm.engine.impl.history.event.HistoryEventProcessor;
 import org.operaton.bpm.engine.impl.history.event.HistoryEventTypes;
+import org.operaton.bpm.engine.impl.history.handler.AsyncDbHistoryEventHandler;
 import org.operaton.bpm.engine.impl.history.producer.HistoryEventProducer;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.persistence.AbstractManager;
@@ -66,6 +67,43 @@ public class HistoricBatchManager extends AbstractManager {
     return (HistoricBatchEntity) getDbEntityManager().selectOne("selectHistoricBatchByJobId", jobId);
   }
 
+  /**
+   * Finds the historic batch with the given id, including a batch that is not written yet
+   * by the {@link AsyncDbHistoryEventHandler}.
+   */
+  public HistoricBatchEntity findHistoricBatchByIdIncludingPending(String batchId) {
+    AsyncDbHistoryEventHandler asyncDbHistoryEventHandler = Context.getProcessEngineConfiguration().getAsyncDbHistoryEventHandler();
+    if (asyncDbHistoryEventHandler != null) {
+      HistoricBatchEntity pendingBatch = asyncDbHistoryEventHandler.findPendingEvent(HistoricBatchEntity.class, batchId);
+      if (pendingBatch != null) {
+        return pendingBatch;
+      }
+    }
+    return findHistoricBatchById(batchId);
+  }
+
+  /**
+   * Finds the historic batch of the given job, including a batch that is not written yet
+   * by the {@link AsyncDbHistoryEventHandler}.
+   */
+  public HistoricBatchEntity findHistoricBatchByJobIdIncludingPending(String jobId) {
+    HistoricBatchEntity historicBatch = findHistoricBatchByJobId(jobId);
+
+    AsyncDbHistoryEventHandler asyncDbHistoryEventHandler = Context.getProcessEngineConfiguration().getAsyncDbHistoryEventHandler();
+    if (historicBatch == null && asyncDbHistoryEventHandler != null) {
+      // the job definitions of a batch refer to it by their configuration
+      JobEntity job = getJobManager().findJobById(jobId);
+      if (job != null && job.getJobDefinitionId() != null) {
+        JobDefinitionEntity jobDefinition = getJobDefinitionManager().findById(job.getJobDefinitionId());
+        if (jobDefinition != null) {
+          historicBatch = asyncDbHistoryEventHandler.findPendingEvent(HistoricBatchEntity.class, jobDefinition.getJobConfiguration());
+        }
+      }
+    }
+
+    return historicBatch;
+  }
+
   @SuppressWarnings("unchecked")
   public List<String> findHistoricBatchIdsForCleanup(Integer batchSize, Map<String, Integer> batchOperationsForHistoryCleanup, int minuteFrom, int minuteTo) {
     Map<String, Object> queryParameters = new HashMap<>();
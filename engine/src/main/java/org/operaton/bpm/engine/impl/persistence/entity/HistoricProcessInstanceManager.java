@@ -42,6 +42,7 @@ import org.operaton.bpm.engine.impl.history.event.HistoricIncidentEventEntity;
 import org.operaton.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
 import org.operaton.bpm.engine.impl.history.event.HistoricTaskInstanceEventEntity;
 import org.operaton.bpm.engine.impl.history.event.UserOperationLogEntryEventEntity;
+import org.operaton.bpm.engine.impl.history.handler.AsyncDbHistoryEventHandler;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.persistence.AbstractHistoricManager;
 import org.operaton.bpm.engine.impl.util.ClockUtil;
@@ -67,6 +68,21 @@ public class HistoricProcessInstanceManager extends AbstractHistoricManager {
     return null;
   }
 
+  /**
+   * Finds the historic process instance event with the given id, including an event that
+   * is not written yet by the {@link AsyncDbHistoryEventHandler}.
+   */
+  public HistoricProcessInstanceEventEntity findHistoricProcessInstanceEventIncludingPending(String eventId) {
+    AsyncDbHistoryEventHandler asyncDbHistoryEventHandler = Context.getProcessEngineConfiguration().getAsyncDbHistoryEventHandler();
+    if (asyncDbHistoryEventHandler != null) {
+      HistoricProcessInstanceEventEntity pendingEvent = asyncDbHistoryEventHandler.findPendingEvent(HistoricProcessInstanceEventEntity.class, eventId);
+      if (pendingEvent != null) {
+        return pendingEvent;
+      }
+    }
+    return getDbEntityManager().selectById(HistoricProcessInstanceEventEntity.class, eventId);
+  }
+
   @SuppressWarnings("unchecked")
   public void deleteHistoricProcessInstanceByProcessDefinitionId(String processDefinitionId) {
     if (isHistoryEnabled()) {
@@ -210,8 +210,17 @@ public class JobManager extends AbstractManager {
     return (JobEntity) getDbEntityManager().selectOne("selectJob", jobId);
   }
 
-  @SuppressWarnings("unchecked")
   public List<AcquirableJobEntity> findNextJobsToExecute(Page page) {
+    return findNextJobsToExecute(page, false);
+  }
+
+  /**
+   * @param skipLocked if <code>true</code>, the selected jobs are locked in the database and jobs
+   *   locked by concurrent acquisitions are skipped. Ignored on databases that do not support
+   *   <code>SELECT ... FOR UPDATE SKIP LOCKED</code>.
+   */
+  @SuppressWarnings("unchecked")
+  public List<AcquirableJobEntity> findNextJobsToExecute(Page page, boolean skipLocked) {
     ProcessEngineConfigurationImpl engineConfiguration = Context.getProcessEngineConfiguration();
 
     Map<String,Object> params = new HashMap<>();
@@ -254,6 +263,16 @@ public class JobManager extends AbstractManager {
     params.put("applyOrdering", !orderingProperties.isEmpty());
     params.put("applyExclusiveOverProcessHierarchies", engineConfiguration.isJobExecutorAcquireExclusiveOverProcessHierarchies());
 
+    DbSqlSessionFactory dbSqlSessionFactory = engineConfiguration.getDbSqlSessionFactory();
+    if (skipLocked && dbSqlSessionFactory.isSkipLockedSupported()) {
+      if (dbSqlSessionFactory.isSkipLockedWithLimitSupported()) {
+        return getDbEntityManager().selectList("selectNextJobsToExecuteSkipLocked", params, page);
+      }
+      // the rows are locked while they are fetched, so reading only the first rows
+      // skips the jobs locked by concurrent acquisitions without losing the ordering
+      ListQueryParameterObject parameter = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
+      return getDbEntityManager().selectListReadingAtMost("selectNextJobsToExecuteSkipLocked", parameter, page.getMaxResults());
+    }
     return getDbEntityManager().selectList("selectNextJobsToExecute", params, page);
   }
 
@@ -20,6 +20,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +46,8 @@ import org.operaton.bpm.engine.impl.cmmn.entity.runtime.CaseExecutionEntity;
 import org.operaton.bpm.engine.impl.cmmn.entity.runtime.CaseSentryPartEntity;
 import org.operaton.bpm.engine.impl.db.DbEntity;
 import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
+import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
 import org.operaton.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionEntity;
 import org.operaton.bpm.engine.impl.dmn.entity.repository.DecisionRequirementsDefinitionEntity;
@@ -295,4 +298,41 @@ public class TableDataManager extends AbstractManager {
     return result;
   }
 
+  @SuppressWarnings("unchecked")
+  public List<String> findHistoryCleanupPartitionIds(String tableName, String timeColumn, Date removalTime,
+                                                     Integer secondFrom, Integer secondTo, int maxResults) {
+    Map<String, Object> parameters = createHistoryCleanupPartitionParameters(tableName, timeColumn, removalTime, secondFrom, secondTo);
+
+    return getDbEntityManager().selectList("selectHistoryCleanupPartitionIds",
+        new ListQueryParameterObject(parameters, 0, maxResults));
+  }
+
+  /**
+   * Deletes the rows of the given table in the inclusive id range [firstId, lastId]
+   * that are still due for removal. The range is expected to be the result of
+   * {@link #findHistoryCleanupPartitionIds}, so a single chunk never exceeds
+   * the page size used to select it.
+   */
+  public DbOperation deleteHistoryCleanupPartitionChunk(Class<? extends DbEntity> entityType, String tableName, String timeColumn,
+                                                        Date removalTime, Integer secondFrom, Integer secondTo,
+                                                        String firstId, String lastId) {
+    Map<String, Object> parameters = createHistoryCleanupPartitionParameters(tableName, timeColumn, removalTime, secondFrom, secondTo);
+    parameters.put("firstId", firstId);
+    parameters.put("lastId", lastId);
+
+    return getDbEntityManager().deletePreserveOrder(entityType, "deleteHistoryCleanupPartitionChunk",
+        new ListQueryParameterObject(parameters, 0, 1));
+  }
+
+  protected Map<String, Object> createHistoryCleanupPartitionParameters(String tableName, String timeColumn, Date removalTime,
+                                                                        Integer secondFrom, Integer secondTo) {
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("table", tableName);
+    parameters.put("timeColumn", timeColumn);
+    parameters.put(REMOVAL_TIME, removalTime);
+    parameters.put("secondFrom", secondFrom);
+    parameters.put("secondTo", secondTo);
+    return parameters;
+  }
+
 }
@@ -26,6 +26,7 @@ import org.operaton.bpm.engine.impl.Page;
 import org.operaton.bpm.engine.impl.VariableInstanceQueryImpl;
 import org.operaton.bpm.engine.impl.persistence.AbstractManager;
 import org.operaton.bpm.engine.runtime.VariableInstance;
+import org.operaton.commons.utils.CollectionUtil;
 
 
 /**
@@ -37,6 +38,12 @@ public class VariableInstanceManager extends AbstractManager {
   private static final String EXECUTION_ID = "executionId";
   private static final String VARIABLE_NAMES = "variableNames";
 
+  /**
+   * The execution variables of process instances fetched with a single query in this command,
+   * grouped by the id of their execution
+   */
+  protected Map<String, Map<String, List<VariableInstanceEntity>>> executionVariablesByProcessInstance = new HashMap<>();
+
   public List<VariableInstanceEntity> findVariableInstancesByTaskId(String taskId) {
     return findVariableInstancesByTaskIdAndVariableNames(taskId, null);
   }
@@ -66,6 +73,25 @@ public class VariableInstanceManager extends AbstractManager {
     return getDbEntityManager().selectList("selectVariablesByProcessInstanceId", processInstanceId);
   }
 
+  /**
+   * Fetches the variables of all executions of a process instance with a single query. The
+   * query runs at most once per process instance and command, later calls are served from
+   * its result. Task variables are excluded since tasks keep their own variable stores.
+   *
+   * @return the variables grouped by the id of their execution
+   */
+  public Map<String, List<VariableInstanceEntity>> findExecutionVariablesByProcessInstanceId(String processInstanceId) {
+    return executionVariablesByProcessInstance.computeIfAbsent(processInstanceId, id -> {
+      Map<String, List<VariableInstanceEntity>> variablesByExecution = new HashMap<>();
+      for (VariableInstanceEntity variable : findVariableInstancesByProcessInstanceId(id)) {
+        if (variable.getTaskId() == null && variable.getExecutionId() != null) {
+          CollectionUtil.addToMapOfLists(variablesByExecution, variable.getExecutionId(), variable);
+        }
+      }
+      return variablesByExecution;
+    });
+  }
+
   public List<VariableInstanceEntity> findVariableInstancesByCaseExecutionId(String caseExecutionId) {
     return findVariableInstancesByCaseExecutionIdAndVariableNames(caseExecutionId, null);
   }
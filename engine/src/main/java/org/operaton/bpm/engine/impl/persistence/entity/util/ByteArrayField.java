@@ -16,6 +16,11 @@
  */
 package org.operaton.bpm.engine.impl.persistence.entity.util;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.Date;
 
 import org.operaton.bpm.engine.impl.context.Context;
@@ -28,11 +33,16 @@ import org.operaton.bpm.engine.repository.ResourceType;
  * A byte array value field what load and save {@link ByteArrayEntity}. It can
  * be used in an entity which implements {@link ValueFields}.
  *
+ * <p>When serialized, a value that was already saved is referenced by its id only,
+ * other values are written with their bytes.</p>
+ *
  * @author Philipp Ossler
  */
-public class ByteArrayField {
+public class ByteArrayField implements Serializable {
+
+  @Serial private static final long serialVersionUID = 1L;
 
-  protected ByteArrayEntity byteArrayValue;
+  protected transient ByteArrayEntity byteArrayValue;
   protected String byteArrayId;
 
   protected final Nameable nameProvider;
@@ -148,4 +158,27 @@ public class ByteArrayField {
     this.removalTime = removalTime;
   }
 
+  @Serial
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+
+    boolean unsaved = byteArrayId == null && byteArrayValue != null;
+    out.writeBoolean(unsaved);
+    if (unsaved) {
+      out.writeObject(byteArrayValue.getName());
+      out.writeObject(byteArrayValue.getBytes());
+    }
+  }
+
+  @Serial
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+
+    if (in.readBoolean()) {
+      String name = (String) in.readObject();
+      byte[] bytes = (byte[]) in.readObject();
+      byteArrayValue = new ByteArrayEntity(name, bytes, type, rootProcessInstanceId, removalTime);
+    }
+  }
+
 }
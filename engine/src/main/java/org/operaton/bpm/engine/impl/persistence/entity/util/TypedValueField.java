@@ -16,6 +16,10 @@
  */
 package org.operaton.bpm.engine.impl.persistence.entity.util;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -44,23 +48,28 @@ import org.operaton.bpm.engine.variable.value.TypedValue;
  * A field what provide a typed version of a value. It can
  * be used in an entity which implements {@link ValueFields}.
  *
+ * <p>When serialized, only the name of the serializer is written. The value itself
+ * is kept in the value fields and read from there again.</p>
+ *
  * @author Philipp Ossler
  */
-public class TypedValueField implements DbEntityLifecycleAware, CommandContextListener {
+public class TypedValueField implements DbEntityLifecycleAware, CommandContextListener, Serializable {
+
+  @Serial private static final long serialVersionUID = 1L;
 
   protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
 
   protected String serializerName;
-  protected TypedValueSerializer<?> serializer;
+  protected transient TypedValueSerializer<?> serializer;
 
-  protected TypedValue cachedValue;
+  protected transient TypedValue cachedValue;
 
   protected String errorMessage;
 
   protected final ValueFields valueFields;
 
   protected boolean notifyOnImplicitUpdates;
-  protected List<TypedValueUpdateListener> updateListeners;
+  protected transient List<TypedValueUpdateListener> updateListeners;
 
   public TypedValueField(ValueFields valueFields, boolean notifyOnImplicitUpdates) {
     this.valueFields = valueFields;
@@ -303,4 +312,10 @@ public class TypedValueField implements DbEntityLifecycleAware, CommandContextLi
   public void clear() {
     cachedValue = null;
   }
+
+  @Serial
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    updateListeners = new ArrayList<>();
+  }
 }
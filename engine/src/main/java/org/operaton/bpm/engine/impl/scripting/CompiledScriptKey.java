@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.scripting;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+
+import org.operaton.bpm.engine.ProcessEngineException;
+
+/**
+ * Identifies a compiled script in a {@link CompiledScriptStore} by the script engine and
+ * language version it was compiled with and the SHA-256 hash of its source.
+ */
+public record CompiledScriptKey(String language, String engineName, String engineVersion,
+    String languageVersion, String sourceHash) {
+
+  public static CompiledScriptKey of(ScriptEngine scriptEngine, String language, String source) {
+    ScriptEngineFactory factory = scriptEngine.getFactory();
+    return new CompiledScriptKey(language, factory.getEngineName(), factory.getEngineVersion(),
+        factory.getLanguageVersion(), hash(source));
+  }
+
+  private static String hash(String source) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new ProcessEngineException("Cannot lookup hash algorithm 'SHA-256'", e);
+    }
+  }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.scripting;
+
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+
+/**
+ * <p>Stores compiled scripts independently of the process definitions that contain them, so
+ * that a script which is parsed again (e.g. after the definition was evicted from the
+ * deployment cache or the same script was deployed again) is not compiled again.</p>
+ *
+ * <p>Scripts are identified by a {@link CompiledScriptKey}, which covers the script engine
+ * and language version and a hash of the source. Implementations which persist compiled
+ * scripts across engine restarts have to do so in a way their script engine supports and
+ * return null from {@link #load(CompiledScriptKey, ScriptEngine)} for scripts they cannot
+ * restore.</p>
+ */
+public interface CompiledScriptStore {
+
+  /**
+   * @param key identifies the script
+   * @param scriptEngine the engine the script is executed with
+   * @return the compiled script or null if the store has no compiled script for the key
+   */
+  CompiledScript load(CompiledScriptKey key, ScriptEngine scriptEngine);
+
+  /**
+   * Stores a script which has just been compiled.
+   *
+   * @param key identifies the script
+   * @param compiledScript the compiled script
+   */
+  void store(CompiledScriptKey key, CompiledScript compiledScript);
+
+}
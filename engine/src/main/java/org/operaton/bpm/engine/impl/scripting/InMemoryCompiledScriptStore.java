@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.scripting;
+
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+
+import org.operaton.commons.utils.cache.Cache;
+import org.operaton.commons.utils.cache.ConcurrentBufferedLruCache;
+
+/**
+ * Keeps up to a fixed number of compiled scripts in memory for the lifetime of the process
+ * engine, independently of the deployment cache.
+ */
+public class InMemoryCompiledScriptStore implements CompiledScriptStore {
+
+  protected final Cache<CompiledScriptKey, CompiledScript> compiledScripts;
+
+  public InMemoryCompiledScriptStore(int capacity) {
+    compiledScripts = new ConcurrentBufferedLruCache<>(capacity);
+  }
+
+  @Override
+  public CompiledScript load(CompiledScriptKey key, ScriptEngine scriptEngine) {
+    return compiledScripts.get(key);
+  }
+
+  @Override
+  public void store(CompiledScriptKey key, CompiledScript compiledScript) {
+    compiledScripts.put(key, compiledScript);
+  }
+
+  public int size() {
+    return compiledScripts.size();
+  }
+
+}
@@ -39,4 +39,15 @@ public class ScriptLogger extends ProcessEngineLogger {
         "001", "Evaluating non-compiled script {}", scriptSource);
   }
 
+  public void debugScriptsWarmedUp(int scripts, String processDefinitionId) {
+    logDebug(
+        "003", "Compiled {} scripts of process definition {} on deployment", scripts, processDefinitionId);
+  }
+
+  public void warnScriptWarmUpFailed(String language, String processDefinitionId, Exception e) {
+    logWarn(
+        "004", "Unable to compile {} script of process definition {} on deployment, it is compiled on first use: {}",
+        language, processDefinitionId, e.getMessage());
+  }
+
 }
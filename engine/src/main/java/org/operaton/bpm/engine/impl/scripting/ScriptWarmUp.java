@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.scripting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.script.ScriptEngine;
+
+import org.operaton.bpm.engine.delegate.BaseDelegateExecution;
+import org.operaton.bpm.engine.delegate.DelegateListener;
+import org.operaton.bpm.engine.delegate.TaskListener;
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.bpmn.behavior.ScriptTaskActivityBehavior;
+import org.operaton.bpm.engine.impl.bpmn.behavior.UserTaskActivityBehavior;
+import org.operaton.bpm.engine.impl.bpmn.listener.ScriptExecutionListener;
+import org.operaton.bpm.engine.impl.bpmn.parser.BpmnParse;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.core.model.CoreModelElement;
+import org.operaton.bpm.engine.impl.pvm.PvmTransition;
+import org.operaton.bpm.engine.impl.pvm.process.ActivityImpl;
+import org.operaton.bpm.engine.impl.pvm.process.ProcessDefinitionImpl;
+import org.operaton.bpm.engine.impl.pvm.process.ScopeImpl;
+import org.operaton.bpm.engine.impl.pvm.process.TransitionImpl;
+import org.operaton.bpm.engine.impl.scripting.engine.ScriptingEngines;
+import org.operaton.bpm.engine.impl.task.listener.ScriptTaskListener;
+
+/**
+ * <p>Compiles the inline scripts of a process definition eagerly, so that the first execution of
+ * a freshly deployed definition does not pay for the compilation.</p>
+ *
+ * <p>Covers script tasks, conditions of sequence flows and script execution and task listeners.
+ * Scripts loaded from resources or given as expressions are compiled on first use as before,
+ * and scripts which fail to compile are logged and left for their first execution to report.</p>
+ */
+public class ScriptWarmUp {
+
+  private static final ScriptLogger LOG = ProcessEngineLogger.SCRIPT_LOGGER;
+
+  protected final ProcessEngineConfigurationImpl processEngineConfiguration;
+
+  public ScriptWarmUp(ProcessEngineConfigurationImpl processEngineConfiguration) {
+    this.processEngineConfiguration = processEngineConfiguration;
+  }
+
+  /**
+   * Compiles the scripts of the given process definition. Must be called within a command.
+   *
+   * @return the number of scripts compiled by this call
+   */
+  public int warmUp(ProcessDefinitionImpl processDefinition) {
+    if (!processEngineConfiguration.isEnableScriptEngineCaching() || !processEngineConfiguration.isEnableScriptCompilation()) {
+      return 0;
+    }
+
+    List<ExecutableScript> scripts = new ArrayList<>();
+    collectScripts(processDefinition, scripts);
+
+    int compiled = 0;
+    for (ExecutableScript script : scripts) {
+      if (script instanceof SourceExecutableScript sourceScript && sourceScript.getScriptSource() != null
+          && sourceScript.isShouldBeCompiled() && compile(sourceScript, processDefinition)) {
+        compiled++;
+      }
+    }
+
+    if (compiled > 0) {
+      LOG.debugScriptsWarmedUp(compiled, processDefinition.getId());
+    }
+    return compiled;
+  }
+
+  protected boolean compile(SourceExecutableScript script, ProcessDefinitionImpl processDefinition) {
+    ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+    ScriptEngine scriptEngine = null;
+    try {
+      scriptEngine = scriptingEngines.getScriptEngineForLanguage(script.getLanguage());
+      script.compileScript(scriptEngine);
+      return script.getCompiledScript() != null;
+
+    } catch (RuntimeException e) {
+      LOG.warnScriptWarmUpFailed(script.getLanguage(), processDefinition.getId(), e);
+      return false;
+
+    } finally {
+      scriptingEngines.releaseScriptEngine(script.getLanguage(), scriptEngine);
+    }
+  }
+
+  protected void collectScripts(ScopeImpl scope, List<ExecutableScript> scripts) {
+    collectListenerScripts(scope, scripts);
+
+    for (ActivityImpl activity : scope.getActivities()) {
+      if (activity.getActivityBehavior() instanceof ScriptTaskActivityBehavior scriptTask) {
+        scripts.add(scriptTask.getScript());
+      }
+      if (activity.getActivityBehavior() instanceof UserTaskActivityBehavior userTask) {
+        for (List<TaskListener> taskListeners : userTask.getTaskDefinition().getTaskListeners().values()) {
+          for (TaskListener taskListener : taskListeners) {
+            if (taskListener instanceof ScriptTaskListener scriptTaskListener) {
+              scripts.add(scriptTaskListener.getScript());
+            }
+          }
+        }
+      }
+
+      for (PvmTransition transition : activity.getOutgoingTransitions()) {
+        TransitionImpl transitionImpl = (TransitionImpl) transition;
+        if (transitionImpl.getProperty(BpmnParse.PROPERTYNAME_CONDITION) instanceof ScriptCondition scriptCondition) {
+          scripts.add(scriptCondition.getScript());
+        }
+        collectListenerScripts(transitionImpl, scripts);
+      }
+
+      collectScripts(activity, scripts);
+    }
+  }
+
+  protected void collectListenerScripts(CoreModelElement element, List<ExecutableScript> scripts) {
+    for (List<DelegateListener<? extends BaseDelegateExecution>> listeners : element.getListeners().values()) {
+      for (DelegateListener<? extends BaseDelegateExecution> listener : listeners) {
+        if (listener instanceof ScriptExecutionListener scriptListener) {
+          scripts.add(scriptListener.getScript());
+        }
+      }
+    }
+  }
+
+}
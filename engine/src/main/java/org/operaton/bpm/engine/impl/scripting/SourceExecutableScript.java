@@ -82,7 +82,7 @@ public class SourceExecutableScript extends CompiledExecutableScript {
         synchronized (this) {
           if (getCompiledScript() == null && shouldBeCompiled) {
             // try to compile script
-            compiledScript = compile(engine, language, scriptSource);
+            compiledScript = compile(engine, processEngineConfiguration);
 
             // either the script was successfully compiled or it can't be
             // compiled but we won't try it again
@@ -98,6 +98,35 @@ public class SourceExecutableScript extends CompiledExecutableScript {
     }
   }
 
+  /**
+   * Compiles the script or loads it from the {@link CompiledScriptStore} of the process engine.
+   * The store is only used for thread-safe script engines that are shared by the whole process
+   * engine, since compiled scripts are bound to the engine instance and class loader they were
+   * compiled with.
+   */
+  protected CompiledScript compile(ScriptEngine engine, ProcessEngineConfigurationImpl processEngineConfiguration) {
+    CompiledScriptStore compiledScriptStore = processEngineConfiguration.getCompiledScriptStore();
+    if (compiledScriptStore == null || !isSharedScriptEngine(engine, processEngineConfiguration)) {
+      return compile(engine, language, scriptSource);
+    }
+
+    CompiledScriptKey key = CompiledScriptKey.of(engine, language, scriptSource);
+    CompiledScript script = compiledScriptStore.load(key, engine);
+    if (script == null) {
+      script = compile(engine, language, scriptSource);
+      if (script != null) {
+        compiledScriptStore.store(key, script);
+      }
+    }
+    return script;
+  }
+
+  protected boolean isSharedScriptEngine(ScriptEngine engine, ProcessEngineConfigurationImpl processEngineConfiguration) {
+    boolean processApplicationEngine = processEngineConfiguration.isEnableFetchScriptEngineFromProcessApplication()
+        && Context.getCurrentProcessApplication() != null;
+    return !processApplicationEngine && engine.getFactory().getParameter("THREADING") != null;
+  }
+
   public CompiledScript compile(ScriptEngine scriptEngine, String language, String src) {
     if (scriptEngine instanceof Compilable compilingEngine && !"ecmascript".equalsIgnoreCase(scriptEngine.getFactory().getLanguageName())) {
       try {
@@ -18,6 +18,7 @@ package org.operaton.bpm.engine.impl.scripting.engine;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
@@ -29,22 +30,43 @@ import org.operaton.bpm.engine.impl.context.Context;
 
 public class DefaultScriptEngineResolver implements ScriptEngineResolver {
 
-  protected final ScriptEngineManager scriptEngineManager;
+  protected volatile ScriptEngineManager scriptEngineManager;
+  protected Supplier<ScriptEngineManager> scriptEngineManagerSupplier;
 
   protected Map<String, ScriptEngine> cachedEngines = new HashMap<>();
 
+  /** pools engines which are not {@link #isCachable(ScriptEngine) cachable}, null if such engines are not pooled */
+  protected ScriptEnginePool scriptEnginePool;
+
   public DefaultScriptEngineResolver(ScriptEngineManager scriptEngineManager) {
     this.scriptEngineManager = scriptEngineManager;
   }
 
+  /**
+   * Creates a resolver which creates the script engine manager, and thereby discovers the script
+   * engines on the classpath, when it is used for the first time.
+   */
+  public DefaultScriptEngineResolver(Supplier<ScriptEngineManager> scriptEngineManagerSupplier) {
+    this.scriptEngineManagerSupplier = scriptEngineManagerSupplier;
+  }
+
   @Override
   public void addScriptEngineFactory(ScriptEngineFactory scriptEngineFactory) {
-    scriptEngineManager.registerEngineName(scriptEngineFactory.getEngineName(), scriptEngineFactory);
+    getScriptEngineManager().registerEngineName(scriptEngineFactory.getEngineName(), scriptEngineFactory);
   }
 
   @Override
   public ScriptEngineManager getScriptEngineManager() {
-    return scriptEngineManager;
+    ScriptEngineManager manager = scriptEngineManager;
+    if (manager == null) {
+      synchronized (this) {
+        if (scriptEngineManager == null) {
+          scriptEngineManager = scriptEngineManagerSupplier.get();
+        }
+        manager = scriptEngineManager;
+      }
+    }
+    return manager;
   }
 
   /**
@@ -61,11 +83,17 @@ public class DefaultScriptEngineResolver implements ScriptEngineResolver {
     if (resolveFromCache) {
       scriptEngine = cachedEngines.get(language);
 
+      if (scriptEngine == null && scriptEnginePool != null) {
+        scriptEngine = scriptEnginePool.acquire(language);
+      }
+
       if (scriptEngine == null) {
         scriptEngine = getScriptEngine(language);
 
         if (scriptEngine != null && isCachable(scriptEngine)) {
           cachedEngines.put(language, scriptEngine);
+        } else if (scriptEngine != null && scriptEnginePool != null) {
+          scriptEnginePool.register(language, scriptEngine);
         }
       }
 
@@ -76,13 +104,18 @@ public class DefaultScriptEngineResolver implements ScriptEngineResolver {
     return scriptEngine;
   }
 
+  @Override
+  public boolean releaseScriptEngine(String language, ScriptEngine scriptEngine) {
+    return scriptEnginePool != null && scriptEnginePool.release(language, scriptEngine);
+  }
+
   protected ScriptEngine getScriptEngine(String language) {
     ScriptEngine scriptEngine = null;
     if (ScriptingEngines.JAVASCRIPT_SCRIPTING_LANGUAGE.equalsIgnoreCase(language) ||
         ScriptingEngines.ECMASCRIPT_SCRIPTING_LANGUAGE.equalsIgnoreCase(language)) {
       scriptEngine = getJavaScriptScriptEngine(language);
     } else {
-      scriptEngine = scriptEngineManager.getEngineByName(language);
+      scriptEngine = getScriptEngineManager().getEngineByName(language);
     }
 
     if (scriptEngine != null) {
@@ -94,13 +127,14 @@ public class DefaultScriptEngineResolver implements ScriptEngineResolver {
   protected ScriptEngine getJavaScriptScriptEngine(String language) {
     ScriptEngine scriptEngine = null;
     ProcessEngineConfigurationImpl config = Context.getProcessEngineConfiguration();
+    ScriptEngineManager manager = getScriptEngineManager();
     if (config != null && config.getScriptEngineNameJavaScript() != null) {
-      scriptEngine = scriptEngineManager.getEngineByName(config.getScriptEngineNameJavaScript());
+      scriptEngine = manager.getEngineByName(config.getScriptEngineNameJavaScript());
     } else {
-      scriptEngine = scriptEngineManager.getEngineByName(ScriptingEngines.DEFAULT_JS_SCRIPTING_LANGUAGE);
+      scriptEngine = manager.getEngineByName(ScriptingEngines.DEFAULT_JS_SCRIPTING_LANGUAGE);
       if (scriptEngine == null) {
         // default engine is not available, try to fetch any existing JS script engine
-        scriptEngine = scriptEngineManager.getEngineByName(language);
+        scriptEngine = manager.getEngineByName(language);
       }
     }
     return scriptEngine;
@@ -160,4 +194,12 @@ public class DefaultScriptEngineResolver implements ScriptEngineResolver {
     }
   }
 
+  public ScriptEnginePool getScriptEnginePool() {
+    return scriptEnginePool;
+  }
+
+  public void setScriptEnginePool(ScriptEnginePool scriptEnginePool) {
+    this.scriptEnginePool = scriptEnginePool;
+  }
+
 }
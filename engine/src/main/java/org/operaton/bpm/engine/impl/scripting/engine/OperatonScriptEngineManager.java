@@ -46,6 +46,14 @@ public class OperatonScriptEngineManager extends ScriptEngineManager {
     applyConfigOnEnginesAfterClasspathDiscovery();
   }
 
+  /**
+   * @param classLoader the class loader which is used to discover the engines
+   */
+  public OperatonScriptEngineManager(ClassLoader classLoader) {
+    super(classLoader);
+    applyConfigOnEnginesAfterClasspathDiscovery();
+  }
+
   protected void applyConfigOnEnginesAfterClasspathDiscovery() {
     var engineNames = getEngineNamesFoundInClasspath();
 
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.scripting.engine;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.script.Bindings;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.management.Metrics;
+
+/**
+ * <p>A bounded pool of {@link ScriptEngine script engines} per language, for engines that
+ * do not declare themselves thread-safe and can therefore not be shared.</p>
+ *
+ * <p>An engine is used by one caller between {@link #acquire(String)} and
+ * {@link #release(String, ScriptEngine)}. On release, the engine scope bindings are reset to
+ * the attributes the engine was configured with, and the engine is kept for the next caller
+ * unless the pool of its language is full.</p>
+ */
+public class ScriptEnginePool {
+
+  protected final int capacity;
+
+  protected final Map<String, Queue<ScriptEngine>> idleEngines = new ConcurrentHashMap<>();
+  /** the engine scope attributes of a freshly created and configured engine, per language */
+  protected final Map<String, Set<String>> initialBindingNames = new ConcurrentHashMap<>();
+
+  protected final AtomicLong hits = new AtomicLong();
+  protected final AtomicLong misses = new AtomicLong();
+
+  /**
+   * @param capacity the maximum number of idle engines kept per language
+   */
+  public ScriptEnginePool(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be greater than 0");
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * @return an idle engine of the given language or null if there is none, in which case the
+   * caller creates a new engine and {@link #register(String, ScriptEngine) registers} it.
+   */
+  public ScriptEngine acquire(String language) {
+    Queue<ScriptEngine> engines = idleEngines.get(language);
+    ScriptEngine scriptEngine = engines != null ? engines.poll() : null;
+    if (scriptEngine != null) {
+      hits.incrementAndGet();
+      markOccurrence(Metrics.SCRIPT_ENGINE_POOL_HIT);
+    }
+    return scriptEngine;
+  }
+
+  /**
+   * Registers a newly created and configured engine of the given language, which may be
+   * released to the pool after use.
+   */
+  public void register(String language, ScriptEngine scriptEngine) {
+    initialBindingNames.computeIfAbsent(language, l -> Set.copyOf(getEngineBindings(scriptEngine).keySet()));
+    idleEngines.computeIfAbsent(language, l -> new ArrayBlockingQueue<>(capacity));
+    misses.incrementAndGet();
+    markOccurrence(Metrics.SCRIPT_ENGINE_POOL_MISS);
+  }
+
+  /**
+   * Returns an engine after use. The engine is dropped if the pool of its language is full or
+   * its bindings cannot be reset.
+   *
+   * @return false if no engine of the given language was registered with this pool
+   */
+  public boolean release(String language, ScriptEngine scriptEngine) {
+    Queue<ScriptEngine> engines = idleEngines.get(language);
+    if (engines == null) {
+      return false;
+    }
+
+    if (resetBindings(language, scriptEngine)) {
+      engines.offer(scriptEngine);
+    }
+    return true;
+  }
+
+  protected boolean resetBindings(String language, ScriptEngine scriptEngine) {
+    Set<String> initialNames = initialBindingNames.get(language);
+    try {
+      Bindings bindings = getEngineBindings(scriptEngine);
+      for (String name : new ArrayList<>(bindings.keySet())) {
+        if (!initialNames.contains(name)) {
+          bindings.remove(name);
+        }
+      }
+      return true;
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  protected Bindings getEngineBindings(ScriptEngine scriptEngine) {
+    return scriptEngine.getBindings(ScriptContext.ENGINE_SCOPE);
+  }
+
+  protected void markOccurrence(String name) {
+    ProcessEngineConfigurationImpl config = Context.getProcessEngineConfiguration();
+    if (config != null && config.isMetricsEnabled() && config.getMetricsRegistry() != null) {
+      config.getMetricsRegistry().markOccurrence(name);
+    }
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * @return the number of engines handed out from the pool
+   */
+  public long getHits() {
+    return hits.get();
+  }
+
+  /**
+   * @return the number of engines created because the pool had no idle engine
+   */
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * @return the number of idle engines of the given language
+   */
+  public int getIdleCount(String language) {
+    Queue<ScriptEngine> engines = idleEngines.get(language);
+    return engines != null ? engines.size() : 0;
+  }
+
+}
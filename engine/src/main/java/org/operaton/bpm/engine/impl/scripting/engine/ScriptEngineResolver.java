@@ -33,4 +33,14 @@ public interface ScriptEngineResolver {
    * @return the cached engine or null if no script engine can be created for the given language
    */
   ScriptEngine getScriptEngine(String language, boolean resolveFromCache);
+
+  /**
+   * Hands back a script engine returned by {@link #getScriptEngine(String, boolean)} once it is
+   * no longer used, so that it can be reused.
+   *
+   * @return true if the engine was taken back by this resolver
+   */
+  default boolean releaseScriptEngine(String language, ScriptEngine scriptEngine) {
+    return false;
+  }
 }
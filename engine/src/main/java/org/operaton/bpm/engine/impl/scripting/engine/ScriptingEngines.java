@@ -120,6 +120,47 @@ public class ScriptingEngines implements DmnScriptEngineResolver {
     return engine;
   }
 
+  /**
+   * Hands back a script engine returned by {@link #getScriptEngineForLanguage(String)} once the
+   * script has been executed, so that engines which cannot be shared between threads can be
+   * pooled.
+   *
+   * @param language the name of the script language the engine was looked up for
+   * @param scriptEngine the script engine
+   */
+  public void releaseScriptEngine(String language, ScriptEngine scriptEngine) {
+    if (!enableScriptEngineCaching || scriptEngine == null) {
+      return;
+    }
+
+    if (language != null) {
+      language = language.toLowerCase();
+    }
+
+    ProcessApplicationReference pa = Context.getCurrentProcessApplication();
+    ProcessEngineConfigurationImpl config = Context.getProcessEngineConfiguration();
+
+    if (config.isEnableFetchScriptEngineFromProcessApplication() && pa != null
+        && releasePaScriptEngine(language, scriptEngine, pa)) {
+      return;
+    }
+
+    scriptEngineResolver.releaseScriptEngine(language, scriptEngine);
+  }
+
+  protected boolean releasePaScriptEngine(String language, ScriptEngine scriptEngine, ProcessApplicationReference pa) {
+    try {
+      ProcessApplicationInterface processApplication = pa.getProcessApplication();
+      ProcessApplicationInterface rawObject = processApplication.getRawObject();
+
+      return rawObject instanceof AbstractProcessApplication abstractProcessApplication
+          && abstractProcessApplication.releaseScriptEngine(language, scriptEngine);
+    }
+    catch (ProcessApplicationUnavailableException e) {
+      throw new ProcessEngineException("Process Application is unavailable.", e);
+    }
+  }
+
   protected ScriptEngine getPaScriptEngine(String language, ProcessApplicationReference pa) {
     try {
       ProcessApplicationInterface processApplication = pa.getProcessApplication();
@@ -81,10 +81,16 @@ public class ScriptingEnvironment {
     // get script engine
     ScriptEngine scriptEngine = scriptingEngines.getScriptEngineForLanguage(script.getLanguage());
 
-    // create bindings
-    Bindings bindings = scriptingEngines.createBindings(scriptEngine, scope);
+    try {
+      // create bindings
+      Bindings bindings = scriptingEngines.createBindings(scriptEngine, scope);
+
+      return execute(script, scope, bindings, scriptEngine);
 
-    return execute(script, scope, bindings, scriptEngine);
+    } finally {
+      // hand back the engine so that it can be pooled
+      scriptingEngines.releaseScriptEngine(script.getLanguage(), scriptEngine);
+    }
   }
 
   public Object execute(ExecutableScript script, VariableScope scope, Bindings bindings, ScriptEngine scriptEngine) {
@@ -260,4 +260,10 @@ public class EngineUtilLogger extends ProcessEngineLogger {
         "Exception while configuring XXE processing: {}", cause.getMessage()), cause);
   }
 
+  public ProcessEngineException exceptionWhileReadingCompactBatchConfiguration(Throwable cause) {
+    return new ProcessEngineException(exceptionMessage(
+        "048",
+        "Exception while reading a batch configuration in the compact binary format: {}", cause.getMessage()), cause);
+  }
+
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.management;
+
+/**
+ * The latency distribution of an operation measured by the process engine,
+ * such as the execution of commands, database flushes or jobs.
+ * All values are given in microseconds.
+ *
+ * @see org.operaton.bpm.engine.ManagementService#getLatencyStatistics()
+ */
+public interface LatencyStatistics {
+
+  /**
+   * @return the name of the measured operation, e.g. {@link Metrics#COMMAND_EXECUTION_LATENCY}
+   */
+  String getName();
+
+  /**
+   * @return the number of recorded measurements
+   */
+  long getCount();
+
+  /**
+   * @return the median latency
+   */
+  long getP50();
+
+  /**
+   * @return the 99th percentile of the latency
+   */
+  long getP99();
+
+  /**
+   * @return the 99.9th percentile of the latency
+   */
+  long getP999();
+
+  /**
+   * @return the highest recorded latency
+   */
+  long getMax();
+
+}
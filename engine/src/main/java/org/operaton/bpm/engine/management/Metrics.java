@@ -78,12 +78,57 @@ public final class Metrics {
   public static final String HISTORY_CLEANUP_REMOVED_BATCH_OPERATIONS = "history-cleanup-removed-batch-operations";
   public static final String HISTORY_CLEANUP_REMOVED_TASK_METRICS = "history-cleanup-removed-task-metrics";
 
+  /**
+   * Prefix of the number of rows removed per table by partitioned history cleanup. The name of
+   * the table in lower case is appended, e.g. {@code history-cleanup-removed-rows-act_hi_actinst}.
+   * Querying the interval sums of these metrics yields the cleanup rate per table.
+   */
+  public static final String HISTORY_CLEANUP_REMOVED_ROWS = "history-cleanup-removed-rows";
+
   /**
    * Number of unique task workers
    */
   public static final String UNIQUE_TASK_WORKERS = "unique-task-workers";
   public static final String TASK_USERS = "task-users";
 
+  /**
+   * Latency of commands executed in a new command context, including the flush and
+   * transaction commit. Only recorded if latency metrics are enabled.
+   */
+  public static final String COMMAND_EXECUTION_LATENCY = "command-execution-latency";
+
+  /**
+   * Latency of flushing the database operations of a command context. Only recorded
+   * if latency metrics are enabled.
+   */
+  public static final String DB_FLUSH_LATENCY = "db-flush-latency";
+
+  /**
+   * Latency of executing a job, excluding the job listeners. Only recorded if latency
+   * metrics are enabled.
+   */
+  public static final String JOB_EXECUTION_LATENCY = "job-execution-latency";
+
+  /**
+   * Number of history events that the asynchronous history event handler failed to write
+   * and retried, or dropped.
+   */
+  public static final String HISTORY_EVENTS_RETRIED = "history-events-retried";
+  public static final String HISTORY_EVENTS_DROPPED = "history-events-dropped";
+
+  /**
+   * Time between the commit of a history event and its write by the asynchronous history
+   * event handler. Only recorded if latency metrics are enabled.
+   */
+  public static final String HISTORY_EVENT_WRITE_LAG = "history-event-write-lag";
+
+  /**
+   * Number of script engines taken from the script engine pool, and created because the
+   * pool had no idle engine. Only recorded if the script engine pool is enabled.
+   */
+  public static final String SCRIPT_ENGINE_POOL_HIT = "script-engine-pool-hit";
+  public static final String SCRIPT_ENGINE_POOL_MISS = "script-engine-pool-miss";
+
   private Metrics() {
   }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.batch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.impl.util.JsonUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactBatchConfigurationFormatTest {
+
+  @Test
+  void shouldRoundTripNumericIds() {
+    // given
+    List<String> ids = List.of("1", "100", "42", "9876543210", "9876543211", "0", "100000000000000000");
+    JsonObject configuration = configurationWithIds(ids);
+
+    // when
+    byte[] bytes = CompactBatchConfigurationFormat.write(configuration);
+
+    // then
+    assertThat(CompactBatchConfigurationFormat.read(bytes)).isEqualTo(configuration);
+  }
+
+  @Test
+  void shouldRoundTripUuids() {
+    // given
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      ids.add(UUID.randomUUID().toString());
+    }
+    JsonObject configuration = configurationWithIds(ids);
+
+    // when
+    byte[] bytes = CompactBatchConfigurationFormat.write(configuration);
+
+    // then
+    assertThat(bytes.length).isLessThan(100 * 17 + 100);
+    assertThat(CompactBatchConfigurationFormat.read(bytes)).isEqualTo(configuration);
+  }
+
+  @Test
+  void shouldRoundTripArbitraryStrings() {
+    // given
+    List<String> ids = List.of("aProcess:1:42", "aProcess:1:43", "aProcess:1:43", "ABC-DEF", "0123", "", "ümläut",
+        "6F9619FF-8B86-D011-B42D-00CF4FC964FF");
+    JsonObject configuration = configurationWithIds(ids);
+
+    // when
+    byte[] bytes = CompactBatchConfigurationFormat.write(configuration);
+
+    // then
+    assertThat(CompactBatchConfigurationFormat.read(bytes)).isEqualTo(configuration);
+  }
+
+  @Test
+  void shouldKeepOtherFieldsInJson() {
+    // given
+    JsonObject configuration = configurationWithIds(List.of("1", "2"));
+    JsonArray mixed = new JsonArray();
+    mixed.add("a");
+    mixed.add(1);
+    configuration.add("mixed", mixed);
+    configuration.add("empty", new JsonArray());
+    JsonObject mapping = JsonUtil.createObject();
+    JsonUtil.addField(mapping, "count", 2);
+    JsonArray mappings = new JsonArray();
+    mappings.add(mapping);
+    configuration.add("mappings", mappings);
+
+    // when
+    byte[] bytes = CompactBatchConfigurationFormat.write(configuration);
+
+    // then
+    assertThat(CompactBatchConfigurationFormat.read(bytes)).isEqualTo(configuration);
+  }
+
+  @Test
+  void shouldBeSmallerThanJson() {
+    // given
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      ids.add(String.valueOf(100000 + i * 7));
+    }
+    JsonObject configuration = configurationWithIds(ids);
+    byte[] json = JsonUtil.getGsonMapper().toJson(configuration).getBytes(StandardCharsets.UTF_8);
+
+    // when
+    byte[] bytes = CompactBatchConfigurationFormat.write(configuration);
+
+    // then
+    assertThat(bytes.length).isLessThan(json.length / 5);
+  }
+
+  @Test
+  void shouldDistinguishFormats() {
+    byte[] json = "{\"processInstanceIds\":[\"1\"]}".getBytes(StandardCharsets.UTF_8);
+    byte[] compact = CompactBatchConfigurationFormat.write(configurationWithIds(List.of("1")));
+
+    assertThat(CompactBatchConfigurationFormat.isCompact(json)).isFalse();
+    assertThat(CompactBatchConfigurationFormat.isCompact(compact)).isTrue();
+    assertThat(CompactBatchConfigurationFormat.isCompact(new byte[0])).isFalse();
+    assertThat(CompactBatchConfigurationFormat.isCompact(null)).isFalse();
+  }
+
+  @Test
+  void shouldFailOnTruncatedConfiguration() {
+    // given
+    byte[] bytes = CompactBatchConfigurationFormat.write(configurationWithIds(List.of("1", "2", "3")));
+    byte[] truncated = Arrays.copyOf(bytes, bytes.length - 2);
+
+    // when/then
+    assertThatThrownBy(() -> CompactBatchConfigurationFormat.read(truncated))
+        .isInstanceOf(ProcessEngineException.class)
+        .hasMessageContaining("ENGINE-09048");
+  }
+
+  protected JsonObject configurationWithIds(List<String> ids) {
+    JsonObject configuration = JsonUtil.createObject();
+    JsonUtil.addField(configuration, "deleteReason", "a reason");
+    JsonUtil.addField(configuration, "skipCustomListeners", true);
+    JsonUtil.addListField(configuration, "processInstanceIds", ids);
+    return configuration;
+  }
+
+}
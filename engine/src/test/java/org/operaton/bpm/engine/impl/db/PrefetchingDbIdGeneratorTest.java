@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.cmd.GetNextIdBlockCmd;
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefetchingDbIdGeneratorTest {
+
+  static final int ID_BLOCK_SIZE = 100;
+
+  IdBlockCommandExecutor commandExecutor;
+  PrefetchingDbIdGenerator idGenerator;
+
+  @BeforeEach
+  void setUp() {
+    commandExecutor = new IdBlockCommandExecutor();
+    idGenerator = new PrefetchingDbIdGenerator();
+    idGenerator.setIdBlockSize(ID_BLOCK_SIZE);
+    idGenerator.setCommandExecutor(commandExecutor);
+  }
+
+  @Test
+  void shouldGenerateAscendingIds() throws Exception {
+    for (int i = 1; i <= 3 * ID_BLOCK_SIZE; i++) {
+      assertThat(idGenerator.getNextId()).isEqualTo(Long.toString(i));
+    }
+    // the third block has already triggered the prefetch of a fourth one
+    idGenerator.prefetchedBlock.get(10, TimeUnit.SECONDS);
+    assertThat(commandExecutor.fetchedBlocks).hasValue(4);
+  }
+
+  @Test
+  void shouldPrefetchNextBlockBeforeCurrentIsExhausted() throws Exception {
+    // when
+    for (int i = 0; i < ID_BLOCK_SIZE / 2 + 1; i++) {
+      idGenerator.getNextId();
+    }
+    idGenerator.prefetchedBlock.get(10, TimeUnit.SECONDS);
+
+    // then
+    assertThat(commandExecutor.fetchedBlocks).hasValue(2);
+  }
+
+  @Test
+  void shouldFetchNewBlockAfterReset() {
+    // given
+    idGenerator.getNextId();
+
+    // when
+    commandExecutor.nextDbId.set(1);
+    idGenerator.reset();
+
+    // then
+    assertThat(idGenerator.getNextId()).isEqualTo("1");
+  }
+
+  @Test
+  void shouldShutDownPrefetchThreadOnClose() throws Exception {
+    // given
+    for (int i = 0; i < ID_BLOCK_SIZE / 2 + 1; i++) {
+      idGenerator.getNextId();
+    }
+    idGenerator.prefetchedBlock.get(10, TimeUnit.SECONDS);
+    ExecutorService prefetchExecutor = idGenerator.prefetchExecutor;
+
+    // when
+    idGenerator.close();
+
+    // then
+    assertThat(prefetchExecutor.isTerminated()).isTrue();
+    assertThat(idGenerator.prefetchExecutor).isNull();
+  }
+
+  @Test
+  void shouldFetchBlocksSynchronouslyAfterClose() {
+    // given
+    idGenerator.close();
+
+    // when
+    for (int i = 1; i <= 2 * ID_BLOCK_SIZE; i++) {
+      assertThat(idGenerator.getNextId()).isEqualTo(Long.toString(i));
+    }
+
+    // then
+    assertThat(idGenerator.prefetchExecutor).isNull();
+    assertThat(commandExecutor.fetchedBlocks).hasValue(2);
+  }
+
+  @Test
+  void shouldBeClosedWithProcessEngine() throws Exception {
+    // given
+    ProcessEngineConfigurationImpl configuration = ((ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+        .createStandaloneInMemProcessEngineConfiguration()
+        .setJdbcUrl("jdbc:h2:mem:" + getClass().getSimpleName())
+        .setProcessEngineName(getClass().getSimpleName() + "-engine"))
+        .setIdGeneratorPrefetchEnabled(true);
+    configuration.setIdBlockSize(ID_BLOCK_SIZE);
+    ProcessEngine processEngine = configuration.buildProcessEngine();
+    PrefetchingDbIdGenerator engineIdGenerator = (PrefetchingDbIdGenerator) configuration.getIdGenerator();
+    for (int i = 0; i < ID_BLOCK_SIZE; i++) {
+      engineIdGenerator.getNextId();
+    }
+    ExecutorService prefetchExecutor = engineIdGenerator.prefetchExecutor;
+
+    // when
+    processEngine.close();
+
+    // then
+    assertThat(prefetchExecutor.isTerminated()).isTrue();
+    assertThat(engineIdGenerator.closed).isTrue();
+  }
+
+  @Test
+  void shouldGenerateUniqueIdsConcurrently() throws Exception {
+    assertUniqueIdsConcurrently();
+  }
+
+  @Test
+  void shouldGenerateUniqueIdsConcurrentlyWithThreadLocalBlocks() throws Exception {
+    idGenerator.setThreadLocalBlockSize(7);
+    assertUniqueIdsConcurrently();
+  }
+
+  protected void assertUniqueIdsConcurrently() throws Exception {
+    // given
+    int numberOfThreads = 16;
+    int idsPerThread = 5_000;
+    Set<String> ids = ConcurrentHashMap.newKeySet();
+    ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+
+    // when
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < numberOfThreads; t++) {
+      futures.add(executorService.submit(() -> {
+        for (int i = 0; i < idsPerThread; i++) {
+          ids.add(idGenerator.getNextId());
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    executorService.shutdown();
+
+    // then
+    assertThat(ids).hasSize(numberOfThreads * idsPerThread);
+  }
+
+  /**
+   * Hands out id blocks like {@link GetNextIdBlockCmd} without a database.
+   */
+  static class IdBlockCommandExecutor implements CommandExecutor {
+
+    final AtomicLong nextDbId = new AtomicLong(1);
+    final AtomicInteger fetchedBlocks = new AtomicInteger();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Command<T> command) {
+      assertThat(command).isInstanceOf(GetNextIdBlockCmd.class);
+      fetchedBlocks.incrementAndGet();
+      long firstId = nextDbId.getAndAdd(ID_BLOCK_SIZE);
+      return (T) new IdBlock(firstId, firstId + ID_BLOCK_SIZE - 1);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.impl.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.management.LatencyStatistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+  LatencyHistogram histogram = new LatencyHistogram("test");
+
+  @Test
+  void shouldReturnZeroForEmptyHistogram() {
+    LatencyStatistics statistics = histogram.getStatistics();
+
+    assertThat(statistics.getName()).isEqualTo("test");
+    assertThat(statistics.getCount()).isZero();
+    assertThat(statistics.getP50()).isZero();
+    assertThat(statistics.getP999()).isZero();
+  }
+
+  @Test
+  void shouldCountSmallValuesExactly() {
+    for (int i = 1; i <= 10; i++) {
+      histogram.record(i);
+    }
+
+    LatencyStatistics statistics = histogram.getStatistics();
+
+    assertThat(statistics.getCount()).isEqualTo(10);
+    assertThat(statistics.getP50()).isEqualTo(5);
+    assertThat(statistics.getP99()).isEqualTo(10);
+    assertThat(statistics.getMax()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldBoundRelativeErrorOfPercentiles() {
+    for (int i = 1; i <= 100_000; i++) {
+      histogram.record(i);
+    }
+
+    LatencyStatistics statistics = histogram.getStatistics();
+
+    assertThat(statistics.getP50()).isBetween(50_000L, 50_000L + 50_000L / 16);
+    assertThat(statistics.getP99()).isBetween(99_000L, 99_000L + 99_000L / 16);
+    assertThat(statistics.getP999()).isBetween(99_900L, 99_900L + 99_900L / 16);
+    assertThat(statistics.getMax()).isEqualTo(100_000);
+  }
+
+  @Test
+  void shouldResetIntervalMaxOnly() {
+    histogram.record(100);
+    histogram.record(10);
+    assertThat(histogram.getAndResetIntervalMax()).isEqualTo(100);
+
+    histogram.record(20);
+
+    assertThat(histogram.getAndResetIntervalMax()).isEqualTo(20);
+    assertThat(histogram.getAndResetIntervalMax()).isZero();
+    assertThat(histogram.getStatistics().getMax()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldClampValuesOutOfRange() {
+    histogram.record(-5);
+    histogram.record(Long.MAX_VALUE);
+
+    LatencyStatistics statistics = histogram.getStatistics();
+
+    assertThat(statistics.getCount()).isEqualTo(2);
+    assertThat(statistics.getP50()).isZero();
+    assertThat(statistics.getMax()).isEqualTo(LatencyHistogram.MAX_TRACKABLE_VALUE);
+    assertThat(statistics.getP999()).isEqualTo(LatencyHistogram.MAX_TRACKABLE_VALUE);
+  }
+
+  @Test
+  void shouldCreateStatisticsFromBucketDifference() {
+    histogram.record(1000);
+    long[] before = histogram.getBucketCounts();
+    histogram.record(10);
+    histogram.record(10);
+
+    long[] after = histogram.getBucketCounts();
+    for (int i = 0; i < after.length; i++) {
+      after[i] -= before[i];
+    }
+    LatencyStatistics statistics = LatencyHistogram.createStatistics("test", after, 0);
+
+    assertThat(statistics.getCount()).isEqualTo(2);
+    assertThat(statistics.getP999()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldClearHistogram() {
+    histogram.record(42);
+
+    histogram.clear();
+
+    assertThat(histogram.getStatistics().getCount()).isZero();
+    assertThat(histogram.getStatistics().getMax()).isZero();
+  }
+}
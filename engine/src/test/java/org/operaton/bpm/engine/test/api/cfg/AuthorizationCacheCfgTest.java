@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.test.api.cfg;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.AuthorizationService;
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.authorization.Authorization;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+
+import static org.operaton.bpm.engine.authorization.Permissions.READ;
+import static org.operaton.bpm.engine.authorization.Resources.PROCESS_DEFINITION;
+import static org.operaton.bpm.engine.test.util.ProcessEngineUtils.newRandomProcessEngineName;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthorizationCacheCfgTest {
+
+  protected ProcessEngine engine;
+  protected ProcessEngine otherEngine;
+
+  @AfterEach
+  void tearDown() {
+    if (otherEngine != null) {
+      otherEngine.close();
+      otherEngine = null;
+    }
+    if (engine != null) {
+      engine.close();
+      engine = null;
+    }
+  }
+
+  @Test
+  void shouldServeRepeatedChecksFromCache() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration(ProcessEngineConfigurationImpl.AUTHORIZATION_CACHE_MODE_LOCAL);
+    engine = config.buildProcessEngine();
+    AuthorizationService authorizationService = engine.getAuthorizationService();
+    grantRead(authorizationService, "demo", "invoice");
+
+    assertThat(authorizationService.isUserAuthorized("demo", null, READ, PROCESS_DEFINITION, "invoice")).isTrue();
+    assertThat(config.getAuthorizationCache().size()).isPositive();
+
+    // when the authorization is removed behind the back of the engine
+    deleteAuthorizationsWithoutEngine(config);
+
+    // then the decision is served from the cache
+    assertThat(authorizationService.isUserAuthorized("demo", null, READ, PROCESS_DEFINITION, "invoice")).isTrue();
+  }
+
+  @Test
+  void shouldInvalidateCacheWhenAuthorizationsChange() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration(ProcessEngineConfigurationImpl.AUTHORIZATION_CACHE_MODE_LOCAL);
+    engine = config.buildProcessEngine();
+    AuthorizationService authorizationService = engine.getAuthorizationService();
+    assertThat(authorizationService.isUserAuthorized("demo", null, READ, PROCESS_DEFINITION, "invoice")).isFalse();
+
+    // when
+    Authorization authorization = grantRead(authorizationService, "demo", "invoice");
+
+    // then
+    assertThat(authorizationService.isUserAuthorized("demo", null, READ, PROCESS_DEFINITION, "invoice")).isTrue();
+
+    // when
+    authorizationService.deleteAuthorization(authorization.getId());
+
+    // then
+    assertThat(authorizationService.isUserAuthorized("demo", null, READ, PROCESS_DEFINITION, "invoice")).isFalse();
+  }
+
+  @Test
+  void shouldInvalidateCacheOfOtherEngineInClusterMode() {
+    // given two engines on the same database
+    ProcessEngineConfigurationImpl config = createConfiguration(ProcessEngineConfigurationImpl.AUTHORIZATION_CACHE_MODE_CLUSTER);
+    config.setAuthorizationCacheVersionCheckInterval(0);
+    engine = config.buildProcessEngine();
+
+    ProcessEngineConfigurationImpl otherConfig = createConfiguration(ProcessEngineConfigurationImpl.AUTHORIZATION_CACHE_MODE_CLUSTER);
+    otherConfig.setAuthorizationCacheVersionCheckInterval(0);
+    otherConfig.setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_TRUE);
+    otherEngine = otherConfig.buildProcessEngine();
+
+    Authorization authorization = grantRead(engine.getAuthorizationService(), "demo", "invoice");
+    AuthorizationService otherAuthorizationService = otherEngine.getAuthorizationService();
+    assertThat(otherAuthorizationService.isUserAuthorized("demo", null, READ, PROCESS_DEFINITION, "invoice")).isTrue();
+
+    // when
+    engine.getAuthorizationService().deleteAuthorization(authorization.getId());
+
+    // then
+    assertThat(otherAuthorizationService.isUserAuthorized("demo", null, READ, PROCESS_DEFINITION, "invoice")).isFalse();
+  }
+
+  @Test
+  void shouldNotCreateCacheByDefault() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration(null);
+
+    // when
+    engine = config.buildProcessEngine();
+
+    // then
+    assertThat(config.getAuthorizationCacheMode()).isEqualTo(ProcessEngineConfigurationImpl.AUTHORIZATION_CACHE_MODE_DISABLED);
+    assertThat(config.getAuthorizationCache()).isNull();
+  }
+
+  @Test
+  void shouldRejectUnknownMode() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration("global");
+
+    // when/then
+    assertThatThrownBy(config::buildProcessEngine)
+      .isInstanceOf(ProcessEngineException.class)
+      .hasMessageContaining("authorizationCacheMode");
+  }
+
+  protected ProcessEngineConfigurationImpl createConfiguration(String authorizationCacheMode) {
+    ProcessEngineConfigurationImpl config = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+      .createStandaloneInMemProcessEngineConfiguration()
+      .setJdbcUrl("jdbc:h2:mem:operaton" + getClass().getSimpleName())
+      .setProcessEngineName(newRandomProcessEngineName())
+      .setAuthorizationEnabled(true);
+    if (authorizationCacheMode != null) {
+      config.setAuthorizationCacheMode(authorizationCacheMode);
+    }
+    return config;
+  }
+
+  protected Authorization grantRead(AuthorizationService authorizationService, String userId, String resourceId) {
+    Authorization authorization = authorizationService.createNewAuthorization(Authorization.AUTH_TYPE_GRANT);
+    authorization.setUserId(userId);
+    authorization.setResource(PROCESS_DEFINITION);
+    authorization.setResourceId(resourceId);
+    authorization.addPermission(READ);
+    return authorizationService.saveAuthorization(authorization);
+  }
+
+  protected void deleteAuthorizationsWithoutEngine(ProcessEngineConfigurationImpl config) {
+    config.getCommandExecutorTxRequired().execute(commandContext -> {
+      try (Statement statement = commandContext.getDbSqlSession().getSqlSession().getConnection().createStatement()) {
+        statement.executeUpdate("delete from ACT_RU_AUTHORIZATION");
+      } catch (SQLException e) {
+        throw new ProcessEngineException(e);
+      }
+      return null;
+    });
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.test.api.cfg;
+
+import jakarta.el.ELContext;
+import jakarta.el.ExpressionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.el.JuelExpressionManager;
+import org.operaton.bpm.engine.impl.mock.Mocks;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.variable.Variables;
+import org.operaton.bpm.impl.juel.ExpressionFactoryImpl;
+import org.operaton.bpm.impl.juel.TreeValueExpression;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+
+import static org.operaton.bpm.engine.test.util.ProcessEngineUtils.newRandomProcessEngineName;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpressionCompileCfgTest {
+
+  protected ProcessEngine engine;
+
+  @AfterEach
+  void tearDown() {
+    Mocks.reset();
+    if (engine != null) {
+      engine.close();
+      engine = null;
+    }
+  }
+
+  @Test
+  void shouldTakeSequenceFlowsWithCompiledConditions() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration();
+    config.setExpressionCompileThreshold(1);
+    engine = config.buildProcessEngine();
+
+    BpmnModelInstance process = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .exclusiveGateway("gateway")
+        .condition("large", "${amount > 1000 && approved}")
+        .userTask("largeTask")
+        .endEvent()
+      .moveToNode("gateway")
+        .condition("small", "${amount <= 1000 || !approved}")
+        .userTask("smallTask")
+        .endEvent()
+      .done();
+    engine.getRepositoryService().createDeployment().addModelInstance("process.bpmn", process).deploy();
+
+    // when the conditions are evaluated repeatedly
+    for (int i = 0; i < 5; i++) {
+      String largeInstance = startProcess(1500 + i, true);
+      String smallInstance = startProcess(500 + i, true);
+      String rejectedInstance = startProcess(1500 + i, false);
+
+      // then
+      assertThat(getActivityId(largeInstance)).isEqualTo("largeTask");
+      assertThat(getActivityId(smallInstance)).isEqualTo("smallTask");
+      assertThat(getActivityId(rejectedInstance)).isEqualTo("smallTask");
+    }
+  }
+
+  @Test
+  void shouldCacheBeanAccessOfCompiledExpression() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration();
+    config.setExpressionCompileThreshold(2);
+    engine = config.buildProcessEngine();
+    JuelExpressionManager expressionManager = (JuelExpressionManager) config.getExpressionManager();
+    TreeValueExpression expression = (TreeValueExpression) expressionManager.createValueExpression("${order.limit > amount && order.accepts(amount)}");
+    ELContext context = expressionManager.createElContext(Variables.createVariables()
+      .putValue("order", new Order(1000))
+      .putValue("amount", 500)
+      .asVariableContext());
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      assertThat(expression.getValue(context)).isEqualTo(true);
+    }
+
+    // then
+    assertThat(expression.isCompiled()).isTrue();
+  }
+
+  @Test
+  void shouldDeoptimizeWhenMocksAreRegistered() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration();
+    config.setExpressionCompileThreshold(1);
+    engine = config.buildProcessEngine();
+    JuelExpressionManager expressionManager = (JuelExpressionManager) config.getExpressionManager();
+    TreeValueExpression expression = (TreeValueExpression) expressionManager.createValueExpression("${order.limit}");
+    ELContext context = expressionManager.createElContext(Variables.createVariables()
+      .putValue("order", new Order(1000))
+      .asVariableContext());
+    assertThat(expression.getValue(context)).isEqualTo(1000);
+
+    // when a mock may now resolve properties of any bean
+    Mocks.register("limit", 42);
+
+    // then the expression is interpreted again and sees the mock
+    assertThat(expression.getValue(context)).isEqualTo(42);
+    assertThat(expression.isCompiled()).isFalse();
+  }
+
+  @Test
+  void shouldKeepCustomExpressionFactory() {
+    // given
+    ExpressionFactory customExpressionFactory = new ExpressionFactoryImpl();
+    JuelExpressionManager customExpressionManager = new JuelExpressionManager();
+    customExpressionManager.setExpressionFactory(customExpressionFactory);
+    ProcessEngineConfigurationImpl config = createConfiguration();
+    config.setExpressionManager(customExpressionManager);
+    config.setExpressionCompileThreshold(1);
+    engine = config.buildProcessEngine();
+
+    // when
+    TreeValueExpression expression = (TreeValueExpression) customExpressionManager.createValueExpression("${order.limit}");
+    ELContext context = customExpressionManager.createElContext(Variables.createVariables()
+      .putValue("order", new Order(1000))
+      .asVariableContext());
+
+    // then the custom factory is used and interprets the expression
+    assertThat(context.getContext(ExpressionFactory.class)).isSameAs(customExpressionFactory);
+    assertThat(expression.getValue(context)).isEqualTo(1000);
+    assertThat(expression.getValue(context)).isEqualTo(1000);
+    assertThat(expression.isCompiled()).isFalse();
+  }
+
+  @Test
+  void shouldProvideExpressionFactoryBeforeFirstExpression() {
+    // given
+    JuelExpressionManager expressionManager = new JuelExpressionManager();
+    expressionManager.setCompileThreshold(1);
+
+    // when
+    ExpressionFactory expressionFactory = expressionManager.getExpressionFactory();
+
+    // then
+    assertThat(expressionFactory).isInstanceOf(ExpressionFactoryImpl.class);
+    assertThat(expressionManager.getExpressionFactory()).isSameAs(expressionFactory);
+  }
+
+  @Test
+  void shouldRejectNegativeCompileThreshold() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration();
+    config.setExpressionCompileThreshold(-1);
+
+    // when
+    assertThatThrownBy(config::buildProcessEngine)
+      // then
+      .isInstanceOf(ProcessEngineException.class)
+      .hasMessageContaining("expressionCompileThreshold");
+  }
+
+  protected String startProcess(int amount, boolean approved) {
+    ProcessInstance processInstance = engine.getRuntimeService().startProcessInstanceByKey("process",
+        Variables.createVariables().putValue("amount", amount).putValue("approved", approved));
+    return processInstance.getId();
+  }
+
+  protected String getActivityId(String processInstanceId) {
+    return engine.getTaskService().createTaskQuery().processInstanceId(processInstanceId).singleResult().getTaskDefinitionKey();
+  }
+
+  protected ProcessEngineConfigurationImpl createConfiguration() {
+    return (ProcessEngineConfigurationImpl) ProcessEngineConfiguration.createStandaloneInMemProcessEngineConfiguration()
+      .setJdbcUrl("jdbc:h2:mem:operaton" + getClass().getSimpleName())
+      .setProcessEngineName(newRandomProcessEngineName());
+  }
+
+  public static class Order {
+
+    protected final int limit;
+
+    public Order(int limit) {
+      this.limit = limit;
+    }
+
+    public int getLimit() {
+      return limit;
+    }
+
+    public boolean accepts(Integer amount) {
+      return amount <= limit;
+    }
+  }
+
+}
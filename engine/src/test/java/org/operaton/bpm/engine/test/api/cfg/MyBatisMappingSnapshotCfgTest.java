@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.test.api.cfg;
+
+import java.io.InputStream;
+import javax.sql.DataSource;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.transaction.TransactionFactory;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.operaton.bpm.engine.impl.db.sql.MyBatisMappingSnapshot;
+import org.operaton.bpm.engine.impl.util.IoUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MyBatisMappingSnapshotCfgTest {
+
+  protected static final String H2_STATEMENT = "selectHistoryCleanupPartitionIds";
+  protected static final String ORACLE_STATEMENT = "selectHistoryCleanupPartitionIds_oracle";
+
+  @Test
+  void shouldUseMappingSnapshotByDefault() {
+    assertThat(new StandaloneInMemProcessEngineConfiguration().isMyBatisMappingSnapshotEnabled()).isTrue();
+  }
+
+  @Test
+  void shouldProvideUpToDateSnapshotForAllDatabases() {
+    for (String databaseType : DbSqlSessionFactory.SUPPORTED_DATABASES) {
+      InputStream snapshot = MyBatisMappingSnapshot.getMappingFile(ProcessEngineConfigurationImpl.DEFAULT_MYBATIS_MAPPING_FILE, databaseType);
+      try {
+        assertThat(snapshot).as(databaseType).isNotNull();
+      } finally {
+        IoUtil.closeSilently(snapshot);
+      }
+    }
+  }
+
+  @Test
+  void shouldNotProvideSnapshotForUnknownDatabase() {
+    assertThat(MyBatisMappingSnapshot.getMappingFile(ProcessEngineConfigurationImpl.DEFAULT_MYBATIS_MAPPING_FILE, "unknown")).isNull();
+  }
+
+  @Test
+  void shouldBuildSqlSessionFactoryFromSnapshot() {
+    // given
+    TestEngineCfg cfg = new TestEngineCfg();
+
+    // when
+    cfg.initSqlSessionFactory();
+
+    // then the statements of other databases are not part of the snapshot
+    Configuration configuration = cfg.getSqlSessionFactory().getConfiguration();
+    assertThat(configuration.getMappedStatementNames())
+      .contains(H2_STATEMENT)
+      .doesNotContain(ORACLE_STATEMENT);
+  }
+
+  @Test
+  void shouldBuildSqlSessionFactoryFromOriginalMappingsIfDisabled() {
+    // given
+    TestEngineCfg cfg = new TestEngineCfg();
+    cfg.setMyBatisMappingSnapshotEnabled(false);
+
+    // when
+    cfg.initSqlSessionFactory();
+
+    // then
+    Configuration configuration = cfg.getSqlSessionFactory().getConfiguration();
+    assertThat(configuration.getMappedStatementNames())
+      .contains(H2_STATEMENT, ORACLE_STATEMENT);
+  }
+
+  static class TestEngineCfg extends StandaloneInMemProcessEngineConfiguration {
+
+    public TestEngineCfg() {
+      dataSource = mock(DataSource.class);
+      transactionFactory = mock(TransactionFactory.class);
+      databaseType = DbSqlSessionFactory.H2;
+    }
+
+    @Override
+    public void initSqlSessionFactory() {
+      super.initSqlSessionFactory();
+    }
+
+  }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.test.api.cfg;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineBootstrap;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.cfg.StartupReport;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+
+import static org.operaton.bpm.engine.test.util.ProcessEngineUtils.newRandomProcessEngineName;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProcessEngineBootstrapTest {
+
+  protected ProcessEngine engine;
+
+  @AfterEach
+  void tearDown() {
+    if (engine != null) {
+      engine.close();
+      engine = null;
+    }
+  }
+
+  @Test
+  void shouldReportStartupSteps() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration();
+
+    // when
+    engine = config.buildProcessEngine();
+
+    // then
+    StartupReport report = config.getStartupReport();
+    assertThat(report.getSteps())
+      .extracting(StartupReport.Step::getName)
+      .startsWith("invokePreInit")
+      .contains("initDataSource", "initSqlSessionFactory", "initDmnEngine", "initDeployers")
+      .endsWith("invokePostInit", "createProcessEngine", "invokePostProcessEngineBuild");
+    assertThat(report.getSteps())
+      .extracting(StartupReport.Step::getThreadName)
+      .containsOnly(Thread.currentThread().getName());
+    assertThat(report.getTotalDurationMillis())
+      .isGreaterThanOrEqualTo(report.getStep("initSqlSessionFactory").getDurationMillis());
+  }
+
+  @Test
+  void shouldKeepOrderOfStepsWithoutParallelBootstrap() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration();
+
+    // when
+    engine = config.buildProcessEngine();
+
+    // then the database steps run at their original position
+    assertThat(config.getStartupReport().getSteps())
+      .extracting(StartupReport.Step::getName)
+      .containsSubsequence("initTransactionContextFactory", "initDataSource", "initExceptionCodeProvider", "initCommandExecutors")
+      .containsSubsequence("initJobExecutor", "initTransactionFactory", "initSqlSessionFactory", "initIdentityProviderSessionFactory")
+      .containsSubsequence("initDefaultCharset", "initHistoryLevel", "initDataSource");
+  }
+
+  @Test
+  void shouldExecuteIndependentStepsInParallel() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration();
+    config.setParallelBootstrapEnabled(true);
+
+    // when
+    engine = config.buildProcessEngine();
+
+    // then the steps ran on the bootstrap threads
+    StartupReport report = config.getStartupReport();
+    assertThat(report.getStep("initDataSource").getThreadName()).startsWith(ProcessEngineBootstrap.THREAD_NAME_PREFIX);
+    assertThat(report.getStep("initSqlSessionFactory").getThreadName()).startsWith(ProcessEngineBootstrap.THREAD_NAME_PREFIX);
+    assertThat(report.getStep("initDmnEngine").getThreadName()).startsWith(ProcessEngineBootstrap.THREAD_NAME_PREFIX);
+    assertThat(report.getStep("initDeployers").getThreadName()).isEqualTo(Thread.currentThread().getName());
+
+    // and the steps which depend on them started after they completed
+    StartupReport.Step sqlSessionFactory = report.getStep("initSqlSessionFactory");
+    assertThat(report.getStep("initSessionFactories").getStartOffsetNanos())
+      .isGreaterThanOrEqualTo(sqlSessionFactory.getStartOffsetNanos() + sqlSessionFactory.getDurationNanos());
+
+    // and the engine is usable
+    assertThat(config.getDmnEngine()).isNotNull();
+    BpmnModelInstance process = Bpmn.createExecutableProcess("process").startEvent().userTask().endEvent().done();
+    engine.getRepositoryService().createDeployment().addModelInstance("process.bpmn", process).deploy();
+    ProcessInstance processInstance = engine.getRuntimeService().startProcessInstanceByKey("process");
+    assertThat(engine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldPropagateFailureOfParallelStep() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration();
+    config.setParallelBootstrapEnabled(true);
+    config.setJdbcUrl("jdbc:unknown:" + getClass().getSimpleName());
+
+    // when
+    assertThatThrownBy(config::buildProcessEngine)
+      // then
+      .isInstanceOf(ProcessEngineException.class);
+  }
+
+  @Test
+  void shouldRejectInvalidNumberOfBootstrapThreads() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration();
+    config.setParallelBootstrapEnabled(true);
+    config.setParallelBootstrapThreads(0);
+
+    // when
+    assertThatThrownBy(config::buildProcessEngine)
+      // then
+      .isInstanceOf(ProcessEngineException.class)
+      .hasMessageContaining("parallelBootstrapThreads");
+  }
+
+  @Test
+  void shouldDiscoverScriptEnginesOnFirstUse() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration();
+    config.setLazyBootstrapEnabled(true);
+    engine = config.buildProcessEngine();
+
+    BpmnModelInstance process = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .scriptTask().scriptFormat("groovy").scriptText("execution.setVariable('result', 42)")
+      .userTask()
+      .endEvent()
+      .done();
+    engine.getRepositoryService().createDeployment().addModelInstance("process.bpmn", process).deploy();
+
+    // when
+    ProcessInstance processInstance = engine.getRuntimeService().startProcessInstanceByKey("process");
+
+    // then
+    assertThat(engine.getRuntimeService().getVariable(processInstance.getId(), "result")).isEqualTo(42);
+  }
+
+  protected ProcessEngineConfigurationImpl createConfiguration() {
+    return (ProcessEngineConfigurationImpl) ProcessEngineConfiguration.createStandaloneInMemProcessEngineConfiguration()
+      .setJdbcUrl("jdbc:h2:mem:operaton" + getClass().getSimpleName())
+      .setProcessEngineName(newRandomProcessEngineName());
+  }
+
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.test.api.history.removaltime.cleanup;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.operaton.bpm.engine.HistoryService;
+import org.operaton.bpm.engine.ManagementService;
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.TaskService;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.history.DefaultHistoryRemovalTimeProvider;
+import org.operaton.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupJobHandlerConfiguration;
+import org.operaton.bpm.engine.impl.persistence.entity.JobEntity;
+import org.operaton.bpm.engine.impl.util.ClockUtil;
+import org.operaton.bpm.engine.impl.util.JsonUtil;
+import org.operaton.bpm.engine.management.Metrics;
+import org.operaton.bpm.engine.runtime.Job;
+import org.operaton.bpm.engine.test.RequiredHistoryLevel;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+
+import static org.operaton.bpm.engine.ProcessEngineConfiguration.HISTORY_CLEANUP_STRATEGY_END_TIME_BASED;
+import static org.operaton.bpm.engine.ProcessEngineConfiguration.HISTORY_CLEANUP_STRATEGY_REMOVAL_TIME_BASED;
+import static org.operaton.bpm.engine.ProcessEngineConfiguration.HISTORY_FULL;
+import static org.operaton.bpm.engine.ProcessEngineConfiguration.HISTORY_REMOVAL_TIME_STRATEGY_END;
+import static org.operaton.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupHandler.MAX_BATCH_SIZE;
+import static org.apache.commons.lang3.time.DateUtils.addDays;
+import static org.apache.commons.lang3.time.DateUtils.addSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RequiredHistoryLevel(HISTORY_FULL)
+class HistoryCleanupRemovalTimePartitionTest {
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder().randomEngineName().build();
+  @RegisterExtension
+  ProcessEngineTestExtension testRule = new ProcessEngineTestExtension(engineRule);
+
+  static final String PROCESS_KEY = "process";
+  static final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess(PROCESS_KEY)
+    .operatonHistoryTimeToLive(5)
+    .startEvent()
+      .userTask("userTask")
+    .endEvent().done();
+
+  static final Date END_DATE = new GregorianCalendar(2013, Calendar.MARCH, 18, 13, 0, 0).getTime();
+
+  RuntimeService runtimeService;
+  TaskService taskService;
+  HistoryService historyService;
+  ManagementService managementService;
+  ProcessEngineConfigurationImpl engineConfiguration;
+
+  List<String> jobIds;
+
+  @BeforeEach
+  void init() {
+    engineConfiguration
+      .setHistoryRemovalTimeStrategy(HISTORY_REMOVAL_TIME_STRATEGY_END)
+      .setHistoryRemovalTimeProvider(new DefaultHistoryRemovalTimeProvider())
+      .initHistoryRemovalTime();
+
+    engineConfiguration.setHistoryCleanupStrategy(HISTORY_CLEANUP_STRATEGY_REMOVAL_TIME_BASED);
+    engineConfiguration.setHistoryCleanupBatchSize(MAX_BATCH_SIZE);
+    engineConfiguration.setHistoryCleanupBatchWindowStartTime(null);
+    engineConfiguration.setHistoryCleanupPartitions(2);
+    engineConfiguration.initHistoryCleanup();
+
+    jobIds = new ArrayList<>();
+  }
+
+  @AfterEach
+  void tearDown() {
+    engineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      commandContext.getMeterLogManager().deleteAll();
+      for (String jobId : jobIds) {
+        commandContext.getHistoricJobLogManager().deleteHistoricJobLogByJobId(jobId);
+        JobEntity job = commandContext.getJobManager().findJobById(jobId);
+        if (job != null) {
+          commandContext.getJobManager().delete(job);
+        }
+      }
+      return null;
+    });
+
+    engineConfiguration
+      .setHistoryRemovalTimeProvider(null)
+      .setHistoryRemovalTimeStrategy(null)
+      .initHistoryRemovalTime();
+
+    engineConfiguration.setHistoryCleanupBatchSize(MAX_BATCH_SIZE);
+    engineConfiguration.setHistoryCleanupPartitions(0);
+    engineConfiguration.setHistoryCleanupStrategy(HISTORY_CLEANUP_STRATEGY_REMOVAL_TIME_BASED);
+    engineConfiguration.initHistoryCleanup();
+
+    ClockUtil.reset();
+  }
+
+  @Test
+  void shouldCreateOneJobPerPartition() {
+    // given
+    engineConfiguration.setHistoryCleanupPartitions(12);
+
+    // when
+    List<Job> jobs = scheduleHistoryCleanup();
+
+    // then
+    assertThat(jobs).hasSize(12);
+    assertThat(jobs)
+      .extracting(job -> getConfiguration(job).getSecondFrom())
+      .containsExactlyInAnyOrder(0, 300, 600, 900, 1200, 1500, 1800, 2100, 2400, 2700, 3000, 3300);
+    assertThat(jobs)
+      .extracting(job -> getConfiguration(job).getSecondTo() - getConfiguration(job).getSecondFrom())
+      .containsOnly(300);
+  }
+
+  @Test
+  void shouldOnlyCleanupRowsOfOwnPartition() {
+    // given
+    testRule.deploy(PROCESS);
+
+    // removal time 13:10:00 belongs to partition [0, 1800)
+    completeProcessInstanceAt(addSeconds(END_DATE, 600));
+
+    ClockUtil.setCurrentTime(addDays(END_DATE, 6));
+
+    List<Job> jobs = scheduleHistoryCleanup();
+    Job firstPartition = getJobOfPartition(jobs, 0);
+    Job secondPartition = getJobOfPartition(jobs, 1800);
+
+    // when
+    managementService.executeJob(secondPartition.getId());
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count()).isOne();
+    assertThat(historyService.createHistoricActivityInstanceQuery().count()).isEqualTo(3);
+
+    // when
+    managementService.executeJob(firstPartition.getId());
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+    assertThat(historyService.createHistoricActivityInstanceQuery().count()).isZero();
+    assertThat(historyService.createHistoricTaskInstanceQuery().count()).isZero();
+  }
+
+  @Test
+  void shouldCleanupAllPartitions() {
+    // given
+    testRule.deploy(PROCESS);
+
+    completeProcessInstanceAt(addSeconds(END_DATE, 10));
+    completeProcessInstanceAt(addSeconds(END_DATE, 1799));
+    completeProcessInstanceAt(addSeconds(END_DATE, 1800));
+    completeProcessInstanceAt(addSeconds(END_DATE, 3599));
+
+    ClockUtil.setCurrentTime(addDays(END_DATE, 6));
+
+    // when
+    runHistoryCleanup();
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+    assertThat(historyService.createHistoricActivityInstanceQuery().count()).isZero();
+    assertThat(historyService.createHistoricTaskInstanceQuery().count()).isZero();
+  }
+
+  @Test
+  void shouldNotCleanupRowsBeforeRemovalTime() {
+    // given
+    testRule.deploy(PROCESS);
+
+    completeProcessInstanceAt(END_DATE);
+
+    ClockUtil.setCurrentTime(addDays(END_DATE, 4));
+
+    // when
+    runHistoryCleanup();
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count()).isOne();
+  }
+
+  @Test
+  void shouldReportRemovedRowsPerTable() {
+    // given
+    testRule.deploy(PROCESS);
+
+    completeProcessInstanceAt(END_DATE);
+    completeProcessInstanceAt(addSeconds(END_DATE, 1));
+
+    ClockUtil.setCurrentTime(addDays(END_DATE, 6));
+
+    long activityInstanceCount = historyService.createHistoricActivityInstanceQuery().count();
+
+    // when
+    runHistoryCleanup();
+
+    // then
+    assertThat(managementService.createMetricsQuery()
+        .name(Metrics.HISTORY_CLEANUP_REMOVED_ROWS + "-act_hi_procinst")
+        .sum())
+      .isEqualTo(2L);
+    assertThat(managementService.createMetricsQuery()
+        .name(Metrics.HISTORY_CLEANUP_REMOVED_ROWS + "-act_hi_actinst")
+        .sum())
+      .isGreaterThanOrEqualTo(6L)
+      .isEqualTo(activityInstanceCount - historyService.createHistoricActivityInstanceQuery().count());
+    assertThat(managementService.createMetricsQuery()
+        .name(Metrics.HISTORY_CLEANUP_REMOVED_PROCESS_INSTANCES)
+        .sum())
+      .isEqualTo(2L);
+  }
+
+  @Test
+  void shouldDeleteInChunksOfBatchSize() {
+    // given
+    testRule.deploy(PROCESS);
+    engineConfiguration.setHistoryCleanupBatchSize(2);
+
+    completeProcessInstanceAt(END_DATE);
+    completeProcessInstanceAt(addSeconds(END_DATE, 1));
+    completeProcessInstanceAt(addSeconds(END_DATE, 2));
+
+    ClockUtil.setCurrentTime(addDays(END_DATE, 6));
+
+    List<Job> jobs = scheduleHistoryCleanup();
+    Job firstPartition = getJobOfPartition(jobs, 0);
+
+    // when
+    managementService.executeJob(firstPartition.getId());
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count()).isOne();
+
+    Job rescheduledJob = managementService.createJobQuery().jobId(firstPartition.getId()).singleResult();
+    assertThat(rescheduledJob.getDuedate()).isEqualTo(ClockUtil.getCurrentTime());
+
+    // when
+    managementService.executeJob(firstPartition.getId());
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+  }
+
+  @Test
+  void shouldRejectPartitionsWithEndTimeBasedStrategy() {
+    // given
+    engineConfiguration.setHistoryCleanupStrategy(HISTORY_CLEANUP_STRATEGY_END_TIME_BASED);
+
+    // when/then
+    assertThatThrownBy(() -> engineConfiguration.initHistoryCleanup())
+      .isInstanceOf(ProcessEngineException.class)
+      .hasMessageContaining("historyCleanupPartitions");
+  }
+
+  @Test
+  void shouldRejectTooManyPartitions() {
+    // given
+    engineConfiguration.setHistoryCleanupPartitions(3601);
+
+    // when/then
+    assertThatThrownBy(() -> engineConfiguration.initHistoryCleanup())
+      .isInstanceOf(ProcessEngineException.class)
+      .hasMessageContaining("historyCleanupPartitions");
+  }
+
+  protected void completeProcessInstanceAt(Date endDate) {
+    String processInstanceId = runtimeService.startProcessInstanceByKey(PROCESS_KEY).getId();
+
+    ClockUtil.setCurrentTime(endDate);
+
+    String taskId = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId();
+    taskService.complete(taskId);
+  }
+
+  protected List<Job> scheduleHistoryCleanup() {
+    historyService.cleanUpHistoryAsync(true);
+
+    List<Job> jobs = historyService.findHistoryCleanupJobs();
+    for (Job job : jobs) {
+      jobIds.add(job.getId());
+    }
+    return jobs;
+  }
+
+  protected void runHistoryCleanup() {
+    for (Job job : scheduleHistoryCleanup()) {
+      managementService.executeJob(job.getId());
+    }
+  }
+
+  protected Job getJobOfPartition(List<Job> jobs, int secondFrom) {
+    return jobs.stream()
+      .filter(job -> getConfiguration(job).getSecondFrom() == secondFrom)
+      .findFirst()
+      .orElseThrow();
+  }
+
+  protected HistoryCleanupJobHandlerConfiguration getConfiguration(Job job) {
+    String configuration = ((JobEntity) job).getJobHandlerConfigurationRaw();
+    return HistoryCleanupJobHandlerConfiguration.fromJson(JsonUtil.asObject(configuration));
+  }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.test.api.mgmt.metrics;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.operaton.bpm.engine.IdentityService;
+import org.operaton.bpm.engine.ManagementService;
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.identity.User;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.management.LatencyStatistics;
+import org.operaton.bpm.engine.management.Metrics;
+import org.operaton.bpm.engine.runtime.Job;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+import org.operaton.bpm.model.bpmn.Bpmn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatencyMetricsTest {
+
+  @RegisterExtension
+  static ProcessEngineExtension engineExtension = ProcessEngineExtension.builder()
+      .randomEngineName()
+      .closeEngineAfterAllTests()
+      .configurator(configuration -> configuration.setLatencyMetricsEnabled(true))
+      .build();
+  @RegisterExtension
+  ProcessEngineTestExtension testExtension = new ProcessEngineTestExtension(engineExtension);
+
+  protected RuntimeService runtimeService;
+  protected ManagementService managementService;
+  protected IdentityService identityService;
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+  @AfterEach
+  void cleanUp() {
+    managementService.deleteMetrics(null);
+    identityService.deleteUser("kermit");
+  }
+
+  @Test
+  void shouldRecordCommandAndFlushLatency() {
+    // given
+    testExtension.deploy(Bpmn.createExecutableProcess("process")
+        .operatonHistoryTimeToLive(180)
+        .startEvent()
+        .userTask()
+        .endEvent()
+        .done());
+
+    long executedCommands = getStatistics(managementService.getLatencyStatistics(), Metrics.COMMAND_EXECUTION_LATENCY).getCount();
+
+    // when
+    runtimeService.startProcessInstanceByKey("process");
+
+    // then
+    List<LatencyStatistics> statistics = managementService.getLatencyStatistics();
+    assertThat(getStatistics(statistics, Metrics.COMMAND_EXECUTION_LATENCY).getCount()).isGreaterThan(executedCommands);
+    assertThat(getStatistics(statistics, Metrics.DB_FLUSH_LATENCY).getCount()).isPositive();
+    assertThat(getStatistics(statistics, "StartProcessInstanceCmd").getCount()).isPositive();
+  }
+
+  @Test
+  void shouldRecordJobExecutionLatency() {
+    // given
+    testExtension.deploy(Bpmn.createExecutableProcess("asyncProcess")
+        .operatonHistoryTimeToLive(180)
+        .startEvent()
+        .operatonAsyncBefore()
+        .endEvent()
+        .done());
+    runtimeService.startProcessInstanceByKey("asyncProcess");
+    long executedJobs = getStatistics(managementService.getLatencyStatistics(), Metrics.JOB_EXECUTION_LATENCY).getCount();
+
+    // when
+    testExtension.waitForJobExecutorToProcessAllJobs(10_000);
+
+    // then
+    LatencyStatistics statistics = getStatistics(managementService.getLatencyStatistics(), Metrics.JOB_EXECUTION_LATENCY);
+    assertThat(statistics.getCount()).isEqualTo(executedJobs + 1);
+    assertThat(statistics.getP50()).isLessThanOrEqualTo(statistics.getP99());
+    assertThat(statistics.getP99()).isLessThanOrEqualTo(statistics.getP999());
+    assertThat(managementService.createJobQuery().list()).extracting(Job::getId).isEmpty();
+  }
+
+  @Test
+  void shouldReportLatencyPercentilesAsGauges() {
+    // given
+    processEngineConfiguration.getDbMetricsReporter().reportNow();
+    runtimeService.createProcessInstanceQuery().list();
+
+    // when
+    processEngineConfiguration.getDbMetricsReporter().reportNow();
+
+    // then the percentiles of the interval are available as gauges
+    LatencyStatistics statistics = getStatistics(managementService.getIntervalLatencyStatistics(), Metrics.COMMAND_EXECUTION_LATENCY);
+    assertThat(statistics.getCount()).isPositive();
+    assertThat(statistics.getP50()).isPositive();
+    assertThat(statistics.getP50()).isLessThanOrEqualTo(statistics.getP99());
+    assertThat(statistics.getP99()).isLessThanOrEqualTo(statistics.getP999());
+    assertThat(statistics.getMax()).isPositive();
+    assertThat(statistics.getMax()).isLessThanOrEqualTo(getStatistics(managementService.getLatencyStatistics(), Metrics.COMMAND_EXECUTION_LATENCY).getMax());
+
+    // and are not written to the meter log
+    assertThat(managementService.createMetricsQuery().name(Metrics.COMMAND_EXECUTION_LATENCY + "-p50").sum()).isZero();
+    assertThat(managementService.createMetricsQuery().name(Metrics.COMMAND_EXECUTION_LATENCY).sum()).isZero();
+  }
+
+  @Test
+  void shouldRecordLatencyOfFailedFlush() {
+    // given
+    identityService.saveUser(identityService.newUser("kermit"));
+    long flushes = getStatistics(managementService.getLatencyStatistics(), Metrics.DB_FLUSH_LATENCY).getCount();
+
+    // when
+    User duplicateUser = identityService.newUser("kermit");
+    assertThatThrownBy(() -> identityService.saveUser(duplicateUser)).isInstanceOf(ProcessEngineException.class);
+
+    // then
+    assertThat(getStatistics(managementService.getLatencyStatistics(), Metrics.DB_FLUSH_LATENCY).getCount()).isEqualTo(flushes + 1);
+  }
+
+  protected LatencyStatistics getStatistics(List<LatencyStatistics> statistics, String name) {
+    return statistics.stream()
+        .filter(s -> s.getName().equals(name))
+        .findFirst()
+        .orElseThrow();
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.test.api.runtime;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.operaton.bpm.engine.batch.Batch;
+import org.operaton.bpm.engine.impl.batch.CompactBatchConfigurationFormat;
+import org.operaton.bpm.engine.test.Deployment;
+import org.operaton.bpm.engine.test.api.AbstractAsyncOperationsTest;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactBatchConfigurationTest extends AbstractAsyncOperationsTest {
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder().build();
+  @RegisterExtension
+  ProcessEngineTestExtension testRule = new ProcessEngineTestExtension(engineRule);
+
+  @BeforeEach
+  void setup() {
+    initDefaults(engineRule);
+    engineConfiguration.setCompactBatchConfigurationEnabled(true);
+  }
+
+  @AfterEach
+  void resetConfiguration() {
+    engineConfiguration.setCompactBatchConfigurationEnabled(false);
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  @Test
+  void shouldWriteAndExecuteCompactBatchConfiguration() {
+    // given
+    engineConfiguration.setInvocationsPerBatchJob(3);
+    List<String> processIds = startTestProcesses(10);
+
+    // when
+    Batch batch = runtimeService.deleteProcessInstancesAsync(processIds, null, TESTING_INSTANCE_DELETE);
+
+    // then
+    assertThat(CompactBatchConfigurationFormat.isCompact(getConfigurationBytes(batch))).isTrue();
+
+    // when
+    completeSeedJobs(batch);
+    List<Exception> exceptions = executeBatchJobs(batch);
+
+    // then
+    assertThat(exceptions).isEmpty();
+    assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  @Test
+  void shouldReadJsonBatchConfiguration() {
+    // given a batch created before the compact format was enabled
+    engineConfiguration.setCompactBatchConfigurationEnabled(false);
+    engineConfiguration.setBatchJobsPerSeed(1);
+    engineConfiguration.setInvocationsPerBatchJob(2);
+    List<String> processIds = startTestProcesses(6);
+    Batch batch = runtimeService.deleteProcessInstancesAsync(processIds, null, TESTING_INSTANCE_DELETE);
+    assertThat(CompactBatchConfigurationFormat.isCompact(getConfigurationBytes(batch))).isFalse();
+
+    // when
+    engineConfiguration.setCompactBatchConfigurationEnabled(true);
+    executeSeedJob(batch);
+
+    // then the remaining ids are written in the compact format
+    assertThat(CompactBatchConfigurationFormat.isCompact(getConfigurationBytes(batch))).isTrue();
+
+    // when
+    completeSeedJobs(batch);
+    List<Exception> exceptions = executeBatchJobs(batch);
+
+    // then
+    assertThat(exceptions).isEmpty();
+    assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+  }
+
+  protected byte[] getConfigurationBytes(Batch batch) {
+    return engineConfiguration.getCommandExecutorTxRequired().execute(commandContext ->
+        commandContext.getBatchManager().findBatchById(batch.getId()).getConfigurationBytes());
+  }
+
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.test.api.runtime;
+
+import java.util.Date;
+import java.util.List;
+
+import com.google.gson.JsonObject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.operaton.bpm.engine.AuthorizationService;
+import org.operaton.bpm.engine.BadUserRequestException;
+import org.operaton.bpm.engine.IdentityService;
+import org.operaton.bpm.engine.authorization.Authorization;
+import org.operaton.bpm.engine.authorization.Permission;
+import org.operaton.bpm.engine.authorization.Permissions;
+import org.operaton.bpm.engine.authorization.Resource;
+import org.operaton.bpm.engine.authorization.Resources;
+import org.operaton.bpm.engine.batch.Batch;
+import org.operaton.bpm.engine.impl.batch.BatchConfiguration;
+import org.operaton.bpm.engine.impl.batch.BatchJobHandler;
+import org.operaton.bpm.engine.impl.util.JsonUtil;
+import org.operaton.bpm.engine.runtime.ProcessInstanceQuery;
+import org.operaton.bpm.engine.test.Deployment;
+import org.operaton.bpm.engine.test.api.AbstractAsyncOperationsTest;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+import org.operaton.bpm.engine.variable.Variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryBackedBatchSeedingTest extends AbstractAsyncOperationsTest {
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder().build();
+  @RegisterExtension
+  ProcessEngineTestExtension testRule = new ProcessEngineTestExtension(engineRule);
+
+  protected static final String USER_ID = "demo";
+
+  protected AuthorizationService authorizationService;
+  protected IdentityService identityService;
+
+  @BeforeEach
+  void setup() {
+    initDefaults(engineRule);
+    authorizationService = engineRule.getAuthorizationService();
+    identityService = engineRule.getIdentityService();
+    engineConfiguration.setQueryBackedBatchSeedingEnabled(true);
+  }
+
+  @AfterEach
+  void resetConfiguration() {
+    engineConfiguration.setQueryBackedBatchSeedingEnabled(false);
+    authorizationService.createAuthorizationQuery().userIdIn(USER_ID).list()
+      .forEach(authorization -> authorizationService.deleteAuthorization(authorization.getId()));
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  @Test
+  void shouldPageProcessInstanceIdsWithEverySeedJob() {
+    // given
+    engineConfiguration.setBatchJobsPerSeed(2);
+    engineConfiguration.setInvocationsPerBatchJob(2);
+    startTestProcesses(9);
+    ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery().processDefinitionKey(ONE_TASK_PROCESS);
+
+    // when
+    Batch batch = runtimeService.deleteProcessInstancesAsync(query, TESTING_INSTANCE_DELETE);
+
+    // then no ids are stored with the batch
+    assertThat(batch.getTotalJobs()).isEqualTo(5);
+    BatchConfiguration configuration = readConfiguration(batch);
+    assertThat(configuration.getIds()).isEmpty();
+    assertThat(configuration.getElementCursor()).isNotNull();
+
+    // when
+    executeSeedJob(batch);
+
+    // then the first page is turned into jobs
+    assertThat(managementService.createJobQuery().jobDefinitionId(batch.getBatchJobDefinitionId()).count()).isEqualTo(2);
+    assertThat(getSeedJob(batch)).isNotNull();
+
+    // when
+    completeSeedJobs(batch);
+    List<Exception> exceptions = executeBatchJobs(batch);
+
+    // then
+    assertThat(exceptions).isEmpty();
+    assertThat(managementService.createJobQuery().jobDefinitionId(batch.getBatchJobDefinitionId()).count()).isZero();
+    assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  @Test
+  void shouldApplyVariableConditionsOfStoredQuery() {
+    // given
+    engineConfiguration.setBatchJobsPerSeed(1);
+    engineConfiguration.setInvocationsPerBatchJob(1);
+    for (int i = 0; i < 6; i++) {
+      runtimeService.startProcessInstanceByKey(ONE_TASK_PROCESS, Variables.createVariables().putValue("foo", i % 2));
+    }
+    ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery().variableValueEquals("foo", 0);
+
+    // when
+    Batch batch = runtimeService.deleteProcessInstancesAsync(query, TESTING_INSTANCE_DELETE);
+    completeSeedJobs(batch);
+    List<Exception> exceptions = executeBatchJobs(batch);
+
+    // then
+    assertThat(exceptions).isEmpty();
+    assertThat(runtimeService.createProcessInstanceQuery().variableValueEquals("foo", 0).count()).isZero();
+    assertThat(runtimeService.createProcessInstanceQuery().variableValueEquals("foo", 1).count()).isEqualTo(3);
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  @Test
+  void shouldStoreQueryAsJson() {
+    // given
+    runtimeService.startProcessInstanceByKey(ONE_TASK_PROCESS, Variables.createVariables().putValue("foo", 2L));
+    ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery()
+        .processDefinitionKey(ONE_TASK_PROCESS)
+        .variableValueGreaterThan("foo", 1L);
+
+    // when
+    Batch batch = runtimeService.deleteProcessInstancesAsync(
+        query.or().processInstanceBusinessKey("unknown").processDefinitionKey(ONE_TASK_PROCESS).endOr(), TESTING_INSTANCE_DELETE);
+
+    // then
+    JsonObject configuration = getConfigurationJson(batch);
+    JsonObject elementCursor = JsonUtil.getObject(configuration, "elementCursor");
+    JsonObject storedQuery = JsonUtil.getObject(elementCursor, "query");
+    assertThat(JsonUtil.getString(storedQuery, "processDefinitionKey")).isEqualTo(ONE_TASK_PROCESS);
+    assertThat(JsonUtil.getArray(storedQuery, "variables")).hasSize(1);
+    assertThat(JsonUtil.getArray(storedQuery, "orQueries")).hasSize(1);
+    assertThat(elementCursor.has("lastProcessInstanceId")).isFalse();
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  @Test
+  void shouldApplyOrQueriesAndVariableConditionsOfStoredQuery() {
+    // given
+    engineConfiguration.setBatchJobsPerSeed(1);
+    engineConfiguration.setInvocationsPerBatchJob(1);
+    Date now = new Date();
+    for (int i = 0; i < 6; i++) {
+      runtimeService.startProcessInstanceByKey(ONE_TASK_PROCESS, "key" + i,
+          Variables.createVariables().putValue("count", (long) i).putValue("date", new Date(now.getTime() + i)));
+    }
+    ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery()
+        .or()
+          .variableValueLessThan("count", 2L)
+          .variableValueGreaterThanOrEqual("date", new Date(now.getTime() + 5))
+        .endOr();
+
+    // when
+    Batch batch = runtimeService.deleteProcessInstancesAsync(query, TESTING_INSTANCE_DELETE);
+    completeSeedJobs(batch);
+    List<Exception> exceptions = executeBatchJobs(batch);
+
+    // then
+    assertThat(exceptions).isEmpty();
+    assertThat(runtimeService.createProcessInstanceQuery().list())
+      .extracting("businessKey")
+      .containsExactlyInAnyOrder("key2", "key3", "key4");
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  @Test
+  void shouldCollectIdsForQueryThatCannotBeStored() {
+    // given
+    for (int i = 0; i < 2; i++) {
+      runtimeService.startProcessInstanceByKey(ONE_TASK_PROCESS, Variables.createVariables().putValue("foo", 0));
+    }
+    ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery()
+        .variableValueNotEquals("foo", Variables.integerValue(1));
+
+    // when
+    Batch batch = runtimeService.deleteProcessInstancesAsync(query, TESTING_INSTANCE_DELETE);
+
+    // then the ids are part of the configuration
+    BatchConfiguration configuration = readConfiguration(batch);
+    assertThat(configuration.getElementCursor()).isNull();
+    assertThat(configuration.getIds()).hasSize(2);
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  @Test
+  void shouldApplyAuthorizationChecksOfBatchCreator() {
+    // given
+    List<String> processInstanceIds = startTestProcesses(3);
+    createGrantAuthorization(Resources.BATCH, Authorization.ANY, Permissions.CREATE);
+    createGrantAuthorization(Resources.PROCESS_INSTANCE, processInstanceIds.get(0), Permissions.READ);
+    ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery().processDefinitionKey(ONE_TASK_PROCESS);
+
+    engineConfiguration.setAuthorizationEnabled(true);
+    Batch batch;
+    try {
+      identityService.setAuthenticatedUserId(USER_ID);
+      batch = runtimeService.deleteProcessInstancesAsync(query, TESTING_INSTANCE_DELETE);
+      identityService.clearAuthentication();
+
+      // when the seed job runs without authentication
+      completeSeedJobs(batch);
+    } finally {
+      identityService.clearAuthentication();
+      engineConfiguration.setAuthorizationEnabled(false);
+    }
+    List<Exception> exceptions = executeBatchJobs(batch);
+
+    // then only the instance visible to the creator is deleted
+    assertThat(exceptions).isEmpty();
+    assertThat(runtimeService.createProcessInstanceQuery().list())
+      .extracting("id")
+      .containsExactlyInAnyOrder(processInstanceIds.get(1), processInstanceIds.get(2));
+  }
+
+  @Test
+  void shouldFailForQueryWithoutResults() {
+    // given
+    ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery().processDefinitionKey("unknown");
+
+    // when/then
+    assertThatThrownBy(() -> runtimeService.deleteProcessInstancesAsync(query, TESTING_INSTANCE_DELETE))
+      .isInstanceOf(BadUserRequestException.class)
+      .hasMessageContaining("processInstanceIds");
+  }
+
+  protected void createGrantAuthorization(Resource resource, String resourceId, Permission permission) {
+    Authorization authorization = authorizationService.createNewAuthorization(Authorization.AUTH_TYPE_GRANT);
+    authorization.setUserId(USER_ID);
+    authorization.setResource(resource);
+    authorization.setResourceId(resourceId);
+    authorization.addPermission(permission);
+    authorizationService.saveAuthorization(authorization);
+  }
+
+  protected JsonObject getConfigurationJson(Batch batch) {
+    return engineConfiguration.getCommandExecutorTxRequired().execute(commandContext ->
+        JsonUtil.asObject(commandContext.getBatchManager().findBatchById(batch.getId()).getConfigurationBytes()));
+  }
+
+  @SuppressWarnings("unchecked")
+  protected BatchConfiguration readConfiguration(Batch batch) {
+    BatchJobHandler<BatchConfiguration> handler =
+        (BatchJobHandler<BatchConfiguration>) engineConfiguration.getBatchHandlers().get(batch.getType());
+    return engineConfiguration.getCommandExecutorTxRequired().execute(commandContext ->
+        handler.readConfiguration(commandContext.getBatchManager().findBatchById(batch.getId()).getConfigurationBytes()));
+  }
+
+}
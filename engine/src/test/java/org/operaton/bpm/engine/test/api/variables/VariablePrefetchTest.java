@@ -0,0 +1,227 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.test.api.variables;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VariablePrefetchTest {
+
+  protected static final BpmnModelInstance NESTED_SUBPROCESS = Bpmn.createExecutableProcess("process")
+    .startEvent()
+    .subProcess("outer")
+    .embeddedSubProcess()
+      .startEvent()
+      .subProcess("inner")
+      .embeddedSubProcess()
+        .startEvent()
+        .userTask("task")
+        .endEvent()
+      .subProcessDone()
+      .endEvent()
+    .subProcessDone()
+    .endEvent()
+    .done();
+
+  protected static final StatementCounter STATEMENT_COUNTER = new StatementCounter();
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder()
+    .randomEngineName().closeEngineAfterAllTests()
+    .configurator(config -> config.setVariablePrefetchEnabled(true))
+    .build();
+  @RegisterExtension
+  ProcessEngineTestExtension testRule = new ProcessEngineTestExtension(engineRule);
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  RuntimeService runtimeService;
+
+  @BeforeEach
+  void registerStatementCounter() {
+    Configuration configuration = processEngineConfiguration.getSqlSessionFactory().getConfiguration();
+    if (!configuration.getInterceptors().contains(STATEMENT_COUNTER)) {
+      configuration.addInterceptor(STATEMENT_COUNTER);
+    }
+    STATEMENT_COUNTER.reset();
+  }
+
+  @Test
+  void shouldFetchVariablesOfAllScopesWithSingleQuery() {
+    // given
+    testRule.deploy(NESTED_SUBPROCESS);
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process", Map.of("processVar", "a"));
+    String innerId = findInnerScopeExecution();
+    String outerId = findParentExecution(innerId);
+    runtimeService.setVariableLocal(outerId, "outerVar", "b");
+    runtimeService.setVariableLocal(innerId, "innerVar", "c");
+    STATEMENT_COUNTER.reset();
+
+    // when
+    Map<String, Object> variables = processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      ExecutionEntity inner = commandContext.getExecutionManager().findExecutionById(innerId);
+      return inner.getVariables();
+    });
+
+    // then
+    assertThat(variables)
+      .containsEntry("processVar", "a")
+      .containsEntry("outerVar", "b")
+      .containsEntry("innerVar", "c");
+    assertThat(STATEMENT_COUNTER.getCount("selectVariablesByProcessInstanceId")).isEqualTo(1);
+    assertThat(STATEMENT_COUNTER.getCount("selectVariablesByExecutionId")).isZero();
+    assertThat(outerId).isNotEqualTo(processInstance.getId());
+  }
+
+  @Test
+  void shouldFetchVariablesOnceWithoutExecutionTreePrefetch() {
+    // given
+    testRule.deploy(NESTED_SUBPROCESS);
+    runtimeService.startProcessInstanceByKey("process", Map.of("processVar", "a"));
+    String innerId = findInnerScopeExecution();
+    String outerId = findParentExecution(innerId);
+    runtimeService.setVariableLocal(outerId, "outerVar", "b");
+    runtimeService.setVariableLocal(innerId, "innerVar", "c");
+    processEngineConfiguration.setExecutionTreePrefetchEnabled(false);
+    STATEMENT_COUNTER.reset();
+
+    try {
+      // when the parent scopes are loaded one by one after the variables were fetched
+      Map<String, Object> variables = processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+        ExecutionEntity inner = commandContext.getExecutionManager().findExecutionById(innerId);
+        return inner.getVariables();
+      });
+
+      // then
+      assertThat(variables)
+        .containsEntry("processVar", "a")
+        .containsEntry("outerVar", "b")
+        .containsEntry("innerVar", "c");
+      assertThat(STATEMENT_COUNTER.getCount("selectExecution")).isGreaterThan(1);
+      assertThat(STATEMENT_COUNTER.getCount("selectVariablesByProcessInstanceId")).isEqualTo(1);
+      assertThat(STATEMENT_COUNTER.getCount("selectVariablesByExecutionId")).isZero();
+    } finally {
+      processEngineConfiguration.setExecutionTreePrefetchEnabled(true);
+    }
+  }
+
+  @Test
+  void shouldDistributeVariablesToTheirScopes() {
+    // given
+    testRule.deploy(NESTED_SUBPROCESS);
+    runtimeService.startProcessInstanceByKey("process", Map.of("processVar", "a"));
+    String innerId = findInnerScopeExecution();
+    String outerId = findParentExecution(innerId);
+    runtimeService.setVariableLocal(outerId, "outerVar", "b");
+    runtimeService.setVariableLocal(innerId, "innerVar", "c");
+
+    // when
+    Map<String, Object> outerVariables = processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      ExecutionEntity inner = commandContext.getExecutionManager().findExecutionById(innerId);
+      inner.getVariablesLocal();
+      return inner.getParent().getVariablesLocal();
+    });
+
+    // then
+    assertThat(outerVariables).containsOnlyKeys("outerVar");
+    assertThat(runtimeService.getVariablesLocal(innerId)).containsOnlyKeys("innerVar");
+  }
+
+  @Test
+  void shouldSeeVariableUpdatesOfSameCommand() {
+    // given
+    testRule.deploy(NESTED_SUBPROCESS);
+    runtimeService.startProcessInstanceByKey("process", Map.of("processVar", "a"));
+    String innerId = findInnerScopeExecution();
+
+    // when
+    Object value = processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      ExecutionEntity inner = commandContext.getExecutionManager().findExecutionById(innerId);
+      inner.setVariable("processVar", "b");
+      return inner.getProcessInstance().getVariableLocal("processVar");
+    });
+
+    // then
+    assertThat(value).isEqualTo("b");
+    assertThat(runtimeService.getVariable(innerId, "processVar")).isEqualTo("b");
+  }
+
+  protected String findInnerScopeExecution() {
+    // the user task is executed by the scope execution of the inner sub process
+    return runtimeService.createExecutionQuery().activityId("task").singleResult().getId();
+  }
+
+  protected String findParentExecution(String executionId) {
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext ->
+      commandContext.getExecutionManager().findExecutionById(executionId).getParentId());
+  }
+
+  @Intercepts(@Signature(type = Executor.class, method = "query",
+      args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}))
+  static class StatementCounter implements Interceptor {
+
+    protected final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+      MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+      String statementId = statement.getId().substring(statement.getId().lastIndexOf('.') + 1);
+      counts.computeIfAbsent(statementId, key -> new AtomicInteger()).incrementAndGet();
+      return invocation.proceed();
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+      // no properties
+    }
+
+    public int getCount(String statementId) {
+      AtomicInteger count = counts.get(statementId);
+      return count != null ? count.get() : 0;
+    }
+
+    public void reset() {
+      counts.clear();
+    }
+  }
+
+}
@@ -0,0 +1,451 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.test.history;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.operaton.bpm.engine.DecisionService;
+import org.operaton.bpm.engine.HistoryService;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.RepositoryService;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.TaskService;
+import org.operaton.bpm.engine.history.HistoricActivityInstance;
+import org.operaton.bpm.engine.history.HistoricDecisionInputInstance;
+import org.operaton.bpm.engine.history.HistoricDecisionInstance;
+import org.operaton.bpm.engine.history.HistoricDecisionOutputInstance;
+import org.operaton.bpm.engine.history.HistoricProcessInstance;
+import org.operaton.bpm.engine.history.HistoricTaskInstance;
+import org.operaton.bpm.engine.history.HistoricVariableInstance;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.history.event.HistoricDecisionInstanceEntity;
+import org.operaton.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.operaton.bpm.engine.impl.history.event.HistoryEvent;
+import org.operaton.bpm.engine.impl.history.event.HistoryEventTypes;
+import org.operaton.bpm.engine.impl.history.handler.AsyncDbHistoryEventHandler;
+import org.operaton.bpm.engine.impl.history.handler.DbHistoryEventHandler;
+import org.operaton.bpm.engine.impl.history.handler.HistoryEventWriteAheadLog;
+import org.operaton.bpm.engine.impl.history.handler.HistoryEventWriteAheadLog.LogPosition;
+import org.operaton.bpm.engine.impl.history.handler.HistoryEventWriteAheadLog.LogRecord;
+import org.operaton.bpm.engine.repository.ProcessDefinition;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.test.Deployment;
+import org.operaton.bpm.engine.test.RequiredHistoryLevel;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+import org.operaton.bpm.engine.variable.Variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+class AsyncDbHistoryEventHandlerTest {
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder()
+    .randomEngineName().closeEngineAfterAllTests()
+    .configurator(config -> config
+        .setEnableAsyncDbHistoryEventHandler(true)
+        .setHistoryRemovalTimeStrategy(ProcessEngineConfiguration.HISTORY_REMOVAL_TIME_STRATEGY_START))
+    .build();
+  @RegisterExtension
+  ProcessEngineTestExtension testRule = new ProcessEngineTestExtension(engineRule);
+
+  @TempDir
+  Path tempDir;
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  RepositoryService repositoryService;
+  RuntimeService runtimeService;
+  TaskService taskService;
+  HistoryService historyService;
+  DecisionService decisionService;
+
+  AsyncDbHistoryEventHandler handler;
+
+  @BeforeEach
+  void startHandler() {
+    handler = processEngineConfiguration.getAsyncDbHistoryEventHandler();
+    handler.stop();
+    handler.setWriteAheadLogFile(tempDir.resolve("engine-history.log").toString());
+    handler.start(processEngineConfiguration);
+  }
+
+  @AfterEach
+  void stopHandler() {
+    handler.stop();
+  }
+
+  @Test
+  @Deployment(resources = {"org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  void shouldWriteHistoryAfterCommit() {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("var", 1));
+    runtimeService.setVariable(processInstance.getId(), "var", 2);
+
+    // when
+    String taskId = taskService.createTaskQuery().singleResult().getId();
+    taskService.complete(taskId);
+    handler.stop();
+
+    // then
+    HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().singleResult();
+    assertThat(historicProcessInstance.getStartTime()).isNotNull();
+    assertThat(historicProcessInstance.getEndTime()).isNotNull();
+
+    List<HistoricActivityInstance> activityInstances = historyService.createHistoricActivityInstanceQuery().list();
+    assertThat(activityInstances).hasSize(3);
+    assertThat(activityInstances).allSatisfy(activityInstance -> {
+      assertThat(activityInstance.getStartTime()).isNotNull();
+      assertThat(activityInstance.getEndTime()).isNotNull();
+    });
+
+    HistoricVariableInstance historicVariable = historyService.createHistoricVariableInstanceQuery().singleResult();
+    assertThat(historicVariable.getValue()).isEqualTo(2);
+    assertThat(historyService.createHistoricDetailQuery().variableUpdates().count()).isEqualTo(2);
+
+    assertThat(handler.getDroppedEventCount()).isZero();
+    assertThat(handler.getLag()).isZero();
+
+    // all records are acknowledged
+    HistoryEventWriteAheadLog writeAheadLog = new HistoryEventWriteAheadLog(tempDir.resolve("engine-history.log"), false);
+    assertThat(writeAheadLog.open()).isEmpty();
+    writeAheadLog.close();
+  }
+
+  @Test
+  @Deployment(resources = {"org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  void shouldProvideRemovalTimeOfPendingRootProcessInstance() {
+    // given
+    ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().singleResult();
+    repositoryService.updateProcessDefinitionHistoryTimeToLive(processDefinition.getId(), 5);
+
+    // when the task is created in the transaction that starts the process instance
+    runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    handler.stop();
+
+    // then
+    HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().singleResult();
+    assertThat(historicProcessInstance.getRemovalTime()).isNotNull();
+
+    HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().singleResult();
+    assertThat(historicTaskInstance.getRemovalTime()).isEqualTo(historicProcessInstance.getRemovalTime());
+  }
+
+  @Test
+  @Deployment(resources = {"org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  void shouldDiscardHistoryOfRolledBackTransaction() {
+    // when
+    assertThatThrownBy(() -> processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      runtimeService.startProcessInstanceByKey("oneTaskProcess");
+      throw new IllegalStateException("rollback");
+    })).isInstanceOf(IllegalStateException.class);
+    handler.stop();
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+    assertThat(historyService.createHistoricActivityInstanceQuery().count()).isZero();
+
+    // the logged events are aborted
+    HistoryEventWriteAheadLog writeAheadLog = new HistoryEventWriteAheadLog(tempDir.resolve("engine-history.log"), false);
+    assertThat(writeAheadLog.open()).isEmpty();
+    writeAheadLog.close();
+  }
+
+  @Test
+  @Deployment(resources = {"org/operaton/bpm/engine/test/history/AsyncDbHistoryEventHandlerTest.decision.dmn11.xml"})
+  void shouldReplayDecisionEvaluationFromWriteAheadLog() {
+    // given a decision evaluation that is logged but not written before the writer stops
+    DbHistoryEventHandler dbHistoryEventHandler = handler.getDbHistoryEventHandler();
+    long shutdownTimeoutMillis = handler.getShutdownTimeoutMillis();
+    handler.stop();
+    handler.setDbHistoryEventHandler(new BlockingDbHistoryEventHandler());
+    handler.setShutdownTimeoutMillis(100);
+    handler.start(processEngineConfiguration);
+
+    byte[] bytes = "bytes".getBytes();
+    try {
+      decisionService.evaluateDecisionTableByKey("testDecision", Variables.createVariables().putValue("input1", bytes));
+      handler.stop();
+      assertThat(historyService.createHistoricDecisionInstanceQuery().count()).isZero();
+    } finally {
+      handler.setDbHistoryEventHandler(dbHistoryEventHandler);
+      handler.setShutdownTimeoutMillis(shutdownTimeoutMillis);
+    }
+
+    // when
+    handler.start(processEngineConfiguration);
+    handler.stop();
+
+    // then the decision instance is written with its inputs and outputs
+    HistoricDecisionInstance historicDecisionInstance = historyService.createHistoricDecisionInstanceQuery()
+        .includeInputs()
+        .includeOutputs()
+        .singleResult();
+    assertThat(historicDecisionInstance.getInputs()).extracting(HistoricDecisionInputInstance::getValue).containsExactly(bytes);
+    assertThat(historicDecisionInstance.getOutputs()).extracting(HistoricDecisionOutputInstance::getValue).containsExactly(bytes);
+    assertThat(handler.getDroppedEventCount()).isZero();
+  }
+
+  @Test
+  void shouldReplayEventsFromWriteAheadLog() {
+    // given an event that was logged but not written before the last shutdown
+    Path logFile = tempDir.resolve("history.log");
+    HistoryEventWriteAheadLog writeAheadLog = new HistoryEventWriteAheadLog(logFile, true);
+    writeAheadLog.open();
+    writeAheadLog.append(List.of(HistoryEventWriteAheadLog.serialize(createProcessInstanceEvent("replayed"))));
+    writeAheadLog.close();
+
+    AsyncDbHistoryEventHandler replayingHandler = new AsyncDbHistoryEventHandler();
+    replayingHandler.setWriteAheadLogFile(logFile.toString());
+
+    // when
+    replayingHandler.start(processEngineConfiguration);
+    replayingHandler.stop();
+
+    // then
+    HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery()
+        .processInstanceId("replayed")
+        .singleResult();
+    assertThat(historicProcessInstance).isNotNull();
+    assertThat(replayingHandler.getWrittenEventCount()).isEqualTo(1);
+
+    writeAheadLog = new HistoryEventWriteAheadLog(logFile, true);
+    assertThat(writeAheadLog.open()).isEmpty();
+    writeAheadLog.close();
+
+    historyService.deleteHistoricProcessInstance("replayed");
+  }
+
+  @Test
+  void shouldSkipReplayedEventsThatWereWritten() {
+    // given events of which the first was written but not acknowledged before the last shutdown
+    Path logFile = tempDir.resolve("history.log");
+    HistoryEventWriteAheadLog writeAheadLog = new HistoryEventWriteAheadLog(logFile, true);
+    writeAheadLog.open();
+    writeAheadLog.append(List.of(HistoryEventWriteAheadLog.serialize(createProcessInstanceEvent("written"))));
+    writeAheadLog.append(List.of(HistoryEventWriteAheadLog.serialize(createProcessInstanceEvent("notWritten"))));
+    writeAheadLog.close();
+
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      commandContext.getDbEntityManager().insert(createProcessInstanceEvent("written"));
+      return null;
+    });
+
+    AsyncDbHistoryEventHandler replayingHandler = new AsyncDbHistoryEventHandler();
+    replayingHandler.setWriteAheadLogFile(logFile.toString());
+
+    // when
+    replayingHandler.start(processEngineConfiguration);
+    replayingHandler.stop();
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceIds(Set.of("written", "notWritten")).count())
+        .isEqualTo(2);
+    assertThat(replayingHandler.getWrittenEventCount()).isEqualTo(1);
+    assertThat(replayingHandler.getDroppedEventCount()).isZero();
+
+    historyService.deleteHistoricProcessInstances(List.of("written", "notWritten"));
+  }
+
+  @Test
+  void shouldReplayRecordsAfterCheckpoint() {
+    // given
+    Path logFile = tempDir.resolve("history.log");
+    HistoryEventWriteAheadLog writeAheadLog = new HistoryEventWriteAheadLog(logFile, false);
+    writeAheadLog.open();
+
+    LogPosition first = writeAheadLog.append(List.of(HistoryEventWriteAheadLog.serialize(createProcessInstanceEvent("first"))));
+    LogPosition aborted = writeAheadLog.append(List.of(HistoryEventWriteAheadLog.serialize(createProcessInstanceEvent("aborted"))));
+    writeAheadLog.append(List.of(
+        HistoryEventWriteAheadLog.serialize(createProcessInstanceEvent("second")),
+        HistoryEventWriteAheadLog.serialize(createProcessInstanceEvent("third"))));
+
+    // when
+    writeAheadLog.acknowledge(first);
+    writeAheadLog.abort(aborted);
+    writeAheadLog.close();
+
+    // then
+    writeAheadLog = new HistoryEventWriteAheadLog(logFile, false);
+    List<LogRecord> records = writeAheadLog.open();
+    assertThat(records).hasSize(1);
+    assertThat(records.get(0).getEvents()).extracting(HistoryEvent::getId).containsExactly("second", "third");
+
+    writeAheadLog.acknowledge(records.get(0).getPosition());
+    writeAheadLog.close();
+
+    writeAheadLog = new HistoryEventWriteAheadLog(logFile, false);
+    assertThat(writeAheadLog.open()).isEmpty();
+    writeAheadLog.close();
+  }
+
+  @Test
+  void shouldDeleteAcknowledgedSegments() throws IOException {
+    // given
+    Path logFile = tempDir.resolve("history.log");
+    HistoryEventWriteAheadLog writeAheadLog = new HistoryEventWriteAheadLog(logFile, false);
+    writeAheadLog.setSegmentSize(1);
+    writeAheadLog.open();
+
+    // when every record is appended to a new segment and the log is never fully acknowledged
+    LogPosition previous = null;
+    for (int i = 0; i < 10; i++) {
+      LogPosition position = writeAheadLog.append(List.of(HistoryEventWriteAheadLog.serialize(createProcessInstanceEvent("event" + i))));
+      if (previous != null) {
+        writeAheadLog.acknowledge(previous);
+      }
+      previous = position;
+    }
+    writeAheadLog.close();
+
+    // then only the segments with unacknowledged records are kept
+    try (Stream<Path> files = Files.list(tempDir)) {
+      assertThat(files.map(file -> file.getFileName().toString()).filter(name -> name.matches("history\\.log\\.\\d+")))
+          .hasSize(2);
+    }
+  }
+
+  @Test
+  void shouldRejectUnexpectedTypesOnReplay() {
+    // given
+    byte[] serializedEvent = HistoryEventWriteAheadLog.serialize(createProcessInstanceEvent("event"));
+    byte[] serializedMap = serialize(new HashMap<>(Map.of("key", "value")));
+    byte[] serializedList = serialize(new ArrayList<>(List.of("value")));
+
+    // when
+    assertThat(HistoryEventWriteAheadLog.deserialize(serializedEvent).getId()).isEqualTo("event");
+    assertThatThrownBy(() -> HistoryEventWriteAheadLog.deserialize(serializedMap))
+        .isInstanceOf(ProcessEngineException.class)
+        .hasCauseInstanceOf(InvalidClassException.class);
+    assertThatThrownBy(() -> HistoryEventWriteAheadLog.deserialize(serializedList))
+        .isInstanceOf(ProcessEngineException.class)
+        .hasCauseInstanceOf(InvalidClassException.class);
+  }
+
+  @Test
+  void shouldNotSerializeEventsThatCannotBeReplayed() {
+    // given
+    HistoricDecisionInstanceEntity event = new HistoricDecisionInstanceEntity();
+    event.setInputs(new LinkedList<>());
+
+    // when
+    assertThatThrownBy(() -> HistoryEventWriteAheadLog.serialize(event))
+        .isInstanceOf(ProcessEngineException.class)
+        .hasCauseInstanceOf(InvalidClassException.class);
+  }
+
+  @Test
+  void shouldSkipRecordsThatCannotBeRead() {
+    // given
+    Path logFile = tempDir.resolve("history.log");
+    HistoryEventWriteAheadLog writeAheadLog = new HistoryEventWriteAheadLog(logFile, false);
+    writeAheadLog.open();
+    writeAheadLog.append(List.of(HistoryEventWriteAheadLog.serialize(createProcessInstanceEvent("first"))));
+    writeAheadLog.append(List.of(serialize(new HashMap<>())));
+    writeAheadLog.append(List.of(HistoryEventWriteAheadLog.serialize(createProcessInstanceEvent("second"))));
+    writeAheadLog.close();
+
+    // when
+    writeAheadLog = new HistoryEventWriteAheadLog(logFile, false);
+    List<LogRecord> records = writeAheadLog.open();
+    writeAheadLog.close();
+
+    // then
+    assertThat(records).flatExtracting(LogRecord::getEvents).extracting(HistoryEvent::getId).containsExactly("first", "second");
+  }
+
+  @Test
+  void shouldRejectRemovalTimeStrategyEnd() {
+    // given
+    ProcessEngineConfigurationImpl configuration = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+        .createStandaloneInMemProcessEngineConfiguration()
+        .setProcessEngineName("asyncHistoryWithRemovalTimeStrategyEnd")
+        .setJdbcUrl("jdbc:h2:mem:asyncHistoryWithRemovalTimeStrategyEnd");
+    configuration
+        .setHistoryRemovalTimeStrategy(ProcessEngineConfiguration.HISTORY_REMOVAL_TIME_STRATEGY_END)
+        .setEnableAsyncDbHistoryEventHandler(true);
+
+    // when/then
+    assertThatThrownBy(configuration::buildProcessEngine)
+        .isInstanceOf(ProcessEngineException.class)
+        .hasMessageContaining("ENGINE-12022")
+        .hasMessageContaining("'enableAsyncDbHistoryEventHandler' is not supported");
+    assertThat(configuration.getAsyncDbHistoryEventHandler()).isNull();
+  }
+
+  protected byte[] serialize(Object object) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(object);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Blocks the writer until it is interrupted when the handler stops.
+   */
+  protected static class BlockingDbHistoryEventHandler extends DbHistoryEventHandler {
+
+    @Override
+    public void handleEvents(List<HistoryEvent> historyEvents) {
+      try {
+        Thread.sleep(Long.MAX_VALUE);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  protected HistoricProcessInstanceEventEntity createProcessInstanceEvent(String processInstanceId) {
+    HistoricProcessInstanceEventEntity event = new HistoricProcessInstanceEventEntity();
+    event.setId(processInstanceId);
+    event.setProcessInstanceId(processInstanceId);
+    event.setProcessDefinitionId("processDefinitionId");
+    event.setProcessDefinitionKey("processDefinitionKey");
+    event.setEventType(HistoryEventTypes.PROCESS_INSTANCE_START.getEventName());
+    event.setStartTime(new Date());
+    event.setEndTime(new Date());
+    event.setState(HistoricProcessInstance.STATE_COMPLETED);
+    return event;
+  }
+
+}
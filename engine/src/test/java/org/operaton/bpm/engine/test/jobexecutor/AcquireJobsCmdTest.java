@@ -17,6 +17,7 @@
 package org.operaton.bpm.engine.test.jobexecutor;
 
 import java.util.Date;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,9 +25,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.operaton.bpm.engine.ManagementService;
 import org.operaton.bpm.engine.RepositoryService;
 import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.impl.JobQueryImpl;
+import org.operaton.bpm.engine.impl.Page;
 import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.cmd.AcquireJobsCmd;
+import org.operaton.bpm.engine.impl.cmd.SkipLockedAcquireJobsCmd;
+import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.jobexecutor.AcquiredJobs;
+import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.operaton.bpm.engine.impl.jobexecutor.SkipLockedAcquireJobsCommandFactory;
+import org.operaton.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.JobEntity;
+import org.operaton.bpm.engine.impl.test.RequiredDatabase;
 import org.operaton.bpm.engine.impl.util.ClockUtil;
 import org.operaton.bpm.engine.repository.ProcessDefinition;
 import org.operaton.bpm.engine.runtime.Job;
@@ -99,17 +110,124 @@ class AcquireJobsCmdTest {
     assertThat(acquiredJobs.size()).isZero();
   }
 
+  @Deployment(resources = {"org/operaton/bpm/engine/test/standalone/jobexecutor/oneJobProcess.bpmn20.xml"})
+  @Test
+  void testSkipLockedAcquisitionFallsBackToRegularQuery() {
+    // given
+    ProcessDefinition pd = repositoryService.createProcessDefinitionQuery().singleResult();
+    runtimeService.startProcessInstanceByKey(pd.getKey());
+    Job job = managementService.createJobQuery().singleResult();
+    makeSureJobDue(job);
+
+    // when
+    AcquiredJobs acquiredJobs = processEngineConfiguration.getCommandExecutorTxRequired()
+      .execute(new SkipLockedAcquireJobsCmd(processEngineConfiguration.getJobExecutor()));
+
+    // then
+    // h2 does not support skip locked, the job is acquired with the regular query
+    assertThat(acquiredJobs.size()).isEqualTo(1);
+    assertThat(managementService.createJobQuery().singleResult())
+      .extracting("lockOwner")
+      .isEqualTo(processEngineConfiguration.getJobExecutor().getLockOwner());
+  }
+
+  @Deployment(resources = {"org/operaton/bpm/engine/test/standalone/jobexecutor/oneJobProcess.bpmn20.xml"})
+  @RequiredDatabase(includes = {DbSqlSessionFactory.POSTGRES, DbSqlSessionFactory.ORACLE, DbSqlSessionFactory.MYSQL, DbSqlSessionFactory.MARIADB})
+  @Test
+  void testSkipLockedAcquisitionSkipsJobsLockedByConcurrentAcquisition() {
+    // given
+    ProcessDefinition pd = repositoryService.createProcessDefinitionQuery().singleResult();
+    for (int i = 0; i < 4; i++) {
+      runtimeService.startProcessInstanceByKey(pd.getKey());
+    }
+    List<Job> jobs = managementService.createJobQuery().list();
+    for (int i = 0; i < jobs.size(); i++) {
+      makeSureJobDue(jobs.get(i), 40000 - i * 10000);
+    }
+    boolean acquireByDueDate = processEngineConfiguration.isJobExecutorAcquireByDueDate();
+    processEngineConfiguration.setJobExecutorAcquireByDueDate(true);
+
+    try {
+      // when
+      // the first acquisition keeps its transaction open while the second one runs
+      List<List<String>> acquiredJobIds = processEngineConfiguration.getCommandExecutorTxRequired()
+        .execute(commandContext -> {
+          List<String> firstAcquisition = findNextJobIdsSkipLocked(commandContext, 2);
+          List<String> secondAcquisition = processEngineConfiguration.getCommandExecutorTxRequiresNew()
+            .execute(nestedCommandContext -> findNextJobIdsSkipLocked(nestedCommandContext, 2));
+          return List.of(firstAcquisition, secondAcquisition);
+        });
+
+      // then
+      // both acquisitions get the jobs ordered by due date and skip the jobs locked by the other one
+      assertThat(acquiredJobIds.get(0)).containsExactly(jobs.get(0).getId(), jobs.get(1).getId());
+      assertThat(acquiredJobIds.get(1)).containsExactly(jobs.get(2).getId(), jobs.get(3).getId());
+    } finally {
+      processEngineConfiguration.setJobExecutorAcquireByDueDate(acquireByDueDate);
+    }
+  }
+
+  @Deployment(resources = {"org/operaton/bpm/engine/test/standalone/jobexecutor/oneJobProcess.bpmn20.xml"})
+  @Test
+  void testSelectListReadingAtMostLimitsTheResult() {
+    // given
+    ProcessDefinition pd = repositoryService.createProcessDefinitionQuery().singleResult();
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey(pd.getKey());
+    }
+
+    // when
+    List<JobEntity> jobs = processEngineConfiguration.getCommandExecutorTxRequired()
+      .execute(commandContext -> commandContext.getDbEntityManager()
+          .selectListReadingAtMost("selectJobByQueryCriteria", new JobQueryImpl(), 2));
+
+    // then
+    assertThat(jobs).hasSize(2);
+  }
+
+  @Test
+  void testSkipLockedAcquireJobsCommandFactory() {
+    // given
+    JobExecutor jobExecutor = processEngineConfiguration.getJobExecutor();
+    boolean acquireWithSkipLocked = jobExecutor.isAcquireWithSkipLocked();
+    jobExecutor.setAcquireWithSkipLocked(true);
+
+    try {
+      // when
+      jobExecutor.start();
+
+      // then
+      assertThat(jobExecutor.getAcquireJobsCmdFactory()).isInstanceOf(SkipLockedAcquireJobsCommandFactory.class);
+      assertThat(jobExecutor.getAcquireJobsCmd(3)).isInstanceOf(SkipLockedAcquireJobsCmd.class);
+    } finally {
+      jobExecutor.shutdown();
+      jobExecutor.setAcquireWithSkipLocked(acquireWithSkipLocked);
+    }
+  }
+
   protected void makeSureJobDue(final Job job) {
+    makeSureJobDue(job, 10000);
+  }
+
+  protected void makeSureJobDue(final Job job, long overdueMillis) {
     processEngineConfiguration.getCommandExecutorTxRequired()
       .execute(commandContext -> {
       Date currentTime = ClockUtil.getCurrentTime();
       commandContext.getJobManager()
           .findJobById(job.getId())
-          .setDuedate(new Date(currentTime.getTime() - 10000));
+          .setDuedate(new Date(currentTime.getTime() - overdueMillis));
       return null;
     });
   }
 
+  protected List<String> findNextJobIdsSkipLocked(CommandContext commandContext, int maxResults) {
+    return commandContext.getJobManager()
+        .findNextJobsToExecute(new Page(0, maxResults), true)
+        .stream()
+        .map(AcquirableJobEntity::getId)
+        .toList();
+  }
+
   private AcquiredJobs executeAcquireJobsCommand() {
     return processEngineConfiguration.getCommandExecutorTxRequired()
       .execute(new AcquireJobsCmd(processEngineConfiguration.getJobExecutor()));
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.test.standalone.db;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.operaton.bpm.engine.HistoryService;
+import org.operaton.bpm.engine.OptimisticLockingException;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.TaskService;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.operaton.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.task.Task;
+import org.operaton.bpm.engine.test.Deployment;
+import org.operaton.bpm.engine.test.RequiredHistoryLevel;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultiRowInsertTest {
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder()
+    .randomEngineName().closeEngineAfterAllTests()
+    .configurator(config -> config
+        .setJdbcBatchMultiRowInserts(true)
+        .setJdbcBatchMultiRowInsertSize(20))
+    .build();
+  @RegisterExtension
+  ProcessEngineTestExtension testRule = new ProcessEngineTestExtension(engineRule);
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  RuntimeService runtimeService;
+  TaskService taskService;
+  HistoryService historyService;
+
+  @Test
+  void shouldProvideMultiRowInsertStatements() {
+    DbSqlSessionFactory dbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
+
+    assertThat(dbSqlSessionFactory.getMultiRowInsertStatement(VariableInstanceEntity.class)).isNotNull();
+    assertThat(dbSqlSessionFactory.getMultiRowInsertStatement(TaskEntity.class)).isNull();
+  }
+
+  @Test
+  @Deployment(resources = {"org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  void shouldInsertVariablesWithMultiRowInserts() {
+    // given more variables than fit into a single statement
+    Map<String, Object> variables = new HashMap<>();
+    for (int i = 0; i < 45; i++) {
+      variables.put("var" + i, i % 2 == 0 ? "value" + i : i);
+    }
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+    // then
+    assertThat(runtimeService.getVariables(processInstance.getId())).isEqualTo(variables);
+  }
+
+  @Test
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+  @Deployment(resources = {"org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  void shouldInsertHistoryWithMultiRowInserts() {
+    // given
+    Map<String, Object> variables = new HashMap<>();
+    for (int i = 0; i < 45; i++) {
+      variables.put("var" + i, "value" + i);
+    }
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+    // then
+    String processInstanceId = processInstance.getId();
+    assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(45);
+    assertThat(historyService.createHistoricDetailQuery().processInstanceId(processInstanceId).variableUpdates().count()).isEqualTo(45);
+    assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(2);
+  }
+
+  @Test
+  @Deployment(resources = {"org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  void shouldKeepOptimisticLockingForUpdates() {
+    // given
+    runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    Task task1 = taskService.createTaskQuery().singleResult();
+    Task task2 = taskService.createTaskQuery().singleResult();
+
+    task1.setDescription("test description one");
+    taskService.saveTask(task1);
+
+    task2.setDescription("test description two");
+
+    // when/then
+    assertThatThrownBy(() -> taskService.saveTask(task2))
+      .isInstanceOf(OptimisticLockingException.class);
+  }
+
+}
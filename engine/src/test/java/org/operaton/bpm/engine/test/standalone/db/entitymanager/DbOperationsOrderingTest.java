@@ -16,6 +16,7 @@
  */
 package org.operaton.bpm.engine.test.standalone.db.entitymanager;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -217,6 +218,55 @@ class DbOperationsOrderingTest {
     assertHappensBefore(execution1, execution2, deleteOperations);
   }
 
+  @Test
+  void testInsertReferenceOrderingLongChain() {
+    // given a chain of executions in which every execution is the parent of the next one,
+    // and the ids are descending, so that the id order is the reverse of the reference order
+    List<ExecutionEntity> executions = createExecutionChain(5000);
+    executions.forEach(entityManager::insert);
+
+    // when
+    entityManager.flushEntityCache();
+    List<DbOperation> insertOperations = entityManager.getDbOperationManager().calculateFlush();
+
+    // then every parent is inserted before its child
+    assertThat(insertOperations).hasSize(executions.size());
+    for (int i = 1; i < executions.size(); i++) {
+      assertHappensAfter(executions.get(i), executions.get(i - 1), insertOperations);
+    }
+  }
+
+  @Test
+  void testDeleteReferenceOrderingLongChain() {
+    // given
+    List<ExecutionEntity> executions = createExecutionChain(5000);
+    executions.forEach(entityManager.getDbEntityCache()::putPersistent);
+
+    // when
+    executions.forEach(entityManager::delete);
+    entityManager.flushEntityCache();
+    List<DbOperation> deleteOperations = entityManager.getDbOperationManager().calculateFlush();
+
+    // then every child is deleted before its parent
+    assertThat(deleteOperations).hasSize(executions.size());
+    for (int i = 1; i < executions.size(); i++) {
+      assertHappensBefore(executions.get(i), executions.get(i - 1), deleteOperations);
+    }
+  }
+
+  protected List<ExecutionEntity> createExecutionChain(int length) {
+    List<ExecutionEntity> executions = new ArrayList<>();
+    for (int i = 0; i < length; i++) {
+      ExecutionEntity execution = new ExecutionEntity();
+      execution.setId(String.format("%08d", length - i));
+      if (i > 0) {
+        execution.setParentExecution(executions.get(i - 1));
+      }
+      executions.add(execution);
+    }
+    return executions;
+  }
+
   protected void assertHappensAfter(DbEntity entity1, DbEntity entity2, List<DbOperation> operations) {
     int idx1 = indexOfEntity(entity1, operations);
     int idx2 = indexOfEntity(entity2, operations);
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.test.standalone.scripting;
+
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.scripting.engine.DefaultScriptEngineResolver;
+import org.operaton.bpm.engine.impl.scripting.engine.OperatonScriptEngineManager;
+import org.operaton.bpm.engine.impl.scripting.engine.ScriptEnginePool;
+import org.operaton.bpm.engine.management.Metrics;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+
+import static org.operaton.bpm.engine.test.util.ProcessEngineUtils.newRandomProcessEngineName;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScriptEnginePoolTest {
+
+  protected static final String JAVASCRIPT = "javascript";
+
+  protected ProcessEngine engine;
+
+  @AfterEach
+  void tearDown() {
+    if (engine != null) {
+      engine.close();
+      engine = null;
+    }
+  }
+
+  @Test
+  void shouldReuseScriptEnginesOfScriptTasks() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration(2);
+    engine = config.buildProcessEngine();
+    deployScriptProcess();
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      engine.getRuntimeService().startProcessInstanceByKey("process");
+    }
+
+    // then
+    ScriptEnginePool pool = getScriptEnginePool(config);
+    assertThat(pool.getMisses()).isEqualTo(1);
+    assertThat(pool.getHits()).isEqualTo(2);
+    assertThat(pool.getIdleCount(JAVASCRIPT)).isEqualTo(1);
+    assertThat(engine.getRuntimeService().createVariableInstanceQuery().variableName("result").count()).isEqualTo(3);
+
+    config.getDbMetricsReporter().reportNow();
+    assertThat(engine.getManagementService().createMetricsQuery().name(Metrics.SCRIPT_ENGINE_POOL_HIT).sum()).isEqualTo(2);
+    assertThat(engine.getManagementService().createMetricsQuery().name(Metrics.SCRIPT_ENGINE_POOL_MISS).sum()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotPoolScriptEnginesByDefault() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration(0);
+    engine = config.buildProcessEngine();
+    deployScriptProcess();
+
+    // when
+    engine.getRuntimeService().startProcessInstanceByKey("process");
+
+    // then
+    assertThat(getScriptEnginePool(config)).isNull();
+  }
+
+  @Test
+  void shouldRejectNegativePoolSize() {
+    ProcessEngineConfigurationImpl config = createConfiguration(-1);
+
+    assertThatThrownBy(config::buildProcessEngine)
+      .isInstanceOf(ProcessEngineException.class)
+      .hasMessageContaining("scriptEnginePoolSize");
+  }
+
+  @Test
+  void shouldResetEngineBindingsOnRelease() {
+    // given
+    DefaultScriptEngineResolver resolver = new DefaultScriptEngineResolver(new OperatonScriptEngineManager());
+    resolver.setScriptEnginePool(new ScriptEnginePool(1));
+    ScriptEngine scriptEngine = resolver.getScriptEngine(JAVASCRIPT, true);
+    int configuredAttributes = scriptEngine.getBindings(ScriptContext.ENGINE_SCOPE).size();
+    scriptEngine.getBindings(ScriptContext.ENGINE_SCOPE).put("leftover", "value");
+
+    // when
+    assertThat(resolver.releaseScriptEngine(JAVASCRIPT, scriptEngine)).isTrue();
+
+    // then
+    ScriptEngine reusedEngine = resolver.getScriptEngine(JAVASCRIPT, true);
+    assertThat(reusedEngine).isSameAs(scriptEngine);
+    assertThat(reusedEngine.getBindings(ScriptContext.ENGINE_SCOPE)).doesNotContainKey("leftover");
+    assertThat(reusedEngine.getBindings(ScriptContext.ENGINE_SCOPE)).hasSize(configuredAttributes);
+  }
+
+  @Test
+  void shouldNotPoolThreadSafeScriptEngines() {
+    // given
+    DefaultScriptEngineResolver resolver = new DefaultScriptEngineResolver(new OperatonScriptEngineManager());
+    ScriptEnginePool pool = new ScriptEnginePool(1);
+    resolver.setScriptEnginePool(pool);
+
+    // when
+    ScriptEngine scriptEngine = resolver.getScriptEngine("groovy", true);
+
+    // then
+    assertThat(resolver.releaseScriptEngine("groovy", scriptEngine)).isFalse();
+    assertThat(resolver.getScriptEngine("groovy", true)).isSameAs(scriptEngine);
+    assertThat(pool.getMisses()).isZero();
+  }
+
+  protected void deployScriptProcess() {
+    BpmnModelInstance process = Bpmn.createExecutableProcess("process")
+      .operatonHistoryTimeToLive(180)
+      .startEvent()
+      .scriptTask()
+        .scriptFormat(JAVASCRIPT)
+        .scriptText("execution.setVariable('result', 42);")
+      .userTask()
+      .endEvent()
+      .done();
+    engine.getRepositoryService().createDeployment().addModelInstance("process.bpmn", process).deploy();
+  }
+
+  protected ScriptEnginePool getScriptEnginePool(ProcessEngineConfigurationImpl config) {
+    return ((DefaultScriptEngineResolver) config.getScriptEngineResolver()).getScriptEnginePool();
+  }
+
+  protected ProcessEngineConfigurationImpl createConfiguration(int scriptEnginePoolSize) {
+    return ((ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+      .createStandaloneInMemProcessEngineConfiguration()
+      .setJdbcUrl("jdbc:h2:mem:operaton" + getClass().getSimpleName())
+      .setProcessEngineName(newRandomProcessEngineName()))
+      .setScriptEnginePoolSize(scriptEnginePoolSize);
+  }
+
+}
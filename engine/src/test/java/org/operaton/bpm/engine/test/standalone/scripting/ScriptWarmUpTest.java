@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.engine.test.standalone.scripting;
+
+import javax.script.CompiledScript;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.bpmn.behavior.ScriptTaskActivityBehavior;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.operaton.bpm.engine.impl.scripting.CompiledExecutableScript;
+import org.operaton.bpm.engine.impl.scripting.InMemoryCompiledScriptStore;
+import org.operaton.bpm.engine.impl.scripting.ScriptWarmUp;
+import org.operaton.bpm.engine.repository.ProcessDefinition;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+
+import static org.operaton.bpm.engine.test.util.ProcessEngineUtils.newRandomProcessEngineName;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScriptWarmUpTest {
+
+  protected static final String SCRIPTS_PROCESS = "org/operaton/bpm/engine/test/standalone/scripting/ScriptWarmUpTest.scripts.bpmn20.xml";
+
+  protected ProcessEngine engine;
+  protected ProcessEngineConfigurationImpl config;
+
+  @AfterEach
+  void tearDown() {
+    if (engine != null) {
+      engine.close();
+      engine = null;
+    }
+  }
+
+  @Test
+  void shouldCompileScriptsOnDeployment() {
+    // given
+    buildEngine(createConfiguration().setEnableScriptWarmUp(true));
+
+    // when
+    ProcessDefinitionEntity processDefinition = deploy(SCRIPTS_PROCESS);
+
+    // then the script task is compiled before it is executed
+    assertThat(getScriptTaskScript(processDefinition).getCompiledScript()).isNotNull();
+    // and so are the listeners and the condition, which leaves nothing to compile
+    assertThat(new ScriptWarmUp(config).warmUp(processDefinition)).isZero();
+
+    ProcessInstance processInstance = engine.getRuntimeService().startProcessInstanceByKey("process");
+    assertThat(engine.getRuntimeService().getVariable(processInstance.getId(), "sum")).isEqualTo(42);
+    assertThat(engine.getRuntimeService().getVariable(processInstance.getId(), "started")).isEqualTo(true);
+    assertThat(engine.getRuntimeService().getVariable(processInstance.getId(), "created")).isEqualTo(true);
+  }
+
+  @Test
+  void shouldCompileScriptsOnFirstUseByDefault() {
+    // given
+    buildEngine(createConfiguration());
+
+    // when
+    ProcessDefinitionEntity processDefinition = deploy(SCRIPTS_PROCESS);
+
+    // then
+    assertThat(getScriptTaskScript(processDefinition).getCompiledScript()).isNull();
+
+    engine.getRuntimeService().startProcessInstanceByKey("process");
+    assertThat(getScriptTaskScript(processDefinition).getCompiledScript()).isNotNull();
+  }
+
+  @Test
+  void shouldDeployScriptsThatCannotBeCompiled() {
+    // given
+    buildEngine(createConfiguration().setEnableScriptWarmUp(true));
+    BpmnModelInstance process = Bpmn.createExecutableProcess("process")
+      .operatonHistoryTimeToLive(180)
+      .startEvent()
+      .scriptTask("scriptTask")
+        .scriptFormat("groovy")
+        .scriptText("this is { not groovy")
+      .endEvent()
+      .done();
+
+    // when
+    String deploymentId = engine.getRepositoryService().createDeployment()
+      .addModelInstance("process.bpmn", process)
+      .deploy()
+      .getId();
+
+    // then the script is left for its first execution
+    ProcessDefinition processDefinition = engine.getRepositoryService().createProcessDefinitionQuery()
+      .deploymentId(deploymentId)
+      .singleResult();
+    assertThat(getScriptTaskScript(getDeployedProcessDefinition(processDefinition.getId())).getCompiledScript()).isNull();
+  }
+
+  @Test
+  void shouldShareCompiledScriptsBetweenDeployments() {
+    // given
+    buildEngine(createConfiguration().setEnableScriptWarmUp(true).setCompiledScriptStoreCapacity(10));
+
+    // when the same process is deployed twice
+    ProcessDefinitionEntity firstVersion = deploy(SCRIPTS_PROCESS);
+    ProcessDefinitionEntity secondVersion = deploy(SCRIPTS_PROCESS);
+
+    // then the scripts are compiled once
+    CompiledScript compiledScript = getScriptTaskScript(firstVersion).getCompiledScript();
+    assertThat(compiledScript).isNotNull();
+    assertThat(getScriptTaskScript(secondVersion).getCompiledScript()).isSameAs(compiledScript);
+    assertThat(((InMemoryCompiledScriptStore) config.getCompiledScriptStore()).size()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldReuseStoredScriptsAfterDeploymentCacheEviction() {
+    // given
+    buildEngine(createConfiguration().setCompiledScriptStoreCapacity(10));
+    ProcessDefinitionEntity processDefinition = deploy(SCRIPTS_PROCESS);
+    engine.getRuntimeService().startProcessInstanceByKey("process");
+    CompiledScript compiledScript = getScriptTaskScript(processDefinition).getCompiledScript();
+
+    // when
+    config.getDeploymentCache().discardProcessDefinitionCache();
+    engine.getRuntimeService().startProcessInstanceByKey("process");
+
+    // then
+    ProcessDefinitionEntity reloadedDefinition = getDeployedProcessDefinition(processDefinition.getId());
+    assertThat(reloadedDefinition).isNotSameAs(processDefinition);
+    assertThat(getScriptTaskScript(reloadedDefinition).getCompiledScript()).isSameAs(compiledScript);
+  }
+
+  protected CompiledExecutableScript getScriptTaskScript(ProcessDefinitionEntity processDefinition) {
+    ScriptTaskActivityBehavior behavior = (ScriptTaskActivityBehavior) processDefinition.findActivity("scriptTask").getActivityBehavior();
+    return (CompiledExecutableScript) behavior.getScript();
+  }
+
+  protected ProcessDefinitionEntity deploy(String resource) {
+    String deploymentId = engine.getRepositoryService().createDeployment()
+      .addClasspathResource(resource)
+      .deploy()
+      .getId();
+    ProcessDefinition processDefinition = engine.getRepositoryService().createProcessDefinitionQuery()
+      .deploymentId(deploymentId)
+      .singleResult();
+    return getDeployedProcessDefinition(processDefinition.getId());
+  }
+
+  protected ProcessDefinitionEntity getDeployedProcessDefinition(String processDefinitionId) {
+    return config.getCommandExecutorTxRequired()
+      .execute(commandContext -> config.getDeploymentCache().findDeployedProcessDefinitionById(processDefinitionId));
+  }
+
+  protected void buildEngine(ProcessEngineConfigurationImpl configuration) {
+    config = configuration;
+    engine = configuration.buildProcessEngine();
+  }
+
+  protected ProcessEngineConfigurationImpl createConfiguration() {
+    return (ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+      .createStandaloneInMemProcessEngineConfiguration()
+      .setJdbcUrl("jdbc:h2:mem:operaton" + getClass().getSimpleName())
+      .setProcessEngineName(newRandomProcessEngineName());
+  }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.impl.juel;
+
+import jakarta.el.ELContext;
+
+/**
+ * Implemented by resolvers which can tell whether a property or method of a given base object
+ * would be resolved with plain JavaBeans semantics, i.e. by a {@link jakarta.el.BeanELResolver}.
+ * <p>
+ * Compiled expressions (see {@link TreeCompiler}) only use their inline caches for bases for
+ * which the context's resolver answers <code>true</code>. For all other bases, and if the
+ * resolver does not implement this interface, they fall back to the interpreter.
+ */
+public interface BeanResolutionGuard {
+	/**
+	 * Answer <code>true</code> if properties and methods of the given base are resolved by a
+	 * bean resolver, and no other resolver in the chain would handle the base before it.
+	 * @param context the current context
+	 * @param base the non-<code>null</code> base object
+	 */
+	boolean isResolvedAsBean(ELContext context, Object base);
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.impl.juel;
+
+import jakarta.el.ELContext;
+
+/**
+ * Result of compiling a parse tree with {@link TreeCompiler}.
+ * <p>
+ * A compiled expression evaluates to the same values as its tree, but dispatches directly
+ * to the operators and uses inline caches for bean properties and methods. Once one of its
+ * caches finds that it cannot be used (e.g. because the resolver chain no longer guarantees
+ * bean semantics, or because a call site sees too many different classes), the expression is
+ * deoptimized and its owner goes back to interpreting the tree.
+ */
+public final class CompiledExpression {
+	/**
+	 * A compiled (sub-)expression.
+	 */
+	interface Code {
+		Object eval(Bindings bindings, ELContext context);
+	}
+
+	private Code code;
+	private volatile boolean deoptimized;
+
+	CompiledExpression() {
+	}
+
+	void setCode(Code code) {
+		this.code = code;
+	}
+
+	/**
+	 * Evaluate the expression and coerce the result to the given type, like
+	 * {@link ExpressionNode#getValue(Bindings, ELContext, Class)}.
+	 */
+	public Object getValue(Bindings bindings, ELContext context, Class<?> type) {
+		Object value = code.eval(bindings, context);
+		if (type != null) {
+			value = bindings.convert(value, type);
+		}
+		return value;
+	}
+
+	/**
+	 * Answer <code>true</code> if this expression should no longer be used.
+	 */
+	public boolean isDeoptimized() {
+		return deoptimized;
+	}
+
+	void deoptimize() {
+		deoptimized = true;
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.impl.juel;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe tree cache with lock-free reads and approximate LRU eviction.
+ * <p>
+ * Trees are kept in a {@link ConcurrentHashMap}. A lookup does not take any lock, it only
+ * marks the entry as referenced. The expressions are additionally kept in a queue in the
+ * order in which they were added. Once the cache grows beyond its size, a single thread
+ * sweeps this queue like a clock: a referenced entry is unmarked and moved to the end of
+ * the queue, the first unreferenced entry is removed. Thus, trees that were used since the
+ * last sweep get a second chance and (roughly) the least recently used trees are dropped.
+ * New entries are marked as referenced, so that they are not evicted by the sweep they cause.
+ * Several entries are removed at once, so that the cost of an eviction is amortized over
+ * many puts, and each step of the sweep takes constant time.
+ * <p>
+ * Like {@link Cache}, evicted trees are moved to a secondary map, which is only consulted
+ * if a lookup misses the primary cache.
+ */
+public final class ConcurrentCache implements TreeCache {
+	/**
+	 * Fraction of the cache size that is removed by one eviction run.
+	 */
+	private static final int EVICTION_DIVISOR = 10;
+
+	private final int size;
+	private final int evictionBatchSize;
+	private final Map<String,Entry> entries = new ConcurrentHashMap<>();
+	private final Queue<String> clock = new ConcurrentLinkedQueue<>();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final Map<String,Tree> secondary;
+
+	/**
+	 * Constructor.
+	 * Use a {@link WeakHashMap} as secondary map.
+	 * @param size maximum primary cache size
+	 */
+	public ConcurrentCache(int size) {
+		this(size, new WeakHashMap<>());
+	}
+
+	/**
+	 * Constructor.
+	 * If an entry is evicted from the primary cache, it is added to the secondary map.
+	 * @param size maximum primary cache size
+	 * @param secondary the secondary map (may be <code>null</code>)
+	 */
+	public ConcurrentCache(int size, Map<String,Tree> secondary) {
+		if (size < 1) {
+			throw new IllegalArgumentException("Cache size must be positive: " + size);
+		}
+		this.size = size;
+		this.evictionBatchSize = Math.max(1, size / EVICTION_DIVISOR);
+		this.secondary = secondary == null ? null : Collections.synchronizedMap(secondary);
+	}
+
+	@Override
+	public Tree get(String expression) {
+		Entry entry = entries.get(expression);
+		if (entry == null) {
+			return secondary == null ? null : secondary.get(expression);
+		}
+		// avoid writing the shared entry if it has already been marked since the last sweep
+		if (!entry.referenced) {
+			entry.referenced = true;
+		}
+		return entry.tree;
+	}
+
+	@Override
+	public void put(String expression, Tree tree) {
+		if (entries.put(expression, new Entry(tree)) == null) {
+			clock.offer(expression);
+		}
+		if (entries.size() > size) {
+			evict();
+		}
+	}
+
+	/**
+	 * Number of trees in the primary cache.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	private void evict() {
+		// if another thread is already evicting, the cache will shrink shortly, unless the puts
+		// outpace the evicting thread by far
+		if (entries.size() > 2 * size) {
+			evictionLock.lock();
+		} else if (!evictionLock.tryLock()) {
+			return;
+		}
+		try {
+			// the puts of other threads don't evict while this one holds the lock, so repeat
+			// until the cache has shrunk below its size
+			int excess = entries.size() - size;
+			while (excess > 0) {
+				sweep(excess + evictionBatchSize - 1);
+				excess = entries.size() - size;
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Advances the clock until the given number of entries is removed.
+	 */
+	private void sweep(int count) {
+		// entries may be referenced again while sweeping, so the second chance is only given
+		// during two rounds of the clock to bound the sweep
+		int secondChances = 2 * entries.size();
+		while (count > 0) {
+			String expression = clock.poll();
+			if (expression == null) {
+				return;
+			}
+			Entry entry = entries.get(expression);
+			if (entry == null) {
+				continue;
+			}
+			if (entry.referenced && secondChances-- > 0) {
+				entry.referenced = false;
+				clock.offer(expression);
+			} else if (entries.remove(expression, entry)) {
+				count--;
+				if (secondary != null) {
+					secondary.put(expression, entry.tree);
+				}
+			} else {
+				// the tree was replaced concurrently
+				clock.offer(expression);
+			}
+		}
+	}
+
+	private static final class Entry {
+		final Tree tree;
+		volatile boolean referenced = true;
+
+		Entry(Tree tree) {
+			this.tree = tree;
+		}
+	}
+}
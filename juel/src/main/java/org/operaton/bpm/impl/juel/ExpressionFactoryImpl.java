@@ -55,6 +55,9 @@ import jakarta.el.ExpressionFactory;
  * <li>
  * <code>jakarta.el.cacheSize</code> - cache size (int, default is 1000)</li>
  * <li>
+ * <code>jakarta.el.concurrentCache</code> - use a {@link ConcurrentCache} instead of a
+ * {@link Cache} (boolean, default is <code>true</code>).</li>
+ * <li>
  * <code>jakarta.el.methodInvocations</code> - allow method invocations as in
  * <code>${foo.bar(baz)}</code> (boolean, default is <code>false</code>).</li>
  * <li>
@@ -63,6 +66,10 @@ import jakarta.el.ExpressionFactory;
  * <li>
  * <code>jakarta.el.varArgs</code> - support function/method calls using varargs (boolean, default is
  * <code>false</code>).</li>
+ * <li>
+ * <code>jakarta.el.compileThreshold</code> - number of evaluations after which a value expression
+ * is compiled by the {@link TreeCompiler} (int, default is <code>0</code>, i.e. expressions are
+ * always interpreted).</li>
  * </ul>
  *
  * @author Christoph Beck
@@ -121,8 +128,19 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	 */
 	public static final String PROP_CACHE_SIZE = "jakarta.el.cacheSize";
 
+	/**
+	 * <code>jakarta.el.concurrentCache</code>
+	 */
+	public static final String PROP_CONCURRENT_CACHE = "jakarta.el.concurrentCache";
+
+	/**
+	 * <code>jakarta.el.compileThreshold</code>
+	 */
+	public static final String PROP_COMPILE_THRESHOLD = "jakarta.el.compileThreshold";
+
 	private final TreeStore store;
 	private final TypeConverter converter;
+	private final int compileThreshold;
 
 	/**
 	 * Create a new expression factory using the default builder and cache implementations. The
@@ -149,6 +167,27 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 		Properties properties = loadProperties("el.properties");
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = createTypeConverter(properties);
+		this.compileThreshold = getCompileThreshold(properties);
+	}
+
+	/**
+	 * Create a new expression factory using the default builder and cache implementations. The
+	 * builder, cache and type converter are configured from the specified profile and
+	 * <code>el.properties</code> like {@link #ExpressionFactoryImpl(Profile)}, but the specified
+	 * compile threshold overrides property <code>jakarta.el.compileThreshold</code>.
+	 *
+	 * @param profile
+	 *            builder profile (features may be overridden in <code>el.properties</code>)
+	 * @param compileThreshold
+	 *            number of evaluations after which a value expression is compiled, <code>0</code>
+	 *            to interpret all expressions
+	 */
+	public ExpressionFactoryImpl(Profile profile, int compileThreshold) {
+		Properties properties = loadProperties("el.properties");
+		properties.setProperty(PROP_COMPILE_THRESHOLD, String.valueOf(compileThreshold));
+		this.store = createTreeStore(1000, profile, properties);
+		this.converter = createTypeConverter(properties);
+		this.compileThreshold = getCompileThreshold(properties);
 	}
 
 	/**
@@ -179,6 +218,7 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	public ExpressionFactoryImpl(Profile profile, Properties properties) {
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = createTypeConverter(properties);
+		this.compileThreshold = getCompileThreshold(properties);
 	}
 
 	/**
@@ -213,6 +253,7 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	public ExpressionFactoryImpl(Profile profile, Properties properties, TypeConverter converter) {
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = converter;
+		this.compileThreshold = getCompileThreshold(properties);
 	}
 
 	/**
@@ -236,6 +277,7 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	public ExpressionFactoryImpl(TreeStore store, TypeConverter converter) {
 		this.store = store;
 		this.converter = converter;
+		this.compileThreshold = 0;
 	}
 
 	private Properties loadDefaultProperties() {
@@ -294,7 +336,8 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	 * Create the factory's tree store. This implementation creates a new tree store using the
 	 * default builder and cache implementations. The builder and cache are configured using the
 	 * specified properties. The maximum cache size will be as specified unless overridden by
-	 * property <code>jakarta.el.cacheSize</code>.
+	 * property <code>jakarta.el.cacheSize</code>. A {@link ConcurrentCache} is used unless
+	 * property <code>jakarta.el.concurrentCache</code> is <code>false</code>.
 	 */
 	protected TreeStore createTreeStore(int defaultCacheSize, Profile profile, Properties properties) {
 		// create builder
@@ -324,11 +367,36 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 				throw new ELException("Cannot parse EL property " + PROP_CACHE_SIZE, e);
 			}
 		}
-		Cache cache = cacheSize > 0 ? new Cache(cacheSize) : null;
+		TreeCache cache = null;
+		if (cacheSize > 0) {
+			boolean concurrent = properties == null
+					|| Boolean.parseBoolean(properties.getProperty(PROP_CONCURRENT_CACHE, "true"));
+			cache = concurrent ? new ConcurrentCache(cacheSize) : new Cache(cacheSize);
+		}
 
 		return new TreeStore(builder, cache);
 	}
 
+	/**
+	 * Read the number of evaluations after which value expressions are compiled from property
+	 * <code>jakarta.el.compileThreshold</code>.
+	 */
+	protected int getCompileThreshold(Properties properties) {
+		if (properties == null || !properties.containsKey(PROP_COMPILE_THRESHOLD)) {
+			return 0;
+		}
+		int threshold;
+		try {
+			threshold = Integer.parseInt(properties.getProperty(PROP_COMPILE_THRESHOLD));
+		} catch (NumberFormatException e) {
+			throw new ELException("Cannot parse EL property " + PROP_COMPILE_THRESHOLD, e);
+		}
+		if (threshold < 0) {
+			throw new ELException("EL property " + PROP_COMPILE_THRESHOLD + " must not be negative");
+		}
+		return threshold;
+	}
+
 	/**
 	 * Create the factory's type converter. This implementation takes the
 	 * <code>de.odysseus.el.misc.TypeConverter</code> property as the name of a class implementing
@@ -416,7 +484,7 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	@Override
 	public final TreeValueExpression createValueExpression(ELContext context, String expression, Class<?> expectedType) {
 		return new TreeValueExpression(store, context.getFunctionMapper(), context.getVariableMapper(), converter,
-				expression, expectedType);
+				expression, expectedType, compileThreshold);
 	}
 
 	@Override
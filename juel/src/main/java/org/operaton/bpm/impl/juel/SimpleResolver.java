@@ -15,6 +15,9 @@
  */
 package org.operaton.bpm.impl.juel;
 
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
 import jakarta.el.ArrayELResolver;
 import jakarta.el.BeanELResolver;
 import jakarta.el.CompositeELResolver;
@@ -31,7 +34,7 @@ import jakarta.el.ResourceBundleELResolver;
  *
  * @author Christoph Beck
  */
-public class SimpleResolver extends ELResolver {
+public class SimpleResolver extends ELResolver implements BeanResolutionGuard {
 	private static final CompositeELResolver DEFAULT_RESOLVER_READ_ONLY = new CompositeELResolver();
 	private static final CompositeELResolver DEFAULT_RESOLVER_READ_WRITE = new CompositeELResolver();
 
@@ -51,6 +54,7 @@ public class SimpleResolver extends ELResolver {
 
 	private final RootPropertyResolver root;
 	private final CompositeELResolver delegate;
+	private final boolean defaultResolver;
 
 	/**
 	 * Create a resolver capable of resolving top-level identifiers. Everything else is passed to
@@ -61,6 +65,7 @@ public class SimpleResolver extends ELResolver {
 		root = new RootPropertyResolver(readOnly);
 		delegate.add(root);
 		delegate.add(resolver);
+		defaultResolver = resolver == DEFAULT_RESOLVER_READ_ONLY || resolver == DEFAULT_RESOLVER_READ_WRITE;
 	}
 
 	/**
@@ -125,4 +130,18 @@ public class SimpleResolver extends ELResolver {
 	public Object invoke(ELContext context, Object base, Object method, Class<?>[] paramTypes, Object[] params) {
 		return delegate.invoke(context, base, method, paramTypes, params);
 	}
+
+	/**
+	 * Answer <code>true</code> if this resolver uses the default resolvers and none of them
+	 * handles the base before the bean resolver. Custom delegates are never considered to
+	 * resolve beans.
+	 */
+	@Override
+	public boolean isResolvedAsBean(ELContext context, Object base) {
+		return defaultResolver
+				&& !base.getClass().isArray()
+				&& !(base instanceof List<?>)
+				&& !(base instanceof Map<?, ?>)
+				&& !(base instanceof ResourceBundle);
+	}
 }
@@ -0,0 +1,392 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.impl.juel;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import jakarta.el.ELContext;
+import jakarta.el.ELException;
+import jakarta.el.LambdaExpression;
+import jakarta.el.MethodNotFoundException;
+import jakarta.el.PropertyNotFoundException;
+
+import org.operaton.bpm.impl.juel.CompiledExpression.Code;
+
+/**
+ * Compiles parse trees of frequently evaluated value expressions.
+ * <p>
+ * The tree is translated into a tree of closures: literals are folded into constants,
+ * operators are dispatched directly instead of going through the nodes and
+ * {@link AstBinary.Operator#eval(Bindings, ELContext, AstNode, AstNode)}, and property and
+ * method accesses with a fixed name (<code>a.b</code>, <code>a.b(c)</code>) get an inline cache
+ * which maps the classes seen at that site to the getter or method to call.
+ * <p>
+ * A site caches up to {@value #MAX_POLYMORPHISM} classes. A cached member is only used if
+ * the context's resolver confirms that the base is resolved as a bean (see
+ * {@link BeanResolutionGuard}), and if calling it is equivalent to what the bean resolver would
+ * do: public getters, and methods with a unique name, no varargs and arguments that need no
+ * coercion. In every other case, the site asks the resolver as the interpreter would. If the
+ * resolver cannot confirm bean semantics, or a site becomes megamorphic, the compiled
+ * expression is {@link CompiledExpression#isDeoptimized() deoptimized}: the current evaluation
+ * is completed via the resolver, and subsequent evaluations use the interpreter again.
+ * <p>
+ * Nodes without a compiled form (e.g. functions and identifiers) are evaluated by the
+ * interpreter, so every tree can be compiled.
+ */
+public final class TreeCompiler {
+	/**
+	 * Maximum number of classes a property or method site caches before it deoptimizes.
+	 */
+	public static final int MAX_POLYMORPHISM = 4;
+
+	private static final String ERROR_PROPERTY_BASE_NULL = "error.property.base.null";
+	private static final String ERROR_PROPERTY_METHOD_NOTFOUND = "error.property.method.notfound";
+	private static final String ERROR_PROPERTY_PROPERTY_NOTFOUND = "error.property.property.notfound";
+
+	private final CompiledExpression expression;
+
+	private TreeCompiler(CompiledExpression expression) {
+		this.expression = expression;
+	}
+
+	/**
+	 * Compile the given expression tree.
+	 * @param root the tree's root node
+	 * @return compiled expression
+	 */
+	public static CompiledExpression compile(ExpressionNode root) {
+		CompiledExpression expression = new CompiledExpression();
+		TreeCompiler compiler = new TreeCompiler(expression);
+		if (root instanceof AstNode node) {
+			expression.setCode(compiler.compile(node));
+		} else {
+			expression.setCode((bindings, context) -> root.getValue(bindings, context, null));
+		}
+		return expression;
+	}
+
+	private Code compile(AstNode node) {
+		if (node instanceof AstEval eval) {
+			return compile(eval.getChild(0));
+		}
+		if (node instanceof AstNested nested) {
+			return compile(nested.getChild(0));
+		}
+		if (node instanceof AstLiteral || node instanceof AstText) {
+			Object value = node.eval(null, null);
+			return (bindings, context) -> value;
+		}
+		if (node instanceof AstComposite composite) {
+			return compileComposite(composite);
+		}
+		if (node instanceof AstBinary binary) {
+			return compileBinary(binary);
+		}
+		if (node instanceof AstUnary unary && unary.getOperator() instanceof AstUnary.SimpleOperator operator) {
+			Code child = compile(unary.getChild(0));
+			return (bindings, context) -> operator.apply(bindings, child.eval(bindings, context));
+		}
+		if (node instanceof AstChoice choice) {
+			Code question = compile(choice.getChild(0));
+			Code yes = compile(choice.getChild(1));
+			Code no = compile(choice.getChild(2));
+			return (bindings, context) -> {
+				Boolean value = bindings.convert(question.eval(bindings, context), Boolean.class);
+				return Boolean.TRUE.equals(value) ? yes.eval(bindings, context) : no.eval(bindings, context);
+			};
+		}
+		if (node instanceof AstMethod method && method.getChild(0) instanceof AstDot dot) {
+			return new MethodSite(dot, (AstParameters) method.getChild(1));
+		}
+		if (node instanceof AstDot dot) {
+			return new PropertySite(dot);
+		}
+		if (node instanceof AstBracket bracket) {
+			return compileBracket(bracket);
+		}
+		return node::eval;
+	}
+
+	private Code compileComposite(AstComposite composite) {
+		Code[] parts = new Code[composite.getCardinality()];
+		for (int i = 0; i < parts.length; i++) {
+			parts[i] = compile(composite.getChild(i));
+		}
+		return (bindings, context) -> {
+			StringBuilder b = new StringBuilder(16);
+			for (Code part : parts) {
+				b.append(bindings.convert(part.eval(bindings, context), String.class));
+			}
+			return b.toString();
+		};
+	}
+
+	private Code compileBinary(AstBinary binary) {
+		AstBinary.Operator operator = binary.getOperator();
+		Code left = compile(binary.getChild(0));
+		Code right = compile(binary.getChild(1));
+		if (operator == AstBinary.AND) {
+			return (bindings, context) -> {
+				Boolean l = bindings.convert(left.eval(bindings, context), Boolean.class);
+				return Boolean.TRUE.equals(l) ? bindings.convert(right.eval(bindings, context), Boolean.class) : Boolean.FALSE;
+			};
+		}
+		if (operator == AstBinary.OR) {
+			return (bindings, context) -> {
+				Boolean l = bindings.convert(left.eval(bindings, context), Boolean.class);
+				return Boolean.TRUE.equals(l) ? Boolean.TRUE : bindings.convert(right.eval(bindings, context), Boolean.class);
+			};
+		}
+		if (operator instanceof AstBinary.SimpleOperator simple) {
+			return (bindings, context) -> simple.apply(bindings, left.eval(bindings, context), right.eval(bindings, context));
+		}
+		return binary::eval;
+	}
+
+	private Code compileBracket(AstBracket bracket) {
+		Code prefix = compile(bracket.getPrefix());
+		Code property = compile(bracket.getChild(1));
+		boolean strict = bracket.strict;
+		return (bindings, context) -> {
+			Object base = prefix.eval(bindings, context);
+			if (base == null) {
+				return null;
+			}
+			Object name = property.eval(bindings, context);
+			if (name == null && strict) {
+				return null;
+			}
+			return resolveProperty(context, base, name);
+		};
+	}
+
+	private boolean isResolvedAsBean(ELContext context, Object base) {
+		if (context.getELResolver() instanceof BeanResolutionGuard guard && guard.isResolvedAsBean(context, base)) {
+			return true;
+		}
+		expression.deoptimize();
+		return false;
+	}
+
+	private static Object resolveProperty(ELContext context, Object base, Object property) {
+		context.setPropertyResolved(false);
+		Object result = context.getELResolver().getValue(context, base, property);
+		if (!context.isPropertyResolved()) {
+			throw new PropertyNotFoundException(LocalMessages.get(ERROR_PROPERTY_PROPERTY_NOTFOUND, property, base));
+		}
+		return result;
+	}
+
+	private static Object invoke(Method method, Object base, Object[] args) {
+		try {
+			return method.invoke(base, args);
+		} catch (InvocationTargetException e) {
+			throw new ELException(e.getCause());
+		} catch (IllegalAccessException e) {
+			throw new ELException(e);
+		}
+	}
+
+	/**
+	 * Answer the method if it can be invoked reflectively without further lookups, i.e. if its
+	 * declaring class is public and exported.
+	 */
+	private static Method accessible(Method method) {
+		if (method == null) {
+			return null;
+		}
+		Class<?> declaringClass = method.getDeclaringClass();
+		if (!Modifier.isPublic(declaringClass.getModifiers())
+				|| !declaringClass.getModule().isExported(declaringClass.getPackageName())) {
+			return null;
+		}
+		return method;
+	}
+
+	/**
+	 * A cached member of one receiver class; <code>member</code> is <code>null</code> if the
+	 * site has to use the resolver for that class.
+	 */
+	private record Target(Class<?> type, Method member, Class<?>[] parameterTypes) {
+		static Target of(Class<?> type, Method member) {
+			if (member == null) {
+				return new Target(type, null, null);
+			}
+			Class<?>[] parameterTypes = member.getParameterTypes();
+			for (int i = 0; i < parameterTypes.length; i++) {
+				parameterTypes[i] = MethodType.methodType(parameterTypes[i]).wrap().returnType();
+			}
+			return new Target(type, member, parameterTypes);
+		}
+	}
+
+	/**
+	 * Polymorphic inline cache, shared base class of property and method sites.
+	 */
+	private abstract class InlineCache implements Code {
+		private volatile Target[] targets = new Target[0];
+
+		/**
+		 * Answer the target for the given class, or <code>null</code> if the site just became
+		 * megamorphic.
+		 */
+		Target lookup(Class<?> type) {
+			Target[] current = targets;
+			for (Target target : current) {
+				if (target.type() == type) {
+					return target;
+				}
+			}
+			if (current.length >= MAX_POLYMORPHISM) {
+				expression.deoptimize();
+				return null;
+			}
+			Target target = Target.of(type, resolve(type));
+			Target[] extended = Arrays.copyOf(current, current.length + 1);
+			extended[current.length] = target;
+			targets = extended;
+			return target;
+		}
+
+		abstract Method resolve(Class<?> type);
+	}
+
+	private final class PropertySite extends InlineCache {
+		private final Code prefix;
+		private final String name;
+
+		PropertySite(AstDot dot) {
+			this.prefix = compile(dot.getPrefix());
+			this.name = dot.property;
+		}
+
+		@Override
+		public Object eval(Bindings bindings, ELContext context) {
+			Object base = prefix.eval(bindings, context);
+			if (base == null) {
+				return null;
+			}
+			if (!expression.isDeoptimized() && isResolvedAsBean(context, base)) {
+				Target target = lookup(base.getClass());
+				if (target != null && target.member() != null) {
+					Object result = invoke(target.member(), base, new Object[0]);
+					context.setPropertyResolved(base, name);
+					return result;
+				}
+			}
+			return resolveProperty(context, base, name);
+		}
+
+		@Override
+		Method resolve(Class<?> type) {
+			try {
+				for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+					if (descriptor.getName().equals(name)) {
+						return accessible(descriptor.getReadMethod());
+					}
+				}
+			} catch (IntrospectionException e) {
+				// leave it to the resolver to report
+			}
+			return null;
+		}
+	}
+
+	private final class MethodSite extends InlineCache {
+		private final AstNode prefixNode;
+		private final Code prefix;
+		private final String name;
+		private final Code[] params;
+
+		MethodSite(AstDot dot, AstParameters parameters) {
+			this.prefixNode = dot.getPrefix();
+			this.prefix = compile(prefixNode);
+			this.name = dot.property;
+			this.params = new Code[parameters.getCardinality()];
+			for (int i = 0; i < params.length; i++) {
+				params[i] = compile(parameters.getChild(i));
+			}
+		}
+
+		@Override
+		public Object eval(Bindings bindings, ELContext context) {
+			Object base = prefix.eval(bindings, context);
+			if (base == null) {
+				throw new PropertyNotFoundException(LocalMessages.get(ERROR_PROPERTY_BASE_NULL, prefixNode));
+			}
+			Object[] args = new Object[params.length];
+			for (int i = 0; i < args.length; i++) {
+				args[i] = params[i].eval(bindings, context);
+			}
+			if (!expression.isDeoptimized() && isResolvedAsBean(context, base)) {
+				Target target = lookup(base.getClass());
+				if (target != null && target.member() != null && isApplicable(target.parameterTypes(), args)) {
+					Object result = invoke(target.member(), base, args);
+					context.setPropertyResolved(base, name);
+					return result;
+				}
+			}
+			context.setPropertyResolved(false);
+			Object result = context.getELResolver().invoke(context, base, name, null, args);
+			if (!context.isPropertyResolved()) {
+				throw new MethodNotFoundException(LocalMessages.get(ERROR_PROPERTY_METHOD_NOTFOUND, name, base.getClass()));
+			}
+			return result;
+		}
+
+		/**
+		 * The bean resolver picks a method by name and arguments, so only a method which is the
+		 * only public one of that name can be bound to the site.
+		 */
+		@Override
+		Method resolve(Class<?> type) {
+			Method candidate = null;
+			for (Method method : type.getMethods()) {
+				if (method.getName().equals(name)) {
+					if (candidate != null) {
+						return null;
+					}
+					candidate = method;
+				}
+			}
+			if (candidate == null || candidate.isVarArgs() || candidate.getParameterCount() != params.length) {
+				return null;
+			}
+			return accessible(candidate);
+		}
+
+		/**
+		 * Arguments are passed as they are, so the call is only equivalent to the resolver's if
+		 * none of them would be coerced.
+		 */
+		private boolean isApplicable(Class<?>[] parameterTypes, Object[] args) {
+			for (int i = 0; i < args.length; i++) {
+				Object arg = args[i];
+				if (arg == null || arg instanceof LambdaExpression || !parameterTypes[i].isInstance(arg)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
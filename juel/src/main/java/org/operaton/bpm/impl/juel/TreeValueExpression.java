@@ -47,6 +47,10 @@ public final class TreeValueExpression extends jakarta.el.ValueExpression {
 
 	private String structure;
 
+	private final int compileThreshold;
+	private transient int evaluations;
+	private transient volatile CompiledExpression compiled;
+
 	/**
 	 * Create a new value expression.
 	 * @param store used to get the parse tree from.
@@ -56,6 +60,20 @@ public final class TreeValueExpression extends jakarta.el.ValueExpression {
 	 * @param type the expected type (may be <code>null</code>)
 	 */
 	public TreeValueExpression(TreeStore store, FunctionMapper functions, VariableMapper variables, TypeConverter converter, String expr, Class<?> type) {
+		this(store, functions, variables, converter, expr, type, 0);
+	}
+
+	/**
+	 * Create a new value expression which is compiled once it has been evaluated often enough.
+	 * @param store used to get the parse tree from.
+	 * @param functions the function mapper used to bind functions
+	 * @param variables the variable mapper used to bind variables
+	 * @param expr the expression string
+	 * @param type the expected type (may be <code>null</code>)
+	 * @param compileThreshold number of evaluations after which the tree is compiled by the
+	 * {@link TreeCompiler}, <code>0</code> to always interpret the tree
+	 */
+	public TreeValueExpression(TreeStore store, FunctionMapper functions, VariableMapper variables, TypeConverter converter, String expr, Class<?> type, int compileThreshold) {
 		super();
 
 		Tree tree = store.get(expr);
@@ -66,6 +84,7 @@ public final class TreeValueExpression extends jakarta.el.ValueExpression {
 		this.type = type;
 		this.node = tree.getRoot();
 		this.deferred = tree.isDeferred();
+		this.compileThreshold = compileThreshold;
 
 		if (type == null) {
 			throw new NullPointerException(LocalMessages.get("error.value.notype"));
@@ -110,9 +129,25 @@ public final class TreeValueExpression extends jakarta.el.ValueExpression {
    */
 	@Override
 	public Object getValue(ELContext context) throws ELException {
+		CompiledExpression code = compiled;
+		if (code == null && compileThreshold > 0 && ++evaluations >= compileThreshold) {
+			code = TreeCompiler.compile(node);
+			compiled = code;
+		}
+		if (code != null && !code.isDeoptimized()) {
+			return code.getValue(bindings, context, type);
+		}
 		return node.getValue(bindings, context, type);
 	}
 
+	/**
+	 * Answer <code>true</code> if this expression is currently evaluated in compiled form.
+	 */
+	public boolean isCompiled() {
+		CompiledExpression code = compiled;
+		return code != null && !code.isDeoptimized();
+	}
+
 	/**
    * Evaluates the expression as an lvalue and determines if {@link #setValue(ELContext, Object)}
    * will always fail.
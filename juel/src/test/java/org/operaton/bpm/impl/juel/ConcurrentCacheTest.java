@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.impl.juel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentCacheTest {
+
+	private static final Builder BUILDER = new Builder();
+
+	@Test
+	void shouldRejectInvalidSize() {
+		assertThatThrownBy(() -> new ConcurrentCache(0))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void shouldEvictTreesThatWereNotUsedRecently() {
+		// given
+		ConcurrentCache cache = new ConcurrentCache(10, null);
+		for (int i = 0; i < 11; i++) {
+			cache.put(expression(i), tree(i));
+		}
+		// the first eviction unmarked all trees
+		for (int i = 1; i < 6; i++) {
+			cache.get(expression(i));
+		}
+
+		// when
+		for (int i = 11; i < 16; i++) {
+			cache.put(expression(i), tree(i));
+		}
+
+		// then
+		assertThat(cache.size()).isEqualTo(10);
+		for (int i = 0; i < 16; i++) {
+			boolean used = i >= 1 && i < 6 || i >= 11;
+			assertThat(cache.get(expression(i)) != null).as(expression(i)).isEqualTo(used);
+		}
+	}
+
+	@Test
+	void shouldEvictInBatches() {
+		// given
+		ConcurrentCache cache = new ConcurrentCache(100, null);
+		for (int i = 0; i < 100; i++) {
+			cache.put(expression(i), tree(i));
+		}
+
+		// when
+		cache.put(expression(100), tree(100));
+
+		// then a tenth of the cache is removed at once
+		assertThat(cache.size()).isEqualTo(91);
+		assertThat(cache.get(expression(0))).isNull();
+		assertThat(cache.get(expression(100))).isNotNull();
+	}
+
+	@Test
+	void shouldEvictEvenIfAllTreesWereUsed() {
+		// given
+		ConcurrentCache cache = new ConcurrentCache(10, null);
+		for (int i = 0; i < 10; i++) {
+			cache.put(expression(i), tree(i));
+			cache.get(expression(i));
+		}
+
+		// when
+		cache.put(expression(10), tree(10));
+
+		// then the oldest tree is removed after all trees lost their second chance
+		assertThat(cache.size()).isEqualTo(10);
+		assertThat(cache.get(expression(0))).isNull();
+		assertThat(cache.get(expression(10))).isNotNull();
+	}
+
+	@Test
+	void shouldMoveEvictedTreesToSecondaryMap() {
+		// given
+		Map<String, Tree> secondary = new HashMap<>();
+		ConcurrentCache cache = new ConcurrentCache(1, secondary);
+		Tree tree = tree(0);
+		cache.put(expression(0), tree);
+
+		// when
+		cache.put(expression(1), tree(1));
+
+		// then
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(secondary).containsEntry(expression(0), tree);
+		assertThat(cache.get(expression(0))).isSameAs(tree);
+	}
+
+	@Test
+	void shouldReplaceTree() {
+		// given
+		ConcurrentCache cache = new ConcurrentCache(2, null);
+		Tree replacement = tree(0);
+		cache.put(expression(0), tree(0));
+
+		// when
+		cache.put(expression(0), replacement);
+
+		// then
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.get(expression(0))).isSameAs(replacement);
+
+		// and the expression is evicted once
+		cache.put(expression(1), tree(1));
+		cache.put(expression(2), tree(2));
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(expression(0))).isNull();
+		cache.put(expression(3), tree(3));
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(expression(1))).isNull();
+	}
+
+	@Test
+	void shouldServeConcurrentLookupsAndPuts() throws Exception {
+		// given
+		int size = 100;
+		int expressions = 1000;
+		int threads = 8;
+		ConcurrentCache cache = new ConcurrentCache(size, null);
+		Tree[] trees = new Tree[expressions];
+		for (int i = 0; i < expressions; i++) {
+			trees[i] = tree(i);
+		}
+		AtomicInteger maxSize = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+
+		// when
+		List<Future<Integer>> results = new ArrayList<>();
+		try {
+			for (int t = 0; t < threads; t++) {
+				results.add(executorService.submit(() -> {
+					start.await();
+					int hits = 0;
+					for (int n = 0; n < 20_000; n++) {
+						// a skewed distribution, so that some expressions are used far more often
+						int i = (int) (expressions * Math.pow(ThreadLocalRandom.current().nextDouble(), 3));
+						Tree tree = cache.get(expression(i));
+						if (tree == null) {
+							cache.put(expression(i), trees[i]);
+							maxSize.accumulateAndGet(cache.size(), Math::max);
+						} else {
+							assertThat(tree).isSameAs(trees[i]);
+							hits++;
+						}
+					}
+					return hits;
+				}));
+			}
+			start.countDown();
+
+			// then
+			int hits = 0;
+			for (Future<Integer> result : results) {
+				hits += result.get(30, TimeUnit.SECONDS);
+			}
+			// the most frequently used tenth of the expressions account for 46% of the lookups
+			assertThat(hits).isGreaterThan(threads * 20_000 / 5);
+		} finally {
+			executorService.shutdownNow();
+		}
+
+		// puts wait for the evicting thread once the cache has grown to twice its size
+		assertThat(maxSize.get()).isLessThanOrEqualTo(2 * size + threads);
+		cache.put(expression(expressions), tree(expressions));
+		assertThat(cache.size()).isLessThanOrEqualTo(size);
+	}
+
+	private static String expression(int i) {
+		return "${x" + i + " + 1}";
+	}
+
+	private static Tree tree(int i) {
+		return BUILDER.build(expression(i));
+	}
+
+}
@@ -16,15 +16,18 @@
  */
 package org.operaton.bpm.model.xml.impl.instance;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.xml.transform.dom.DOMSource;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import org.operaton.bpm.model.xml.ModelException;
-import org.operaton.bpm.model.xml.impl.util.DomUtil;
+import org.operaton.bpm.model.xml.impl.util.DomUtil.ElementByNameListFilter;
+import org.operaton.bpm.model.xml.impl.util.DomUtil.NodeListFilter;
 import org.operaton.bpm.model.xml.impl.util.XmlQName;
 import org.operaton.bpm.model.xml.instance.DomDocument;
 import org.operaton.bpm.model.xml.instance.DomElement;
@@ -39,11 +42,23 @@ public class DomDocumentImpl implements DomDocument {
   public static final String GENERIC_NS_PREFIX = "ns";
 
   private final Document document;
+  private volatile DomDocumentIndex index;
 
   public DomDocumentImpl(Document document) {
     this.document = document;
   }
 
+  protected DomDocumentIndex getIndex() {
+    DomDocumentIndex documentIndex = index;
+    if (documentIndex == null) {
+      synchronized(document) {
+        documentIndex = DomDocumentIndex.getOrCreate(document);
+        index = documentIndex;
+      }
+    }
+    return documentIndex;
+  }
+
   @Override
   public DomElement getRootElement() {
     synchronized(document) {
@@ -63,12 +78,22 @@ public class DomDocumentImpl implements DomDocument {
     synchronized(document) {
       Element documentElement = document.getDocumentElement();
       Element newDocumentElement = ((DomElementImpl) rootElement).getElement();
+      DomDocumentIndex documentIndex = DomDocumentIndex.get(document);
+      if (documentIndex != null) {
+        if (documentElement != null) {
+          documentIndex.elementRemoving(documentElement);
+        }
+        documentIndex.elementRemoving(newDocumentElement);
+      }
       if (documentElement != null) {
         document.replaceChild(newDocumentElement, documentElement);
       }
       else {
         document.appendChild(newDocumentElement);
       }
+      if (documentIndex != null) {
+        documentIndex.elementInserted(newDocumentElement);
+      }
     }
   }
 
@@ -83,10 +108,18 @@ public class DomDocumentImpl implements DomDocument {
 
   @Override
   public DomElement getElementById(String id) {
+    DomDocumentIndex documentIndex = getIndex();
+    Element element = documentIndex.getElementById(id);
+    if (element != null) {
+      return new DomElementImpl(element, documentIndex);
+    }
+
+    // IDs which are not declared as such on the attribute node are only known to the document
     synchronized(document) {
-      Element element = document.getElementById(id);
+      element = document.getElementById(id);
       if (element != null) {
-        return new DomElementImpl(element);
+        documentIndex.putElementById(id, element);
+        return new DomElementImpl(element, documentIndex);
       }
       else {
         return null;
@@ -96,10 +129,28 @@ public class DomDocumentImpl implements DomDocument {
 
   @Override
   public List<DomElement> getElementsByNameNs(String namespaceUri, String localName) {
-    synchronized(document) {
-      NodeList elementsByTagNameNS = document.getElementsByTagNameNS(namespaceUri, localName);
-      return DomUtil.filterNodeListByName(elementsByTagNameNS, namespaceUri, localName);
+    DomDocumentIndex documentIndex = getIndex();
+    List<Element> elements = documentIndex.getElementsByName(namespaceUri, localName);
+    if (elements == null) {
+      synchronized(document) {
+        NodeList elementsByTagNameNS = document.getElementsByTagNameNS(namespaceUri, localName);
+        NodeListFilter filter = new ElementByNameListFilter(localName, namespaceUri);
+        elements = new ArrayList<>();
+        for (int i = 0; i < elementsByTagNameNS.getLength(); i++) {
+          Node node = elementsByTagNameNS.item(i);
+          if (filter.matches(node)) {
+            elements.add((Element) node);
+          }
+        }
+        documentIndex.putElementsByName(namespaceUri, localName, elements);
+      }
+    }
+
+    List<DomElement> result = new ArrayList<>(elements.size());
+    for (Element element : elements) {
+      result.add(new DomElementImpl(element, documentIndex));
     }
+    return result;
   }
 
   @Override
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.model.xml.impl.instance;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import org.operaton.bpm.model.xml.instance.ModelElementInstance;
+
+/**
+ * Index of the elements of a DOM document by their ID attributes and by their
+ * qualified names, together with the model element instances already linked
+ * to indexed elements.
+ *
+ * <p>The index is stored as user data on the {@link Document} so that every
+ * {@link DomDocumentImpl} and {@link DomElementImpl} wrapping the same document
+ * shares it. All modifications happen while holding the document lock, from the
+ * mutating methods of the DOM wrappers. Lookups only read concurrent maps and
+ * immutable lists and therefore do not need the document lock, which keeps
+ * read-only model instances contention free.</p>
+ *
+ * <p>Only elements which are attached to the document are indexed. Element lists
+ * by name are computed on first access and dropped as soon as an element with
+ * the same name is attached to or detached from the document.</p>
+ */
+public class DomDocumentIndex {
+
+  protected static final String DOCUMENT_INDEX_KEY = "operaton.documentIndex";
+
+  protected final Document document;
+  protected final Map<String, Element> elementsById = new ConcurrentHashMap<>();
+  protected final Map<String, List<Element>> elementsByName = new ConcurrentHashMap<>();
+  protected final Map<Element, ModelElementInstance> modelElementInstances = new ConcurrentHashMap<>();
+
+  protected DomDocumentIndex(Document document) {
+    this.document = document;
+  }
+
+  /**
+   * Returns the index of the document or {@code null} if none has been created yet.
+   * The caller must hold the document lock.
+   */
+  protected static DomDocumentIndex get(Document document) {
+    return (DomDocumentIndex) document.getUserData(DOCUMENT_INDEX_KEY);
+  }
+
+  /**
+   * Returns the index of the document and builds it if necessary.
+   * The caller must hold the document lock.
+   */
+  protected static DomDocumentIndex getOrCreate(Document document) {
+    DomDocumentIndex index = get(document);
+    if (index == null) {
+      index = new DomDocumentIndex(document);
+      Element documentElement = document.getDocumentElement();
+      if (documentElement != null) {
+        index.addSubtree(documentElement);
+      }
+      document.setUserData(DOCUMENT_INDEX_KEY, index, null);
+    }
+    return index;
+  }
+
+  // lookups (lock free) /////////////////////////////////////////////////
+
+  public Element getElementById(String id) {
+    return elementsById.get(id);
+  }
+
+  public List<Element> getElementsByName(String namespaceUri, String localName) {
+    return elementsByName.get(nameKey(namespaceUri, localName));
+  }
+
+  public ModelElementInstance getModelElementInstance(Element element) {
+    return modelElementInstances.get(element);
+  }
+
+  // updates (document lock held) ////////////////////////////////////////
+
+  /**
+   * Caches the elements with the given name. The list must be in document order.
+   */
+  protected void putElementsByName(String namespaceUri, String localName, List<Element> elements) {
+    elementsByName.put(nameKey(namespaceUri, localName), Collections.unmodifiableList(new ArrayList<>(elements)));
+  }
+
+  protected void putElementById(String id, Element element) {
+    if (isAttached(element)) {
+      elementsById.put(id, element);
+    }
+  }
+
+  protected void putModelElementInstance(Element element, ModelElementInstance modelElementInstance) {
+    if (isAttached(element)) {
+      modelElementInstances.put(element, modelElementInstance);
+    }
+  }
+
+  protected void removeModelElementInstance(Element element) {
+    modelElementInstances.remove(element);
+  }
+
+  /**
+   * Has to be called after an element was inserted into the DOM.
+   */
+  protected void elementInserted(Element element) {
+    if (isAttached(element)) {
+      addSubtree(element);
+    }
+  }
+
+  /**
+   * Has to be called before an element is removed from the DOM or moved
+   * to another position.
+   */
+  protected void elementRemoving(Element element) {
+    if (isAttached(element)) {
+      removeSubtree(element);
+    }
+  }
+
+  /**
+   * Has to be called before the attributes of an element are changed.
+   */
+  protected void attributesChanging(Element element) {
+    if (isAttached(element)) {
+      removeIds(element);
+    }
+  }
+
+  /**
+   * Has to be called after the attributes of an element were changed.
+   */
+  protected void attributesChanged(Element element) {
+    if (isAttached(element)) {
+      addIds(element);
+    }
+  }
+
+  protected void addSubtree(Element root) {
+    for (Element element : collectSubtree(root)) {
+      addIds(element);
+      elementsByName.remove(nameKey(element.getNamespaceURI(), element.getLocalName()));
+    }
+  }
+
+  protected void removeSubtree(Element root) {
+    for (Element element : collectSubtree(root)) {
+      removeIds(element);
+      elementsByName.remove(nameKey(element.getNamespaceURI(), element.getLocalName()));
+      modelElementInstances.remove(element);
+    }
+  }
+
+  protected void addIds(Element element) {
+    NamedNodeMap attributes = element.getAttributes();
+    for (int i = 0; i < attributes.getLength(); i++) {
+      Attr attribute = (Attr) attributes.item(i);
+      if (attribute.isId()) {
+        elementsById.put(attribute.getValue(), element);
+      }
+    }
+  }
+
+  protected void removeIds(Element element) {
+    NamedNodeMap attributes = element.getAttributes();
+    for (int i = 0; i < attributes.getLength(); i++) {
+      Attr attribute = (Attr) attributes.item(i);
+      if (attribute.isId()) {
+        elementsById.remove(attribute.getValue(), element);
+      }
+    }
+  }
+
+  protected boolean isAttached(Node node) {
+    Node current = node;
+    while (current != null) {
+      if (current == document) {
+        return true;
+      }
+      current = current.getParentNode();
+    }
+    return false;
+  }
+
+  protected static List<Element> collectSubtree(Element root) {
+    List<Element> elements = new ArrayList<>();
+    Deque<Element> stack = new ArrayDeque<>();
+    stack.push(root);
+    while (!stack.isEmpty()) {
+      Element element = stack.pop();
+      elements.add(element);
+      NodeList childNodes = element.getChildNodes();
+      for (int i = 0; i < childNodes.getLength(); i++) {
+        if (childNodes.item(i) instanceof Element child) {
+          stack.push(child);
+        }
+      }
+    }
+    return elements;
+  }
+
+  protected static String nameKey(String namespaceUri, String localName) {
+    return (namespaceUri == null ? "" : namespaceUri) + "|" + localName;
+  }
+
+}
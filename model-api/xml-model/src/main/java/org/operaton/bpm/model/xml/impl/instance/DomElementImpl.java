@@ -42,10 +42,21 @@ public class DomElementImpl implements DomElement {
 
   private final Element element;
   private final Document document;
+  private final DomDocumentIndex index;
 
   public DomElementImpl(Element element) {
+    this(element, null);
+  }
+
+  /**
+   * @param element the wrapped DOM element
+   * @param index the index of the owner document which was used to look up the element,
+   *              allows to resolve the linked model element instance without locking
+   */
+  public DomElementImpl(Element element, DomDocumentIndex index) {
     this.element = element;
     this.document = element.getOwnerDocument();
+    this.index = index;
   }
 
   protected Element getElement() {
@@ -152,12 +163,20 @@ public class DomElementImpl implements DomElement {
     synchronized(document) {
       Element newElement = ((DomElementImpl) newChildDomElement).getElement();
       Element existingElement = ((DomElementImpl) existingChildDomElement).getElement();
+      DomDocumentIndex documentIndex = DomDocumentIndex.get(document);
+      if (documentIndex != null && existingElement.getParentNode() == element) {
+        documentIndex.elementRemoving(existingElement);
+        documentIndex.elementRemoving(newElement);
+      }
       try {
         element.replaceChild(newElement, existingElement);
       }
       catch (DOMException e) {
         throw new ModelException("Unable to replace child <" + existingElement + "> of element <" + element + "> with element <" + newElement + ">", e);
       }
+      if (documentIndex != null) {
+        documentIndex.elementInserted(newElement);
+      }
     }
   }
 
@@ -165,6 +184,10 @@ public class DomElementImpl implements DomElement {
   public boolean removeChild(DomElement childDomElement) {
     synchronized(document) {
       Element childElement = ((DomElementImpl) childDomElement).getElement();
+      DomDocumentIndex documentIndex = DomDocumentIndex.get(document);
+      if (documentIndex != null && childElement.getParentNode() == element) {
+        documentIndex.elementRemoving(childElement);
+      }
       try {
         element.removeChild(childElement);
         return true;
@@ -179,7 +202,14 @@ public class DomElementImpl implements DomElement {
   public void appendChild(DomElement childDomElement) {
     synchronized(document) {
       Element childElement = ((DomElementImpl) childDomElement).getElement();
+      DomDocumentIndex documentIndex = DomDocumentIndex.get(document);
+      if (documentIndex != null) {
+        documentIndex.elementRemoving(childElement);
+      }
       element.appendChild(childElement);
+      if (documentIndex != null) {
+        documentIndex.elementInserted(childElement);
+      }
     }
   }
 
@@ -187,6 +217,11 @@ public class DomElementImpl implements DomElement {
   public void insertChildElementAfter(DomElement elementToInsert, DomElement insertAfter) {
     synchronized(document) {
       Element newElement = ((DomElementImpl) elementToInsert).getElement();
+      DomDocumentIndex documentIndex = DomDocumentIndex.get(document);
+      if (documentIndex != null) {
+        documentIndex.elementRemoving(newElement);
+      }
+
       // find node to insert before
       Node insertBeforeNode;
       if (insertAfter == null) {
@@ -203,6 +238,10 @@ public class DomElementImpl implements DomElement {
       else {
         element.appendChild(newElement);
       }
+
+      if (documentIndex != null) {
+        documentIndex.elementInserted(newElement);
+      }
     }
   }
 
@@ -257,6 +296,10 @@ public class DomElementImpl implements DomElement {
   private void setAttribute(String namespaceUri, String localName, String value, boolean isIdAttribute) {
     synchronized(document) {
       XmlQName xmlQName = new XmlQName(this, namespaceUri, localName);
+      DomDocumentIndex documentIndex = DomDocumentIndex.get(document);
+      if (documentIndex != null) {
+        documentIndex.attributesChanging(element);
+      }
       if (xmlQName.hasLocalNamespace()) {
         element.setAttributeNS(null, xmlQName.getLocalName(), value);
         if (isIdAttribute) {
@@ -269,6 +312,9 @@ public class DomElementImpl implements DomElement {
           element.setIdAttributeNS(xmlQName.getNamespaceUri(), xmlQName.getLocalName(), true);
         }
       }
+      if (documentIndex != null) {
+        documentIndex.attributesChanged(element);
+      }
     }
   }
 
@@ -291,12 +337,19 @@ public class DomElementImpl implements DomElement {
   public void removeAttribute(String namespaceUri, String localName) {
     synchronized(document) {
       XmlQName xmlQName = new XmlQName(this, namespaceUri, localName);
+      DomDocumentIndex documentIndex = DomDocumentIndex.get(document);
+      if (documentIndex != null) {
+        documentIndex.attributesChanging(element);
+      }
       if (xmlQName.hasLocalNamespace()) {
         element.removeAttributeNS(null, xmlQName.getLocalName());
       }
       else {
         element.removeAttributeNS(xmlQName.getNamespaceUri(), xmlQName.getLocalName());
       }
+      if (documentIndex != null) {
+        documentIndex.attributesChanged(element);
+      }
     }
   }
 
@@ -310,6 +363,15 @@ public class DomElementImpl implements DomElement {
   @Override
   public void setTextContent(String textContent) {
     synchronized(document) {
+      DomDocumentIndex documentIndex = DomDocumentIndex.get(document);
+      if (documentIndex != null) {
+        NodeList childNodes = element.getChildNodes();
+        for (int i = 0; i < childNodes.getLength(); i++) {
+          if (childNodes.item(i) instanceof Element childElement) {
+            documentIndex.elementRemoving(childElement);
+          }
+        }
+      }
       element.setTextContent(textContent);
     }
   }
@@ -324,8 +386,18 @@ public class DomElementImpl implements DomElement {
 
   @Override
   public ModelElementInstance getModelElementInstance() {
+    if (index != null) {
+      ModelElementInstance modelElementInstance = index.getModelElementInstance(element);
+      if (modelElementInstance != null) {
+        return modelElementInstance;
+      }
+    }
     synchronized(document) {
-      return (ModelElementInstance) element.getUserData(MODEL_ELEMENT_KEY);
+      ModelElementInstance modelElementInstance = (ModelElementInstance) element.getUserData(MODEL_ELEMENT_KEY);
+      if (index != null && modelElementInstance != null) {
+        index.putModelElementInstance(element, modelElementInstance);
+      }
+      return modelElementInstance;
     }
   }
 
@@ -333,6 +405,10 @@ public class DomElementImpl implements DomElement {
   public void setModelElementInstance(ModelElementInstance modelElementInstance) {
     synchronized(document) {
       element.setUserData(MODEL_ELEMENT_KEY, modelElementInstance, null);
+      DomDocumentIndex documentIndex = DomDocumentIndex.get(document);
+      if (documentIndex != null) {
+        documentIndex.removeModelElementInstance(element);
+      }
     }
   }
 
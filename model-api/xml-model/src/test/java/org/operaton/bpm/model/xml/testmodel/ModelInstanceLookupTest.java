@@ -0,0 +1,190 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.model.xml.testmodel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.model.xml.ModelInstance;
+import org.operaton.bpm.model.xml.testmodel.instance.Animal;
+import org.operaton.bpm.model.xml.testmodel.instance.Animals;
+import org.operaton.bpm.model.xml.testmodel.instance.Bird;
+import org.operaton.bpm.model.xml.testmodel.instance.Description;
+
+import static org.operaton.bpm.model.xml.testmodel.TestModelTest.createBird;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lookups by id and by type are served from an index which has to follow
+ * modifications of the model.
+ */
+class ModelInstanceLookupTest {
+
+  private ModelInstance modelInstance;
+  private Animals animals;
+
+  @BeforeEach
+  void createModel() {
+    modelInstance = new TestModelParser().getEmptyModel();
+    animals = modelInstance.newInstance(Animals.class);
+    modelInstance.setDocumentElement(animals);
+  }
+
+  @Test
+  void shouldFindAddedElements() {
+    // given
+    assertThat(modelInstance.getModelElementsByType(Bird.class)).isEmpty();
+    assertThat((Bird) modelInstance.getModelElementById("tweety")).isNull();
+
+    // when
+    Bird tweety = createBird(modelInstance, "tweety", Gender.Female);
+    Bird hedwig = createBird(modelInstance, "hedwig", Gender.Male);
+
+    // then
+    assertThat((Bird) modelInstance.getModelElementById("tweety")).isEqualTo(tweety);
+    assertThat((Bird) modelInstance.getModelElementById("hedwig")).isEqualTo(hedwig);
+    assertThat(modelInstance.getModelElementsByType(Bird.class)).containsExactly(tweety, hedwig);
+  }
+
+  @Test
+  void shouldNotFindRemovedElements() {
+    // given
+    Bird tweety = createBird(modelInstance, "tweety", Gender.Female);
+    Bird hedwig = createBird(modelInstance, "hedwig", Gender.Male);
+    assertThat(modelInstance.getModelElementsByType(Bird.class)).containsExactly(tweety, hedwig);
+
+    // when
+    animals.getAnimals().remove(tweety);
+
+    // then
+    assertThat((Bird) modelInstance.getModelElementById("tweety")).isNull();
+    assertThat(modelInstance.getModelElementsByType(Bird.class)).containsExactly(hedwig);
+  }
+
+  @Test
+  void shouldNotFindElementsBeforeTheyAreAttached() {
+    // given
+    assertThat(modelInstance.getModelElementsByType(Bird.class)).isEmpty();
+
+    // when
+    Bird tweety = modelInstance.newInstance(Bird.class, "tweety");
+
+    // then
+    assertThat((Bird) modelInstance.getModelElementById("tweety")).isNull();
+    assertThat(modelInstance.getModelElementsByType(Bird.class)).isEmpty();
+
+    // when
+    animals.getAnimals().add(tweety);
+
+    // then
+    assertThat((Bird) modelInstance.getModelElementById("tweety")).isEqualTo(tweety);
+    assertThat(modelInstance.getModelElementsByType(Bird.class)).containsExactly(tweety);
+  }
+
+  @Test
+  void shouldFollowIdChanges() {
+    // given
+    Bird tweety = createBird(modelInstance, "tweety", Gender.Female);
+    assertThat((Bird) modelInstance.getModelElementById("tweety")).isEqualTo(tweety);
+
+    // when
+    tweety.setId("daisy");
+
+    // then
+    assertThat((Bird) modelInstance.getModelElementById("tweety")).isNull();
+    assertThat((Bird) modelInstance.getModelElementById("daisy")).isEqualTo(tweety);
+  }
+
+  @Test
+  void shouldNotFindElementsRemovedByTextContent() {
+    // given
+    Bird tweety = createBird(modelInstance, "tweety", Gender.Female);
+    assertThat((Bird) modelInstance.getModelElementById("tweety")).isEqualTo(tweety);
+
+    // when
+    animals.setTextContent("no more animals");
+
+    // then
+    assertThat((Bird) modelInstance.getModelElementById("tweety")).isNull();
+    assertThat(modelInstance.getModelElementsByType(Bird.class)).isEmpty();
+  }
+
+  @Test
+  void shouldFindElementsOfReplacedDocumentElement() {
+    // given
+    createBird(modelInstance, "tweety", Gender.Female);
+    assertThat(modelInstance.getModelElementsByType(Animal.class)).hasSize(1);
+
+    Animals otherAnimals = modelInstance.newInstance(Animals.class);
+    Bird hedwig = modelInstance.newInstance(Bird.class, "hedwig");
+    otherAnimals.getAnimals().add(hedwig);
+
+    // when
+    modelInstance.setDocumentElement(otherAnimals);
+
+    // then
+    assertThat((Bird) modelInstance.getModelElementById("tweety")).isNull();
+    assertThat((Bird) modelInstance.getModelElementById("hedwig")).isEqualTo(hedwig);
+    assertThat(modelInstance.getModelElementsByType(Animal.class)).containsExactly(hedwig);
+  }
+
+  @Test
+  void shouldServeConcurrentLookups() throws Exception {
+    // given
+    List<Bird> birds = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      birds.add(createBird(modelInstance, "bird" + i, Gender.Female));
+    }
+    animals.setDescription(modelInstance.newInstance(Description.class));
+
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try {
+      Callable<Boolean> lookup = () -> {
+        for (int i = 0; i < birds.size(); i++) {
+          if (!birds.get(i).equals(modelInstance.getModelElementById("bird" + i))) {
+            return false;
+          }
+        }
+        Collection<Bird> found = modelInstance.getModelElementsByType(Bird.class);
+        return found.size() == birds.size() && found.containsAll(birds);
+      };
+
+      // when
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        results.add(executorService.submit(lookup));
+      }
+
+      // then
+      for (Future<Boolean> result : results) {
+        assertThat(result.get()).isTrue();
+      }
+    }
+    finally {
+      executorService.shutdownNow();
+    }
+  }
+
+}
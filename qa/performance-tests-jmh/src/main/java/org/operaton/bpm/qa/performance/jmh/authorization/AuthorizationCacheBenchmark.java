@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.qa.performance.jmh.authorization;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.operaton.bpm.engine.AuthorizationService;
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.authorization.Authorization;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+
+import static org.operaton.bpm.engine.authorization.Permissions.READ;
+import static org.operaton.bpm.engine.authorization.Resources.PROCESS_DEFINITION;
+
+/**
+ * Checks process definition permissions of a user in three groups through the
+ * {@link AuthorizationService}, with the authorization cache disabled and in local mode.
+ * The database contains user and group authorizations for 1000 process definitions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizationCacheBenchmark {
+
+  protected static final int PROCESS_DEFINITIONS = 1000;
+  protected static final List<String> GROUP_IDS = List.of("accounting", "management", "sales");
+
+  @Param({ProcessEngineConfigurationImpl.AUTHORIZATION_CACHE_MODE_DISABLED, ProcessEngineConfigurationImpl.AUTHORIZATION_CACHE_MODE_LOCAL})
+  public String mode;
+
+  protected ProcessEngine processEngine;
+  protected AuthorizationService authorizationService;
+  protected int next;
+
+  @Setup
+  public void setUp() {
+    ProcessEngineConfigurationImpl configuration = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+        .createStandaloneInMemProcessEngineConfiguration()
+        .setJdbcUrl("jdbc:h2:mem:jmh-authorization-cache;DB_CLOSE_DELAY=-1")
+        .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP)
+        .setAuthorizationEnabled(true);
+    configuration.setAuthorizationCacheMode(mode);
+    processEngine = configuration.buildProcessEngine();
+    authorizationService = processEngine.getAuthorizationService();
+
+    for (int i = 0; i < PROCESS_DEFINITIONS; i++) {
+      Authorization authorization = authorizationService.createNewAuthorization(Authorization.AUTH_TYPE_GRANT);
+      if (i % 2 == 0) {
+        authorization.setUserId("demo");
+      } else {
+        authorization.setGroupId(GROUP_IDS.get(i % GROUP_IDS.size()));
+      }
+      authorization.setResource(PROCESS_DEFINITION);
+      authorization.setResourceId("process" + i);
+      authorization.addPermission(READ);
+      authorizationService.saveAuthorization(authorization);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    processEngine.close();
+  }
+
+  @Benchmark
+  public boolean isUserAuthorized() {
+    next = (next + 1) % PROCESS_DEFINITIONS;
+    return authorizationService.isUserAuthorized("demo", GROUP_IDS, READ, PROCESS_DEFINITION, "process" + next);
+  }
+
+}
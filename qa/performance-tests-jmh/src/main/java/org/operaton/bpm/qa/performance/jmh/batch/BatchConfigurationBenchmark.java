@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.qa.performance.jmh.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.batch.deletion.DeleteProcessInstanceBatchConfiguration;
+import org.operaton.bpm.engine.impl.batch.deletion.DeleteProcessInstancesJobHandler;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.context.Context;
+
+/**
+ * Reads and writes the configuration of a process instance deletion batch in the JSON and
+ * in the compact binary format, as it happens in the seed job and in the batch jobs:
+ * <ul>
+ *   <li>{@code seedJob} reads the configuration with all remaining ids, removes the ids of
+ *   the jobs created by one seed job invocation and writes it back,</li>
+ *   <li>{@code batchJob} reads the configuration of a single batch job.</li>
+ * </ul>
+ * Like for the {@code VariableSerializerBenchmark}, an engine on an in-memory H2 database
+ * provides the command context which the JSON conversion requires.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchConfigurationBenchmark {
+
+  protected static final int IDS_PER_SEED_JOB = 100;
+  protected static final int IDS_PER_BATCH_JOB = 100;
+
+  @Param({"json", "compact"})
+  public String format;
+
+  @Param({"numeric", "uuid"})
+  public String idType;
+
+  @Param({"100000", "1000000"})
+  public int size;
+
+  protected ProcessEngine processEngine;
+  protected DeleteProcessInstancesJobHandler jobHandler;
+  protected byte[] batchConfiguration;
+  protected byte[] jobConfiguration;
+
+  @Setup
+  public void setUp() {
+    ProcessEngineConfigurationImpl configuration = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+        .createStandaloneInMemProcessEngineConfiguration()
+        .setJdbcUrl("jdbc:h2:mem:jmh-batch-configuration;DB_CLOSE_DELAY=-1")
+        .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+    configuration.setCompactBatchConfigurationEnabled("compact".equals(format));
+    processEngine = configuration.buildProcessEngine();
+    Context.setProcessEngineConfiguration(configuration);
+    Context.setCommandContext(configuration.getCommandContextFactory().createCommandContext());
+
+    jobHandler = new DeleteProcessInstancesJobHandler();
+    List<String> ids = createIds();
+    batchConfiguration = jobHandler.writeConfiguration(createConfiguration(ids));
+    jobConfiguration = jobHandler.writeConfiguration(createConfiguration(new ArrayList<>(ids.subList(0, IDS_PER_BATCH_JOB))));
+  }
+
+  @TearDown
+  public void tearDown() {
+    Context.removeCommandContext();
+    Context.removeProcessEngineConfiguration();
+    processEngine.close();
+  }
+
+  @Benchmark
+  public byte[] seedJob() {
+    DeleteProcessInstanceBatchConfiguration configuration = jobHandler.readConfiguration(batchConfiguration);
+    configuration.getIds().subList(0, IDS_PER_SEED_JOB).clear();
+    return jobHandler.writeConfiguration(configuration);
+  }
+
+  @Benchmark
+  public DeleteProcessInstanceBatchConfiguration batchJob() {
+    return jobHandler.readConfiguration(jobConfiguration);
+  }
+
+  protected List<String> createIds() {
+    List<String> ids = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      ids.add("uuid".equals(idType) ? UUID.randomUUID().toString() : String.valueOf(100000 + 3L * i));
+    }
+    return ids;
+  }
+
+  protected static DeleteProcessInstanceBatchConfiguration createConfiguration(List<String> ids) {
+    return new DeleteProcessInstanceBatchConfiguration(ids, null, "benchmark", false, true, true, false);
+  }
+
+}
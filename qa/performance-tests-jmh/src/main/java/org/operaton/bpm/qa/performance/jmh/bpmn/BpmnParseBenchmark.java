@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.qa.performance.jmh.bpmn;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.bpmn.deployer.BpmnDeployer;
+import org.operaton.bpm.engine.impl.bpmn.parser.BpmnParse;
+import org.operaton.bpm.engine.impl.bpmn.parser.BpmnParser;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+import org.operaton.bpm.engine.impl.persistence.entity.DeploymentEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.builder.AbstractFlowNodeBuilder;
+
+/**
+ * Parses a large BPMN model with the engine's {@link BpmnParser}, including the default parse
+ * listeners and schema validation, but without persisting the deployment. The engine runs against an in-memory H2
+ * database that is only needed to provide a command context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BpmnParseBenchmark {
+
+  @Param({"100", "1000"})
+  public int activities;
+
+  protected ProcessEngine processEngine;
+  protected CommandExecutor commandExecutor;
+  protected BpmnParser bpmnParser;
+  protected String model;
+
+  @Setup
+  public void setUp() {
+    ProcessEngineConfigurationImpl configuration = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+        .createStandaloneInMemProcessEngineConfiguration()
+        .setJdbcUrl("jdbc:h2:mem:jmh-bpmn-parse;DB_CLOSE_DELAY=-1")
+        .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP)
+        .setHistory(ProcessEngineConfiguration.HISTORY_FULL);
+    processEngine = configuration.buildProcessEngine();
+    commandExecutor = configuration.getCommandExecutorTxRequired();
+    bpmnParser = configuration.getDeployers().stream()
+        .filter(BpmnDeployer.class::isInstance)
+        .map(deployer -> ((BpmnDeployer) deployer).getBpmnParser())
+        .findFirst()
+        .orElseThrow();
+    model = createModel(activities);
+  }
+
+  @TearDown
+  public void tearDown() {
+    processEngine.close();
+  }
+
+  @Benchmark
+  public List<ProcessDefinitionEntity> parse() {
+    return commandExecutor.execute(commandContext -> {
+      BpmnParse bpmnParse = bpmnParser.createParse()
+          .sourceString(model)
+          .deployment(new DeploymentEntity())
+          .name("large.bpmn");
+      bpmnParse.execute();
+      return bpmnParse.getProcessDefinitions();
+    });
+  }
+
+  /**
+   * Creates a process with the given number of activities. Every tenth activity is an
+   * asynchronous service task with a timer boundary event, the others alternate between
+   * user tasks with listeners and expression service tasks.
+   */
+  protected static String createModel(int activities) {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("largeProcess").startEvent();
+    for (int i = 0; i < activities; i++) {
+      if (i % 10 == 9) {
+        builder = builder.serviceTask("async" + i)
+            .operatonAsyncBefore()
+            .operatonExpression("${execution.setVariable('step', " + i + ")}")
+            .boundaryEvent("timer" + i).timerWithDuration("PT1H").endEvent()
+            .moveToNode("async" + i);
+      } else if (i % 2 == 0) {
+        builder = builder.userTask("userTask" + i)
+            .operatonAssignee("${assignee}")
+            .operatonTaskListenerExpression("create", "${true}");
+      } else {
+        builder = builder.serviceTask("serviceTask" + i)
+            .operatonExpression("${amount * " + i + "}")
+            .operatonResultVariable("result" + i);
+      }
+    }
+    return Bpmn.convertToString(builder.endEvent().done());
+  }
+
+}
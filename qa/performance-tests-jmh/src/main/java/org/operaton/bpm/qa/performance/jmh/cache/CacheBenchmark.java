@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.qa.performance.jmh.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.operaton.commons.utils.cache.Cache;
+import org.operaton.commons.utils.cache.ConcurrentBufferedLruCache;
+import org.operaton.commons.utils.cache.ConcurrentLruCache;
+
+/**
+ * Compares the cache implementations that back the deployment caches. The cache is
+ * filled up to its capacity, so that the read benchmarks only measure hits, which is
+ * the common case for process definition lookups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheBenchmark {
+
+  @Param({"ConcurrentLruCache", "ConcurrentBufferedLruCache"})
+  public String implementation;
+
+  @Param({"1000", "10000"})
+  public int capacity;
+
+  protected Cache<String, Object> cache;
+  protected String[] keys;
+
+  @Setup
+  public void setUp() {
+    cache = createCache(implementation, capacity);
+    keys = new String[capacity];
+    for (int i = 0; i < capacity; i++) {
+      keys[i] = "processDefinition:" + i;
+      cache.put(keys[i], new Object());
+    }
+  }
+
+  @Benchmark
+  public Object get() {
+    return cache.get(randomKey());
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Object getConcurrent() {
+    return cache.get(randomKey());
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Object getAndPutConcurrent() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    if (random.nextInt(100) == 0) {
+      // one in hundred lookups misses and loads a new definition
+      String key = "processDefinition:" + random.nextInt(capacity * 2);
+      cache.put(key, key);
+      return key;
+    }
+    return cache.get(randomKey());
+  }
+
+  protected String randomKey() {
+    return keys[ThreadLocalRandom.current().nextInt(keys.length)];
+  }
+
+  protected static Cache<String, Object> createCache(String implementation, int capacity) {
+    switch (implementation) {
+      case "ConcurrentLruCache":
+        return new ConcurrentLruCache<>(capacity);
+      case "ConcurrentBufferedLruCache":
+        return new ConcurrentBufferedLruCache<>(capacity);
+      default:
+        throw new IllegalArgumentException("Unknown cache implementation: " + implementation);
+    }
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.qa.performance.jmh.db;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCache;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCacheKeyMapping;
+import org.operaton.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * Measures the {@link DbEntityCache}, the first level cache of every command: filling
+ * it with loaded entities, and looking entities up by id and by type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DbEntityCacheBenchmark {
+
+  @Param({"100", "1000"})
+  public int entities;
+
+  protected ExecutionEntity[] executions;
+  protected VariableInstanceEntity[] variables;
+  protected DbEntityCache filledCache;
+
+  @Setup
+  public void setUp() {
+    executions = new ExecutionEntity[entities];
+    variables = new VariableInstanceEntity[entities];
+    for (int i = 0; i < entities; i++) {
+      executions[i] = new ExecutionEntity();
+      executions[i].setId("execution-" + i);
+      executions[i].setProcessInstanceId("execution-0");
+      if (i > 0) {
+        executions[i].setParentId("execution-" + (i - 1) / 4);
+      }
+
+      variables[i] = new VariableInstanceEntity();
+      variables[i].setId("variable-" + i);
+      variables[i].setExecutionId(executions[i].getId());
+      variables[i].setProcessInstanceId("execution-0");
+    }
+    filledCache = fill(new DbEntityCache(DbEntityCacheKeyMapping.defaultEntityCacheKeyMapping()));
+  }
+
+  /**
+   * Puts all entities as loaded from the database, which includes taking a copy of their
+   * persistent state.
+   */
+  @Benchmark
+  public DbEntityCache putPersistent() {
+    return fill(new DbEntityCache(DbEntityCacheKeyMapping.defaultEntityCacheKeyMapping()));
+  }
+
+  @Benchmark
+  public ExecutionEntity get() {
+    return filledCache.get(ExecutionEntity.class, executions[ThreadLocalRandom.current().nextInt(entities)].getId());
+  }
+
+  @Benchmark
+  public List<VariableInstanceEntity> getEntitiesByType() {
+    return filledCache.getEntitiesByType(VariableInstanceEntity.class);
+  }
+
+  protected DbEntityCache fill(DbEntityCache cache) {
+    for (int i = 0; i < entities; i++) {
+      cache.putPersistent(executions[i]);
+      cache.putPersistent(variables[i]);
+    }
+    return cache;
+  }
+
+}
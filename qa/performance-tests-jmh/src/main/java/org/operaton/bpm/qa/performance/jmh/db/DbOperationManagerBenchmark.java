@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.qa.performance.jmh.db;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.operaton.bpm.engine.impl.db.DbEntity;
+import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
+import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperationManager;
+import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperationType;
+import org.operaton.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * Measures {@link DbOperationManager#calculateFlush()}, which orders the operations of a
+ * command before they are flushed. Half of the operations insert an execution tree, the
+ * other half delete another one, together with one variable per execution. The ids are
+ * chosen so that children sort before their parents, which makes the ordering by references
+ * do real work. No database is involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DbOperationManagerBenchmark {
+
+  /**
+   * Number of execution operations, half of them inserts and half deletes. One variable
+   * operation is added for every execution operation.
+   */
+  @Param({"100", "1000", "10000"})
+  public int operations;
+
+  protected DbOperationManager operationManager;
+
+  @Setup
+  public void setUp() {
+    operationManager = new DbOperationManager();
+    int executions = operations / 2;
+    addExecutionTree("insert", executions, DbOperationType.INSERT);
+    addExecutionTree("delete", executions, DbOperationType.DELETE);
+  }
+
+  @Benchmark
+  public List<DbOperation> calculateFlush() {
+    return operationManager.calculateFlush();
+  }
+
+  /**
+   * Adds operations for a tree of executions in which every execution has up to four
+   * children, and a variable for each execution.
+   */
+  protected void addExecutionTree(String prefix, int size, DbOperationType operationType) {
+    String processInstanceId = id(prefix, size, 0);
+    for (int i = 0; i < size; i++) {
+      ExecutionEntity execution = new ExecutionEntity();
+      execution.setId(id(prefix, size, i));
+      execution.setProcessInstanceId(processInstanceId);
+      if (i > 0) {
+        execution.setParentId(id(prefix, size, (i - 1) / 4));
+      }
+      addOperation(execution, operationType);
+
+      VariableInstanceEntity variable = new VariableInstanceEntity();
+      variable.setId(prefix + "-variable-" + i);
+      variable.setExecutionId(execution.getId());
+      variable.setProcessInstanceId(processInstanceId);
+      addOperation(variable, operationType);
+    }
+  }
+
+  protected void addOperation(DbEntity entity, DbOperationType operationType) {
+    DbEntityOperation operation = new DbEntityOperation();
+    operation.setEntity(entity);
+    operation.setOperationType(operationType);
+    if (entity instanceof ExecutionEntity execution) {
+      operation.setFlushRelevantEntityReferences(execution.getReferencedEntityIds());
+    }
+    operationManager.addOperation(operation);
+  }
+
+  /**
+   * Descending ids, so that the id order is the reverse of the reference order.
+   */
+  protected static String id(String prefix, int size, int index) {
+    return prefix + "-" + String.format("%08d", size - index);
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.qa.performance.jmh.db;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.operaton.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+
+/**
+ * Builds the MyBatis {@link SqlSessionFactory} of the engine, which is the largest single step of the
+ * engine bootstrap, from the original mappings and from the mapping snapshot that is generated during
+ * the build. Every fork starts cold, so the first iterations show the cost of the first engine start
+ * in a JVM. No connection to the database is opened.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(3)
+public class SqlSessionFactoryBenchmark {
+
+  @Param({"true", "false"})
+  public boolean snapshot;
+
+  @Param({DbSqlSessionFactory.H2, DbSqlSessionFactory.POSTGRES})
+  public String databaseType;
+
+  protected BenchmarkEngineConfiguration configuration;
+
+  @Setup
+  public void setUp() {
+    configuration = new BenchmarkEngineConfiguration();
+    configuration.setJdbcUrl("jdbc:h2:mem:jmh-sql-session-factory;DB_CLOSE_DELAY=-1");
+    configuration.setDatabaseType(databaseType);
+    configuration.setMyBatisMappingSnapshotEnabled(snapshot);
+  }
+
+  @Benchmark
+  public SqlSessionFactory buildSqlSessionFactory() {
+    return configuration.buildSqlSessionFactory();
+  }
+
+  static class BenchmarkEngineConfiguration extends StandaloneInMemProcessEngineConfiguration {
+
+    public SqlSessionFactory buildSqlSessionFactory() {
+      sqlSessionFactory = null;
+      initDataSource();
+      initTransactionFactory();
+      initSqlSessionFactory();
+      return sqlSessionFactory;
+    }
+
+  }
+
+}
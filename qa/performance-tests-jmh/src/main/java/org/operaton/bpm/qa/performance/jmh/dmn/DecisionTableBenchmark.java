@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.qa.performance.jmh.dmn;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.operaton.bpm.dmn.engine.DmnDecision;
+import org.operaton.bpm.dmn.engine.DmnDecisionTableResult;
+import org.operaton.bpm.dmn.engine.DmnEngine;
+import org.operaton.bpm.dmn.engine.DmnEngineConfiguration;
+import org.operaton.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.operaton.bpm.dmn.engine.impl.transform.DefaultDmnTransformer;
+import org.operaton.bpm.dmn.feel.impl.scala.ScalaFeelEngineFactory;
+import org.operaton.bpm.engine.variable.Variables;
+
+/**
+ * Evaluates a decision table with a string and a number input on the standalone DMN engine,
+ * with and without the index of the input entries and with and without the cache of parsed
+ * FEEL expressions. Every rule matches one category and one amount range, and every evaluation
+ * matches exactly one random rule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecisionTableBenchmark {
+
+  protected static final int CATEGORIES = 20;
+
+  @Param({"10", "100", "1000"})
+  public int rules;
+
+  @Param({"true", "false"})
+  public boolean indexEnabled;
+
+  @Param({"true", "false"})
+  public boolean expressionCacheEnabled;
+
+  protected DmnEngine dmnEngine;
+  protected DmnDecision decision;
+  protected Map<String, Object>[] inputs;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    DefaultDmnEngineConfiguration configuration = (DefaultDmnEngineConfiguration) DmnEngineConfiguration.createDefaultDmnEngineConfiguration();
+    ((DefaultDmnTransformer) configuration.getTransformer()).setDecisionTableIndexEnabled(indexEnabled);
+    ScalaFeelEngineFactory feelEngineFactory = new ScalaFeelEngineFactory();
+    feelEngineFactory.setExpressionCacheSize(expressionCacheEnabled ? 10 * rules : 0);
+    configuration.setFeelEngineFactory(feelEngineFactory);
+    dmnEngine = configuration.buildEngine();
+    decision = dmnEngine.parseDecision("decision", new ByteArrayInputStream(createDecisionTable(rules).getBytes(StandardCharsets.UTF_8)));
+
+    inputs = new Map[rules];
+    for (int i = 0; i < rules; i++) {
+      inputs[i] = Variables.createVariables()
+          .putValue("category", "category" + (i % CATEGORIES))
+          .putValue("amount", i * 10 + 5);
+    }
+  }
+
+  @Benchmark
+  public DmnDecisionTableResult evaluate() {
+    return dmnEngine.evaluateDecisionTable(decision, inputs[ThreadLocalRandom.current().nextInt(rules)]);
+  }
+
+  protected static String createDecisionTable(int rules) {
+    StringBuilder dmn = new StringBuilder()
+        .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+        .append("<definitions xmlns=\"https://www.omg.org/spec/DMN/20191111/MODEL/\" id=\"definitions\" name=\"definitions\" namespace=\"http://operaton.org/schema/1.0/dmn\">\n")
+        .append("  <decision id=\"decision\" name=\"Decision\">\n")
+        .append("    <decisionTable id=\"decisionTable\">\n")
+        .append("      <input id=\"category\"><inputExpression id=\"categoryExpression\" typeRef=\"string\"><text>category</text></inputExpression></input>\n")
+        .append("      <input id=\"amount\"><inputExpression id=\"amountExpression\" typeRef=\"integer\"><text>amount</text></inputExpression></input>\n")
+        .append("      <output id=\"output\" name=\"rule\" typeRef=\"string\" />\n");
+    for (int i = 0; i < rules; i++) {
+      dmn.append("      <rule id=\"rule").append(i).append("\">")
+          .append("<inputEntry id=\"category").append(i).append("\"><text>\"category").append(i % CATEGORIES).append("\"</text></inputEntry>")
+          .append("<inputEntry id=\"amount").append(i).append("\"><text>[").append(i * 10).append("..").append(i * 10 + 10).append("[</text></inputEntry>")
+          .append("<outputEntry id=\"output").append(i).append("\"><text>\"rule").append(i).append("\"</text></outputEntry>")
+          .append("</rule>\n");
+    }
+    return dmn.append("    </decisionTable>\n  </decision>\n</definitions>\n").toString();
+  }
+
+}
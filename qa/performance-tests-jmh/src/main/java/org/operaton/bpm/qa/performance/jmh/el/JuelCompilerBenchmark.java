@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.qa.performance.jmh.el;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.el.ELContext;
+import jakarta.el.ValueExpression;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.operaton.bpm.impl.juel.ExpressionFactoryImpl;
+import org.operaton.bpm.impl.juel.SimpleContext;
+
+/**
+ * Evaluates typical sequence flow conditions, once interpreted and once compiled
+ * (<code>jakarta.el.compileThreshold</code>), to compare the interpreter with the
+ * compiled form and its inline caches for bean properties and methods.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JuelCompilerBenchmark {
+
+  @Param({"${amount > 1000 && approved}", "${order.limit > amount}", "${order.accepts(amount)}", "${order.customer.rating >= 3 ? 'A' : 'B'}"})
+  public String expression;
+
+  @Param({"0", "1"})
+  public int compileThreshold;
+
+  protected ELContext elContext;
+  protected ValueExpression valueExpression;
+
+  @Setup
+  public void setUp() {
+    Properties properties = new Properties();
+    properties.setProperty(ExpressionFactoryImpl.PROP_COMPILE_THRESHOLD, String.valueOf(compileThreshold));
+    ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl(properties);
+
+    elContext = new SimpleContext();
+    elContext.getELResolver().setValue(elContext, null, "amount", 1500);
+    elContext.getELResolver().setValue(elContext, null, "approved", true);
+    elContext.getELResolver().setValue(elContext, null, "order", new Order(2000, new Customer(4)));
+    valueExpression = expressionFactory.createValueExpression(elContext, expression, Object.class);
+  }
+
+  @Benchmark
+  public Object evaluate() {
+    return valueExpression.getValue(elContext);
+  }
+
+  public static class Order {
+
+    protected final int limit;
+    protected final Customer customer;
+
+    public Order(int limit, Customer customer) {
+      this.limit = limit;
+      this.customer = customer;
+    }
+
+    public int getLimit() {
+      return limit;
+    }
+
+    public Customer getCustomer() {
+      return customer;
+    }
+
+    public boolean accepts(Integer amount) {
+      return amount <= limit;
+    }
+  }
+
+  public static class Customer {
+
+    protected final int rating;
+
+    public Customer(int rating) {
+      this.rating = rating;
+    }
+
+    public int getRating() {
+      return rating;
+    }
+  }
+
+}
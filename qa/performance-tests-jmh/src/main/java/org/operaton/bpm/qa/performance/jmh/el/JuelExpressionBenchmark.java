@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.qa.performance.jmh.el;
+
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.el.ELContext;
+import jakarta.el.ExpressionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.operaton.bpm.impl.juel.ExpressionFactoryImpl;
+import org.operaton.bpm.impl.juel.SimpleContext;
+
+/**
+ * Parses and evaluates JUEL expressions the way the expression manager does, i.e. every
+ * evaluation goes through the factory's tree cache. With more distinct expressions than
+ * the cache size (1000), the benchmark also covers misses and evictions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JuelExpressionBenchmark {
+
+  @Param({"Cache", "ConcurrentCache"})
+  public String cache;
+
+  @Param({"100", "2000"})
+  public int expressionCount;
+
+  protected ExpressionFactory expressionFactory;
+  protected String[] expressions;
+
+  @Setup
+  public void setUp() {
+    Properties properties = new Properties();
+    properties.setProperty(ExpressionFactoryImpl.PROP_CONCURRENT_CACHE, String.valueOf("ConcurrentCache".equals(cache)));
+    expressionFactory = new ExpressionFactoryImpl(properties);
+
+    expressions = new String[expressionCount];
+    for (int i = 0; i < expressionCount; i++) {
+      expressions[i] = "${amount * " + i + " > limit && category == 'category" + (i % 10) + "'}";
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Context {
+
+    protected ELContext elContext;
+
+    @Setup
+    public void setUp() {
+      elContext = new SimpleContext();
+      elContext.getELResolver().setValue(elContext, null, "amount", 42);
+      elContext.getELResolver().setValue(elContext, null, "limit", 1000);
+      elContext.getELResolver().setValue(elContext, null, "category", "category3");
+    }
+  }
+
+  @Benchmark
+  public Object parseAndEvaluate(Context context) {
+    return evaluate(context.elContext);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Object parseAndEvaluateConcurrent(Context context) {
+    return evaluate(context.elContext);
+  }
+
+  protected Object evaluate(ELContext elContext) {
+    String expression = expressions[ThreadLocalRandom.current().nextInt(expressions.length)];
+    return expressionFactory.createValueExpression(elContext, expression, Object.class).getValue(elContext);
+  }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * 
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package org.operaton.bpm.qa.performance.jmh.variable;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.variable.serializer.DateValueSerializer;
+import org.operaton.bpm.engine.impl.variable.serializer.IntegerValueSerializer;
+import org.operaton.bpm.engine.impl.variable.serializer.JavaObjectSerializer;
+import org.operaton.bpm.engine.impl.variable.serializer.StringValueSerializer;
+import org.operaton.bpm.engine.impl.variable.serializer.TypedValueSerializer;
+import org.operaton.bpm.engine.impl.variable.serializer.ValueFieldsImpl;
+import org.operaton.bpm.engine.variable.Variables;
+import org.operaton.bpm.engine.variable.Variables.SerializationDataFormats;
+import org.operaton.bpm.engine.variable.value.TypedValue;
+
+/**
+ * Round-trips a variable value through its serializer, i.e. writes it to the value fields
+ * of a variable instance and reads (and deserializes) it again, as it happens when a variable
+ * is set and later loaded in another command.
+ * <p>
+ * Serializers resolve the engine's charset through the current command context. Therefore,
+ * an engine on an in-memory H2 database is built and a command context is opened once per
+ * trial on the benchmark thread, so that only the serializers themselves are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VariableSerializerBenchmark {
+
+  @Param({"string", "integer", "date", "serializable"})
+  public String type;
+
+  protected ProcessEngine processEngine;
+  protected TypedValueSerializer<TypedValue> serializer;
+  protected TypedValue value;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    ProcessEngineConfigurationImpl configuration = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+        .createStandaloneInMemProcessEngineConfiguration()
+        .setJdbcUrl("jdbc:h2:mem:jmh-variable-serializer;DB_CLOSE_DELAY=-1")
+        .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+    processEngine = configuration.buildProcessEngine();
+    Context.setProcessEngineConfiguration(configuration);
+    Context.setCommandContext(configuration.getCommandContextFactory().createCommandContext());
+
+    switch (type) {
+      case "string":
+        serializer = (TypedValueSerializer) new StringValueSerializer();
+        value = Variables.stringValue("a string variable of moderate length, as used for business keys");
+        break;
+      case "integer":
+        serializer = (TypedValueSerializer) new IntegerValueSerializer();
+        value = Variables.integerValue(42);
+        break;
+      case "date":
+        serializer = (TypedValueSerializer) new DateValueSerializer();
+        value = Variables.dateValue(new Date());
+        break;
+      case "serializable":
+        serializer = (TypedValueSerializer) new JavaObjectSerializer();
+        value = Variables.objectValue(createObject())
+            .serializationDataFormat(SerializationDataFormats.JAVA)
+            .create();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown variable type: " + type);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    Context.removeCommandContext();
+    Context.removeProcessEngineConfiguration();
+    processEngine.close();
+  }
+
+  @Benchmark
+  public TypedValue roundTrip() {
+    ValueFieldsImpl valueFields = new ValueFieldsImpl();
+    serializer.writeValue(value, valueFields);
+    return serializer.readValue(valueFields, true, false);
+  }
+
+  protected static Object createObject() {
+    HashMap<String, Object> order = new HashMap<>();
+    order.put("orderId", "order-4711");
+    order.put("amount", 1234.5d);
+    order.put("express", Boolean.TRUE);
+    List<Map<String, Object>> items = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      Map<String, Object> item = new HashMap<>();
+      item.put("sku", "sku-" + i);
+      item.put("quantity", i + 1);
+      items.add(item);
+    }
+    order.put("items", items);
+    return order;
+  }
+
+}